@@ -24,6 +24,7 @@ CREATE TABLE home (
                       user_name VARCHAR(50),
                       addr1 VARCHAR(255),
                       addr2 VARCHAR(255),
+                      residence_type ENUM('APARTMENT', 'VILLA', 'OFFICETEL', 'HOUSE', 'OPEN_ONE_ROOM', 'SEPARATED_ONE_ROOM', 'TWO_ROOM'),
                       lease_type ENUM('JEONSE', 'WOLSE'),
                       deposit_price INT,
                       monthly_rent INT,
@@ -35,8 +36,12 @@ CREATE TABLE home (
                       report_cnt INT DEFAULT 0,
                       room_cnt INT,
                       supply_area FLOAT,
-                      created_at DATETIME,
+                      exclusive_area FLOAT,
+                      created_at DATETIME NOT NULL,
                       updated_at DATETIME,
+                      thumbnail_image_id BIGINT,
+                      thumbnail_url VARCHAR(255),
+                      thumbnail_derivatives_ready TINYINT(1) NOT NULL DEFAULT 0,
                       FOREIGN KEY (user_id) REFERENCES user(user_id)
 );
 
@@ -53,12 +58,15 @@ CREATE TABLE home_detail (
                              building_total_floors INT,
                              home_floor INT,
                              report_count INT DEFAULT 0,
+                             is_pet BOOLEAN,
+                             is_parking_available BOOLEAN,
                              FOREIGN KEY (home_id) REFERENCES home(home_id)
 );
 CREATE TABLE home_image (
                             image_id BIGINT PRIMARY KEY AUTO_INCREMENT,
                             home_id BIGINT,
                             image_url VARCHAR(255),
+                            derivatives_ready TINYINT(1) NOT NULL DEFAULT 0,
                             FOREIGN KEY (home_id) REFERENCES home(home_id)
 );
 CREATE TABLE facility_category (
@@ -119,6 +127,10 @@ CREATE TABLE risk_check (
                             user_id BIGINT,
                             home_id BIGINT,
                             risk_type ENUM('DANGER','WARN', 'SAFE'),
+                            analysis_status VARCHAR(20) NOT NULL DEFAULT 'SUCCESS',
+                            analysis_progress TINYINT NULL,
+                            analysis_path VARCHAR(20),
+                            source_riskck_id BIGINT,
                             checked_at DATETIME,
                             registry_file_url VARCHAR(255),
                             building_file_url VARCHAR(255),
@@ -171,6 +183,14 @@ CREATE TABLE final_contract (
                                 FOREIGN KEY (owner_id) REFERENCES user(user_id),
                                 FOREIGN KEY (buyer_id) REFERENCES user(user_id)
 );
+CREATE TABLE home_risk_score (
+                                 home_id BIGINT PRIMARY KEY,
+                                 risk_type ENUM('DANGER','WARN', 'SAFE') NOT NULL,
+                                 analysis_path VARCHAR(20),
+                                 riskck_id BIGINT,
+                                 scored_at DATETIME NOT NULL,
+                                 FOREIGN KEY (home_id) REFERENCES home(home_id)
+);
 CREATE TABLE home_report (
                              report_id BIGINT PRIMARY KEY AUTO_INCREMENT,
                              user_id BIGINT,
@@ -182,4 +202,125 @@ CREATE TABLE home_report (
                              FOREIGN KEY (home_id) REFERENCES home(home_id)
 );
 
+-- Spring Batch 4.3 메타데이터 테이블 (MySQL) - 작업 실행 이력과 재시작 정보를 저장
+CREATE TABLE IF NOT EXISTS BATCH_JOB_INSTANCE (
+    JOB_INSTANCE_ID BIGINT NOT NULL PRIMARY KEY,
+    VERSION BIGINT,
+    JOB_NAME VARCHAR(100) NOT NULL,
+    JOB_KEY VARCHAR(32) NOT NULL,
+    CONSTRAINT JOB_INST_UN UNIQUE (JOB_NAME, JOB_KEY)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS BATCH_JOB_EXECUTION (
+    JOB_EXECUTION_ID BIGINT NOT NULL PRIMARY KEY,
+    VERSION BIGINT,
+    JOB_INSTANCE_ID BIGINT NOT NULL,
+    CREATE_TIME DATETIME(6) NOT NULL,
+    START_TIME DATETIME(6) DEFAULT NULL,
+    END_TIME DATETIME(6) DEFAULT NULL,
+    STATUS VARCHAR(10),
+    EXIT_CODE VARCHAR(2500),
+    EXIT_MESSAGE VARCHAR(2500),
+    LAST_UPDATED DATETIME(6),
+    JOB_CONFIGURATION_LOCATION VARCHAR(2500) NULL,
+    CONSTRAINT JOB_INST_EXEC_FK FOREIGN KEY (JOB_INSTANCE_ID)
+        REFERENCES BATCH_JOB_INSTANCE (JOB_INSTANCE_ID)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS BATCH_JOB_EXECUTION_PARAMS (
+    JOB_EXECUTION_ID BIGINT NOT NULL,
+    TYPE_CD VARCHAR(6) NOT NULL,
+    KEY_NAME VARCHAR(100) NOT NULL,
+    STRING_VAL VARCHAR(250),
+    DATE_VAL DATETIME(6) DEFAULT NULL,
+    LONG_VAL BIGINT,
+    DOUBLE_VAL DOUBLE PRECISION,
+    IDENTIFYING CHAR(1) NOT NULL,
+    CONSTRAINT JOB_EXEC_PARAMS_FK FOREIGN KEY (JOB_EXECUTION_ID)
+        REFERENCES BATCH_JOB_EXECUTION (JOB_EXECUTION_ID)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS BATCH_STEP_EXECUTION (
+    STEP_EXECUTION_ID BIGINT NOT NULL PRIMARY KEY,
+    VERSION BIGINT NOT NULL,
+    STEP_NAME VARCHAR(100) NOT NULL,
+    JOB_EXECUTION_ID BIGINT NOT NULL,
+    START_TIME DATETIME(6) NOT NULL,
+    END_TIME DATETIME(6) DEFAULT NULL,
+    STATUS VARCHAR(10),
+    COMMIT_COUNT BIGINT,
+    READ_COUNT BIGINT,
+    FILTER_COUNT BIGINT,
+    WRITE_COUNT BIGINT,
+    READ_SKIP_COUNT BIGINT,
+    WRITE_SKIP_COUNT BIGINT,
+    PROCESS_SKIP_COUNT BIGINT,
+    ROLLBACK_COUNT BIGINT,
+    EXIT_CODE VARCHAR(2500),
+    EXIT_MESSAGE VARCHAR(2500),
+    LAST_UPDATED DATETIME(6),
+    CONSTRAINT JOB_EXEC_STEP_FK FOREIGN KEY (JOB_EXECUTION_ID)
+        REFERENCES BATCH_JOB_EXECUTION (JOB_EXECUTION_ID)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS BATCH_STEP_EXECUTION_CONTEXT (
+    STEP_EXECUTION_ID BIGINT NOT NULL PRIMARY KEY,
+    SHORT_CONTEXT VARCHAR(2500) NOT NULL,
+    SERIALIZED_CONTEXT TEXT,
+    CONSTRAINT STEP_EXEC_CTX_FK FOREIGN KEY (STEP_EXECUTION_ID)
+        REFERENCES BATCH_STEP_EXECUTION (STEP_EXECUTION_ID)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS BATCH_JOB_EXECUTION_CONTEXT (
+    JOB_EXECUTION_ID BIGINT NOT NULL PRIMARY KEY,
+    SHORT_CONTEXT VARCHAR(2500) NOT NULL,
+    SERIALIZED_CONTEXT TEXT,
+    CONSTRAINT JOB_EXEC_CTX_FK FOREIGN KEY (JOB_EXECUTION_ID)
+        REFERENCES BATCH_JOB_EXECUTION (JOB_EXECUTION_ID)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS BATCH_STEP_EXECUTION_SEQ (
+    ID BIGINT NOT NULL,
+    UNIQUE_KEY CHAR(1) NOT NULL,
+    CONSTRAINT UNIQUE_KEY_UN UNIQUE (UNIQUE_KEY)
+) ENGINE=InnoDB;
+
+INSERT INTO BATCH_STEP_EXECUTION_SEQ (ID, UNIQUE_KEY)
+SELECT * FROM (SELECT 0 AS ID, '0' AS UNIQUE_KEY) AS tmp
+WHERE NOT EXISTS (SELECT * FROM BATCH_STEP_EXECUTION_SEQ);
+
+CREATE TABLE IF NOT EXISTS BATCH_JOB_EXECUTION_SEQ (
+    ID BIGINT NOT NULL,
+    UNIQUE_KEY CHAR(1) NOT NULL,
+    CONSTRAINT UNIQUE_KEY_UN UNIQUE (UNIQUE_KEY)
+) ENGINE=InnoDB;
+
+INSERT INTO BATCH_JOB_EXECUTION_SEQ (ID, UNIQUE_KEY)
+SELECT * FROM (SELECT 0 AS ID, '0' AS UNIQUE_KEY) AS tmp
+WHERE NOT EXISTS (SELECT * FROM BATCH_JOB_EXECUTION_SEQ);
+
+CREATE TABLE IF NOT EXISTS BATCH_JOB_SEQ (
+    ID BIGINT NOT NULL,
+    UNIQUE_KEY CHAR(1) NOT NULL,
+    CONSTRAINT UNIQUE_KEY_UN UNIQUE (UNIQUE_KEY)
+) ENGINE=InnoDB;
+
+INSERT INTO BATCH_JOB_SEQ (ID, UNIQUE_KEY)
+SELECT * FROM (SELECT 0 AS ID, '0' AS UNIQUE_KEY) AS tmp
+WHERE NOT EXISTS (SELECT * FROM BATCH_JOB_SEQ);
+
+-- 매물 조건 검색: (created_at, home_id) 키셋 커서 정렬과 자주 쓰는 필터를 인덱스로 처리해 깊은 페이지에서도 스캔 범위 유지
+-- 필터 없는 최신순 목록/검색
+CREATE INDEX idx_home_created_at_home_id ON home (created_at, home_id);
+
+-- 임대/주거 유형 동등 조건 + 최신순 정렬
+CREATE INDEX idx_home_lease_residence_created ON home (lease_type, residence_type, created_at, home_id);
+
+-- 임대 유형별 보증금/월세 범위 조건: 보증금 범위로 스캔 범위를 줄이고 월세/커서 조건은 인덱스에서 거름
+-- (범위 조건 뒤의 정렬 키는 정렬에 쓰이지 않으므로 조건에 맞는 행만 filesort로 정렬)
+CREATE INDEX idx_home_lease_deposit_rent ON home (lease_type, deposit_price, monthly_rent, created_at, home_id);
+
+-- 반려동물/주차 조건 조인
+CREATE INDEX idx_home_detail_home_pet_parking ON home_detail (home_id, is_pet, is_parking_available);
+
 alter table home drop column user_name
\ No newline at end of file
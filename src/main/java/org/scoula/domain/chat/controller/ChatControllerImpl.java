@@ -17,6 +17,7 @@ import org.scoula.domain.user.service.UserServiceInterface;
 import org.scoula.domain.user.vo.User;
 import org.scoula.global.common.dto.ApiResponse;
 import org.scoula.global.common.exception.BusinessException;
+import org.scoula.global.file.service.ImageDerivativeService;
 import org.scoula.global.file.service.S3ServiceInterface;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -35,6 +36,7 @@ public class ChatControllerImpl implements ChatController {
       private final ChatServiceInterface chatService;
       private final UserServiceInterface userService;
       private final S3ServiceInterface s3Service;
+      private final ImageDerivativeService imageDerivativeService;
 
       private static final List<String> ALLOWED_IMAGE_EXTENSIONS =
               Arrays.asList("jpg", "jpeg", "png", "gif", "bmp", "webp");
@@ -245,6 +247,11 @@ public class ChatControllerImpl implements ChatController {
           response.put("messageSent", true);
           response.put("messageType", "FILE");
 
+          if ("IMAGE".equals(fileType)) {
+              // 파생본은 백그라운드에서 생성되므로 아직 없음 - 미디어 목록 조회에서 생성된 뒤에만 노출
+              imageDerivativeService.generateAsync(s3Service, s3Key);
+          }
+
           return ResponseEntity.ok(ApiResponse.success(response));
       }
 
@@ -4,9 +4,9 @@ import java.security.Principal;
 import java.util.List;
 import java.util.Map;
 
-import org.scoula.domain.chat.document.ContractChatDocument;
 import org.scoula.domain.chat.document.FinalSpecialContractDocument;
 import org.scoula.domain.chat.document.SpecialContractFixDocument;
+import org.scoula.domain.chat.dto.ContractChatMessagePageDto;
 import org.scoula.domain.chat.dto.ContractChatMessageRequestDto;
 import org.scoula.domain.chat.dto.SpecialContractUserViewDto;
 import org.scoula.domain.chat.dto.ai.ClauseImproveResponseDto;
@@ -16,6 +16,7 @@ import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -32,10 +33,15 @@ public interface ContractChatController {
       @MessageMapping("/contract/chat/send")
       void sendContractMessage(@Payload ContractChatMessageRequestDto message, Principal principal);
 
-      @ApiOperation(value = "계약 채팅방 메시지 목록 조회")
+      @ApiOperation(
+              value = "계약 채팅방 메시지 목록 조회",
+              notes = "최신 메시지부터 커서 기반으로 조회합니다. 응답의 nextCursor를 cursor로 전달하면 이전 메시지를 조회합니다.")
       @GetMapping("/messages/{contractChatId}")
-      ResponseEntity<ApiResponse<List<ContractChatDocument>>> getContractMessages(
-              @PathVariable Long contractChatId, Authentication authentication);
+      ResponseEntity<ApiResponse<ContractChatMessagePageDto>> getContractMessages(
+              @PathVariable Long contractChatId,
+              @RequestParam(required = false) String cursor,
+              @RequestParam(defaultValue = "50") int size,
+              Authentication authentication);
 
       @ApiOperation(value = "특약 대화 시작점 설정", notes = "특약 대화 시작 버튼을 클릭했을 때 시작점을 설정합니다.")
       @PostMapping("/{contractChatId}/start-point")
@@ -102,7 +108,9 @@ public interface ContractChatController {
       @ApiOperation(value = "특약 문서 조회", notes = "특정 특약 문서의 상세 정보를 조회합니다.")
       @GetMapping("/special-contract/{contractChatId}")
       ResponseEntity<ApiResponse<SpecialContractUserViewDto>> getSpecialContractForUser(
-              @PathVariable Long contractChatId, Authentication authentication);
+              @PathVariable Long contractChatId,
+              Authentication authentication,
+              WebRequest webRequest);
 
       @ApiOperation(value = "특약 recentData 업데이트", notes = "현재 라운드의 특약 내용을 업데이트합니다.")
       @PutMapping("/special-contract/{contractChatId}/recent")
@@ -6,9 +6,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import org.scoula.domain.chat.document.ContractChatDocument;
 import org.scoula.domain.chat.document.FinalSpecialContractDocument;
 import org.scoula.domain.chat.document.SpecialContractFixDocument;
+import org.scoula.domain.chat.dto.ContractChatMessagePageDto;
 import org.scoula.domain.chat.dto.ContractChatMessageRequestDto;
 import org.scoula.domain.chat.dto.SpecialContractUserViewDto;
 import org.scoula.domain.chat.dto.ai.ClauseImproveResponseDto;
@@ -16,6 +16,7 @@ import org.scoula.domain.chat.exception.ChatErrorCode;
 import org.scoula.domain.chat.mapper.ContractChatMapper;
 import org.scoula.domain.chat.repository.SpecialContractMongoRepository;
 import org.scoula.domain.chat.service.ContractChatServiceInterface;
+import org.scoula.domain.chat.service.ContractChatStateCache;
 import org.scoula.domain.chat.vo.ContractChat;
 import org.scoula.domain.precontract.service.PreContractDataService;
 import org.scoula.domain.user.service.UserServiceInterface;
@@ -24,12 +25,15 @@ import org.scoula.global.common.dto.ApiResponse;
 import org.scoula.global.common.exception.BusinessException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -41,6 +45,7 @@ public class ContractChatControllerImpl implements ContractChatController {
       private final ContractChatServiceInterface contractChatService;
       private final UserServiceInterface userService;
       private final ContractChatMapper contractChatMapper;
+      private final ContractChatStateCache contractChatStateCache;
       private final SimpMessagingTemplate messagingTemplate;
       private final PreContractDataService preContractDataService;
       private final SpecialContractMongoRepository specialContractMongoRepository;
@@ -49,12 +54,14 @@ public class ContractChatControllerImpl implements ContractChatController {
               ContractChatServiceInterface contractChatService,
               UserServiceInterface userService,
               ContractChatMapper contractChatMapper,
+              ContractChatStateCache contractChatStateCache,
               SimpMessagingTemplate messagingTemplate,
               PreContractDataService preContractDataService,
               SpecialContractMongoRepository specialContractMongoRepository) {
           this.contractChatService = contractChatService;
           this.userService = userService;
           this.contractChatMapper = contractChatMapper;
+          this.contractChatStateCache = contractChatStateCache;
           this.messagingTemplate = messagingTemplate;
           this.preContractDataService = preContractDataService;
           this.specialContractMongoRepository = specialContractMongoRepository;
@@ -74,6 +81,15 @@ public class ContractChatControllerImpl implements ContractChatController {
           return currentUserOpt.get().getUserId();
       }
 
+      /** ETag가 있으면 응답 헤더에 포함하고 재검증을 요구하는 200 응답 빌더 */
+      private ResponseEntity.BodyBuilder withETag(String eTag) {
+          ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+          if (eTag != null) {
+              builder.eTag(eTag).cacheControl(CacheControl.noCache());
+          }
+          return builder;
+      }
+
       @Override
       @PostMapping("/rooms")
       public ResponseEntity<ApiResponse<Long>> createContractChat(
@@ -139,8 +155,11 @@ public class ContractChatControllerImpl implements ContractChatController {
 
       @Override
       @GetMapping("/messages/{contractChatId}")
-      public ResponseEntity<ApiResponse<List<ContractChatDocument>>> getContractMessages(
-              @PathVariable Long contractChatId, Authentication authentication) {
+      public ResponseEntity<ApiResponse<ContractChatMessagePageDto>> getContractMessages(
+              @PathVariable Long contractChatId,
+              @RequestParam(required = false) String cursor,
+              @RequestParam(defaultValue = "50") int size,
+              Authentication authentication) {
 
           String currentUserEmail = authentication.getName();
           Optional<User> currentUserOpt = userService.findByEmail(currentUserEmail);
@@ -157,8 +176,8 @@ public class ContractChatControllerImpl implements ContractChatController {
               throw new BusinessException(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED);
           }
 
-          List<ContractChatDocument> messages =
-                  contractChatService.getContractMessages(contractChatId);
+          ContractChatMessagePageDto messages =
+                  contractChatService.getContractMessages(contractChatId, cursor, size);
 
           return ResponseEntity.ok(ApiResponse.success(messages, "계약 채팅 메시지 목록을 성공적으로 조회했습니다."));
       }
@@ -373,7 +392,7 @@ public class ContractChatControllerImpl implements ContractChatController {
       private void notifyContractChatOnlineStatus(
               Long contractChatId, Long userId, boolean isOnline) {
           try {
-              ContractChat contractChat = contractChatMapper.findByContractChatId(contractChatId);
+              ContractChat contractChat = contractChatStateCache.get(contractChatId);
               if (contractChat == null) return;
 
               Long otherUserId =
@@ -499,7 +518,9 @@ public class ContractChatControllerImpl implements ContractChatController {
 
       @GetMapping("/special-contract/{contractChatId}/all-rounds")
       public ResponseEntity<ApiResponse<Map<String, Object>>> getAllRoundsSpecialContract(
-              @PathVariable Long contractChatId, Authentication authentication) {
+              @PathVariable Long contractChatId,
+              Authentication authentication,
+              WebRequest webRequest) {
           try {
               Long userId = getUserIdFromAuthentication(authentication);
 
@@ -508,10 +529,16 @@ public class ContractChatControllerImpl implements ContractChatController {
                           .body(ApiResponse.error("ACCESS_DENIED", "해당 계약 채팅방에 접근 권한이 없습니다."));
               }
 
+              String eTag = contractChatService.getSpecialContractETag(contractChatId, userId);
+              if (eTag != null && webRequest.checkNotModified(eTag)) {
+                  return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+              }
+
               Map<String, Object> result =
                       contractChatService.getAllRoundsSpecialContract(contractChatId, userId);
 
-              return ResponseEntity.ok(ApiResponse.success(result, "전체 라운드 특약 문서 조회 성공"));
+              return withETag(eTag)
+                      .body(ApiResponse.success(result, "전체 라운드 특약 문서 조회 성공"));
           } catch (IllegalArgumentException e) {
               log.error("전체 라운드 특약 문서 조회 실패 - IllegalArgumentException: {}", e.getMessage());
               return ResponseEntity.badRequest().body(ApiResponse.error("NOT_FOUND", e.getMessage()));
@@ -525,7 +552,9 @@ public class ContractChatControllerImpl implements ContractChatController {
       @Override
       @GetMapping("/special-contract/{contractChatId}")
       public ResponseEntity<ApiResponse<SpecialContractUserViewDto>> getSpecialContractForUser(
-              @PathVariable Long contractChatId, Authentication authentication) {
+              @PathVariable Long contractChatId,
+              Authentication authentication,
+              WebRequest webRequest) {
           try {
               Long userId = getUserIdFromAuthentication(authentication);
 
@@ -534,10 +563,15 @@ public class ContractChatControllerImpl implements ContractChatController {
                           .body(ApiResponse.error("ACCESS_DENIED", "해당 계약 채팅방에 접근 권한이 없습니다."));
               }
 
+              String eTag = contractChatService.getSpecialContractETag(contractChatId, userId);
+              if (eTag != null && webRequest.checkNotModified(eTag)) {
+                  return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+              }
+
               SpecialContractUserViewDto result =
                       contractChatService.getSpecialContractForUserByStatus(contractChatId, userId);
 
-              return ResponseEntity.ok(ApiResponse.success(result, "사용자별 특약 문서 조회 성공"));
+              return withETag(eTag).body(ApiResponse.success(result, "사용자별 특약 문서 조회 성공"));
           } catch (IllegalArgumentException e) {
               log.error("특약 문서 조회 실패 - IllegalArgumentException: {}", e.getMessage());
               return ResponseEntity.badRequest().body(ApiResponse.error("NOT_FOUND", e.getMessage()));
@@ -1,8 +1,12 @@
 package org.scoula.domain.chat.document;
 
+import java.time.Instant;
+
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Field;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.*;
 
 @Getter
@@ -20,4 +24,7 @@ public class ContractChatDocument {
       private Long receiverId;
       private String content;
       private String sendTime;
+
+      /** 커서 조회용 전송 시각 - sendTime을 저장 시점에 변환한 값 (응답에는 포함하지 않음) */
+      @JsonIgnore private Instant sentAt;
 }
@@ -0,0 +1,58 @@
+package org.scoula.domain.chat.document;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 특약 협상 조회용 비정규화 문서
+ *
+ * <p>SPECIAL_CONTRACT(라운드별 조항)와 SPECIAL_CONTRACT_FIX(특약별 완료 여부)를 계약 채팅방 단위로 합쳐 둔 문서입니다. 원본 컬렉션이 변경될 때마다
+ * 해당 부분만 갱신되고 version이 증가합니다. 갱신 경로를 특정할 수 없으면 stale로 표시되어 다음 조회 시 재구성됩니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "SPECIAL_CONTRACT_VIEW")
+public class SpecialContractViewDocument {
+      @Id private Long contractChatId;
+
+      /** 변경될 때마다 증가하는 버전 (ETag 생성용) */
+      private Long version;
+
+      /** 재구성이 필요한 상태 여부 */
+      private Boolean stale;
+
+      /** "round1" ~ "round4" 키별 라운드 조항 */
+      private Map<String, RoundView> rounds;
+
+      /** 아직 완료되지 않은(isPassed=false) 특약 번호 */
+      private List<Integer> incompleteOrders;
+
+      private String updatedAt;
+
+      @Getter
+      @Setter
+      @NoArgsConstructor
+      @AllArgsConstructor
+      @Builder
+      public static class RoundView {
+          private Long round;
+          private Integer totalClauses;
+          private List<SpecialContractDocument.Clause> clauses;
+      }
+
+      public static String roundKey(Long round) {
+          return "round" + round;
+      }
+}
@@ -0,0 +1,55 @@
+package org.scoula.domain.chat.dto;
+
+import java.util.List;
+
+import org.scoula.domain.chat.document.ContractChatDocument;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계약 채팅 WebSocket 프레임 DTO - /topic/contract-chat/{id}로 전송되는 모든 프레임의 공통 형식
+ *
+ * <p>클라이언트는 type으로 프레임을 구분합니다. MESSAGES 프레임의 messages는 메시지가 하나여도 항상 시간순 목록입니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ContractChatFrameDto {
+      public static final String MESSAGES = "MESSAGES";
+      public static final String SPECIAL_CONTRACT_DELTA = "SPECIAL_CONTRACT_DELTA";
+
+      private String type;
+
+      /** MESSAGES - 시간순 메시지 목록 */
+      private List<ContractChatDocument> messages;
+
+      /** SPECIAL_CONTRACT_DELTA - 특약 변경 요약 */
+      private SpecialContractDeltaDto delta;
+
+      /**
+       * 메시지 프레임을 생성합니다.
+       *
+       * @param messages 시간순 메시지 목록
+       * @return MESSAGES 프레임
+       */
+      public static ContractChatFrameDto ofMessages(List<ContractChatDocument> messages) {
+          return ContractChatFrameDto.builder().type(MESSAGES).messages(messages).build();
+      }
+
+      /**
+       * 특약 변경 알림 프레임을 생성합니다.
+       *
+       * @param delta 특약 변경 요약
+       * @return SPECIAL_CONTRACT_DELTA 프레임
+       */
+      public static ContractChatFrameDto ofDelta(SpecialContractDeltaDto delta) {
+          return ContractChatFrameDto.builder().type(SPECIAL_CONTRACT_DELTA).delta(delta).build();
+      }
+}
@@ -0,0 +1,26 @@
+package org.scoula.domain.chat.dto;
+
+import java.util.List;
+
+import org.scoula.domain.chat.document.ContractChatDocument;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 계약 채팅 메시지 커서 페이지 응답 DTO - (sentAt, _id) 기준 과거 방향 조회 */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContractChatMessagePageDto {
+      /** 시간 오름차순 메시지 목록 */
+      private List<ContractChatDocument> messages;
+
+      /** 다음(더 과거) 페이지 요청 시 전달할 커서, 마지막 페이지면 null */
+      private String nextCursor;
+
+      private int pageSize;
+      private boolean hasNext;
+}
@@ -0,0 +1,49 @@
+package org.scoula.domain.chat.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 특약 변경 알림 DTO - /topic/contract-chat/{id}로 전송되는 변경 요약
+ *
+ * <p>{@link ContractChatFrameDto}의 SPECIAL_CONTRACT_DELTA 프레임에 담겨 전송되며, 클라이언트는 source에 해당하는
+ * 특약 API만 다시 조회합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SpecialContractDeltaDto {
+      /** 변경된 컬렉션 구분: FIX, SELECTION, FINAL */
+      private String source;
+
+      /** insert, update, replace */
+      private String operation;
+
+      private Long contractChatId;
+
+      // SPECIAL_CONTRACT_FIX
+      private Long order;
+      private Long round;
+      private Boolean isPassed;
+
+      // SPECIAL_CONTRACT_SELECTION
+      private Boolean ownerCompleted;
+      private Boolean tenantCompleted;
+      private Boolean processed;
+
+      // FINAL_SPECIAL_CONTRACT
+      private Integer totalFinalClauses;
+
+      /** 부분 갱신인 경우 변경된 필드 경로 */
+      private List<String> updatedFields;
+
+      private String eventTime;
+}
@@ -0,0 +1,44 @@
+package org.scoula.domain.chat.repository;
+
+import java.time.LocalDateTime;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+/** Change stream resume token 저장소 - 노드 재시작 후 마지막으로 처리한 이벤트 다음부터 이어서 수신하기 위해 사용 */
+@Repository
+public class ChangeStreamResumeTokenRepository {
+
+      private static final String COLLECTION_NAME = "CHANGE_STREAM_RESUME_TOKEN";
+
+      @Autowired private MongoTemplate mongoTemplate;
+
+      public BsonDocument findToken(String key) {
+          Document saved =
+                  mongoTemplate.findOne(
+                          new Query(Criteria.where("_id").is(key)), Document.class, COLLECTION_NAME);
+          if (saved == null || saved.get("token") == null) {
+              return null;
+          }
+          return BsonDocument.parse(((Document) saved.get("token")).toJson());
+      }
+
+      public void saveToken(String key, BsonDocument token) {
+          mongoTemplate.upsert(
+                  new Query(Criteria.where("_id").is(key)),
+                  new Update()
+                          .set("token", Document.parse(token.toJson()))
+                          .set("updatedAt", LocalDateTime.now().toString()),
+                  COLLECTION_NAME);
+      }
+
+      public void deleteToken(String key) {
+          mongoTemplate.remove(new Query(Criteria.where("_id").is(key)), COLLECTION_NAME);
+      }
+}
@@ -1,28 +1,95 @@
 package org.scoula.domain.chat.repository;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.scoula.domain.chat.document.ContractChatDocument;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
+import com.mongodb.client.model.Filters;
+
 import lombok.extern.slf4j.Slf4j;
 
 @Repository
 @Slf4j
 public class ContractChatMessageRepository {
 
+      /** 메시지 컬렉션 수 - 계약 채팅방 ID로 나눔 */
+      public static final int SHARD_COUNT = 5;
+
       @Autowired private MongoTemplate mongoTemplate;
 
+      /** 커서 조회용 인덱스를 이미 확인한 컬렉션 */
+      private final Set<String> indexedCollections = ConcurrentHashMap.newKeySet();
+
       private String getCollectionName(Long contractChatId) {
-          int shardIndex = (int) (contractChatId % 5);
+          return getShardCollectionName((int) (contractChatId % SHARD_COUNT));
+      }
+
+      private String getShardCollectionName(int shardIndex) {
           return "CONTRACT_MESSAGE_" + shardIndex;
       }
 
+      /** (contractChatId, sentAt, _id) 복합 인덱스 보장 - 컬렉션별 최초 1회 */
+      private void ensureCursorIndex(String collectionName) {
+          if (indexedCollections.contains(collectionName)) {
+              return;
+          }
+          try {
+              mongoTemplate
+                      .indexOps(collectionName)
+                      .ensureIndex(
+                              new Index()
+                                      .on("contractChatId", Sort.Direction.ASC)
+                                      .on("sentAt", Sort.Direction.DESC)
+                                      .on("_id", Sort.Direction.DESC)
+                                      .named("idx_contract_chat_sent_at_id"));
+              indexedCollections.add(collectionName);
+          } catch (Exception e) {
+              log.warn("커서 인덱스 생성 실패 - collection: {}", collectionName, e);
+          }
+      }
+
+      /**
+       * sentAt이 없는 이전 메시지의 sentAt 채우기 - 조회 요청이 아니라 시작 작업에서 실행합니다.
+       *
+       * <p>sendTime 문자열을 날짜로 변환해 채우고, 변환할 수 없으면 ObjectId의 생성 시각을 사용합니다. 이미 채운 메시지는 건너뛰므로 여러 번
+       * 실행해도 됩니다.
+       *
+       * @param shardIndex 메시지 컬렉션 번호 (0 ~ {@link #SHARD_COUNT} - 1)
+       * @return sentAt을 채운 메시지 수
+       */
+      public long backfillSentAt(int shardIndex) {
+          Document sentAt =
+                  new Document(
+                          "$dateFromString",
+                          new Document("dateString", "$sendTime")
+                                  .append("timezone", ZoneId.systemDefault().getId())
+                                  .append("onError", new Document("$toDate", "$_id"))
+                                  .append("onNull", new Document("$toDate", "$_id")));
+          return mongoTemplate
+                  .getCollection(getShardCollectionName(shardIndex))
+                  .updateMany(
+                          Filters.exists("sentAt", false),
+                          List.of(new Document("$set", new Document("sentAt", sentAt))))
+                  .getModifiedCount();
+      }
+
       /** 메시지 저장 - 일반 채팅과 동일하게 ObjectId 자동 생성 */
       public ContractChatDocument saveMessage(ContractChatDocument message) {
           Long contractChatId;
@@ -33,17 +100,78 @@ public class ContractChatMessageRepository {
               return null;
           }
           String collectionName = getCollectionName(contractChatId);
+          fillSentAt(message);
 
           return mongoTemplate.save(message, collectionName);
       }
 
-      /** 전체 메시지 조회 - sendTime으로 정렬 */
-      public List<ContractChatDocument> getMessages(Long contractChatId) {
+      /**
+       * 메시지 일괄 저장 - 한 번의 insertMany로 저장하며 입력 순서대로 ObjectId가 부여됩니다.
+       *
+       * @param contractChatId 계약 채팅방 ID
+       * @param messages 저장할 메시지 목록 (모두 같은 계약 채팅방이어야 함)
+       * @return 저장된 메시지 목록 (입력 순서 유지)
+       */
+      public List<ContractChatDocument> saveMessages(
+              Long contractChatId, List<ContractChatDocument> messages) {
+          if (messages.isEmpty()) {
+              return messages;
+          }
           String collectionName = getCollectionName(contractChatId);
+          messages.forEach(this::fillSentAt);
 
-          Query query = new Query();
-          query.addCriteria(Criteria.where("contractChatId").is(contractChatId.toString()));
-          query.with(Sort.by(Sort.Direction.ASC, "sendTime"));
+          return new ArrayList<>(mongoTemplate.insert(messages, collectionName));
+      }
+
+      /** sendTime(ISO LocalDateTime 문자열)을 커서 비교용 시각으로 변환 - 형식이 다르면 현재 시각 */
+      private void fillSentAt(ContractChatDocument message) {
+          if (message.getSentAt() != null) {
+              return;
+          }
+          Instant sentAt = Instant.now();
+          if (message.getSendTime() != null) {
+              try {
+                  sentAt =
+                          LocalDateTime.parse(message.getSendTime())
+                                  .atZone(ZoneId.systemDefault())
+                                  .toInstant();
+              } catch (DateTimeParseException e) {
+                  log.warn("sendTime 형식 오류 - 현재 시각 사용: {}", message.getSendTime());
+              }
+          }
+          message.setSentAt(sentAt);
+      }
+
+      /**
+       * 커서 기반 메시지 조회 - (sentAt, _id) 내림차순으로 커서 이전 메시지를 limit개 조회합니다.
+       *
+       * <p>sendTime 문자열 대신 날짜 타입인 sentAt으로 비교하므로 작성자마다 시각 문자열의 자릿수가 달라도 순서가 어긋나지 않습니다.
+       *
+       * @param contractChatId 계약 채팅방 ID
+       * @param beforeSentAt 커서 메시지의 sentAt (null이면 최신 메시지부터)
+       * @param beforeId 커서 메시지의 _id (beforeSentAt과 함께 사용)
+       * @param limit 조회 개수
+       * @return (sentAt, _id) 내림차순 메시지 목록
+       */
+      public List<ContractChatDocument> getMessagesBefore(
+              Long contractChatId, Instant beforeSentAt, String beforeId, int limit) {
+          String collectionName = getCollectionName(contractChatId);
+          ensureCursorIndex(collectionName);
+
+          Criteria criteria = Criteria.where("contractChatId").is(contractChatId.toString());
+          if (beforeSentAt != null && beforeId != null) {
+              criteria =
+                      criteria.orOperator(
+                              Criteria.where("sentAt").lt(beforeSentAt),
+                              Criteria.where("sentAt")
+                                      .is(beforeSentAt)
+                                      .and("_id")
+                                      .lt(new ObjectId(beforeId)));
+          }
+
+          Query query = new Query(criteria);
+          query.with(Sort.by(Sort.Direction.DESC, "sentAt", "_id"));
+          query.limit(limit);
 
           return mongoTemplate.find(query, ContractChatDocument.class, collectionName);
       }
@@ -75,20 +203,26 @@ public class ContractChatMessageRepository {
           return messages;
       }
 
-      /** 페이지네이션 - sendTime 기반 */
+      /**
+       * 페이지네이션 - sendTime 기반 오프셋 조회
+       *
+       * @deprecated 깊은 페이지에서 skip 비용이 선형으로 증가합니다. {@link #getMessagesBefore(Long, Instant,
+       *     String, int)}를 사용하세요.
+       */
+      @Deprecated
       public List<ContractChatDocument> getMessagesPaged(Long contractChatId, int page, int size) {
           String collectionName = getCollectionName(contractChatId);
 
           Query query = new Query();
           query.addCriteria(Criteria.where("contractChatId").is(contractChatId.toString()));
-          query.with(Sort.by(Sort.Direction.DESC, "sendTime"));
+          query.with(Sort.by(Sort.Direction.DESC, "sendTime", "_id"));
           query.skip((long) page * size).limit(size);
 
           List<ContractChatDocument> messages =
                   mongoTemplate.find(query, ContractChatDocument.class, collectionName);
 
-          // 시간 순으로 다시 정렬
-          messages.sort((a, b) -> a.getSendTime().compareTo(b.getSendTime()));
+          // 시간 순으로 뒤집기
+          Collections.reverse(messages);
 
           return messages;
       }
@@ -1,7 +1,9 @@
 package org.scoula.domain.chat.repository;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.scoula.domain.chat.document.FinalSpecialContractDocument;
 import org.scoula.domain.chat.document.SpecialContractDocument;
@@ -20,6 +22,7 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class SpecialContractMongoRepository {
       @Autowired private MongoTemplate mongoTemplate;
+      @Autowired private SpecialContractViewRepository specialContractViewRepository;
 
       public SpecialContractSelectionDocument saveSelectionStatus(
               SpecialContractSelectionDocument document) {
@@ -36,7 +39,9 @@ public class SpecialContractMongoRepository {
 
       /** 특약 문서 생성 */
       public SpecialContractFixDocument createSpecialContract(SpecialContractFixDocument document) {
-          return mongoTemplate.save(document);
+          SpecialContractFixDocument saved = mongoTemplate.save(document);
+          refreshIncompleteOrders(saved.getContractChatId());
+          return saved;
       }
 
       /** contractChatId로 특약 문서 조회 */
@@ -55,7 +60,9 @@ public class SpecialContractMongoRepository {
 
       /** 특약 문서 업데이트 */
       public SpecialContractFixDocument updateSpecialContract(SpecialContractFixDocument document) {
-          return mongoTemplate.save(document);
+          SpecialContractFixDocument saved = mongoTemplate.save(document);
+          refreshIncompleteOrders(saved.getContractChatId());
+          return saved;
       }
 
       /** 특정 라운드의 특약 문서들 조회 */
@@ -113,12 +120,14 @@ public class SpecialContractMongoRepository {
       /** 특약 문서 삭제 */
       public void deleteSpecialContract(SpecialContractFixDocument document) {
           mongoTemplate.remove(document);
+          specialContractViewRepository.markStale(document.getContractChatId());
       }
 
       /** contractChatId로 특약 문서 삭제 */
       public void deleteByContractChatId(Long contractChatId) {
           Query query = new Query(Criteria.where("contractChatId").is(contractChatId));
           mongoTemplate.remove(query, SpecialContractFixDocument.class);
+          specialContractViewRepository.markStale(contractChatId);
       }
 
       /** contractChatId로 SpecialContractDocument (원본 특약 문서) 조회 */
@@ -226,9 +235,18 @@ public class SpecialContractMongoRepository {
           return Optional.ofNullable(result);
       }
 
+      /** contractChatId의 모든 라운드 SpecialContractDocument 조회 */
+      public List<SpecialContractDocument> findSpecialContractDocumentsByContractChatId(
+              Long contractChatId) {
+          Query query = new Query(Criteria.where("contractChatId").is(contractChatId));
+          return mongoTemplate.find(query, SpecialContractDocument.class);
+      }
+
       public SpecialContractDocument saveSpecialContractForNewRound(
               SpecialContractDocument document) {
-          return mongoTemplate.save(document, "SPECIAL_CONTRACT");
+          SpecialContractDocument saved = mongoTemplate.save(document, "SPECIAL_CONTRACT");
+          specialContractViewRepository.setRound(saved);
+          return saved;
       }
 
       public String updateSpecialContractForNewOrderAndRound(
@@ -257,11 +275,32 @@ public class SpecialContractMongoRepository {
                   mongoTemplate.updateFirst(query, update, SpecialContractDocument.class);
 
           if (result.getModifiedCount() > 0) {
+              specialContractViewRepository.setClause(contractChatId, nextRound, order, clause);
               return contractChatId.toString();
           }
           return null;
       }
 
+      /** 조회용 문서의 미완료 특약 번호를 원본(SPECIAL_CONTRACT_FIX) 기준으로 갱신 */
+      private void refreshIncompleteOrders(Long contractChatId) {
+          if (contractChatId == null) {
+              return;
+          }
+          Query query =
+                  new Query(
+                          Criteria.where("contractChatId").is(contractChatId).and("isPassed").is(false));
+          query.fields().include("order");
+          List<Integer> incompleteOrders =
+                  mongoTemplate.find(query, SpecialContractFixDocument.class).stream()
+                          .map(SpecialContractFixDocument::getOrder)
+                          .filter(Objects::nonNull)
+                          .map(Long::intValue)
+                          .distinct()
+                          .sorted()
+                          .collect(Collectors.toList());
+          specialContractViewRepository.setIncompleteOrders(contractChatId, incompleteOrders);
+      }
+
       public FinalSpecialContractDocument saveFinalSpecialContract(
               FinalSpecialContractDocument document) {
           return mongoTemplate.save(document, "FINAL_SPECIAL_CONTRACT");
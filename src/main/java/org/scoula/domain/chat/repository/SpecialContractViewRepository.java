@@ -0,0 +1,128 @@
+package org.scoula.domain.chat.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.scoula.domain.chat.document.SpecialContractDocument;
+import org.scoula.domain.chat.document.SpecialContractViewDocument;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import com.mongodb.client.result.UpdateResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 특약 협상 조회용 비정규화 문서(SPECIAL_CONTRACT_VIEW) 저장소
+ *
+ * <p>모든 갱신은 원자적 부분 갱신이며 version을 함께 증가시킵니다. 갱신 대상 문서나 경로가 없으면 stale로 표시하여 조회 시 재구성되도록 합니다.
+ */
+@Repository
+@Slf4j
+public class SpecialContractViewRepository {
+
+      @Autowired private MongoTemplate mongoTemplate;
+
+      public SpecialContractViewDocument findById(Long contractChatId) {
+          return mongoTemplate.findById(contractChatId, SpecialContractViewDocument.class);
+      }
+
+      /**
+       * 재구성한 문서를 저장합니다. 재구성 시작 시점의 버전과 현재 버전이 같을 때만 교체합니다.
+       *
+       * @param view 재구성한 문서 (version은 expectedVersion + 1로 설정되어 있어야 함)
+       * @param expectedVersion 재구성 시작 시점의 버전 (문서가 없었으면 null)
+       * @return 교체 성공 여부
+       */
+      public boolean replaceIfVersion(SpecialContractViewDocument view, Long expectedVersion) {
+          Criteria criteria = Criteria.where("_id").is(view.getContractChatId());
+          if (expectedVersion == null) {
+              if (mongoTemplate.exists(new Query(criteria), SpecialContractViewDocument.class)) {
+                  return false;
+              }
+              try {
+                  mongoTemplate.insert(view);
+                  return true;
+              } catch (DuplicateKeyException e) {
+                  return false;
+              }
+          }
+
+          criteria = criteria.and("version").is(expectedVersion);
+          SpecialContractViewDocument previous =
+                  mongoTemplate.findAndReplace(
+                          new Query(criteria), view, FindAndReplaceOptions.none());
+          return previous != null;
+      }
+
+      /** 라운드 문서 전체 반영 */
+      public void setRound(SpecialContractDocument document) {
+          SpecialContractViewDocument.RoundView roundView =
+                  SpecialContractViewDocument.RoundView.builder()
+                          .round(document.getRound())
+                          .totalClauses(document.getTotalClauses())
+                          .clauses(document.getClauses())
+                          .build();
+
+          Query query = activeView(document.getContractChatId());
+          Update update =
+                  versioned()
+                          .set(
+                                  "rounds." + SpecialContractViewDocument.roundKey(document.getRound()),
+                                  roundView);
+          applyOrMarkStale(document.getContractChatId(), query, update);
+      }
+
+      /** 라운드 내 특정 조항 반영 */
+      public void setClause(
+              Long contractChatId, Long round, Integer order, SpecialContractDocument.Clause clause) {
+          String roundPath = "rounds." + SpecialContractViewDocument.roundKey(round);
+
+          Query query = activeView(contractChatId);
+          query.addCriteria(Criteria.where(roundPath).exists(true));
+          Update update = versioned().set(roundPath + ".clauses." + (order - 1), clause);
+          applyOrMarkStale(contractChatId, query, update);
+      }
+
+      /** 미완료 특약 번호 목록 반영 */
+      public void setIncompleteOrders(Long contractChatId, List<Integer> incompleteOrders) {
+          Query query = activeView(contractChatId);
+          Update update = versioned().set("incompleteOrders", incompleteOrders);
+          applyOrMarkStale(contractChatId, query, update);
+      }
+
+      /** 원본이 임의로 변경되어 부분 갱신이 불가능한 경우 재구성 표시 */
+      public void markStale(Long contractChatId) {
+          mongoTemplate.upsert(
+                  new Query(Criteria.where("_id").is(contractChatId)),
+                  versioned().set("stale", true),
+                  SpecialContractViewDocument.class);
+      }
+
+      private Query activeView(Long contractChatId) {
+          return new Query(Criteria.where("_id").is(contractChatId).and("stale").ne(true));
+      }
+
+      private Update versioned() {
+          return new Update().inc("version", 1).set("updatedAt", LocalDateTime.now().toString());
+      }
+
+      private void applyOrMarkStale(Long contractChatId, Query query, Update update) {
+          try {
+              UpdateResult result =
+                      mongoTemplate.updateFirst(query, update, SpecialContractViewDocument.class);
+              if (result.getMatchedCount() == 0) {
+                  markStale(contractChatId);
+              }
+          } catch (Exception e) {
+              log.warn("특약 조회 문서 부분 갱신 실패 - 재구성 표시: contractChatId={}", contractChatId, e);
+              markStale(contractChatId);
+          }
+      }
+}
@@ -4,6 +4,8 @@ import org.scoula.domain.chat.dto.ai.ClauseImproveRequestDto;
 import org.scoula.domain.chat.dto.ai.ClauseImproveResponseDto;
 import org.scoula.domain.chat.exception.ChatErrorCode;
 import org.scoula.global.common.exception.BusinessException;
+import org.scoula.global.common.resilience.AiResilienceExecutor;
+import org.scoula.global.common.resilience.CallNotPermittedException;
 import org.scoula.global.common.util.LogSanitizerUtil;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
@@ -25,6 +27,7 @@ public class AiClauseImproveServiceImpl implements AiClauseImproveService {
 
       private final RestTemplate restTemplate;
       private final ObjectMapper objectMapper;
+      private final AiResilienceExecutor aiResilienceExecutor;
 
       @Value("${ai.server.url:http://localhost:8000}")
       private String aiServerUrl;
@@ -37,10 +40,17 @@ public class AiClauseImproveServiceImpl implements AiClauseImproveService {
 
               HttpEntity<ClauseImproveRequestDto> requestEntity = createRequestEntity(request);
               ResponseEntity<ClauseImproveResponseDto> response =
-                      restTemplate.postForEntity(url, requestEntity, ClauseImproveResponseDto.class);
+                      aiResilienceExecutor.execute(
+                              AiResilienceExecutor.CLAUSE_IMPROVE,
+                              () ->
+                                      restTemplate.postForEntity(
+                                              url, requestEntity, ClauseImproveResponseDto.class));
 
               return processResponse(response);
 
+          } catch (CallNotPermittedException e) {
+              log.warn("AI 특약 개선 요청 거절: {}", e.getMessage());
+              throw new BusinessException(ChatErrorCode.AI_SERVER_ERROR, e.getMessage());
           } catch (BusinessException e) {
               throw e;
           } catch (Exception e) {
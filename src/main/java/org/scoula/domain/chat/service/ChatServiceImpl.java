@@ -19,6 +19,7 @@ import org.scoula.domain.chat.vo.ContractChat;
 import org.scoula.domain.user.service.UserServiceInterface;
 import org.scoula.domain.user.vo.User;
 import org.scoula.global.common.exception.BusinessException;
+import org.scoula.global.file.service.ImageDerivativeService;
 import org.scoula.global.file.service.S3ServiceInterface;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -546,7 +547,7 @@ public class ChatServiceImpl implements ChatServiceInterface {
           response.put("sendTime", message.getSendTime());
 
           if ("IMAGE".equals(fileType)) {
-              response.put("thumbnailUrl", generateThumbnailUrl(fileUrl));
+              putImageVariantUrls(response, fileUrl);
           }
 
           try {
@@ -561,9 +562,35 @@ public class ChatServiceImpl implements ChatServiceInterface {
           return response;
       }
 
-      /** 썸네일 URL 생성 (이미지용) */
-      private String generateThumbnailUrl(String originalUrl) {
-          return originalUrl; // 현재는 원본 URL 사용
+      /**
+       * 이미지 파생본 URL - 마지막으로 저장되는 EXIF 제거본이 있을 때만 파생본 URL을 넣습니다. 아직 생성 전이거나 만들 수 없는 형식이면 썸네일은
+       * 원본 URL을 사용하고 중간 크기 URL은 넣지 않습니다.
+       */
+      private void putImageVariantUrls(Map<String, Object> response, String fileUrl) {
+          response.put("thumbnailUrl", fileUrl);
+          String s3Key = extractS3KeyFromUrl(fileUrl);
+          if (s3Key == null || !ImageDerivativeService.isDecodable(s3Key)) {
+              return;
+          }
+          try {
+              String strippedKey =
+                      ImageDerivativeService.variantKey(
+                              s3Key, ImageDerivativeService.Variant.STRIPPED);
+              if (!s3Service.fileExists(strippedKey)) {
+                  return;
+              }
+          } catch (Exception e) {
+              log.warn("이미지 파생본 확인 실패: {}", fileUrl, e);
+              return;
+          }
+          response.put(
+                  "thumbnailUrl",
+                  ImageDerivativeService.variantUrl(
+                          fileUrl, ImageDerivativeService.Variant.THUMBNAIL));
+          response.put(
+                  "mediumUrl",
+                  ImageDerivativeService.variantUrl(
+                          fileUrl, ImageDerivativeService.Variant.MEDIUM));
       }
 
       /** URL에서 S3 키 추출 */
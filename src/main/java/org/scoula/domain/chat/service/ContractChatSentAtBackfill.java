@@ -0,0 +1,53 @@
+package org.scoula.domain.chat.service;
+
+import javax.annotation.PostConstruct;
+
+import org.scoula.domain.chat.repository.ContractChatMessageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계약 채팅 메시지 sentAt 채우기 시작 작업
+ *
+ * <p>커서 조회는 sentAt으로 정렬하므로, sentAt 필드가 생기기 전에 저장된 메시지에 값을 채웁니다. 컬렉션 전체를 갱신하므로 조회 요청 안에서 실행하지
+ * 않고 애플리케이션 시작 시 백그라운드 스레드에서 한 번 실행합니다. 이미 채운 메시지는 건너뛰므로 여러 노드가 동시에 실행해도 됩니다. 채우기가 끝나기 전에는
+ * 이전 메시지가 커서 조회에 나타나지 않을 수 있습니다.
+ *
+ * <p>이 빈은 루트 컨텍스트에서만 생성됩니다 (서블릿 컨텍스트 스캔에서 제외).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ContractChatSentAtBackfill {
+
+      private final ContractChatMessageRepository contractChatMessageRepository;
+
+      @Value("${mongodb.contract-chat.sent-at-backfill.enabled:true}")
+      private boolean enabled;
+
+      @PostConstruct
+      public void start() {
+          if (!enabled) {
+              return;
+          }
+          Thread worker = new Thread(this::backfill, "contract-chat-sent-at-backfill");
+          worker.setDaemon(true);
+          worker.start();
+      }
+
+      void backfill() {
+          for (int shard = 0; shard < ContractChatMessageRepository.SHARD_COUNT; shard++) {
+              try {
+                  long filled = contractChatMessageRepository.backfillSentAt(shard);
+                  if (filled > 0) {
+                      log.info("계약 채팅 sentAt 채우기 완료 - shard: {}, count: {}", shard, filled);
+                  }
+              } catch (Exception e) {
+                  log.warn("계약 채팅 sentAt 채우기 실패 - shard: {}", shard, e);
+              }
+          }
+      }
+}
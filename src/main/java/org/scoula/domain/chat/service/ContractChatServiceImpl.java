@@ -1,12 +1,17 @@
 package org.scoula.domain.chat.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import org.bson.types.ObjectId;
 import org.scoula.domain.chat.document.*;
 import org.scoula.domain.chat.dto.ContentDataDto;
+import org.scoula.domain.chat.dto.ContractChatFrameDto;
+import org.scoula.domain.chat.dto.ContractChatMessagePageDto;
 import org.scoula.domain.chat.dto.ContractChatMessageRequestDto;
 import org.scoula.domain.chat.dto.SpecialContractUserViewDto;
 import org.scoula.domain.chat.dto.ai.ClauseImproveRequestDto;
@@ -36,13 +41,19 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ContractChatServiceImpl implements ContractChatServiceInterface {
 
+      private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+      private static final String CURSOR_DELIMITER = "|";
+
       private final ContractChatMapper contractChatMapper;
+      private final ContractChatStateCache contractChatStateCache;
+      private final ContractSystemMessageEmitter systemMessageEmitter;
       private final ChatRoomMapper chatRoomMapper;
       private final ContractChatMessageRepository contractChatMessageRepository;
       private final SimpMessagingTemplate messagingTemplate;
       @Lazy private final ChatServiceInterface chatService;
       private final AiClauseImproveService aiClauseImproveService;
       private final PreContractDataService preContractDataService;
+      private final SpecialContractViewService specialContractViewService;
 
       private final Map<String, Set<Long>> contractChatOnlineUsers = new ConcurrentHashMap<>();
       private final RedisTemplate<String, String> stringRedisTemplate;
@@ -109,7 +120,8 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
               contractChatMapper.updateLastMessage(dto.getContractChatId(), dto.getContent());
 
               messagingTemplate.convertAndSend(
-                      "/topic/contract-chat/" + dto.getContractChatId(), savedMessage);
+                      "/topic/contract-chat/" + dto.getContractChatId(),
+                      ContractChatFrameDto.ofMessages(List.of(savedMessage)));
 
           } catch (Exception e) {
               log.error("메시지 처리 중 오류 발생", e);
@@ -118,59 +130,88 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
       }
 
       public void AiMessage(Long contractChatId, String content) {
-          final Long ai = 9999L;
+          systemMessageEmitter.emit(contractChatId, ContractSystemMessageEmitter.Sender.AI, content);
+      }
 
-          ContractChatDocument aiMessage =
-                  ContractChatDocument.builder()
-                          .contractChatId(contractChatId.toString())
-                          .senderId(ai)
-                          .receiverId(null)
-                          .content(content)
-                          .sendTime(LocalDateTime.now().toString())
-                          .build();
+      public void AiMessageNext(Long contractChatId, String content) {
+          systemMessageEmitter.emit(
+                  contractChatId, ContractSystemMessageEmitter.Sender.AI_NEXT, content);
+      }
 
-          contractChatMessageRepository.saveMessage(aiMessage);
-          contractChatMapper.updateLastMessage(contractChatId, content);
-          messagingTemplate.convertAndSend("/topic/contract-chat/" + contractChatId, aiMessage);
+      public void AiMessageBtn(Long contractChatId, String content) {
+          systemMessageEmitter.emit(
+                  contractChatId, ContractSystemMessageEmitter.Sender.AI_BUTTON, content);
       }
-    public void AiMessageNext(Long contractChatId, String content) {
-        final Long ai = 9997L;
-
-        ContractChatDocument aiMessage =
-                ContractChatDocument.builder()
-                        .contractChatId(contractChatId.toString())
-                        .senderId(ai)
-                        .receiverId(null)
-                        .content(content)
-                        .sendTime(LocalDateTime.now().toString())
-                        .build();
 
-        contractChatMessageRepository.saveMessage(aiMessage);
-        contractChatMapper.updateLastMessage(contractChatId, content);
-        messagingTemplate.convertAndSend("/topic/contract-chat/" + contractChatId, aiMessage);
-    }
+      /** {@inheritDoc} */
+      @Override
+      public ContractChatMessagePageDto getContractMessages(
+              Long contractChatId, String cursor, int size) {
+          if (size < 1 || size > MAX_MESSAGE_PAGE_SIZE) {
+              throw new BusinessException(
+                      ChatErrorCode.INVALID_INPUT_VALUE,
+                      "페이지 크기는 1 이상 " + MAX_MESSAGE_PAGE_SIZE + " 이하여야 합니다.");
+          }
 
-      public void AiMessageBtn(Long contractChatId, String content) {
-          final Long ai = 9998L;
+          Instant beforeSentAt = null;
+          String beforeId = null;
+          if (cursor != null && !cursor.isBlank()) {
+              String[] decoded = decodeMessageCursor(cursor);
+              beforeSentAt = Instant.ofEpochMilli(Long.parseLong(decoded[0]));
+              beforeId = decoded[1];
+          }
 
-          ContractChatDocument aiMessage =
-                  ContractChatDocument.builder()
-                          .contractChatId(contractChatId.toString())
-                          .senderId(ai)
-                          .receiverId(null)
-                          .content(content)
-                          .sendTime(LocalDateTime.now().toString())
-                          .build();
+          // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+          List<ContractChatDocument> messages =
+                  new ArrayList<>(
+                          contractChatMessageRepository.getMessagesBefore(
+                                  contractChatId, beforeSentAt, beforeId, size + 1));
+
+          boolean hasNext = messages.size() > size;
+          if (hasNext) {
+              messages = new ArrayList<>(messages.subList(0, size));
+          }
+
+          String nextCursor = hasNext ? encodeMessageCursor(messages.get(size - 1)) : null;
+          Collections.reverse(messages);
 
-          contractChatMessageRepository.saveMessage(aiMessage);
-          contractChatMapper.updateLastMessage(contractChatId, content);
-          messagingTemplate.convertAndSend("/topic/contract-chat/" + contractChatId, aiMessage);
+          return ContractChatMessagePageDto.builder()
+                  .messages(messages)
+                  .nextCursor(nextCursor)
+                  .pageSize(size)
+                  .hasNext(hasNext)
+                  .build();
       }
 
-      /** {@inheritDoc} */
-      @Override
-      public List<ContractChatDocument> getContractMessages(Long contractChatId) {
-          return contractChatMessageRepository.getMessages(contractChatId);
+      /** 메시지 커서 인코딩 - "sentAt(epoch millis)|_id"를 URL-safe Base64로 변환 */
+      private String encodeMessageCursor(ContractChatDocument message) {
+          // sentAt이 채워지기 전의 메시지는 ObjectId 생성 시각으로 대체
+          Instant sentAt =
+                  message.getSentAt() != null
+                          ? message.getSentAt()
+                          : new ObjectId(message.getId()).getDate().toInstant();
+          String raw = sentAt.toEpochMilli() + CURSOR_DELIMITER + message.getId();
+          return Base64.getUrlEncoder()
+                  .withoutPadding()
+                  .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+      }
+
+      /** 메시지 커서 디코딩 - [sentAt(epoch millis), _id] 반환 */
+      private String[] decodeMessageCursor(String cursor) {
+          try {
+              String raw =
+                      new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+              int delimiterIndex = raw.lastIndexOf(CURSOR_DELIMITER);
+              String sentAt = raw.substring(0, delimiterIndex);
+              String messageId = raw.substring(delimiterIndex + 1);
+
+              if (!sentAt.matches("\\d{1,15}") || !ObjectId.isValid(messageId)) {
+                  throw new IllegalArgumentException("커서 형식 오류");
+              }
+              return new String[] {sentAt, messageId};
+          } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+              throw new BusinessException(ChatErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다.");
+          }
       }
 
       /** 스타트 버튼 클릭 - 현재 시간을 시작점으로 설정 */
@@ -180,10 +221,10 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
           if (!isUserInContractChat(contractChatId, userId)) {
               throw new BusinessException(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED);
           }
-          contractChatMapper.clearTimePoints(contractChatId);
+          contractChatStateCache.clearTimePoints(contractChatId);
           String startTime = LocalDateTime.now().toString();
 
-          contractChatMapper.updateStartTime(contractChatId, startTime);
+          contractChatStateCache.updateStartTime(contractChatId, startTime);
 
           return startTime;
       }
@@ -216,7 +257,7 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
               throw new BusinessException(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED);
           }
 
-          ContractChat contractChat = contractChatMapper.findByContractChatId(contractChatId);
+          ContractChat contractChat = contractChatStateCache.get(contractChatId);
           if (contractChat == null) {
               throw new EntityNotFoundException("계약 채팅방을 찾을 수 없습니다: " + contractChatId);
           }
@@ -248,7 +289,7 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
           }
 
           String endTime = LocalDateTime.now().toString();
-          contractChatMapper.updateEndTime(contractChatId, endTime);
+          contractChatStateCache.updateEndTime(contractChatId, endTime);
 
           List<ContractChatDocument> exportMessages =
                   contractChatMessageRepository.getMessagesBetweenTime(
@@ -295,7 +336,7 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
 
       private boolean isRejectedClause(Long contractChatId, Long order) {
           try {
-              ContractChat contractChat = contractChatMapper.findByContractChatId(contractChatId);
+              ContractChat contractChat = contractChatStateCache.get(contractChatId);
               Long currentRound = contractChat.getCurrentRound();
 
               SpecialContractDocument currentDocument =
@@ -435,7 +476,7 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
               return false;
           }
 
-          ContractChat contractChat = contractChatMapper.findByContractChatId(contractChatId);
+          ContractChat contractChat = contractChatStateCache.get(contractChatId);
           if (contractChat == null) {
               return false;
           }
@@ -468,7 +509,7 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
               throw new BusinessException(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED);
           }
 
-          ContractChat contractChat = contractChatMapper.findByContractChatId(contractChatId);
+          ContractChat contractChat = contractChatStateCache.get(contractChatId);
           if (contractChat == null) {
               throw new EntityNotFoundException("계약 채팅방을 찾을 수 없습니다: " + contractChatId);
           }
@@ -493,7 +534,7 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
       @Override
       public boolean canSendContractMessage(Long contractChatId) {
           try {
-              ContractChat contractChat = contractChatMapper.findByContractChatId(contractChatId);
+              ContractChat contractChat = contractChatStateCache.get(contractChatId);
               if (contractChat == null) {
                   return false;
               }
@@ -556,7 +597,7 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
       @Override
       @Transactional
       public void requestEndPointExport(Long contractChatId, Long ownerId) {
-          ContractChat contractChat = contractChatMapper.findByContractChatId(contractChatId);
+          ContractChat contractChat = contractChatStateCache.get(contractChatId);
           if (contractChat == null) {
               throw new EntityNotFoundException("계약 채팅방을 찾을 수 없습니다: " + contractChatId);
           }
@@ -586,7 +627,8 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
           contractChatMessageRepository.saveMessage(endRequestMessage);
 
           messagingTemplate.convertAndSend(
-                  "/topic/contract-chat/" + contractChatId, endRequestMessage);
+                  "/topic/contract-chat/" + contractChatId,
+                  ContractChatFrameDto.ofMessages(List.of(endRequestMessage)));
       }
 
       /** {@inheritDoc} */
@@ -595,7 +637,7 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
           String redisKey = "contract:request-end:" + contractChatId;
           stringRedisTemplate.delete(redisKey);
 
-          ContractChat contractChat = contractChatMapper.findByContractChatId(contractChatId);
+          ContractChat contractChat = contractChatStateCache.get(contractChatId);
           ContractChatDocument rejectNotification =
                   ContractChatDocument.builder()
                           .contractChatId(contractChatId.toString())
@@ -608,7 +650,8 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
           contractChatMessageRepository.saveMessage(rejectNotification);
 
           messagingTemplate.convertAndSend(
-                  "/topic/contract-chat/" + contractChatId, rejectNotification);
+                  "/topic/contract-chat/" + contractChatId,
+                  ContractChatFrameDto.ofMessages(List.of(rejectNotification)));
       }
 
       @Override
@@ -622,7 +665,7 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
                   rejectedOrders,
                   passedOrders);
 
-          ContractChat contractChat = contractChatMapper.findByContractChatId(contractChatId);
+          ContractChat contractChat = contractChatStateCache.get(contractChatId);
           Long currentRound = contractChat.getCurrentRound();
 
           SpecialContractDocument latestDocument =
@@ -839,7 +882,7 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
           log.info("=== 모든 미완료 특약 다음 라운드 진행 시작 ===");
           log.info("contractChatId: {}", contractChatId);
 
-          ContractChat contractChat = contractChatMapper.findByContractChatId(contractChatId);
+          ContractChat contractChat = contractChatStateCache.get(contractChatId);
           if (contractChat == null) {
               throw new IllegalArgumentException("계약 채팅방을 찾을 수 없습니다: " + contractChatId);
           }
@@ -909,7 +952,7 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
       @Transactional
       public Object submitUserSelection(
               Long contractChatId, Long userId, Map<Integer, Boolean> selections) {
-          ContractChat contractChat = contractChatMapper.findByContractChatId(contractChatId);
+          ContractChat contractChat = contractChatStateCache.get(contractChatId);
           if (contractChat == null) {
               throw new EntityNotFoundException("계약 채팅방을 찾을 수 없습니다.");
           }
@@ -1055,7 +1098,8 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
                   log.error("새 라운드 SPECIAL_CONTRACT 문서 생성 실패", e);
               }
 
-              contractChatMapper.updateStatus(contractChatId, ContractChat.ContractStatus.ROUND0);
+              contractChatStateCache.updateStatus(
+                      contractChatId, ContractChat.ContractStatus.ROUND0);
               resetSelectionDocument(contractChatId);
 
               return Map.of(
@@ -1179,7 +1223,7 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
           log.info("=== 전체 라운드 특약 문서 조회 시작 ===");
           log.info("contractChatId: {}, userId: {}", contractChatId, userId);
 
-          ContractChat contractChat = contractChatMapper.findByContractChatId(contractChatId);
+          ContractChat contractChat = contractChatStateCache.get(contractChatId);
           if (contractChat == null) {
               throw new IllegalArgumentException("계약 채팅방을 찾을 수 없습니다.");
           }
@@ -1192,58 +1236,26 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
           }
 
           String userRole = isOwner ? "owner" : "tenant";
+          SpecialContractViewDocument view = specialContractViewService.getView(contractChatId);
 
           Map<String, SpecialContractUserViewDto> allRounds = new HashMap<>();
           int availableRounds = 0;
 
           for (Long round = 1L; round <= 4L; round++) {
-              try {
-                  Optional<SpecialContractDocument> documentOpt =
-                          specialContractMongoRepository
-                                  .findSpecialContractDocumentByContractChatIdAndRound(
-                                          contractChatId, round);
-
-                  if (documentOpt.isPresent()) {
-                      SpecialContractDocument document = documentOpt.get();
-
-                      List<SpecialContractUserViewDto.ClauseUserView> userClauses =
-                              document.getClauses().stream()
-                                      .map(
-                                              clause -> {
-                                                  SpecialContractDocument.Evaluation userEvaluation =
-                                                          isOwner
-                                                                  ? clause.getAssessment().getOwner()
-                                                                  : clause.getAssessment()
-                                                                          .getTenant();
-
-                                                  return SpecialContractUserViewDto.ClauseUserView
-                                                          .builder()
-                                                          .id(clause.getOrder())
-                                                          .title(clause.getTitle())
-                                                          .content(clause.getContent())
-                                                          .level(userEvaluation.getLevel())
-                                                          .reason(userEvaluation.getReason())
-                                                          .build();
-                                              })
-                                      .collect(Collectors.toList());
-
-                      SpecialContractUserViewDto roundData =
-                              SpecialContractUserViewDto.builder()
-                                      .contractChatId(document.getContractChatId())
-                                      .round(document.getRound())
-                                      .totalClauses(document.getTotalClauses())
-                                      .userRole(userRole)
-                                      .clauses(userClauses)
-                                      .build();
+              SpecialContractViewDocument.RoundView roundView = roundViewOf(view, round);
+              if (roundView == null) {
+                  log.info("라운드 {} 문서 없음", round);
+                  allRounds.put("round" + round, null);
+                  continue;
+              }
 
-                      allRounds.put("round" + round, roundData);
-                      availableRounds++;
+              try {
+                  SpecialContractUserViewDto roundData =
+                          toUserView(contractChatId, roundView, isOwner, userRole, null);
+                  allRounds.put("round" + round, roundData);
+                  availableRounds++;
 
-                      log.info("라운드 {} 조회 완료 - clauses: {}", round, userClauses.size());
-                  } else {
-                      log.info("라운드 {} 문서 없음", round);
-                      allRounds.put("round" + round, null);
-                  }
+                  log.info("라운드 {} 조회 완료 - clauses: {}", round, roundData.getClauses().size());
               } catch (Exception e) {
                   log.error("라운드 {} 조회 실패: {}", round, e.getMessage());
                   allRounds.put("round" + round, null);
@@ -1268,7 +1280,7 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
           log.info("=== 상태별 특약 문서 조회 시작 ===");
           log.info("contractChatId: {}, userId: {}", contractChatId, userId);
 
-          ContractChat contractChat = contractChatMapper.findByContractChatId(contractChatId);
+          ContractChat contractChat = contractChatStateCache.get(contractChatId);
           if (contractChat == null) {
               log.error("계약 채팅방을 찾을 수 없음 - contractChatId: {}", contractChatId);
               throw new IllegalArgumentException("계약 채팅방을 찾을 수 없습니다.");
@@ -1284,6 +1296,7 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
 
           ContractChat.ContractStatus currentStatus = contractChat.getStatus();
           String userRole = isOwner ? "owner" : "tenant";
+          SpecialContractViewDocument view = specialContractViewService.getView(contractChatId);
 
           if (currentStatus == ContractChat.ContractStatus.ROUND1
                   || currentStatus == ContractChat.ContractStatus.ROUND2
@@ -1291,77 +1304,30 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
 
               log.info("ROUND1~3 상태 - 완료되지 않은 특약 문서만 조회: {}", currentStatus);
 
-              List<SpecialContractFixDocument> incompleteFixDocs =
-                      getIncompleteSpecialContractsByChat(contractChatId, userId);
-
-              if (incompleteFixDocs.isEmpty()) {
+              List<Integer> incompleteOrders = view.getIncompleteOrders();
+              if (incompleteOrders == null || incompleteOrders.isEmpty()) {
                   log.warn("완료되지 않은 특약 문서를 찾을 수 없음 - contractChatId: {}", contractChatId);
                   throw new IllegalArgumentException("완료되지 않은 특약 문서를 찾을 수 없습니다: " + contractChatId);
               }
 
-              Set<Integer> targetOrders =
-                      incompleteFixDocs.stream()
-                              .map(doc -> doc.getOrder().intValue())
-                              .collect(Collectors.toSet());
-
               Long currentRound = getCurrentRoundNumber(currentStatus);
-              SpecialContractDocument fullDocument =
-                      specialContractMongoRepository
-                              .findSpecialContractDocumentByContractChatIdAndRound(
-                                      contractChatId, currentRound)
-                              .orElseThrow(
-                                      () -> {
-                                          log.warn(
-                                                  "라운드 {}의 특약 문서를 찾을 수 없음 - contractChatId: {}",
-                                                  currentRound,
-                                                  contractChatId);
-                                          return new IllegalArgumentException(
-                                                  "라운드 "
-                                                          + currentRound
-                                                          + "의 특약 문서를 찾을 수 없습니다: "
-                                                          + contractChatId);
-                                      });
-
-              List<SpecialContractUserViewDto.ClauseUserView> userClauses =
-                      fullDocument.getClauses().stream()
-                              .filter(clause -> targetOrders.contains(clause.getOrder()))
-                              .map(
-                                      clause -> {
-                                          SpecialContractDocument.Evaluation userEvaluation =
-                                                  isOwner
-                                                          ? clause.getAssessment().getOwner()
-                                                          : clause.getAssessment().getTenant();
-
-                                          log.debug(
-                                                  "특약 {} 변환 - title: {}, level: {}",
-                                                  clause.getOrder(),
-                                                  clause.getTitle(),
-                                                  userEvaluation.getLevel());
-
-                                          return SpecialContractUserViewDto.ClauseUserView.builder()
-                                                  .id(clause.getOrder())
-                                                  .title(clause.getTitle())
-                                                  .content(clause.getContent())
-                                                  .level(userEvaluation.getLevel())
-                                                  .reason(userEvaluation.getReason())
-                                                  .build();
-                                      })
-                              .collect(Collectors.toList());
+              SpecialContractViewDocument.RoundView roundView =
+                      requireRoundView(view, currentRound, contractChatId);
 
               SpecialContractUserViewDto result =
-                      SpecialContractUserViewDto.builder()
-                              .contractChatId(fullDocument.getContractChatId())
-                              .round(fullDocument.getRound())
-                              .totalClauses(userClauses.size())
-                              .userRole(userRole)
-                              .clauses(userClauses)
-                              .build();
+                      toUserView(
+                              contractChatId,
+                              roundView,
+                              isOwner,
+                              userRole,
+                              new HashSet<>(incompleteOrders));
+              result.setTotalClauses(result.getClauses().size());
 
               log.info(
                       "완료되지 않은 특약 문서 조회 완료 - userRole: {}, clauses: {}, round: {}",
                       userRole,
-                      userClauses.size(),
-                      fullDocument.getRound());
+                      result.getClauses().size(),
+                      roundView.getRound());
 
               return result;
           }
@@ -1369,32 +1335,80 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
           Long targetRound = determineTargetRound(currentStatus);
           log.info("현재 상태: {}, 조회할 라운드: {}", currentStatus, targetRound);
 
-          SpecialContractDocument document =
-                  specialContractMongoRepository
-                          .findSpecialContractDocumentByContractChatIdAndRound(
-                                  contractChatId, targetRound)
-                          .orElseThrow(
-                                  () -> {
-                                      log.warn(
-                                              "라운드 {}의 특약 문서를 찾을 수 없음 - contractChatId: {}",
-                                              targetRound,
-                                              contractChatId);
-                                      return new IllegalArgumentException(
-                                              "라운드 "
-                                                      + targetRound
-                                                      + "의 특약 문서를 찾을 수 없습니다: "
-                                                      + contractChatId);
-                                  });
+          SpecialContractViewDocument.RoundView roundView =
+                  requireRoundView(view, targetRound, contractChatId);
 
           log.info(
                   "특약 문서 조회 완료 - round: {}, totalClauses: {}",
-                  document.getRound(),
-                  document.getTotalClauses());
+                  roundView.getRound(),
+                  roundView.getTotalClauses());
 
-          log.info("사용자 역할 확인 완료 - userRole: {}", userRole);
+          SpecialContractUserViewDto result =
+                  toUserView(contractChatId, roundView, isOwner, userRole, null);
 
+          log.info(
+                  "상태별 특약 문서 조회 완료 - userRole: {}, clauses: {}, round: {}",
+                  userRole,
+                  result.getClauses().size(),
+                  roundView.getRound());
+
+          return result;
+      }
+
+      @Override
+      public String getSpecialContractETag(Long contractChatId, Long userId) {
+          ContractChat contractChat = contractChatStateCache.get(contractChatId);
+          if (contractChat == null) {
+              return null;
+          }
+
+          String userRole;
+          if (userId.equals(contractChat.getOwnerId())) {
+              userRole = "owner";
+          } else if (userId.equals(contractChat.getBuyerId())) {
+              userRole = "tenant";
+          } else {
+              return null;
+          }
+
+          return specialContractViewService.eTagOf(
+                  specialContractViewService.getView(contractChatId),
+                  userRole,
+                  contractChat.getStatus());
+      }
+
+      private SpecialContractViewDocument.RoundView roundViewOf(
+              SpecialContractViewDocument view, Long round) {
+          if (view.getRounds() == null) {
+              return null;
+          }
+          return view.getRounds().get(SpecialContractViewDocument.roundKey(round));
+      }
+
+      private SpecialContractViewDocument.RoundView requireRoundView(
+              SpecialContractViewDocument view, Long round, Long contractChatId) {
+          SpecialContractViewDocument.RoundView roundView = roundViewOf(view, round);
+          if (roundView == null) {
+              log.warn("라운드 {}의 특약 문서를 찾을 수 없음 - contractChatId: {}", round, contractChatId);
+              throw new IllegalArgumentException(
+                      "라운드 " + round + "의 특약 문서를 찾을 수 없습니다: " + contractChatId);
+          }
+          return roundView;
+      }
+
+      /** 라운드 조항을 사용자 역할의 평가만 남긴 형태로 변환 (targetOrders가 null이면 전체) */
+      private SpecialContractUserViewDto toUserView(
+              Long contractChatId,
+              SpecialContractViewDocument.RoundView roundView,
+              boolean isOwner,
+              String userRole,
+              Set<Integer> targetOrders) {
           List<SpecialContractUserViewDto.ClauseUserView> userClauses =
-                  document.getClauses().stream()
+                  roundView.getClauses().stream()
+                          .filter(
+                                  clause ->
+                                          targetOrders == null
+                                                  || targetOrders.contains(clause.getOrder()))
                           .map(
                                   clause -> {
                                       SpecialContractDocument.Evaluation userEvaluation =
@@ -1418,22 +1432,13 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
                                   })
                           .collect(Collectors.toList());
 
-          SpecialContractUserViewDto result =
-                  SpecialContractUserViewDto.builder()
-                          .contractChatId(document.getContractChatId())
-                          .round(document.getRound())
-                          .totalClauses(document.getTotalClauses())
-                          .userRole(userRole)
-                          .clauses(userClauses)
-                          .build();
-
-          log.info(
-                  "상태별 특약 문서 조회 완료 - userRole: {}, clauses: {}, round: {}",
-                  userRole,
-                  userClauses.size(),
-                  document.getRound());
-
-          return result;
+          return SpecialContractUserViewDto.builder()
+                  .contractChatId(contractChatId)
+                  .round(roundView.getRound())
+                  .totalClauses(roundView.getTotalClauses())
+                  .userRole(userRole)
+                  .clauses(userClauses)
+                  .build();
       }
 
       private Long getCurrentRoundNumber(ContractChat.ContractStatus status) {
@@ -1481,7 +1486,7 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
       @Override
       public SpecialContractFixDocument updateRecentData(
               Long contractChatId, Long order, String messages) {
-          ContractChat contractChat = contractChatMapper.findByContractChatId(contractChatId);
+          ContractChat contractChat = contractChatStateCache.get(contractChatId);
           Long currentRound = contractChat.getCurrentRound();
 
           SpecialContractDocument specialContract =
@@ -1585,7 +1590,7 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
     @Override
     @Transactional
     public FinalSpecialContractDocument saveFinalSpecialContract(Long contractChatId) {
-        ContractChat contractChat = contractChatMapper.findByContractChatId(contractChatId);
+        ContractChat contractChat = contractChatStateCache.get(contractChatId);
         ContractChat.ContractStatus currentStatus = contractChat.getStatus();
 
         boolean isThirdRoundComplete = (currentStatus == ContractChat.ContractStatus.ROUND3);
@@ -1712,7 +1717,7 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
       public void checkAndIncrementRoundIfComplete(Long contractChatId) {
           log.info("=== 라운드 완료 체크 시작 ===");
 
-          ContractChat contractChat = contractChatMapper.findByContractChatId(contractChatId);
+          ContractChat contractChat = contractChatStateCache.get(contractChatId);
           ContractChat.ContractStatus currentStatus = contractChat.getStatus();
 
           Long nextRoundNumber = getNextRoundNumber(currentStatus);
@@ -1762,7 +1767,7 @@ public class ContractChatServiceImpl implements ContractChatServiceInterface {
           if (allIncompleteClausesAreFilled) {
               ContractChat.ContractStatus nextStatus = getNextStatus(currentStatus);
               if (nextStatus != null) {
-                  contractChatMapper.updateStatus(contractChatId, nextStatus);
+                  contractChatStateCache.updateStatus(contractChatId, nextStatus);
                   log.info("라운드 자동 증가: {} → {}", currentStatus, nextStatus);
                   String aimsg = getRoundIncrementMessage(nextStatus);
                   AiMessageBtn(contractChatId, aimsg);
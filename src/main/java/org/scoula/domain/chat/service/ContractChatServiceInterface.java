@@ -3,9 +3,9 @@ package org.scoula.domain.chat.service;
 import java.util.List;
 import java.util.Map;
 
-import org.scoula.domain.chat.document.ContractChatDocument;
 import org.scoula.domain.chat.document.FinalSpecialContractDocument;
 import org.scoula.domain.chat.document.SpecialContractFixDocument;
+import org.scoula.domain.chat.dto.ContractChatMessagePageDto;
 import org.scoula.domain.chat.dto.ContractChatMessageRequestDto;
 import org.scoula.domain.chat.dto.SpecialContractUserViewDto;
 import org.scoula.domain.chat.vo.ContractChat;
@@ -50,17 +50,18 @@ public interface ContractChatServiceInterface {
       void handleContractChatMessage(ContractChatMessageRequestDto dto);
 
       /**
-       * 계약 채팅방의 메시지 목록을 조회합니다.
+       * 계약 채팅방의 메시지 목록을 커서 기반으로 조회합니다.
        *
-       * <p>지정된 계약 채팅방의 메시지를 페이지네이션으로 조회합니다. 계약 진행 과정에서 주고받은 모든 대화 내용을 시간순으로 정렬하여 반환하며, 특약 구간 설정을 위한
-       * 메시지 선택에도 사용됩니다.
+       * <p>(sentAt, _id) 복합 키를 커서로 사용하여 최신 메시지부터 과거 방향으로 조회합니다. 오프셋 방식과 달리 깊은 페이지에서도 인덱스 범위 조회만
+       * 수행하며, 조회 중 새 메시지가 추가되어도 중복/누락이 발생하지 않습니다. 각 페이지의 메시지는 시간순으로 정렬되어 반환됩니다.
        *
        * @param contractChatId 계약 채팅방 ID (null 불가, 존재하는 계약 채팅방이어야 함)
-       * @return 계약 채팅 메시지 목록 (시간순 정렬, 빈 리스트 가능)
-       * @throws IllegalArgumentException 파라미터가 유효하지 않거나 사용자가 채팅방에 참여하지 않은 경우
-       * @throws RuntimeException MongoDB 조회 실패
+       * @param cursor 이전 응답의 nextCursor (null 또는 빈 값이면 최신 메시지부터 조회)
+       * @param size 페이지 크기 (1~100)
+       * @return 메시지 목록과 다음 페이지 커서
+       * @throws BusinessException 커서 형식이 잘못되었거나 페이지 크기가 범위를 벗어난 경우
        */
-      List<ContractChatDocument> getContractMessages(Long contractChatId);
+      ContractChatMessagePageDto getContractMessages(Long contractChatId, String cursor, int size);
 
       /**
        * 특약 대화의 시작점을 설정합니다.
@@ -254,6 +255,15 @@ public interface ContractChatServiceInterface {
 
       Map<String, Object> getAllRoundsSpecialContract(Long contractChatId, Long userId);
 
+      /**
+       * 특약 조회 응답의 ETag를 반환합니다.
+       *
+       * @param contractChatId 계약 채팅방 ID
+       * @param userId 사용자 ID
+       * @return ETag, 참여자가 아니거나 버전을 확정할 수 없으면 null
+       */
+      String getSpecialContractETag(Long contractChatId, Long userId);
+
       FinalSpecialContractDocument saveFinalSpecialContract(Long contractChatId);
 
       void AiMessage(Long contractChatId, String content);
@@ -0,0 +1,266 @@
+package org.scoula.domain.chat.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.scoula.domain.chat.mapper.ContractChatMapper;
+import org.scoula.domain.chat.vo.ContractChat;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계약 채팅방 상태 캐시
+ *
+ * <p>한 요청 안에서 권한 확인, 온라인 상태 조회, 라운드 확인 등으로 같은 contract_chat 행을 반복 조회하는 것을 막기 위해 상태(참여자, 상태/라운드,
+ * 시작점/종료점)를 메모리에 보관합니다. lastMessage는 메시지마다 바뀌므로 캐시하지 않습니다.
+ *
+ * <p>상태를 바꾸는 모든 쓰기는 이 클래스를 통해 수행되며, 쓰기마다 채팅방별 버전이 증가하고 캐시가 무효화됩니다. 조회 시작 시점의 버전과 적재 시점의 버전이 다르면
+ * 적재하지 않으므로, 동시에 진행된 쓰기 이전의 라운드가 캐시에 남지 않습니다. 트랜잭션 안의 쓰기는 커밋(또는 롤백) 이후 한 번 더 무효화합니다.
+ *
+ * <p>버전은 채팅방 ID를 고정 개수의 구간으로 나눠 보관하므로 채팅방 수와 관계없이 메모리가 일정합니다. 같은 구간의 다른 채팅방 쓰기는 적재를 한 번 건너뛰게 할 뿐
+ * 결과를 틀리게 하지 않습니다. 쓰기가 끝나면 Redis 채널로 무효화 메시지를 발행해 다른 노드(와 같은 노드의 다른 컨텍스트)의 캐시와 버전도 갱신하며, 메시지가
+ * 유실되면 TTL 안에 만료됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ContractChatStateCache {
+
+      /** 다른 노드의 쓰기를 반영하기 위한 최대 보관 시간 */
+      private static final long TTL_MILLIS = 30_000L;
+
+      private static final int MAX_ENTRIES = 10_000;
+
+      /** 버전 구간 수 (2의 거듭제곱) */
+      private static final int VERSION_STRIPES = 1024;
+
+      private static final String INVALIDATION_CHANNEL = "contract-chat-state:invalidate";
+
+      private static final String DIRTY_IDS_RESOURCE_KEY =
+              ContractChatStateCache.class.getName() + ".DIRTY_IDS";
+
+      private final ContractChatMapper contractChatMapper;
+      private final RedisTemplate<String, String> stringRedisTemplate;
+      private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+      private final Map<Long, CachedState> cache = new ConcurrentHashMap<>();
+      private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+      private final MessageListener invalidationListener =
+              (message, pattern) ->
+                      onRemoteInvalidation(new String(message.getBody(), StandardCharsets.UTF_8));
+
+      @PostConstruct
+      public void subscribeInvalidation() {
+          redisMessageListenerContainer.addMessageListener(
+                  invalidationListener, new ChannelTopic(INVALIDATION_CHANNEL));
+      }
+
+      @PreDestroy
+      public void unsubscribeInvalidation() {
+          redisMessageListenerContainer.removeMessageListener(invalidationListener);
+      }
+
+      /**
+       * 계약 채팅방 상태를 조회합니다.
+       *
+       * @param contractChatId 계약 채팅방 ID
+       * @return 상태 스냅샷의 복사본 (lastMessage 제외), 존재하지 않으면 null
+       */
+      public ContractChat get(Long contractChatId) {
+          if (contractChatId == null) {
+              return null;
+          }
+
+          CachedState cached = cache.get(contractChatId);
+          long now = System.currentTimeMillis();
+          if (cached != null
+                  && cached.version == currentVersion(contractChatId)
+                  && now < cached.expiresAt) {
+              return copyOf(cached.state);
+          }
+
+          long versionBeforeLoad = currentVersion(contractChatId);
+          ContractChat loaded = contractChatMapper.findByContractChatId(contractChatId);
+          if (loaded == null) {
+              return null;
+          }
+
+          if (isCacheable(contractChatId, versionBeforeLoad)) {
+              cache.put(
+                      contractChatId,
+                      new CachedState(copyOf(loaded), versionBeforeLoad, now + TTL_MILLIS));
+          }
+          return copyOf(loaded);
+      }
+
+      /**
+       * 계약 채팅방의 현재 상태 버전을 반환합니다.
+       *
+       * @param contractChatId 계약 채팅방 ID
+       * @return 쓰기마다 증가하는 버전 (같은 구간의 다른 채팅방 쓰기에도 증가할 수 있음)
+       */
+      public long currentVersion(Long contractChatId) {
+          return versions.get(stripeOf(contractChatId));
+      }
+
+      public void updateStatus(Long contractChatId, ContractChat.ContractStatus status) {
+          contractChatMapper.updateStatus(contractChatId, status);
+          invalidate(contractChatId);
+      }
+
+      public void proceedToNextRound(Long contractChatId) {
+          contractChatMapper.proceedToNextRound(contractChatId);
+          invalidate(contractChatId);
+      }
+
+      public void updateStartTime(Long contractChatId, String startTime) {
+          contractChatMapper.updateStartTime(contractChatId, startTime);
+          invalidate(contractChatId);
+      }
+
+      public void updateEndTime(Long contractChatId, String endTime) {
+          contractChatMapper.updateEndTime(contractChatId, endTime);
+          invalidate(contractChatId);
+      }
+
+      public void clearTimePoints(Long contractChatId) {
+          contractChatMapper.clearTimePoints(contractChatId);
+          invalidate(contractChatId);
+      }
+
+      /**
+       * 계약 채팅방 상태 캐시를 무효화합니다.
+       *
+       * <p>즉시 버전을 올리고 캐시를 제거하며, 트랜잭션이 진행 중이면 완료 시점에 한 번 더 무효화합니다. 다른 노드에는 쓰기가 DB에 반영된 뒤(트랜잭션
+       * 밖이면 즉시, 안이면 완료 시점에) 무효화 메시지를 발행합니다.
+       *
+       * @param contractChatId 계약 채팅방 ID
+       */
+      public void invalidate(Long contractChatId) {
+          bumpVersion(contractChatId);
+
+          if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+              publishInvalidation(contractChatId);
+              return;
+          }
+          Set<Long> dirtyIds = dirtyIdsInCurrentTransaction();
+          if (dirtyIds.add(contractChatId)) {
+              TransactionSynchronizationManager.registerSynchronization(
+                      new TransactionSynchronization() {
+                          @Override
+                          public void afterCompletion(int status) {
+                              bumpVersion(contractChatId);
+                              publishInvalidation(contractChatId);
+                          }
+                      });
+          }
+      }
+
+      private void bumpVersion(Long contractChatId) {
+          versions.incrementAndGet(stripeOf(contractChatId));
+          cache.remove(contractChatId);
+      }
+
+      private int stripeOf(Long contractChatId) {
+          return Long.hashCode(contractChatId) & (VERSION_STRIPES - 1);
+      }
+
+      private void publishInvalidation(Long contractChatId) {
+          try {
+              stringRedisTemplate.convertAndSend(
+                      INVALIDATION_CHANNEL, String.valueOf(contractChatId));
+          } catch (Exception e) {
+              log.warn(
+                      "계약 채팅방 상태 무효화 메시지 발행 실패 - contractChatId: {}, {}",
+                      contractChatId,
+                      e.getMessage());
+          }
+      }
+
+      /** 다른 노드(또는 같은 노드의 다른 컨텍스트)가 발행한 무효화 메시지 처리 */
+      void onRemoteInvalidation(String message) {
+          try {
+              bumpVersion(Long.valueOf(message.trim()));
+          } catch (NumberFormatException e) {
+              log.warn("잘못된 계약 채팅방 상태 무효화 메시지 무시: {}", message);
+          }
+      }
+
+      private boolean isCacheable(Long contractChatId, long versionBeforeLoad) {
+          // 현재 트랜잭션에서 아직 커밋되지 않은 쓰기가 있으면 다른 요청에 노출하지 않음
+          Object dirtyIds = TransactionSynchronizationManager.getResource(DIRTY_IDS_RESOURCE_KEY);
+          if (dirtyIds instanceof Set && ((Set<?>) dirtyIds).contains(contractChatId)) {
+              return false;
+          }
+          if (currentVersion(contractChatId) != versionBeforeLoad) {
+              log.debug("동시 쓰기 감지 - 캐시 적재 생략: contractChatId={}", contractChatId);
+              return false;
+          }
+          if (cache.size() >= MAX_ENTRIES) {
+              long now = System.currentTimeMillis();
+              cache.values().removeIf(entry -> entry.expiresAt <= now);
+              return cache.size() < MAX_ENTRIES;
+          }
+          return true;
+      }
+
+      @SuppressWarnings("unchecked")
+      private Set<Long> dirtyIdsInCurrentTransaction() {
+          Set<Long> dirtyIds =
+                  (Set<Long>) TransactionSynchronizationManager.getResource(DIRTY_IDS_RESOURCE_KEY);
+          if (dirtyIds == null) {
+              dirtyIds = new HashSet<>();
+              TransactionSynchronizationManager.bindResource(DIRTY_IDS_RESOURCE_KEY, dirtyIds);
+              TransactionSynchronizationManager.registerSynchronization(
+                      new TransactionSynchronization() {
+                          @Override
+                          public void afterCompletion(int status) {
+                              TransactionSynchronizationManager.unbindResourceIfPossible(
+                                      DIRTY_IDS_RESOURCE_KEY);
+                          }
+                      });
+          }
+          return dirtyIds;
+      }
+
+      private ContractChat copyOf(ContractChat source) {
+          ContractChat copy = new ContractChat();
+          copy.setContractChatId(source.getContractChatId());
+          copy.setHomeId(source.getHomeId());
+          copy.setOwnerId(source.getOwnerId());
+          copy.setBuyerId(source.getBuyerId());
+          copy.setContractStartAt(source.getContractStartAt());
+          copy.setStartPoint(source.getStartPoint());
+          copy.setEndPoint(source.getEndPoint());
+          copy.setStatus(source.getStatus());
+          return copy;
+      }
+
+      private static final class CachedState {
+          private final ContractChat state;
+          private final long version;
+          private final long expiresAt;
+
+          private CachedState(ContractChat state, long version, long expiresAt) {
+              this.state = state;
+              this.version = version;
+              this.expiresAt = expiresAt;
+          }
+      }
+}
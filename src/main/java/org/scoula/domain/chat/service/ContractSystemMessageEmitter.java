@@ -0,0 +1,154 @@
+package org.scoula.domain.chat.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.scoula.domain.chat.document.ContractChatDocument;
+import org.scoula.domain.chat.dto.ContractChatFrameDto;
+import org.scoula.domain.chat.mapper.ContractChatMapper;
+import org.scoula.domain.chat.repository.ContractChatMessageRepository;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계약 채팅 AI/시스템 메시지 발송기
+ *
+ * <p>AI 안내, 버튼 안내, 다음 단계 안내 메시지를 한 곳에서 생성합니다. 트랜잭션 안에서 발송된 메시지는 계약 채팅방별로 모아 두었다가 커밋 후 한 번에
+ * 저장(insertMany)하고, last_message는 배치의 마지막 메시지로 커밋 직전에 한 번만 갱신하며, WebSocket에는 순서가 보장된 하나의 프레임으로 전송합니다. 트랜잭션이
+ * 롤백되면 모아 둔 메시지는 버려집니다. 트랜잭션 밖에서는 즉시 발송합니다.
+ *
+ * <p>프레임 형식: 배치 크기와 관계없이 시간순 메시지 목록을 담은 {@link ContractChatFrameDto} MESSAGES 프레임을
+ * 전송합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ContractSystemMessageEmitter {
+
+      private static final String PENDING_RESOURCE_KEY =
+              ContractSystemMessageEmitter.class.getName() + ".PENDING";
+
+      private final ContractChatMessageRepository contractChatMessageRepository;
+      private final ContractChatMapper contractChatMapper;
+      private final SimpMessagingTemplate messagingTemplate;
+
+      /** 시스템 메시지 발신자 - 클라이언트는 senderId로 메시지 표시 방식을 구분합니다 */
+      @Getter
+      @RequiredArgsConstructor
+      public enum Sender {
+          /** 일반 AI 안내 */
+          AI(9999L),
+          /** 버튼이 함께 표시되는 AI 안내 (라운드 전환 등) */
+          AI_BUTTON(9998L),
+          /** 다음 단계 진행 안내 (최종 특약서 생성 등) */
+          AI_NEXT(9997L);
+
+          private final Long senderId;
+      }
+
+      /**
+       * 시스템 메시지를 발송합니다.
+       *
+       * @param contractChatId 계약 채팅방 ID
+       * @param sender 발신자 종류
+       * @param content 메시지 내용
+       */
+      public void emit(Long contractChatId, Sender sender, String content) {
+          ContractChatDocument message =
+                  ContractChatDocument.builder()
+                          .contractChatId(contractChatId.toString())
+                          .senderId(sender.getSenderId())
+                          .receiverId(null)
+                          .content(content)
+                          .sendTime(LocalDateTime.now().toString())
+                          .build();
+
+          if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+              flush(contractChatId, List.of(message));
+              return;
+          }
+
+          pendingMessages()
+                  .computeIfAbsent(contractChatId, id -> new ArrayList<>())
+                  .add(message);
+      }
+
+      private Map<Long, List<ContractChatDocument>> pendingMessages() {
+          @SuppressWarnings("unchecked")
+          Map<Long, List<ContractChatDocument>> pending =
+                  (Map<Long, List<ContractChatDocument>>)
+                          TransactionSynchronizationManager.getResource(PENDING_RESOURCE_KEY);
+          if (pending != null) {
+              return pending;
+          }
+
+          Map<Long, List<ContractChatDocument>> created = new LinkedHashMap<>();
+          TransactionSynchronizationManager.bindResource(PENDING_RESOURCE_KEY, created);
+          TransactionSynchronizationManager.registerSynchronization(
+                  new TransactionSynchronization() {
+                      @Override
+                      public void beforeCommit(boolean readOnly) {
+                          // MySQL 갱신은 커밋 이후에는 원 트랜잭션에 묶여 반영되지 않으므로 커밋 직전에 수행
+                          created.forEach(
+                                  (id, messages) ->
+                                          contractChatMapper.updateLastMessage(
+                                                  id, lastContentOf(messages)));
+                      }
+
+                      @Override
+                      public void afterCommit() {
+                          created.forEach(ContractSystemMessageEmitter.this::publishQuietly);
+                      }
+
+                      @Override
+                      public void afterCompletion(int status) {
+                          TransactionSynchronizationManager.unbindResourceIfPossible(
+                                  PENDING_RESOURCE_KEY);
+                          if (status != STATUS_COMMITTED) {
+                              int discarded = created.values().stream().mapToInt(List::size).sum();
+                              if (discarded > 0) {
+                                  log.warn("트랜잭션 롤백으로 시스템 메시지 {}건 폐기", discarded);
+                              }
+                          }
+                      }
+                  });
+          return created;
+      }
+
+      private void publishQuietly(Long contractChatId, List<ContractChatDocument> messages) {
+          try {
+              publish(contractChatId, messages);
+          } catch (Exception e) {
+              log.error("시스템 메시지 일괄 발송 실패 - contractChatId: {}", contractChatId, e);
+          }
+      }
+
+      private void flush(Long contractChatId, List<ContractChatDocument> messages) {
+          contractChatMapper.updateLastMessage(contractChatId, lastContentOf(messages));
+          publish(contractChatId, messages);
+      }
+
+      /** Mongo 일괄 저장 후 하나의 프레임으로 브로드캐스트 */
+      private void publish(Long contractChatId, List<ContractChatDocument> messages) {
+          List<ContractChatDocument> saved =
+                  contractChatMessageRepository.saveMessages(contractChatId, messages);
+
+          messagingTemplate.convertAndSend(
+                  "/topic/contract-chat/" + contractChatId, ContractChatFrameDto.ofMessages(saved));
+
+          log.debug("시스템 메시지 발송 - contractChatId: {}, count: {}", contractChatId, saved.size());
+      }
+
+      private String lastContentOf(List<ContractChatDocument> messages) {
+          return messages.get(messages.size() - 1).getContent();
+      }
+}
@@ -0,0 +1,335 @@
+package org.scoula.domain.chat.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.scoula.domain.chat.dto.ContractChatFrameDto;
+import org.scoula.domain.chat.dto.SpecialContractDeltaDto;
+import org.scoula.domain.chat.repository.ChangeStreamResumeTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 특약 컬렉션 변경 알림 발행기
+ *
+ * <p>SPECIAL_CONTRACT_FIX, SPECIAL_CONTRACT_SELECTION, FINAL_SPECIAL_CONTRACT 컬렉션의 change stream을 구독하여 변경
+ * 요약({@link SpecialContractDeltaDto})을 SPECIAL_CONTRACT_DELTA 타입의 {@link ContractChatFrameDto}로
+ * /topic/contract-chat/{id}에 전송합니다. 클라이언트는 폴링 대신 이 알림을 받았을 때만 특약 API를 다시 조회하면 됩니다.
+ *
+ * <p>각 노드는 자신에게 연결된 WebSocket 세션에 전송해야 하므로 모든 노드가 모든 이벤트를 구독합니다. resume token은 설정된 소비자 ID
+ * (mongodb.change-stream.consumer-id)와 컬렉션으로 저장하므로 호스트 이름이 바뀌는 배포에서도 재시작 시 저장된 token 이후부터
+ * 이어서 수신합니다. token은 일정 개수 또는 일정 시간마다, 그리고 이벤트가 없을 때 저장하므로 재시작 직후 일부 알림이 다시 전송될 수
+ * 있습니다 (알림은 재조회 신호일 뿐이므로 중복은 무해합니다). token이 oplog에서 밀려난 경우에는 현재 시점부터 다시 구독합니다.
+ * MongoDB가 replica set이 아니어서 change stream을 지원하지 않으면 경고만 남기고 구독을 중단하며, 이 경우 클라이언트는 기존 폴링으로
+ * 동작합니다.
+ *
+ * <p>이 빈은 루트 컨텍스트에서만 생성됩니다 (서블릿 컨텍스트 스캔에서 제외).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SpecialContractChangeStreamPublisher implements SmartLifecycle {
+
+      /** change stream을 지원하지 않는 배포 (standalone) */
+      private static final int CHANGE_STREAMS_NOT_SUPPORTED = 40573;
+
+      /** resume token이 oplog에서 사라짐 */
+      private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+      private static final int CHANGE_STREAM_FATAL_ERROR = 280;
+
+      private static final long MAX_AWAIT_MILLIS = 1_000L;
+      private static final long RETRY_BACKOFF_MILLIS = 5_000L;
+
+      /** resume token 저장 주기 - 이 개수만큼 처리했거나 이 시간이 지나면 저장 */
+      private static final int TOKEN_SAVE_EVERY_EVENTS = 100;
+
+      private static final long TOKEN_SAVE_INTERVAL_MILLIS = 1_000L;
+
+      private static final Map<String, String> WATCHED_COLLECTIONS =
+              Map.of(
+                      "SPECIAL_CONTRACT_FIX", "FIX",
+                      "SPECIAL_CONTRACT_SELECTION", "SELECTION",
+                      "FINAL_SPECIAL_CONTRACT", "FINAL");
+
+      private final MongoTemplate mongoTemplate;
+      private final SimpMessagingTemplate messagingTemplate;
+      private final ChangeStreamResumeTokenRepository resumeTokenRepository;
+
+      @Value("${mongodb.change-stream.enabled:true}")
+      private boolean enabled;
+
+      /** resume token 저장 키 - 배포와 재시작 사이에 바뀌지 않는 값이어야 함 */
+      @Value("${mongodb.change-stream.consumer-id:special-contract-delta}")
+      private String consumerId;
+
+      private final List<Thread> workers = new ArrayList<>();
+      private final Map<String, MongoChangeStreamCursor<?>> openCursors = new ConcurrentHashMap<>();
+      private volatile boolean running;
+
+      @Override
+      public synchronized void start() {
+          if (running) {
+              return;
+          }
+          if (!enabled) {
+              log.info("특약 change stream 구독 비활성화");
+              return;
+          }
+
+          running = true;
+          for (String collection : WATCHED_COLLECTIONS.keySet()) {
+              Thread worker =
+                      new Thread(
+                              () -> watch(collection, consumerId + ":" + collection),
+                              "sc-change-stream-" + collection);
+              worker.setDaemon(true);
+              workers.add(worker);
+              worker.start();
+          }
+          log.info("특약 change stream 구독 시작 - consumer: {}", consumerId);
+      }
+
+      @Override
+      public synchronized void stop() {
+          if (!running) {
+              return;
+          }
+          running = false;
+          openCursors.values().forEach(this::closeQuietly);
+          for (Thread worker : workers) {
+              try {
+                  worker.join(MAX_AWAIT_MILLIS * 2);
+              } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+              }
+          }
+          workers.clear();
+      }
+
+      @Override
+      public boolean isRunning() {
+          return running;
+      }
+
+      private void watch(String collection, String tokenKey) {
+          ResumeTokenCheckpoint checkpoint =
+                  new ResumeTokenCheckpoint(
+                          resumeTokenRepository,
+                          tokenKey,
+                          TOKEN_SAVE_EVERY_EVENTS,
+                          TOKEN_SAVE_INTERVAL_MILLIS);
+          while (running) {
+              try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor =
+                      open(collection, tokenKey)) {
+                  openCursors.put(collection, cursor);
+                  while (running) {
+                      ChangeStreamDocument<Document> event = cursor.tryNext();
+                      if (event == null) {
+                          // 대기 중에는 밀린 token을 저장
+                          checkpoint.flush();
+                          continue;
+                      }
+                      publishQuietly(collection, event);
+                      checkpoint.record(event.getResumeToken());
+                  }
+              } catch (MongoCommandException e) {
+                  if (e.getErrorCode() == CHANGE_STREAMS_NOT_SUPPORTED) {
+                      log.warn("change stream 미지원 MongoDB - 특약 변경 알림 중단: {}", collection);
+                      return;
+                  }
+                  if (e.getErrorCode() == CHANGE_STREAM_HISTORY_LOST
+                          || e.getErrorCode() == CHANGE_STREAM_FATAL_ERROR) {
+                      log.warn("resume token 만료 - 현재 시점부터 다시 구독: {}", collection);
+                      checkpoint.discard();
+                      resumeTokenRepository.deleteToken(tokenKey);
+                      continue;
+                  }
+                  backoff(collection, e);
+              } catch (Exception e) {
+                  backoff(collection, e);
+              } finally {
+                  openCursors.remove(collection);
+                  checkpoint.flush();
+              }
+          }
+      }
+
+      /** 저장된 resume token이 있으면 그 다음 이벤트부터, 없으면 현재 시점부터 구독 */
+      MongoChangeStreamCursor<ChangeStreamDocument<Document>> open(
+              String collection, String tokenKey) {
+          BsonDocument resumeToken = resumeTokenRepository.findToken(tokenKey);
+          ChangeStreamIterable<Document> stream =
+                  mongoTemplate
+                          .getCollection(collection)
+                          .watch(
+                                  List.of(
+                                          Aggregates.match(
+                                                  Filters.in(
+                                                          "operationType",
+                                                          "insert",
+                                                          "update",
+                                                          "replace"))))
+                          .fullDocument(FullDocument.UPDATE_LOOKUP)
+                          .maxAwaitTime(MAX_AWAIT_MILLIS, TimeUnit.MILLISECONDS);
+          if (resumeToken != null) {
+              stream = stream.resumeAfter(resumeToken);
+          }
+          return stream.cursor();
+      }
+
+      private void publishQuietly(String collection, ChangeStreamDocument<Document> event) {
+          try {
+              SpecialContractDeltaDto delta = toDelta(collection, event);
+              if (delta == null) {
+                  return;
+              }
+              messagingTemplate.convertAndSend(
+                      "/topic/contract-chat/" + delta.getContractChatId(),
+                      ContractChatFrameDto.ofDelta(delta));
+              log.debug(
+                      "특약 변경 알림 전송 - source: {}, contractChatId: {}",
+                      delta.getSource(),
+                      delta.getContractChatId());
+          } catch (Exception e) {
+              log.error("특약 변경 알림 전송 실패 - collection: {}", collection, e);
+          }
+      }
+
+      SpecialContractDeltaDto toDelta(String collection, ChangeStreamDocument<Document> event) {
+          Document document = event.getFullDocument();
+          if (document == null || !(document.get("contractChatId") instanceof Number)) {
+              // 조회 시점에 이미 삭제된 문서 등 채팅방을 특정할 수 없는 이벤트
+              return null;
+          }
+
+          SpecialContractDeltaDto.SpecialContractDeltaDtoBuilder delta =
+                  SpecialContractDeltaDto.builder()
+                          .source(WATCHED_COLLECTIONS.get(collection))
+                          .operation(event.getOperationType().getValue())
+                          .contractChatId(document.get("contractChatId", Number.class).longValue())
+                          .eventTime(LocalDateTime.now().toString());
+
+          if (event.getUpdateDescription() != null
+                  && event.getUpdateDescription().getUpdatedFields() != null) {
+              delta.updatedFields(
+                      new ArrayList<>(event.getUpdateDescription().getUpdatedFields().keySet()));
+          }
+
+          switch (collection) {
+              case "SPECIAL_CONTRACT_FIX":
+                  delta.order(longOf(document.get("order")))
+                          .round(longOf(document.get("round")))
+                          .isPassed(document.getBoolean("isPassed"));
+                  break;
+              case "SPECIAL_CONTRACT_SELECTION":
+                  delta.ownerCompleted(document.getBoolean("ownerCompleted"))
+                          .tenantCompleted(document.getBoolean("tenantCompleted"))
+                          .processed(document.getBoolean("processed"));
+                  break;
+              case "FINAL_SPECIAL_CONTRACT":
+                  delta.totalFinalClauses(document.getInteger("totalFinalClauses"));
+                  break;
+              default:
+                  break;
+          }
+          return delta.build();
+      }
+
+      private Long longOf(Object value) {
+          return value instanceof Number ? ((Number) value).longValue() : null;
+      }
+
+      private void backoff(String collection, Exception e) {
+          if (!running) {
+              return;
+          }
+          log.error("특약 change stream 오류 - {}ms 후 재시도: {}", RETRY_BACKOFF_MILLIS, collection, e);
+          try {
+              Thread.sleep(RETRY_BACKOFF_MILLIS);
+          } catch (InterruptedException interrupted) {
+              Thread.currentThread().interrupt();
+              running = false;
+          }
+      }
+
+      private void closeQuietly(MongoChangeStreamCursor<?> cursor) {
+          try {
+              cursor.close();
+          } catch (Exception e) {
+              log.debug("change stream cursor 종료 실패", e);
+          }
+      }
+
+      /** 처리한 이벤트의 resume token을 모아 두었다가 일정 개수/시간마다 한 번 저장 */
+      static class ResumeTokenCheckpoint {
+          private final ChangeStreamResumeTokenRepository repository;
+          private final String tokenKey;
+          private final int saveEveryEvents;
+          private final long saveIntervalMillis;
+
+          private BsonDocument pendingToken;
+          private int pendingEvents;
+          private long lastSavedAt = System.currentTimeMillis();
+
+          ResumeTokenCheckpoint(
+                  ChangeStreamResumeTokenRepository repository,
+                  String tokenKey,
+                  int saveEveryEvents,
+                  long saveIntervalMillis) {
+              this.repository = repository;
+              this.tokenKey = tokenKey;
+              this.saveEveryEvents = saveEveryEvents;
+              this.saveIntervalMillis = saveIntervalMillis;
+          }
+
+          void record(BsonDocument token) {
+              pendingToken = token;
+              pendingEvents++;
+              if (pendingEvents >= saveEveryEvents
+                      || System.currentTimeMillis() - lastSavedAt >= saveIntervalMillis) {
+                  flush();
+              }
+          }
+
+          void flush() {
+              if (pendingToken == null) {
+                  return;
+              }
+              try {
+                  repository.saveToken(tokenKey, pendingToken);
+                  pendingToken = null;
+                  pendingEvents = 0;
+                  lastSavedAt = System.currentTimeMillis();
+              } catch (Exception e) {
+                  // 다음 저장 시점에 다시 시도 - 그 사이 재시작되면 일부 알림이 다시 전송될 뿐
+                  log.warn("resume token 저장 실패 - key: {}, {}", tokenKey, e.getMessage());
+              }
+          }
+
+          void discard() {
+              pendingToken = null;
+              pendingEvents = 0;
+          }
+      }
+}
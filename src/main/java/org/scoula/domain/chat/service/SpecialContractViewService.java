@@ -0,0 +1,120 @@
+package org.scoula.domain.chat.service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.scoula.domain.chat.document.SpecialContractDocument;
+import org.scoula.domain.chat.document.SpecialContractFixDocument;
+import org.scoula.domain.chat.document.SpecialContractViewDocument;
+import org.scoula.domain.chat.repository.SpecialContractMongoRepository;
+import org.scoula.domain.chat.repository.SpecialContractViewRepository;
+import org.scoula.domain.chat.vo.ContractChat;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 특약 협상 조회용 문서(SPECIAL_CONTRACT_VIEW) 관리
+ *
+ * <p>조회 화면은 라운드별 SPECIAL_CONTRACT 문서와 SPECIAL_CONTRACT_FIX 문서를 매번 따로 읽는 대신 이 문서 하나만 읽습니다. 문서가 없거나
+ * stale로 표시되어 있으면 원본에서 재구성하며, 재구성 중에 다른 갱신이 끼어들면 저장하지 않고 재구성 결과만 반환합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SpecialContractViewService {
+
+      private static final long MAX_ROUND = 4L;
+
+      private final SpecialContractViewRepository specialContractViewRepository;
+      private final SpecialContractMongoRepository specialContractMongoRepository;
+
+      /**
+       * 계약 채팅방의 특약 조회용 문서를 반환합니다.
+       *
+       * @param contractChatId 계약 채팅방 ID
+       * @return 조회용 문서 (재구성 결과를 저장하지 못한 경우 version은 null)
+       */
+      public SpecialContractViewDocument getView(Long contractChatId) {
+          SpecialContractViewDocument view = specialContractViewRepository.findById(contractChatId);
+          if (view != null && !Boolean.TRUE.equals(view.getStale())) {
+              return view;
+          }
+          return rebuild(contractChatId, view != null ? view.getVersion() : null);
+      }
+
+      /**
+       * 조회 결과의 ETag를 생성합니다. 같은 문서라도 역할과 채팅방 상태에 따라 응답이 달라지므로 함께 포함합니다.
+       *
+       * @return ETag, 버전을 확정할 수 없으면 null
+       */
+      public String eTagOf(
+              SpecialContractViewDocument view, String userRole, ContractChat.ContractStatus status) {
+          if (view == null || view.getVersion() == null) {
+              return null;
+          }
+          return "\"sc-"
+                  + view.getContractChatId()
+                  + "-"
+                  + userRole
+                  + "-"
+                  + status
+                  + "-"
+                  + view.getVersion()
+                  + "\"";
+      }
+
+      private SpecialContractViewDocument rebuild(Long contractChatId, Long expectedVersion) {
+          Map<String, SpecialContractViewDocument.RoundView> rounds = new LinkedHashMap<>();
+          for (SpecialContractDocument document :
+                  specialContractMongoRepository.findSpecialContractDocumentsByContractChatId(
+                          contractChatId)) {
+              if (document.getRound() == null
+                      || document.getRound() < 1
+                      || document.getRound() > MAX_ROUND) {
+                  continue;
+              }
+              rounds.put(
+                      SpecialContractViewDocument.roundKey(document.getRound()),
+                      SpecialContractViewDocument.RoundView.builder()
+                              .round(document.getRound())
+                              .totalClauses(document.getTotalClauses())
+                              .clauses(document.getClauses())
+                              .build());
+          }
+
+          List<Integer> incompleteOrders =
+                  specialContractMongoRepository
+                          .findByContractChatIdAndIsPassed(contractChatId, false)
+                          .stream()
+                          .map(SpecialContractFixDocument::getOrder)
+                          .filter(Objects::nonNull)
+                          .map(Long::intValue)
+                          .distinct()
+                          .sorted()
+                          .collect(Collectors.toList());
+
+          long nextVersion = expectedVersion != null ? expectedVersion + 1 : 1L;
+          SpecialContractViewDocument view =
+                  SpecialContractViewDocument.builder()
+                          .contractChatId(contractChatId)
+                          .version(nextVersion)
+                          .stale(false)
+                          .rounds(rounds)
+                          .incompleteOrders(incompleteOrders)
+                          .updatedAt(LocalDateTime.now().toString())
+                          .build();
+
+          if (!specialContractViewRepository.replaceIfVersion(view, expectedVersion)) {
+              // 재구성 중 원본이 변경됨 - 이번 응답에만 사용하고 캐시 검증에는 쓰지 않음
+              log.debug("특약 조회 문서 재구성 경합 - 저장 생략: contractChatId={}", contractChatId);
+              view.setVersion(null);
+          }
+          return view;
+      }
+}
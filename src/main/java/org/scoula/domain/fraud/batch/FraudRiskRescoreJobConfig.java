@@ -0,0 +1,170 @@
+package org.scoula.domain.fraud.batch;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.batch.MyBatisBatchItemWriter;
+import org.mybatis.spring.batch.MyBatisPagingItemReader;
+import org.mybatis.spring.batch.builder.MyBatisBatchItemWriterBuilder;
+import org.mybatis.spring.batch.builder.MyBatisPagingItemReaderBuilder;
+import org.scoula.domain.fraud.exception.FraudErrorCode;
+import org.scoula.domain.fraud.exception.FraudRiskException;
+import org.scoula.domain.fraud.vo.HomeRiskRescoreTargetVO;
+import org.scoula.domain.fraud.vo.HomeRiskScoreVO;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.SimpleJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.core.step.skip.SkipLimitExceededException;
+import org.springframework.batch.core.step.skip.SkipPolicy;
+import org.springframework.batch.item.support.SynchronizedItemStreamReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 찜/채팅 매물 야간 위험도 재평가 작업 설정
+ *
+ * <p>청크 단위로 대상 매물을 읽어 재평가하고 home_risk_score에 저장합니다. AI 서버 동시 호출 수는 작업 스레드 수로 제한합니다. 작업 실행 이력은
+ * Spring Batch 메타데이터 테이블에 저장되므로, 실패한 실행은 같은 기준일 파라미터로 다시 실행하면 재시작됩니다.
+ *
+ * <p>청크 트랜잭션은 문서 내려받기와 OCR/AI 호출 동안 DB 커넥션을 잡고 있으므로, 청크는 매물 한두 건으로 작게 두고 작업 스레드 수는 커넥션 풀
+ * 크기보다 하나 적게 제한해 요청 처리에 쓸 커넥션을 남깁니다. 대상 조회 페이지 크기는 청크 크기와 따로 설정합니다.
+ *
+ * @author ITZeep Team
+ * @since 1.0.0
+ */
+@Configuration
+@RequiredArgsConstructor
+public class FraudRiskRescoreJobConfig {
+
+      public static final String JOB_NAME = "fraudRiskRescoreJob";
+      private static final String STEP_NAME = "fraudRiskRescoreStep";
+
+      private static final String MAPPER_NAMESPACE =
+              "org.scoula.domain.fraud.mapper.HomeRiskScoreMapper";
+
+      private final DataSource dataSource;
+      private final PlatformTransactionManager transactionManager;
+      private final SqlSessionFactory sqlSessionFactory;
+      private final FraudRiskRescoreProcessor fraudRiskRescoreProcessor;
+
+      /** 청크 크기 - 청크 트랜잭션이 커넥션을 잡는 동안 처리하는 매물 수 (1~2 권장) */
+      @Value("${fraud.rescore.chunk-size:1}")
+      private int chunkSize;
+
+      @Value("${fraud.rescore.page-size:20}")
+      private int pageSize;
+
+      /** 동시에 재평가하는 매물 수 (AI 서버 동시 호출 상한) */
+      @Value("${fraud.rescore.concurrency:2}")
+      private int concurrency;
+
+      @Value("${spring.datasource.hikari.maximum-pool-size:3}")
+      private int databasePoolSize;
+
+      @Value("${fraud.rescore.skip-limit:50}")
+      private int skipLimit;
+
+      @Bean
+      public JobRepository jobRepository() throws Exception {
+          JobRepositoryFactoryBean factory = new JobRepositoryFactoryBean();
+          factory.setDataSource(dataSource);
+          factory.setTransactionManager(transactionManager);
+          factory.setDatabaseType("MYSQL");
+          factory.afterPropertiesSet();
+          return factory.getObject();
+      }
+
+      @Bean
+      public JobLauncher jobLauncher() throws Exception {
+          SimpleJobLauncher jobLauncher = new SimpleJobLauncher();
+          jobLauncher.setJobRepository(jobRepository());
+          jobLauncher.afterPropertiesSet();
+          return jobLauncher;
+      }
+
+      @Bean
+      public Job fraudRiskRescoreJob() throws Exception {
+          return new JobBuilderFactory(jobRepository())
+                  .get(JOB_NAME)
+                  .start(fraudRiskRescoreStep())
+                  .build();
+      }
+
+      @Bean
+      public Step fraudRiskRescoreStep() throws Exception {
+          // 작업 스레드마다 커넥션 하나를 청크 처리 내내 사용하므로 요청 처리용 커넥션 하나를 남김
+          int workers = Math.max(1, Math.min(concurrency, databasePoolSize - 1));
+          SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("fraud-risk-rescore-");
+          taskExecutor.setConcurrencyLimit(workers);
+
+          return new StepBuilderFactory(jobRepository(), transactionManager)
+                  .get(STEP_NAME)
+                  .<HomeRiskRescoreTargetVO, HomeRiskScoreVO>chunk(chunkSize)
+                  .reader(rescoreTargetReader())
+                  .processor(fraudRiskRescoreProcessor)
+                  .writer(homeRiskScoreWriter())
+                  .faultTolerant()
+                  .skipPolicy(rescoreSkipPolicy())
+                  .listener((StepExecutionListener) fraudRiskRescoreProcessor)
+                  .taskExecutor(taskExecutor)
+                  .throttleLimit(workers)
+                  .build();
+      }
+
+      /**
+       * 재평가 대상 리더
+       *
+       * <p>여러 스레드가 공유하므로 동기화하고 읽은 위치는 저장하지 않습니다. 재시작 시 처음부터 다시 읽지만 처리기가 이미 재평가한 매물을 걸러 냅니다.
+       */
+      private SynchronizedItemStreamReader<HomeRiskRescoreTargetVO> rescoreTargetReader() {
+          MyBatisPagingItemReader<HomeRiskRescoreTargetVO> reader =
+                  new MyBatisPagingItemReaderBuilder<HomeRiskRescoreTargetVO>()
+                          .sqlSessionFactory(sqlSessionFactory)
+                          .queryId(MAPPER_NAMESPACE + ".selectRescoreTargets")
+                          .pageSize(pageSize)
+                          .saveState(false)
+                          .build();
+
+          SynchronizedItemStreamReader<HomeRiskRescoreTargetVO> synchronizedReader =
+                  new SynchronizedItemStreamReader<>();
+          synchronizedReader.setDelegate(reader);
+          return synchronizedReader;
+      }
+
+      /** 청크 단위 JDBC 배치 upsert */
+      private MyBatisBatchItemWriter<HomeRiskScoreVO> homeRiskScoreWriter() {
+          return new MyBatisBatchItemWriterBuilder<HomeRiskScoreVO>()
+                  .sqlSessionFactory(sqlSessionFactory)
+                  .statementId(MAPPER_NAMESPACE + ".upsertHomeRiskScore")
+                  .assertUpdates(false)
+                  .build();
+      }
+
+      /**
+       * 매물 단위 오류(문서 없음, OCR/분석 실패)는 한도까지 건너뛰고, AI 서버를 쓸 수 없으면 작업을 중단해 다음 실행에서 재시작합니다.
+       */
+      private SkipPolicy rescoreSkipPolicy() {
+          return (throwable, skipCount) -> {
+              if (!(throwable instanceof FraudRiskException)
+                      || ((FraudRiskException) throwable).getErrorCode()
+                              == FraudErrorCode.AI_SERVICE_UNAVAILABLE) {
+                  return false;
+              }
+              if (skipCount >= skipLimit) {
+                  throw new SkipLimitExceededException(skipLimit, throwable);
+              }
+              return true;
+          };
+      }
+}
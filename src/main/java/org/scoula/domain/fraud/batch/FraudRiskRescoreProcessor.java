@@ -0,0 +1,182 @@
+package org.scoula.domain.fraud.batch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.scoula.domain.fraud.dto.ai.FraudRiskCheckDto;
+import org.scoula.domain.fraud.dto.common.BuildingDocumentDto;
+import org.scoula.domain.fraud.dto.common.RegistryDocumentDto;
+import org.scoula.domain.fraud.dto.request.RiskAnalysisRequest;
+import org.scoula.domain.fraud.enums.AnalysisPath;
+import org.scoula.domain.fraud.enums.RiskType;
+import org.scoula.domain.fraud.exception.FraudErrorCode;
+import org.scoula.domain.fraud.exception.FraudRiskException;
+import org.scoula.domain.fraud.service.AiFraudAnalyzerService;
+import org.scoula.domain.fraud.service.LocalRiskRuleEngine;
+import org.scoula.domain.fraud.vo.HomeRiskRescoreTargetVO;
+import org.scoula.domain.fraud.vo.HomeRiskScoreVO;
+import org.scoula.global.file.service.S3ServiceInterface;
+import org.scoula.global.file.util.BufferedMultipartFile;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 야간 재평가 항목 처리기
+ *
+ * <p>매물의 가장 최근 분석 문서를 S3에서 내려받아 다시 파싱하고(같은 파일은 OCR 캐시 사용), 사전 점검으로 판정이 어려우면 AI 분석을 요청합니다.
+ * 재시작 시에는 이번 실행일에 이미 재평가한 매물을 건너뜁니다.
+ *
+ * @author ITZeep Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FraudRiskRescoreProcessor
+          implements ItemProcessor<HomeRiskRescoreTargetVO, HomeRiskScoreVO>,
+                  StepExecutionListener {
+
+      /** 작업 파라미터 - 재평가 기준일 (yyyy-MM-dd) */
+      public static final String RUN_DATE_PARAMETER = "runDate";
+
+      private static final String S3_BASE_PATH = "fraud";
+      private static final String PDF_CONTENT_TYPE = "application/pdf";
+
+      private final S3ServiceInterface s3Service;
+      private final AiFraudAnalyzerService aiFraudAnalyzerService;
+      private final LocalRiskRuleEngine localRiskRuleEngine;
+
+      private volatile LocalDate runDate = LocalDate.now();
+
+      @Override
+      public void beforeStep(StepExecution stepExecution) {
+          String value = stepExecution.getJobParameters().getString(RUN_DATE_PARAMETER);
+          runDate = value != null ? LocalDate.parse(value) : LocalDate.now();
+      }
+
+      @Override
+      public ExitStatus afterStep(StepExecution stepExecution) {
+          log.info(
+                  "매물 위험도 재평가 종료 - runDate: {}, read: {}, filtered: {}, written: {}, skipped: {}",
+                  runDate,
+                  stepExecution.getReadCount(),
+                  stepExecution.getFilterCount(),
+                  stepExecution.getWriteCount(),
+                  stepExecution.getSkipCount());
+          return stepExecution.getExitStatus();
+      }
+
+      @Override
+      public HomeRiskScoreVO process(HomeRiskRescoreTargetVO target) {
+          // 재시작 시 이번 실행에서 이미 재평가한 매물은 건너뜀
+          if (target.getLastScoredAt() != null
+                  && !target.getLastScoredAt().toLocalDate().isBefore(runDate)) {
+              return null;
+          }
+
+          RegistryDocumentDto registry;
+          try (BufferedMultipartFile file = download(target.getRegistryFileUrl(), "registry")) {
+              registry = aiFraudAnalyzerService.parseRegistryDocument(file);
+          }
+          BuildingDocumentDto building;
+          try (BufferedMultipartFile file = download(target.getBuildingFileUrl(), "building")) {
+              building = aiFraudAnalyzerService.parseBuildingDocument(file);
+          }
+
+          LocalRiskRuleEngine.Result screen =
+                  localRiskRuleEngine.screen(
+                          registry,
+                          building,
+                          target.getDepositPrice(),
+                          null,
+                          target.getRegisteredUserName());
+
+          RiskType riskType;
+          AnalysisPath path;
+          if (screen.isDecided()) {
+              riskType = screen.getRiskType();
+              path = AnalysisPath.LOCAL_RULE;
+          } else {
+              FraudRiskCheckDto.Response aiResponse =
+                      aiFraudAnalyzerService.analyzeFraudRisk(
+                              null, toAnalysisRequest(target, registry, building));
+              if (AiFraudAnalyzerService.isFallback(aiResponse)) {
+                  // 대체 응답(WARN)을 배지로 저장하지 않고 작업을 중단해 다음 실행에서 재시작
+                  throw new FraudRiskException(
+                          FraudErrorCode.AI_SERVICE_UNAVAILABLE, "AI 서버가 호출을 거절했습니다.");
+              }
+              riskType = aiFraudAnalyzerService.determineRiskType(aiResponse);
+              path = AnalysisPath.AI;
+          }
+
+          log.debug(
+                  "매물 위험도 재평가 - homeId: {}, riskType: {}, path: {}",
+                  target.getHomeId(),
+                  riskType,
+                  path);
+          return HomeRiskScoreVO.builder()
+                  .homeId(target.getHomeId())
+                  .riskType(riskType)
+                  .analysisPath(path)
+                  .riskckId(target.getRiskckId())
+                  .scoredAt(LocalDateTime.now())
+                  .build();
+      }
+
+      private RiskAnalysisRequest toAnalysisRequest(
+              HomeRiskRescoreTargetVO target,
+              RegistryDocumentDto registry,
+              BuildingDocumentDto building) {
+          return RiskAnalysisRequest.builder()
+                  .homeId(target.getHomeId())
+                  .address(target.getAddress())
+                  .propertyPrice(target.getDepositPrice())
+                  .leaseType(target.getLeaseType())
+                  .monthlyRent(target.getMonthlyRent())
+                  .residenceType(target.getResidenceType())
+                  .registeredUserName(target.getRegisteredUserName())
+                  .registryDocument(registry)
+                  .buildingDocument(building)
+                  .registryFileUrl(target.getRegistryFileUrl())
+                  .buildingFileUrl(target.getBuildingFileUrl())
+                  .build();
+      }
+
+      /** S3에 저장된 분석 문서를 내려받아 OCR 요청에 쓸 수 있는 MultipartFile로 변환 (큰 파일은 임시 파일로 보관) */
+      private BufferedMultipartFile download(String fileUrl, String name) {
+          String key = extractS3KeyFromUrl(fileUrl);
+          if (key == null) {
+              throw new FraudRiskException(
+                      FraudErrorCode.DOCUMENT_NOT_FOUND, "문서 URL에서 S3 키를 찾을 수 없습니다.");
+          }
+          try (InputStream in = s3Service.downloadFile(key)) {
+              return BufferedMultipartFile.spool(
+                      name, key.substring(key.lastIndexOf('/') + 1), PDF_CONTENT_TYPE, in);
+          } catch (IOException | RuntimeException e) {
+              throw new FraudRiskException(
+                      FraudErrorCode.DOCUMENT_NOT_FOUND, "분석 문서를 내려받지 못했습니다: " + key, e);
+          }
+      }
+
+      private String extractS3KeyFromUrl(String url) {
+          if (url == null || url.isEmpty()) {
+              return null;
+          }
+          int index = url.indexOf(S3_BASE_PATH + "/");
+          if (index != -1) {
+              return url.substring(index);
+          }
+          String marker = ".amazonaws.com/";
+          index = url.indexOf(marker);
+          return index != -1 ? url.substring(index + marker.length()) : null;
+      }
+}
@@ -0,0 +1,80 @@
+package org.scoula.domain.fraud.batch;
+
+import java.time.LocalDate;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 찜/채팅 매물 야간 위험도 재평가 스케줄러
+ *
+ * <p>기준일(runDate)을 작업 파라미터로 실행하므로 하루에 한 번만 완료됩니다. 새벽 첫 실행이 실패하면 같은 날 다음 실행이 실패한 작업을 재시작하고, 이미
+ * 완료된 날에는 실행을 건너뜁니다.
+ *
+ * @author ITZeep Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FraudRiskRescoreScheduler {
+
+      private final JobLauncher jobLauncher;
+      private final Job fraudRiskRescoreJob;
+
+      @Value("${fraud.rescore.enabled:true}")
+      private boolean enabled;
+
+      @Scheduled(cron = "${fraud.rescore.cron:0 0 3,5 * * *}")
+      public void rescoreLikedAndChattingHomes() {
+          if (!enabled) {
+              return;
+          }
+          run(LocalDate.now());
+      }
+
+      /**
+       * 기준일의 재평가 작업을 실행합니다. 같은 기준일의 실패한 실행이 있으면 재시작합니다.
+       *
+       * @param runDate 재평가 기준일
+       * @return 작업 실행 결과, 이미 완료되었거나 실행 중이면 null
+       */
+      public JobExecution run(LocalDate runDate) {
+          JobParameters parameters =
+                  new JobParametersBuilder()
+                          .addString(
+                                  FraudRiskRescoreProcessor.RUN_DATE_PARAMETER,
+                                  runDate.toString())
+                          .toJobParameters();
+          try {
+              JobExecution execution = jobLauncher.run(fraudRiskRescoreJob, parameters);
+              if (execution.getStatus() != BatchStatus.COMPLETED) {
+                  log.warn(
+                          "매물 위험도 재평가 미완료 - runDate: {}, status: {}, exitStatus: {}",
+                          runDate,
+                          execution.getStatus(),
+                          execution.getExitStatus().getExitDescription());
+              }
+              return execution;
+          } catch (JobInstanceAlreadyCompleteException e) {
+              log.info("매물 위험도 재평가 이미 완료 - runDate: {}", runDate);
+          } catch (JobExecutionAlreadyRunningException e) {
+              log.info("매물 위험도 재평가 실행 중 - runDate: {}", runDate);
+          } catch (Exception e) {
+              log.error("매물 위험도 재평가 실행 실패 - runDate: {}", runDate, e);
+          }
+          return null;
+      }
+}
@@ -7,6 +7,7 @@ import org.scoula.domain.fraud.dto.request.RiskAnalysisRequest;
 import org.scoula.domain.fraud.dto.response.DocumentAnalysisResponse;
 import org.scoula.domain.fraud.dto.response.LikedHomeResponse;
 import org.scoula.domain.fraud.dto.response.RegistryParseResponse;
+import org.scoula.domain.fraud.dto.response.RiskAnalysisJobResponse;
 import org.scoula.domain.fraud.dto.response.RiskAnalysisResponse;
 import org.scoula.domain.fraud.dto.response.RiskCheckDetailResponse;
 import org.scoula.domain.fraud.dto.response.RiskCheckListResponse;
@@ -53,6 +54,22 @@ public interface FraudRiskController {
               @ApiParam(value = "사기 위험도 분석 요청", required = true) @RequestBody
                       RiskAnalysisRequest request);
 
+      @ApiOperation(
+              value = "사기 위험도 비동기 분석 시작",
+              notes =
+                      "분석 작업을 접수하고 즉시 riskCheckId를 반환합니다. 진행 상황은 /topic/risk-analysis/{riskCheckId}"
+                              + " 구독 또는 상태 조회 API로 확인합니다.")
+      ResponseEntity<ApiResponse<RiskAnalysisJobResponse>> startRiskAnalysis(
+              @AuthenticationPrincipal CustomUserDetails userDetails,
+              @ApiParam(value = "사기 위험도 분석 요청", required = true) @RequestBody
+                      RiskAnalysisRequest request);
+
+      @ApiOperation(value = "사기 위험도 비동기 분석 상태 조회", notes = "분석 진행 상태와 완료 시 분석 결과를 조회합니다.")
+      ResponseEntity<ApiResponse<RiskAnalysisJobResponse>> getRiskAnalysisStatus(
+              @AuthenticationPrincipal CustomUserDetails userDetails,
+              @ApiParam(value = "사기 위험도 체크 ID", required = true, example = "1") @PathVariable
+                      Long riskCheckId);
+
       @ApiOperation(
               value = "서비스 외 매물 사기 위험도 분석",
               notes = "우리 서비스에 등록되지 않은 외부 매물을 분석합니다. 결과는 DB에 저장되지 않습니다.")
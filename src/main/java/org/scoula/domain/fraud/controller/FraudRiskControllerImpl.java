@@ -8,6 +8,7 @@ import org.scoula.domain.fraud.dto.request.RiskAnalysisRequest;
 import org.scoula.domain.fraud.dto.response.DocumentAnalysisResponse;
 import org.scoula.domain.fraud.dto.response.LikedHomeResponse;
 import org.scoula.domain.fraud.dto.response.RegistryParseResponse;
+import org.scoula.domain.fraud.dto.response.RiskAnalysisJobResponse;
 import org.scoula.domain.fraud.dto.response.RiskAnalysisResponse;
 import org.scoula.domain.fraud.dto.response.RiskCheckDetailResponse;
 import org.scoula.domain.fraud.dto.response.RiskCheckListResponse;
@@ -21,6 +22,7 @@ import org.scoula.global.auth.dto.CustomUserDetails;
 import org.scoula.global.common.dto.ApiResponse;
 import org.scoula.global.common.dto.PageRequest;
 import org.scoula.global.common.dto.PageResponse;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -93,6 +95,40 @@ public class FraudRiskControllerImpl implements FraudRiskController {
           return ResponseEntity.ok(ApiResponse.success(response, "사기 위험도 분석이 완료되었습니다."));
       }
 
+      @Override
+      @PostMapping("/analyze/async")
+      public ResponseEntity<ApiResponse<RiskAnalysisJobResponse>> startRiskAnalysis(
+              @AuthenticationPrincipal CustomUserDetails userDetails,
+              @RequestBody RiskAnalysisRequest request) {
+
+          if (request.getRegistryDocument() == null) {
+              throw new FraudRiskException(FraudErrorCode.MISSING_REQUIRED_FIELDS, "등기부등본 정보는 필수입니다");
+          }
+
+          if (request.getBuildingDocument() == null) {
+              throw new FraudRiskException(FraudErrorCode.MISSING_REQUIRED_FIELDS, "건축물대장 정보는 필수입니다");
+          }
+
+          Long userId = userDetails.getUserId();
+          RiskAnalysisJobResponse response = fraudRiskService.startRiskAnalysis(userId, request);
+
+          return ResponseEntity.status(HttpStatus.ACCEPTED)
+                  .body(ApiResponse.success(response, "사기 위험도 분석이 시작되었습니다."));
+      }
+
+      @Override
+      @GetMapping("/analyze/{riskCheckId}/status")
+      public ResponseEntity<ApiResponse<RiskAnalysisJobResponse>> getRiskAnalysisStatus(
+              @AuthenticationPrincipal CustomUserDetails userDetails,
+              @PathVariable Long riskCheckId) {
+
+          Long userId = userDetails.getUserId();
+          RiskAnalysisJobResponse response =
+                  fraudRiskService.getRiskAnalysisStatus(userId, riskCheckId);
+
+          return ResponseEntity.ok(ApiResponse.success(response));
+      }
+
       @Override
       @GetMapping("/{riskCheckId}")
       public ResponseEntity<ApiResponse<RiskCheckDetailResponse>> getRiskCheckDetail(
@@ -0,0 +1,46 @@
+package org.scoula.domain.fraud.dto.ai;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.*;
+
+/** AI 서버 위험도 분석 응답의 data */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AiRiskAnalysisData {
+      private String riskType;
+      private Double confidenceScore;
+      private String analyzedAt;
+      private List<DetailGroup> detailGroups;
+
+      @Getter
+      @Setter
+      @Builder
+      @NoArgsConstructor
+      @AllArgsConstructor
+      @ToString
+      @JsonIgnoreProperties(ignoreUnknown = true)
+      public static class DetailGroup {
+          private String title;
+          private List<DetailItem> items;
+      }
+
+      @Getter
+      @Setter
+      @Builder
+      @NoArgsConstructor
+      @AllArgsConstructor
+      @ToString
+      @JsonIgnoreProperties(ignoreUnknown = true)
+      public static class DetailItem {
+          private String title;
+          private String content;
+      }
+}
@@ -0,0 +1,36 @@
+package org.scoula.domain.fraud.dto.ai;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * AI 서버 위험도 분석 응답
+ *
+ * <p>공통 응답 형식({@code success}, {@code data})이 아니라 {@link FraudRiskCheckDto.Response}의 필드가 최상위에 바로
+ * 오는 형식도 받을 수 있도록, 공통 응답에 없는 최상위 필드는 {@link #getDirectPayload()}에 모아 둡니다.
+ */
+@Getter
+@NoArgsConstructor
+@ToString(callSuper = true)
+public class AiRiskAnalysisResponse extends AiServerResponse<AiRiskAnalysisData> {
+
+      @JsonIgnore private final Map<String, Object> directPayload = new LinkedHashMap<>();
+
+      /** 공통 응답 형식이 아닌 경우 (success 필드 없음) */
+      @JsonIgnore
+      public boolean isDirectPayload() {
+          return getSuccess() == null && !directPayload.isEmpty();
+      }
+
+      @JsonAnySetter
+      public void putDirectPayload(String name, Object value) {
+          directPayload.put(name, value);
+      }
+}
@@ -0,0 +1,59 @@
+package org.scoula.domain.fraud.dto.ai;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.*;
+
+/**
+ * FastAPI AI 서버 공통 응답
+ *
+ * <p>{@code {"success": true, "message": "...", "data": {...}, "error": {...}}} 형태의 응답을 그대로 바인딩합니다.
+ *
+ * @param <T> data 타입
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AiServerResponse<T> {
+      private Boolean success;
+      private String message;
+      private T data;
+
+      /** 오류 정보 - {@code {"code": ...}} 객체 또는 문자열로 내려옴 */
+      private JsonNode error;
+
+      @JsonIgnore
+      public boolean isSucceeded() {
+          return Boolean.TRUE.equals(success);
+      }
+
+      @JsonIgnore
+      public String getErrorCode() {
+          return error != null && error.isObject() ? error.path("code").asText(null) : null;
+      }
+
+      /** OCR 응답의 data - 파싱 결과는 parsed_data에 담겨 옴 */
+      @Getter
+      @Setter
+      @Builder
+      @NoArgsConstructor
+      @AllArgsConstructor
+      @ToString
+      @JsonIgnoreProperties(ignoreUnknown = true)
+      public static class ParseData<D> {
+          private String filename;
+
+          @JsonProperty("document_type")
+          private String documentType;
+
+          @JsonProperty("parsed_data")
+          private D parsedData;
+      }
+}
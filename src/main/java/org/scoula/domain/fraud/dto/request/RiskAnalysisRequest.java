@@ -33,6 +33,9 @@ public class RiskAnalysisRequest {
       @NotNull(message = "매물 가격은 필수입니다")
       private Long propertyPrice;
 
+      @ApiModelProperty(value = "매매 시세 (선택, 입력 시 깡통 전세 사전 점검에 사용)", example = "300000000")
+      private Long marketPrice;
+
       @ApiModelProperty(value = "거래 유형", required = true, example = "JEONSE")
       @NotBlank(message = "거래 유형은 필수입니다")
       private String leaseType;
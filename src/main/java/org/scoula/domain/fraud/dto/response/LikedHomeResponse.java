@@ -1,5 +1,7 @@
 package org.scoula.domain.fraud.dto.response;
 
+import java.time.LocalDateTime;
+
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.*;
@@ -37,4 +39,12 @@ public class LikedHomeResponse {
 
       @ApiModelProperty(value = "월세", example = "50")
       private Integer monthlyRent;
+
+      @ApiModelProperty(
+              value = "최근 위험도 (야간 재평가 결과, 분석 문서가 없으면 null)",
+              example = "SAFE")
+      private String riskType;
+
+      @ApiModelProperty(value = "위험도 재평가 시각", example = "2025-01-01T03:00:00")
+      private LocalDateTime riskScoredAt;
 }
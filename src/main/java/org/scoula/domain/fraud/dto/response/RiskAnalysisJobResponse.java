@@ -0,0 +1,40 @@
+package org.scoula.domain.fraud.dto.response;
+
+import org.scoula.domain.fraud.enums.AnalysisStatus;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+/**
+ * 비동기 사기 위험도 분석 작업 상태
+ *
+ * <p>분석 시작 응답, 상태 조회 응답, /topic/risk-analysis/{riskCheckId} 진행 알림에 같은 형식으로 사용됩니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@ApiModel(description = "비동기 사기 위험도 분석 작업 상태")
+public class RiskAnalysisJobResponse {
+
+      @ApiModelProperty(value = "위험도 체크 ID", example = "1")
+      private Long riskCheckId;
+
+      @ApiModelProperty(value = "분석 상태", example = "IN_PROGRESS")
+      private AnalysisStatus status;
+
+      @ApiModelProperty(value = "진행률 (0~100, 다른 서버에서 진행 중이면 비어 있음)", example = "10")
+      private Integer progress;
+
+      @ApiModelProperty(value = "진행 메시지", example = "AI 사기 위험도 분석 중")
+      private String message;
+
+      @ApiModelProperty(value = "분석 결과 (SUCCESS일 때만)")
+      private RiskAnalysisResponse result;
+}
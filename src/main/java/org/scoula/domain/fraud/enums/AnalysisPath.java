@@ -0,0 +1,16 @@
+package org.scoula.domain.fraud.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 위험도 판정 경로 (감사용) */
+@Getter
+@RequiredArgsConstructor
+public enum AnalysisPath {
+      LOCAL_RULE("사전 점검", "문서 데이터 규칙으로 판정"),
+      AI("AI 분석", "AI 서버 분석 결과로 판정"),
+      AI_FALLBACK("AI 대체 응답", "AI 서버 장애로 대체 응답(WARN)으로 판정 - 공유/재평가에 사용하지 않음");
+
+      private final String displayName;
+      private final String description;
+}
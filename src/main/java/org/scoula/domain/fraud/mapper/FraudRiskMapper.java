@@ -6,6 +6,9 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.scoula.domain.fraud.dto.response.RiskCheckDetailResponse;
 import org.scoula.domain.fraud.dto.response.RiskCheckListResponse;
+import org.scoula.domain.fraud.enums.AnalysisPath;
+import org.scoula.domain.fraud.enums.AnalysisStatus;
+import org.scoula.domain.fraud.enums.RiskType;
 import org.scoula.domain.fraud.vo.RiskCheckDetailVO;
 import org.scoula.domain.fraud.vo.RiskCheckVO;
 import org.scoula.global.common.dto.PageRequest;
@@ -31,6 +34,33 @@ public interface FraudRiskMapper {
        */
       int updateRiskCheck(RiskCheckVO riskCheck);
 
+      /**
+       * 비동기 분석 결과 반영 (위험도 타입, 분석 상태, 판정 경로, 공유 분석 참조)
+       *
+       * @param riskckId 위험도 체크 ID
+       * @param riskType 위험도 타입 (실패 시 null)
+       * @param analysisStatus 분석 상태
+       * @param analysisPath 판정 경로 (실패 시 null)
+       * @param sourceRiskckId 재사용한 공유 분석의 risk_check ID (직접 분석했으면 null)
+       * @return 수정된 행 수
+       */
+      int updateRiskCheckAnalysis(
+              @Param("riskckId") Long riskckId,
+              @Param("riskType") RiskType riskType,
+              @Param("analysisStatus") AnalysisStatus analysisStatus,
+              @Param("analysisPath") AnalysisPath analysisPath,
+              @Param("sourceRiskckId") Long sourceRiskckId);
+
+      /**
+       * 비동기 분석 진행률 갱신 (분석 중인 경우에만)
+       *
+       * @param riskckId 위험도 체크 ID
+       * @param progress 진행률(%)
+       * @return 수정된 행 수
+       */
+      int updateRiskCheckProgress(
+              @Param("riskckId") Long riskckId, @Param("progress") int progress);
+
       /**
        * 위험도 체크 정보 삭제
        *
@@ -49,6 +79,14 @@ public interface FraudRiskMapper {
        */
       int insertRiskCheckDetail(RiskCheckDetailVO detail);
 
+      /**
+       * 위험도 체크 상세 정보 일괄 저장 (다중 행 INSERT)
+       *
+       * @param details 저장할 상세 정보 리스트 (비어 있으면 안 됨)
+       * @return 저장된 행 수
+       */
+      int insertRiskCheckDetails(@Param("details") List<RiskCheckDetailVO> details);
+
       /**
        * 위험도 체크 상세 정보 조회
        *
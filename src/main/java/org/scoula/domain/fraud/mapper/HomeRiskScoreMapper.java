@@ -0,0 +1,21 @@
+package org.scoula.domain.fraud.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.scoula.domain.fraud.vo.HomeRiskScoreVO;
+
+/**
+ * 매물별 최신 위험도 Mapper
+ *
+ * <p>재평가 대상 조회(selectRescoreTargets)는 Spring Batch 페이징 리더가 구문 ID로 직접 호출하므로 인터페이스 메서드가 없습니다.
+ */
+@Mapper
+public interface HomeRiskScoreMapper {
+
+      /**
+       * 매물별 최신 위험도 저장 (있으면 갱신)
+       *
+       * @param homeRiskScore 재평가 결과
+       * @return 영향받은 행 수
+       */
+      int upsertHomeRiskScore(HomeRiskScoreVO homeRiskScore);
+}
@@ -1,13 +1,20 @@
 package org.scoula.domain.fraud.service;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import javax.annotation.PostConstruct;
+
+import org.scoula.domain.fraud.dto.ai.AiRiskAnalysisData;
+import org.scoula.domain.fraud.dto.ai.AiRiskAnalysisResponse;
+import org.scoula.domain.fraud.dto.ai.AiServerResponse;
 import org.scoula.domain.fraud.dto.ai.FraudRiskCheckDto;
 import org.scoula.domain.fraud.dto.common.BuildingDocumentDto;
 import org.scoula.domain.fraud.dto.common.MortgageeDto;
@@ -17,19 +24,27 @@ import org.scoula.domain.fraud.dto.request.RiskAnalysisRequest;
 import org.scoula.domain.fraud.enums.RiskType;
 import org.scoula.domain.fraud.exception.FraudErrorCode;
 import org.scoula.domain.fraud.exception.FraudRiskException;
+import org.scoula.global.common.resilience.AiResilienceExecutor;
+import org.scoula.global.common.resilience.CallNotPermittedException;
 import org.scoula.global.common.util.LogSanitizerUtil;
+import org.scoula.global.redis.service.DocumentParseCacheService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -39,11 +54,46 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class AiFraudAnalyzerService {
 
+      /** AI 서버 보호 계층이 호출을 거절했을 때 반환하는 대체 응답의 status */
+      public static final String FALLBACK_STATUS = "FALLBACK";
+
+      private static final String FALLBACK_RECOMMENDATION =
+              "AI 분석 서버가 일시적으로 응답하지 않아 상세 분석 없이 주의 등급으로 표시됩니다. "
+                      + "잠시 후 다시 분석해 주세요.";
+
       private final RestTemplate restTemplate;
+      private final DocumentParseCacheService documentParseCacheService;
+      private final AiResilienceExecutor aiResilienceExecutor;
+      private final ObjectMapper objectMapper;
 
       @Value("${ai.server.url:http://localhost:8000}")
       private String aiServerUrl;
 
+      // AI 응답 전용 reader - 공유 ObjectMapper 설정을 그대로 쓰고 모르는 필드만 무시
+      private ObjectReader riskAnalysisReader;
+      private ObjectReader registryParseReader;
+      private ObjectReader buildingParseReader;
+
+      @PostConstruct
+      public void initResponseReaders() {
+          ObjectReader base =
+                  objectMapper
+                          .reader()
+                          .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                          .withHandler(new LenientOcrValueHandler());
+          riskAnalysisReader = base.forType(AiRiskAnalysisResponse.class);
+          registryParseReader =
+                  base.forType(
+                          new TypeReference<
+                                  AiServerResponse<
+                                          AiServerResponse.ParseData<RegistryDocumentDto>>>() {});
+          buildingParseReader =
+                  base.forType(
+                          new TypeReference<
+                                  AiServerResponse<
+                                          AiServerResponse.ParseData<BuildingDocumentDto>>>() {});
+      }
+
       /** FastAPI 서버에 사기 위험도 분석 요청 */
       public FraudRiskCheckDto.Response analyzeFraudRisk(Long userId, RiskAnalysisRequest request) {
           // 요청 데이터 구성
@@ -53,6 +103,16 @@ public class AiFraudAnalyzerService {
           return callAiServer(aiRequest);
       }
 
+      /**
+       * AI 서버가 실제로 분석하지 않은 대체 응답인지 확인합니다.
+       *
+       * @param aiResponse AI 응답
+       * @return 대체 응답이면 true
+       */
+      public static boolean isFallback(FraudRiskCheckDto.Response aiResponse) {
+          return aiResponse != null && FALLBACK_STATUS.equals(aiResponse.getStatus());
+      }
+
       /** AI 응답을 기반으로 위험도 타입 결정 */
       public RiskType determineRiskType(FraudRiskCheckDto.Response aiResponse) {
           if (aiResponse == null || aiResponse.getRiskLevel() == null) {
@@ -90,117 +150,68 @@ public class AiFraudAnalyzerService {
           }
       }
 
-      /** 등기부등본 OCR 요청 */
+      /** 등기부등본 OCR 요청 (같은 파일은 캐시된 결과 반환) */
       public RegistryDocumentDto parseRegistryDocument(MultipartFile file) {
-          try {
-              // HTTP 헤더 설정
-              HttpHeaders headers = new HttpHeaders();
-              headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-
-              // MultiValueMap으로 요청 바디 구성
-              MultiValueMap<String, Object> requestBody = new LinkedMultiValueMap<>();
-              // MultipartFile을 Resource로 변환하여 전송
-              requestBody.add("file", new MultipartFileResource(file));
-
-              // FastAPI 서버 호출
-              String url = aiServerUrl + "/api/parse/register";
-              HttpEntity<MultiValueMap<String, Object>> httpEntity =
-                      new HttpEntity<>(requestBody, headers);
-
-              log.info(
-                      "등기부등본 OCR 요청 - URL: {}, fileName: {}, fileSize: {} bytes",
-                      LogSanitizerUtil.sanitize(url),
-                      LogSanitizerUtil.sanitize(file.getOriginalFilename()),
-                      LogSanitizerUtil.sanitizeValue(file.getSize()));
-
-              @SuppressWarnings("rawtypes")
-              ResponseEntity<Map> response = restTemplate.postForEntity(url, httpEntity, Map.class);
-
-              log.info(
-                      "등기부등본 OCR 응답 상태: {}",
-                      LogSanitizerUtil.sanitizeValue(response.getStatusCode()));
-
-              if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                  @SuppressWarnings("unchecked")
-                  Map<String, Object> responseBody = (Map<String, Object>) response.getBody();
-                  log.info(
-                          "등기부등본 OCR 완료 - AI 서버 전체 응답: {}",
-                          LogSanitizerUtil.sanitizeValue(responseBody));
-
-                  // success 필드 확인
-                  Boolean success = (Boolean) responseBody.get("success");
-                  if (success != null && success) {
-                      // data.parsed_data 추출
-                      @SuppressWarnings("unchecked")
-                      Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-                      if (data != null) {
-                          @SuppressWarnings("unchecked")
-                          Map<String, Object> parsedData =
-                                  (Map<String, Object>) data.get("parsed_data");
-                          if (parsedData != null) {
-                              log.info(
-                                      "등기부등본 OCR 파싱 데이터: {}",
-                                      LogSanitizerUtil.sanitizeValue(parsedData));
-                              return convertToRegistryDocument(parsedData);
-                          }
-                      }
-                  } else {
-                      // AI 서버 에러 코드 및 메시지 추출
-                      String message = (String) responseBody.get("message");
-                      String aiErrorCode = null;
-
-                      // error 객체에서 code 추출
-                      @SuppressWarnings("unchecked")
-                      Map<String, Object> errorObj = (Map<String, Object>) responseBody.get("error");
-                      if (errorObj != null) {
-                          aiErrorCode = (String) errorObj.get("code");
-                      }
+          return documentParseCacheService.getOrParse(
+                  "registry",
+                  file,
+                  RegistryDocumentDto.class,
+                  this::hasParsedContent,
+                  () -> requestRegistryParse(file));
+      }
 
-                      // AI 서버 에러 코드 기준으로 분기
-                      if ("INVALID_DOCUMENT_TYPE".equals(aiErrorCode)) {
-                          // 400번대 - 사용자가 잘못된 파일을 업로드한 경우
-                          if (message != null && message.contains("등기부등본")) {
-                              throw new FraudRiskException(
-                                      FraudErrorCode.INVALID_DOCUMENT_FORMAT, "등기부등본 PDF 파일이 아닙니다.");
-                          } else if (message != null && message.contains("건축물대장")) {
-                              throw new FraudRiskException(
-                                      FraudErrorCode.INVALID_DOCUMENT_FORMAT, "건축물대장 PDF 파일이 아닙니다.");
-                          } else {
-                              throw new FraudRiskException(FraudErrorCode.UNSUPPORTED_DOCUMENT_TYPE);
-                          }
-                      } else {
-                          // 500번대 - AI 서버 내부 오류
-                          throw new FraudRiskException(
-                                  FraudErrorCode.OCR_PROCESSING_FAILED,
-                                  message != null ? message : "등기부등본 분석 중 오류가 발생했습니다.");
-                      }
-                  }
+      private RegistryDocumentDto requestRegistryParse(MultipartFile file) {
+          RegistryDocumentDto document =
+                  requestDocumentParse(
+                          AiResilienceExecutor.REGISTRY_OCR,
+                          "/api/parse/register",
+                          "등기부등본",
+                          file,
+                          registryParseReader);
+          return document != null
+                  ? applyRegistryDefaults(document)
+                  : RegistryDocumentDto.builder().build();
+      }
 
-                  // 파싱 데이터가 없는 경우 빈 객체 반환
-                  return RegistryDocumentDto.builder().build();
-              } else {
-                  throw new FraudRiskException(
-                          FraudErrorCode.AI_SERVICE_UNAVAILABLE,
-                          "AI 서버 등기부등본 OCR 응답 오류: " + response.getStatusCode());
-              }
+      /** 건축물대장 OCR 요청 (같은 파일은 캐시된 결과 반환) */
+      public BuildingDocumentDto parseBuildingDocument(MultipartFile file) {
+          return documentParseCacheService.getOrParse(
+                  "building",
+                  file,
+                  BuildingDocumentDto.class,
+                  this::hasParsedContent,
+                  () -> requestBuildingParse(file));
+      }
 
-          } catch (FraudRiskException e) {
-              // FraudRiskException은 그대로 다시 던지기 (에러 코드 보존)
-              throw e;
-          } catch (Exception e) {
-              log.error("AI 서버 통신 실패: {}", LogSanitizerUtil.sanitize(e.getMessage()), e);
-              throw new FraudRiskException(
-                      FraudErrorCode.OCR_PROCESSING_FAILED,
-                      "AI 서버 통신 중 오류가 발생했습니다: " + e.getMessage());
-          }
+      private BuildingDocumentDto requestBuildingParse(MultipartFile file) {
+          BuildingDocumentDto document =
+                  requestDocumentParse(
+                          AiResilienceExecutor.BUILDING_OCR,
+                          "/api/parse/building",
+                          "건축물대장",
+                          file,
+                          buildingParseReader);
+          return document != null
+                  ? applyBuildingDefaults(document)
+                  : BuildingDocumentDto.builder().build();
       }
 
-      /** 건축물대장 OCR 요청 */
-      public BuildingDocumentDto parseBuildingDocument(MultipartFile file) {
+      /**
+       * AI 서버에 문서 OCR을 요청하고 parsed_data를 DTO로 바인딩합니다.
+       *
+       * @return 파싱 결과, 파싱 데이터가 없으면 null
+       */
+      private <D> D requestDocumentParse(
+              String endpoint,
+              String path,
+              String documentName,
+              MultipartFile file,
+              ObjectReader reader) {
           try {
               // HTTP 헤더 설정
               HttpHeaders headers = new HttpHeaders();
               headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+              headers.setAccept(List.of(MediaType.APPLICATION_JSON));
 
               // MultiValueMap으로 요청 바디 구성
               MultiValueMap<String, Object> requestBody = new LinkedMultiValueMap<>();
@@ -208,87 +219,71 @@ public class AiFraudAnalyzerService {
               requestBody.add("file", new MultipartFileResource(file));
 
               // FastAPI 서버 호출
-              String url = aiServerUrl + "/api/parse/building";
+              String url = aiServerUrl + path;
               HttpEntity<MultiValueMap<String, Object>> httpEntity =
                       new HttpEntity<>(requestBody, headers);
 
               log.info(
-                      "건축물대장 OCR 요청 - URL: {}, fileName: {}, fileSize: {} bytes",
+                      "{} OCR 요청 - URL: {}, fileName: {}, fileSize: {} bytes",
+                      documentName,
                       LogSanitizerUtil.sanitize(url),
                       LogSanitizerUtil.sanitize(file.getOriginalFilename()),
                       LogSanitizerUtil.sanitizeValue(file.getSize()));
 
-              @SuppressWarnings("rawtypes")
-              ResponseEntity<Map> response = restTemplate.postForEntity(url, httpEntity, Map.class);
+              AiServerResponse<AiServerResponse.ParseData<D>> responseBody =
+                      postForAiResponse(endpoint, url, httpEntity, reader);
 
-              log.info(
-                      "건축물대장 OCR 응답 상태: {}",
-                      LogSanitizerUtil.sanitizeValue(response.getStatusCode()));
+              if (responseBody == null) {
+                  throw new FraudRiskException(
+                          FraudErrorCode.AI_SERVICE_UNAVAILABLE,
+                          "AI 서버 " + documentName + " OCR 응답 오류: 빈 응답");
+              }
 
-              if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                  @SuppressWarnings("unchecked")
-                  Map<String, Object> responseBody = (Map<String, Object>) response.getBody();
+              if (responseBody.isSucceeded()) {
+                  // data.parsed_data 추출
+                  D parsedData =
+                          responseBody.getData() != null
+                                  ? responseBody.getData().getParsedData()
+                                  : null;
                   log.info(
-                          "건축물대장 OCR 완료 - AI 서버 전체 응답: {}",
-                          LogSanitizerUtil.sanitizeValue(responseBody));
-
-                  // success 필드 확인
-                  Boolean success = (Boolean) responseBody.get("success");
-                  if (success != null && success) {
-                      // data.parsed_data 추출
-                      @SuppressWarnings("unchecked")
-                      Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-                      if (data != null) {
-                          @SuppressWarnings("unchecked")
-                          Map<String, Object> parsedData =
-                                  (Map<String, Object>) data.get("parsed_data");
-                          if (parsedData != null) {
-                              log.info(
-                                      "건축물대장 OCR 파싱 데이터: {}",
-                                      LogSanitizerUtil.sanitizeValue(parsedData));
-                              return convertToBuildingDocument(parsedData);
-                          }
-                      }
-                  } else {
-                      // AI 서버 에러 코드 및 메시지 추출
-                      String message = (String) responseBody.get("message");
-                      String aiErrorCode = null;
-
-                      // error 객체에서 code 추출
-                      @SuppressWarnings("unchecked")
-                      Map<String, Object> errorObj = (Map<String, Object>) responseBody.get("error");
-                      if (errorObj != null) {
-                          aiErrorCode = (String) errorObj.get("code");
-                      }
+                          "{} OCR 파싱 데이터: {}",
+                          documentName,
+                          LogSanitizerUtil.sanitizeValue(parsedData));
+                  return parsedData;
+              }
 
-                      // AI 서버 에러 코드 기준으로 분기
-                      if ("INVALID_DOCUMENT_TYPE".equals(aiErrorCode)) {
-                          // 400번대 - 사용자가 잘못된 파일을 업로드한 경우
-                          if (message != null && message.contains("등기부등본")) {
-                              throw new FraudRiskException(
-                                      FraudErrorCode.INVALID_DOCUMENT_FORMAT, "등기부등본 PDF 파일이 아닙니다.");
-                          } else if (message != null && message.contains("건축물대장")) {
-                              throw new FraudRiskException(
-                                      FraudErrorCode.INVALID_DOCUMENT_FORMAT, "건축물대장 PDF 파일이 아닙니다.");
-                          } else {
-                              throw new FraudRiskException(FraudErrorCode.UNSUPPORTED_DOCUMENT_TYPE);
-                          }
-                      } else {
-                          // 500번대 - AI 서버 내부 오류
-                          throw new FraudRiskException(
-                                  FraudErrorCode.OCR_PROCESSING_FAILED,
-                                  message != null ? message : "건축물대장 분석 중 오류가 발생했습니다.");
-                      }
+              // AI 서버 에러 코드 및 메시지 추출
+              String message = responseBody.getMessage();
+              log.info(
+                      "{} OCR 실패 응답 - code: {}, message: {}",
+                      documentName,
+                      LogSanitizerUtil.sanitize(responseBody.getErrorCode()),
+                      LogSanitizerUtil.sanitize(message));
+
+              // AI 서버 에러 코드 기준으로 분기
+              if ("INVALID_DOCUMENT_TYPE".equals(responseBody.getErrorCode())) {
+                  // 400번대 - 사용자가 잘못된 파일을 업로드한 경우
+                  if (message != null && message.contains("등기부등본")) {
+                      throw new FraudRiskException(
+                              FraudErrorCode.INVALID_DOCUMENT_FORMAT, "등기부등본 PDF 파일이 아닙니다.");
+                  } else if (message != null && message.contains("건축물대장")) {
+                      throw new FraudRiskException(
+                              FraudErrorCode.INVALID_DOCUMENT_FORMAT, "건축물대장 PDF 파일이 아닙니다.");
+                  } else {
+                      throw new FraudRiskException(FraudErrorCode.UNSUPPORTED_DOCUMENT_TYPE);
                   }
-
-                  // 파싱 데이터가 없는 경우 빈 객체 반환
-                  return BuildingDocumentDto.builder().build();
-              } else {
-                  throw new FraudRiskException(
-                          FraudErrorCode.AI_SERVICE_UNAVAILABLE,
-                          "AI 서버 건축물대장 OCR 응답 오류: " + response.getStatusCode());
               }
 
+              // 500번대 - AI 서버 내부 오류
+              throw new FraudRiskException(
+                      FraudErrorCode.OCR_PROCESSING_FAILED,
+                      message != null ? message : documentName + " 분석 중 오류가 발생했습니다.");
+
+          } catch (CallNotPermittedException e) {
+              log.warn("AI OCR 요청 거절: {}", e.getMessage());
+              throw new FraudRiskException(
+                      FraudErrorCode.AI_SERVICE_UNAVAILABLE,
+                      "AI 서버가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.");
           } catch (FraudRiskException e) {
               // FraudRiskException은 그대로 다시 던지기 (에러 코드 보존)
               throw e;
@@ -300,6 +295,32 @@ public class AiFraudAnalyzerService {
           }
       }
 
+      /**
+       * AI 서버를 호출하고 응답 본문 스트림을 바로 DTO로 바인딩합니다.
+       *
+       * <p>중간 Map이나 문자열을 만들지 않고 응답 스트림을 한 번만 읽습니다. 4xx/5xx 응답은 RestTemplate 오류 처리기가 예외로 변환합니다.
+       */
+      private <T> T postForAiResponse(
+              String endpoint, String url, HttpEntity<?> httpEntity, ObjectReader reader) {
+          return aiResilienceExecutor.execute(
+                  endpoint,
+                  () ->
+                          restTemplate.execute(
+                                  url,
+                                  HttpMethod.POST,
+                                  restTemplate.httpEntityCallback(httpEntity),
+                                  response -> {
+                                      log.info(
+                                              "AI 서버 응답 상태 - {}: {}",
+                                              endpoint,
+                                              LogSanitizerUtil.sanitizeValue(
+                                                      response.getStatusCode()));
+                                      try (InputStream body = response.getBody()) {
+                                          return reader.readValue(body);
+                                      }
+                                  }));
+      }
+
       /** RiskAnalysisRequest를 AI 서버 요청 형식으로 변환 */
       private FraudRiskCheckDto.Request buildAiRequest(Long userId, RiskAnalysisRequest request) {
           FraudRiskCheckDto.Request.RequestBuilder builder =
@@ -343,60 +364,12 @@ public class AiFraudAnalyzerService {
                   .residenceType(
                           request.getResidenceType() != null ? request.getResidenceType() : "");
 
-          // 등기부등본 정보 변환
+          // 등기부등본/건축물대장 정보 변환
           if (request.getRegistryDocument() != null) {
-              RegistryDocumentDto registry = request.getRegistryDocument();
-
-              // 근저당권 정보 처리
-              List<FraudRiskCheckDto.MortgageeInfo> mortgageeList = new ArrayList<>();
-
-              // 새로운 구조: mortgageeList 사용
-              if (registry.getMortgageeList() != null && !registry.getMortgageeList().isEmpty()) {
-                  for (MortgageeDto mortgageeDto : registry.getMortgageeList()) {
-                      mortgageeList.add(
-                              FraudRiskCheckDto.MortgageeInfo.builder()
-                                      .priorityNumber(mortgageeDto.getPriorityNumber())
-                                      .maxClaimAmount(mortgageeDto.getMaxClaimAmount())
-                                      .debtor(mortgageeDto.getDebtor())
-                                      .mortgagee(mortgageeDto.getMortgagee())
-                                      .build());
-                  }
-              }
-
-              builder.registryDocument(
-                      FraudRiskCheckDto.RegistryDocument.builder()
-                              .regionAddress(registry.getRegionAddress())
-                              .roadAddress(registry.getRoadAddress())
-                              .ownerName(registry.getOwnerName())
-                              .ownerBirthDate(
-                                      registry.getOwnerBirthDate() != null
-                                              ? registry.getOwnerBirthDate().toString()
-                                              : null)
-                              .debtor(registry.getDebtor())
-                              .mortgageeList(mortgageeList.isEmpty() ? null : mortgageeList)
-                              .hasSeizure(registry.getHasSeizure())
-                              .hasAuction(registry.getHasAuction())
-                              .hasLitigation(registry.getHasLitigation())
-                              .hasAttachment(registry.getHasAttachment())
-                              .build());
-          }
-
-          // 건축물대장 정보 변환
+              builder.registryDocument(toAiRegistryDocument(request.getRegistryDocument()));
+          }
           if (request.getBuildingDocument() != null) {
-              BuildingDocumentDto building = request.getBuildingDocument();
-              builder.buildingDocument(
-                      FraudRiskCheckDto.BuildingDocument.builder()
-                              .siteLocation(building.getSiteLocation())
-                              .roadAddress(building.getRoadAddress())
-                              .totalFloorArea(building.getTotalFloorArea())
-                              .purpose(building.getPurpose())
-                              .floorNumber(building.getFloorNumber())
-                              .approvalDate(
-                                      building.getApprovalDate() != null
-                                              ? building.getApprovalDate().toString()
-                                              : null)
-                              .isViolationBuilding(building.getIsViolationBuilding())
-                              .build());
+              builder.buildingDocument(toAiBuildingDocument(request.getBuildingDocument()));
           }
 
           return builder.build();
@@ -466,71 +439,81 @@ public class AiFraudAnalyzerService {
                   .residenceType(
                           request.getResidenceType() != null ? request.getResidenceType() : "");
 
-          // 등기부등본 정보 변환
+          // 등기부등본/건축물대장 정보 변환
           if (request.getRegistryDocument() != null) {
-              RegistryDocumentDto registry = request.getRegistryDocument();
-
-              // 근저당권 정보 처리
-              List<FraudRiskCheckDto.MortgageeInfo> mortgageeList = new ArrayList<>();
-
-              // 새로운 구조: mortgageeList 사용
-              if (registry.getMortgageeList() != null && !registry.getMortgageeList().isEmpty()) {
-                  for (MortgageeDto mortgageeDto : registry.getMortgageeList()) {
-                      mortgageeList.add(
-                              FraudRiskCheckDto.MortgageeInfo.builder()
-                                      .priorityNumber(mortgageeDto.getPriorityNumber())
-                                      .maxClaimAmount(mortgageeDto.getMaxClaimAmount())
-                                      .debtor(mortgageeDto.getDebtor())
-                                      .mortgagee(mortgageeDto.getMortgagee())
-                                      .build());
-                  }
-              }
-
-              builder.registryDocument(
-                      FraudRiskCheckDto.RegistryDocument.builder()
-                              .regionAddress(registry.getRegionAddress())
-                              .roadAddress(registry.getRoadAddress())
-                              .ownerName(registry.getOwnerName())
-                              .ownerBirthDate(
-                                      registry.getOwnerBirthDate() != null
-                                              ? registry.getOwnerBirthDate().toString()
-                                              : null)
-                              .debtor(registry.getDebtor())
-                              .mortgageeList(mortgageeList.isEmpty() ? null : mortgageeList)
-                              .hasSeizure(registry.getHasSeizure())
-                              .hasAuction(registry.getHasAuction())
-                              .hasLitigation(registry.getHasLitigation())
-                              .hasAttachment(registry.getHasAttachment())
-                              .build());
-          }
-
-          // 건축물대장 정보 변환
+              builder.registryDocument(toAiRegistryDocument(request.getRegistryDocument()));
+          }
           if (request.getBuildingDocument() != null) {
-              BuildingDocumentDto building = request.getBuildingDocument();
-              builder.buildingDocument(
-                      FraudRiskCheckDto.BuildingDocument.builder()
-                              .siteLocation(building.getSiteLocation())
-                              .roadAddress(building.getRoadAddress())
-                              .totalFloorArea(building.getTotalFloorArea())
-                              .purpose(building.getPurpose())
-                              .floorNumber(building.getFloorNumber())
-                              .approvalDate(
-                                      building.getApprovalDate() != null
-                                              ? building.getApprovalDate().toString()
-                                              : null)
-                              .isViolationBuilding(building.getIsViolationBuilding())
-                              .build());
+              builder.buildingDocument(toAiBuildingDocument(request.getBuildingDocument()));
           }
 
           return builder.build();
       }
 
+      /**
+       * 등기부등본을 AI 서버 요청 형식으로 변환합니다. OCR에서 확인하지 못한(null) 값은 AI 서버가 null을 허용하지 않는 필드에
+       * 한해 여기서 기본값으로 채웁니다.
+       */
+      private FraudRiskCheckDto.RegistryDocument toAiRegistryDocument(
+              RegistryDocumentDto registry) {
+          List<FraudRiskCheckDto.MortgageeInfo> mortgageeList = new ArrayList<>();
+          if (registry.getMortgageeList() != null) {
+              for (MortgageeDto mortgageeDto : registry.getMortgageeList()) {
+                  mortgageeList.add(
+                          FraudRiskCheckDto.MortgageeInfo.builder()
+                                  .priorityNumber(mortgageeDto.getPriorityNumber())
+                                  .maxClaimAmount(
+                                          mortgageeDto.getMaxClaimAmount() != null
+                                                  ? mortgageeDto.getMaxClaimAmount()
+                                                  : 0L)
+                                  .debtor(defaultString(mortgageeDto.getDebtor()))
+                                  .mortgagee(defaultString(mortgageeDto.getMortgagee()))
+                                  .build());
+              }
+          }
+
+          return FraudRiskCheckDto.RegistryDocument.builder()
+                  .regionAddress(registry.getRegionAddress())
+                  .roadAddress(registry.getRoadAddress())
+                  .ownerName(registry.getOwnerName())
+                  .ownerBirthDate(
+                          registry.getOwnerBirthDate() != null
+                                  ? registry.getOwnerBirthDate().toString()
+                                  : null)
+                  .debtor(registry.getDebtor())
+                  .mortgageeList(mortgageeList.isEmpty() ? null : mortgageeList)
+                  .hasSeizure(Boolean.TRUE.equals(registry.getHasSeizure()))
+                  .hasAuction(Boolean.TRUE.equals(registry.getHasAuction()))
+                  .hasLitigation(Boolean.TRUE.equals(registry.getHasLitigation()))
+                  .hasAttachment(Boolean.TRUE.equals(registry.getHasAttachment()))
+                  .build();
+      }
+
+      /** 건축물대장을 AI 서버 요청 형식으로 변환 (null 값은 AI 서버 기본값으로 채움) */
+      private FraudRiskCheckDto.BuildingDocument toAiBuildingDocument(
+              BuildingDocumentDto building) {
+          return FraudRiskCheckDto.BuildingDocument.builder()
+                  .siteLocation(building.getSiteLocation())
+                  .roadAddress(building.getRoadAddress())
+                  .totalFloorArea(
+                          building.getTotalFloorArea() != null ? building.getTotalFloorArea() : 0.0)
+                  .purpose(building.getPurpose())
+                  .floorNumber(building.getFloorNumber() != null ? building.getFloorNumber() : 1)
+                  .approvalDate(
+                          building.getApprovalDate() != null
+                                  ? building.getApprovalDate().toString()
+                                  : null)
+                  .isViolationBuilding(Boolean.TRUE.equals(building.getIsViolationBuilding()))
+                  .build();
+      }
+
       /** AI 서버 호출 로직 추출 */
       private FraudRiskCheckDto.Response callAiServer(FraudRiskCheckDto.Request aiRequest) {
           try {
               // HTTP 헤더 설정
               HttpHeaders headers = new HttpHeaders();
               headers.setContentType(MediaType.APPLICATION_JSON);
+              headers.setAccept(List.of(MediaType.APPLICATION_JSON));
 
               // FastAPI 서버 호출
               String url = aiServerUrl + "/api/analyze/risk";
@@ -543,65 +526,53 @@ public class AiFraudAnalyzerService {
                       aiRequest.getAddress());
 
               // 전체 요청 데이터 로깅
-              try {
-                  ObjectMapper mapper = new ObjectMapper();
-                  String requestJson = mapper.writeValueAsString(aiRequest);
-                  log.debug("[디버깅] AI 서버 전송 데이터: {}", requestJson);
-              } catch (Exception e) {
-                  log.error("AI 요청 데이터 JSON 변환 실패", e);
+              if (log.isDebugEnabled()) {
+                  try {
+                      log.debug(
+                              "[디버깅] AI 서버 전송 데이터: {}",
+                              objectMapper.writeValueAsString(aiRequest));
+                  } catch (Exception e) {
+                      log.error("AI 요청 데이터 JSON 변환 실패", e);
+                  }
               }
 
-              @SuppressWarnings("rawtypes")
-              ResponseEntity<Map> response = restTemplate.postForEntity(url, httpEntity, Map.class);
+              AiRiskAnalysisResponse responseBody =
+                      postForAiResponse(
+                              AiResilienceExecutor.RISK_ANALYSIS,
+                              url,
+                              httpEntity,
+                              riskAnalysisReader);
 
-              log.info(
-                      "AI 위험도 분석 응답 상태: {}",
-                      LogSanitizerUtil.sanitizeValue(response.getStatusCode()));
-
-              if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                  @SuppressWarnings("unchecked")
-                  Map<String, Object> responseBody = (Map<String, Object>) response.getBody();
-                  log.info("AI 위험도 분석 전체 응답: {}", LogSanitizerUtil.sanitizeValue(responseBody));
-
-                  // 구조화된 응답인지 확인
-                  Boolean success = (Boolean) responseBody.get("success");
-                  if (success != null && success) {
-                      // data 추출
-                      @SuppressWarnings("unchecked")
-                      Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-                      if (data != null) {
-                          log.info("AI 위험도 분석 데이터: {}", LogSanitizerUtil.sanitizeValue(data));
-                          return convertToFraudRiskResponse(data);
-                      }
-                  } else {
-                      // 오류 메시지 추출
-                      String message = (String) responseBody.get("message");
-                      throw new FraudRiskException(
-                              FraudErrorCode.FRAUD_ANALYSIS_FAILED,
-                              "위험도 분석 실패: " + (message != null ? message : "알 수 없는 오류"));
-                  }
+              if (responseBody == null) {
+                  throw new FraudRiskException(
+                          FraudErrorCode.AI_SERVICE_UNAVAILABLE, "AI 서버 응답 오류: 빈 응답");
+              }
 
+              if (responseBody.isDirectPayload()) {
                   // 직접 FraudRiskCheckDto.Response 형태로 오는 경우 (대비용)
-                  try {
-                      ObjectMapper mapper = new ObjectMapper();
-                      FraudRiskCheckDto.Response aiResponse =
-                              mapper.convertValue(responseBody, FraudRiskCheckDto.Response.class);
-                      log.info(
-                              "AI 분석 완료 - analysisId: {}, riskLevel: {}, riskScore: {}",
-                              LogSanitizerUtil.sanitize(String.valueOf(aiResponse.getAnalysisId())),
-                              LogSanitizerUtil.sanitize(String.valueOf(aiResponse.getRiskLevel())),
-                              LogSanitizerUtil.sanitize(String.valueOf(aiResponse.getRiskScore())));
-                      return aiResponse;
-                  } catch (Exception e) {
-                      log.warn("직접 FraudRiskCheckDto.Response 변환 실패", e);
-                      throw new FraudRiskException(FraudErrorCode.RISK_CALCULATION_ERROR);
-                  }
-              } else {
+                  return toDirectResponse(responseBody.getDirectPayload());
+              }
+
+              if (!responseBody.isSucceeded()) {
+                  // 오류 메시지 추출
+                  String message = responseBody.getMessage();
                   throw new FraudRiskException(
-                          FraudErrorCode.AI_SERVICE_UNAVAILABLE,
-                          "AI 서버 응답 오류: " + response.getStatusCode());
+                          FraudErrorCode.FRAUD_ANALYSIS_FAILED,
+                          "위험도 분석 실패: " + (message != null ? message : "알 수 없는 오류"));
+              }
+
+              AiRiskAnalysisData data = responseBody.getData();
+              if (data == null) {
+                  log.warn("AI 위험도 분석 응답에 data가 없습니다.");
+                  throw new FraudRiskException(FraudErrorCode.RISK_CALCULATION_ERROR);
               }
 
+              log.info("AI 위험도 분석 데이터: {}", LogSanitizerUtil.sanitizeValue(data));
+              return convertToFraudRiskResponse(data);
+
+          } catch (CallNotPermittedException e) {
+              log.warn("AI 위험도 분석 생략 - 대체 응답(WARN) 반환: {}", e.getMessage());
+              return fallbackRiskResponse();
           } catch (FraudRiskException e) {
               // FraudRiskException은 그대로 다시 던지기 (에러 코드 보존)
               throw e;
@@ -613,229 +584,149 @@ public class AiFraudAnalyzerService {
           }
       }
 
-      /** OCR 결과를 RegistryDocumentDto로 변환 */
-      private RegistryDocumentDto convertToRegistryDocument(Map<String, Object> ocrResult) {
-          RegistryDocumentDto.RegistryDocumentDtoBuilder builder = RegistryDocumentDto.builder();
-
-          // 주소 정보 (AI 서버 응답 키 이름에 맞춤)
-          builder.regionAddress(getStringValue(ocrResult, "regionAddress", ""));
-          builder.roadAddress(getStringValue(ocrResult, "roadAddress", ""));
-
-          // 소유자 정보
-          builder.ownerName(getStringValue(ocrResult, "ownerName", ""));
-          String birthDateStr = getStringValue(ocrResult, "ownerBirthDate", null);
-          if (birthDateStr != null && !birthDateStr.isEmpty()) {
-              try {
-                  LocalDate birthDate = LocalDate.parse(birthDateStr, DateTimeFormatter.ISO_DATE);
-                  builder.ownerBirthDate(birthDate);
-              } catch (Exception e) {
-                  log.warn("소유자 생년월일 파싱 실패: {}", LogSanitizerUtil.sanitize(birthDateStr));
-              }
-          }
-
-          // 채무자 정보
-          builder.debtor(getStringValue(ocrResult, "debtor", ""));
-
-          // 근저당권자 리스트 변환
-          @SuppressWarnings("unchecked")
-          List<Map<String, Object>> mortgageeListData =
-                  (List<Map<String, Object>>) ocrResult.get("mortgageeList");
-          List<MortgageeDto> mortgagees = new ArrayList<>();
-
-          if (mortgageeListData != null && !mortgageeListData.isEmpty()) {
-              for (Map<String, Object> mortgageeData : mortgageeListData) {
-                  MortgageeDto mortgageeDto =
-                          MortgageeDto.builder()
-                                  .priorityNumber(getIntValue(mortgageeData, "priorityNumber", null))
-                                  .maxClaimAmount(getLongValue(mortgageeData, "maxClaimAmount", 0L))
-                                  .debtor(getStringValue(mortgageeData, "debtor", ""))
-                                  .mortgagee(getStringValue(mortgageeData, "mortgagee", ""))
-                                  .build();
-                  mortgagees.add(mortgageeDto);
-              }
+      private FraudRiskCheckDto.Response toDirectResponse(Map<String, Object> payload) {
+          try {
+              FraudRiskCheckDto.Response aiResponse =
+                      objectMapper.convertValue(payload, FraudRiskCheckDto.Response.class);
+              log.info(
+                      "AI 분석 완료 - analysisId: {}, riskLevel: {}, riskScore: {}",
+                      LogSanitizerUtil.sanitize(String.valueOf(aiResponse.getAnalysisId())),
+                      LogSanitizerUtil.sanitize(String.valueOf(aiResponse.getRiskLevel())),
+                      LogSanitizerUtil.sanitize(String.valueOf(aiResponse.getRiskScore())));
+              return aiResponse;
+          } catch (IllegalArgumentException e) {
+              log.warn("직접 FraudRiskCheckDto.Response 변환 실패", e);
+              throw new FraudRiskException(FraudErrorCode.RISK_CALCULATION_ERROR);
           }
+      }
 
-          builder.mortgageeList(mortgagees);
-
-          // 법적 제한사항 (AI 서버는 직접 boolean 값으로 반환)
-          builder.hasSeizure(getBooleanValue(ocrResult, "hasSeizure", false));
-          builder.hasAuction(getBooleanValue(ocrResult, "hasAuction", false));
-          builder.hasLitigation(getBooleanValue(ocrResult, "hasLitigation", false));
-          builder.hasAttachment(getBooleanValue(ocrResult, "hasAttachment", false));
-
-          return builder.build();
+      /**
+       * AI 서버 보호 계층이 호출을 거절했을 때의 대체 응답
+       *
+       * <p>위험도 등급이 없으므로 {@link #determineRiskType}에서 WARN으로 판정됩니다.
+       */
+      private FraudRiskCheckDto.Response fallbackRiskResponse() {
+          return FraudRiskCheckDto.Response.builder()
+                  .status(FALLBACK_STATUS)
+                  .recommendations(List.of(FALLBACK_RECOMMENDATION))
+                  .timestamp(LocalDateTime.now().toString())
+                  .build();
       }
 
-      /** OCR 결과를 BuildingDocumentDto로 변환 */
-      private BuildingDocumentDto convertToBuildingDocument(Map<String, Object> ocrResult) {
-          BuildingDocumentDto.BuildingDocumentDtoBuilder builder = BuildingDocumentDto.builder();
-
-          // 주소 정보 (AI 서버 응답 키 이름에 맞춤)
-          builder.siteLocation(getStringValue(ocrResult, "siteLocation", ""));
-          builder.roadAddress(getStringValue(ocrResult, "roadAddress", ""));
-
-          // 건물 정보
-          builder.totalFloorArea(getDoubleValue(ocrResult, "totalFloorArea", 0.0));
-          builder.purpose(getStringValue(ocrResult, "purpose", ""));
-          builder.floorNumber(getIntValue(ocrResult, "floorNumber", 1));
-
-          // 사용승인일
-          String approvalDateStr = getStringValue(ocrResult, "approvalDate", null);
-          if (approvalDateStr != null && !approvalDateStr.isEmpty()) {
-              try {
-                  LocalDate approvalDate =
-                          LocalDate.parse(approvalDateStr, DateTimeFormatter.ISO_DATE);
-                  builder.approvalDate(approvalDate);
-              } catch (Exception e) {
-                  log.warn("사용승인일 파싱 실패: {}", LogSanitizerUtil.sanitize(approvalDateStr));
+      /**
+       * OCR 결과의 빠진 문자열 값을 빈 문자열로 채움
+       *
+       * <p>권리 제한 여부, 채권최고액, 위반건축물 여부처럼 판정에 쓰이는 값은 "확인하지 못함"과 "없음"을 구분해야 하므로 null을 그대로
+       * 둡니다. AI 서버 요청에 필요한 기본값은 요청을 만들 때 채웁니다.
+       */
+      private RegistryDocumentDto applyRegistryDefaults(RegistryDocumentDto document) {
+          document.setRegionAddress(defaultString(document.getRegionAddress()));
+          document.setRoadAddress(defaultString(document.getRoadAddress()));
+          document.setOwnerName(defaultString(document.getOwnerName()));
+          document.setDebtor(defaultString(document.getDebtor()));
+
+          if (document.getMortgageeList() != null) {
+              for (MortgageeDto mortgagee : document.getMortgageeList()) {
+                  mortgagee.setDebtor(defaultString(mortgagee.getDebtor()));
+                  mortgagee.setMortgagee(defaultString(mortgagee.getMortgagee()));
               }
           }
+          return document;
+      }
 
-          // 위반건축물 여부 (AI 서버 응답 키 이름에 맞춤)
-          builder.isViolationBuilding(getBooleanValue(ocrResult, "isViolationBuilding", false));
+      private BuildingDocumentDto applyBuildingDefaults(BuildingDocumentDto document) {
+          document.setSiteLocation(defaultString(document.getSiteLocation()));
+          document.setRoadAddress(defaultString(document.getRoadAddress()));
+          document.setPurpose(defaultString(document.getPurpose()));
+          return document;
+      }
 
-          return builder.build();
+      private static String defaultString(String value) {
+          return value != null ? value : "";
       }
 
       /** AI 위험도 분석 응답을 FraudRiskCheckDto.Response로 변환 */
-      private FraudRiskCheckDto.Response convertToFraudRiskResponse(Map<String, Object> data) {
+      private FraudRiskCheckDto.Response convertToFraudRiskResponse(AiRiskAnalysisData data) {
           // AI 서버가 detailGroups 구조로 보내는 경우, 이를 analysis_results로 변환
-          @SuppressWarnings("unchecked")
-          List<Map<String, Object>> detailGroups =
-                  (List<Map<String, Object>>) data.get("detailGroups");
           Map<String, Object> analysisResults = new LinkedHashMap<>();
 
-          if (detailGroups != null) {
-              for (Map<String, Object> group : detailGroups) {
-                  String groupTitle = (String) group.get("title");
-                  @SuppressWarnings("unchecked")
-                  List<Map<String, Object>> items = (List<Map<String, Object>>) group.get("items");
+          if (data.getDetailGroups() != null) {
+              for (AiRiskAnalysisData.DetailGroup group : data.getDetailGroups()) {
+                  List<AiRiskAnalysisData.DetailItem> items = group.getItems();
 
                   if (items != null && !items.isEmpty()) {
-                      // 각 그룹의 첫 번째 item을 사용하거나, 모든 item을 대표 값으로 사용
                       Map<String, Object> groupData = new LinkedHashMap<>();
 
                       for (int i = 0; i < items.size(); i++) {
-                          Map<String, Object> item = items.get(i);
-                          String itemTitle = (String) item.get("title");
-                          String itemContent = (String) item.get("content");
+                          AiRiskAnalysisData.DetailItem item = items.get(i);
+                          String itemTitle = item.getTitle();
 
                           // 각 item을 개별 키로 저장
                           groupData.put(
                                   itemTitle != null ? itemTitle : "item_" + i,
                                   Map.of(
-                                          "title", itemTitle != null ? itemTitle : "",
-                                          "content", itemContent != null ? itemContent : ""));
+                                          "title", defaultString(itemTitle),
+                                          "content", defaultString(item.getContent())));
                       }
 
-                      analysisResults.put(groupTitle, groupData);
+                      analysisResults.put(group.getTitle(), groupData);
                   }
               }
           }
 
           return FraudRiskCheckDto.Response.builder()
                   .status("SUCCESS")
-                  .riskScore(getDoubleValue(data, "confidenceScore", 0.0))
-                  .riskLevel(getStringValue(data, "riskType", "UNKNOWN"))
+                  .riskScore(data.getConfidenceScore() != null ? data.getConfidenceScore() : 0.0)
+                  .riskLevel(data.getRiskType() != null ? data.getRiskType() : "UNKNOWN")
                   .analysisId("")
                   .analysisResults(analysisResults)
                   .recommendations(null)
                   .detailedAnalysis(null)
-                  .timestamp(getStringValue(data, "analyzedAt", ""))
+                  .timestamp(defaultString(data.getAnalyzedAt()))
                   .build();
       }
 
-      // Helper methods
-      private String getStringValue(Map<String, Object> map, String key, String defaultValue) {
-          Object value = map.get(key);
-          return value != null ? value.toString() : defaultValue;
-      }
-
-      private Long getLongValue(Map<String, Object> map, String key, Long defaultValue) {
-          Object value = map.get(key);
-          if (value == null) return defaultValue;
-
-          try {
-              if (value instanceof Number) {
-                  return ((Number) value).longValue();
-              }
-              return Long.parseLong(value.toString());
-          } catch (Exception e) {
-              log.warn(
-                      "Long 변환 실패 - key: {}, value: {}",
-                      LogSanitizerUtil.sanitize(key),
-                      LogSanitizerUtil.sanitizeValue(value));
-              return defaultValue;
-          }
+      /** 파싱 결과가 비어 있지 않은 경우에만 캐시 (파싱 데이터가 없는 빈 응답은 재시도 대상) */
+      private boolean hasParsedContent(RegistryDocumentDto document) {
+          return document.getRegionAddress() != null
+                  || document.getRoadAddress() != null
+                  || document.getOwnerName() != null;
       }
 
-      private Double getDoubleValue(Map<String, Object> map, String key, Double defaultValue) {
-          Object value = map.get(key);
-          if (value == null) return defaultValue;
-
-          try {
-              if (value instanceof Number) {
-                  return ((Number) value).doubleValue();
-              }
-              return Double.parseDouble(value.toString());
-          } catch (Exception e) {
-              log.warn(
-                      "Double 변환 실패 - key: {}, value: {}",
-                      LogSanitizerUtil.sanitize(key),
-                      LogSanitizerUtil.sanitizeValue(value));
-              return defaultValue;
-          }
+      private boolean hasParsedContent(BuildingDocumentDto document) {
+          return document.getSiteLocation() != null || document.getRoadAddress() != null;
       }
 
-      private Integer getIntValue(Map<String, Object> map, String key, Integer defaultValue) {
-          Object value = map.get(key);
-          if (value == null) return defaultValue;
+      /**
+       * OCR 값 형식이 잘못된 경우("1980-13-45", "1,000", "3층", "Y" 등) 전체 파싱을 실패시키지 않고 해당 필드만 비워 둠
+       *
+       * <p>날짜와 숫자/불리언 래퍼 타입만 처리하며, 그 외 타입은 원래대로 실패합니다.
+       */
+      static class LenientOcrValueHandler extends DeserializationProblemHandler {
+          private static final Set<Class<?>> LENIENT_TYPES =
+                  Set.of(
+                          LocalDate.class,
+                          Integer.class,
+                          Long.class,
+                          Double.class,
+                          Boolean.class);
 
-          try {
-              if (value instanceof Number) {
-                  return ((Number) value).intValue();
+          @Override
+          public Object handleWeirdStringValue(
+                  DeserializationContext ctxt,
+                  Class<?> targetType,
+                  String valueToConvert,
+                  String failureMsg)
+                  throws IOException {
+              if (LENIENT_TYPES.contains(targetType)) {
+                  log.warn(
+                          "OCR 값 파싱 실패 - {}: {}",
+                          targetType.getSimpleName(),
+                          LogSanitizerUtil.sanitize(valueToConvert));
+                  return null;
               }
-              return Integer.parseInt(value.toString());
-          } catch (Exception e) {
-              log.warn(
-                      "Integer 변환 실패 - key: {}, value: {}",
-                      LogSanitizerUtil.sanitize(key),
-                      LogSanitizerUtil.sanitizeValue(value));
-              return defaultValue;
-          }
-      }
-
-      private Boolean getBooleanValue(Map<String, Object> map, String key, Boolean defaultValue) {
-          Object value = map.get(key);
-          if (value == null) return defaultValue;
-
-          if (value instanceof Boolean) {
-              return (Boolean) value;
-          }
-
-          String strValue = value.toString().toLowerCase();
-          return "true".equals(strValue)
-                  || "yes".equals(strValue)
-                  || "y".equals(strValue)
-                  || "1".equals(strValue);
-      }
-
-      @SuppressWarnings("unchecked")
-      private Map<String, Object> getMapValue(Map<String, Object> map, String key) {
-          Object value = map.get(key);
-          if (value instanceof Map) {
-              return (Map<String, Object>) value;
-          }
-          return null;
-      }
-
-      @SuppressWarnings("unchecked")
-      private List<String> getListValue(Map<String, Object> map, String key) {
-          Object value = map.get(key);
-          if (value instanceof List) {
-              return (List<String>) value;
+              return NOT_HANDLED;
           }
-          return null;
       }
 
       /** MultipartFile을 Spring Resource로 변환하는 래퍼 클래스 */
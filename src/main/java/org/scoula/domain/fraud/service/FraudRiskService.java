@@ -6,6 +6,7 @@ import org.scoula.domain.fraud.dto.request.ExternalRiskAnalysisRequest;
 import org.scoula.domain.fraud.dto.request.RiskAnalysisRequest;
 import org.scoula.domain.fraud.dto.response.DocumentAnalysisResponse;
 import org.scoula.domain.fraud.dto.response.LikedHomeResponse;
+import org.scoula.domain.fraud.dto.response.RiskAnalysisJobResponse;
 import org.scoula.domain.fraud.dto.response.RiskAnalysisResponse;
 import org.scoula.domain.fraud.dto.response.RiskCheckDetailResponse;
 import org.scoula.domain.fraud.dto.response.RiskCheckListResponse;
@@ -37,6 +38,27 @@ public interface FraudRiskService {
        */
       RiskAnalysisResponse analyzeRisk(Long userId, RiskAnalysisRequest request);
 
+      /**
+       * 사기 위험도 종합 분석 비동기 시작
+       *
+       * <p>risk_check를 분석 중(IN_PROGRESS) 상태로 생성하고 즉시 반환합니다. 진행 상황과 최종 결과는
+       * /topic/risk-analysis/{riskCheckId}로 전송됩니다.
+       *
+       * @param userId 사용자 ID
+       * @param request 분석 요청 정보
+       * @return 생성된 분석 작업 상태
+       */
+      RiskAnalysisJobResponse startRiskAnalysis(Long userId, RiskAnalysisRequest request);
+
+      /**
+       * 비동기 사기 위험도 분석 상태 조회
+       *
+       * @param userId 사용자 ID
+       * @param riskCheckId 위험도 체크 ID
+       * @return 분석 작업 상태 (완료 시 결과 포함)
+       */
+      RiskAnalysisJobResponse getRiskAnalysisStatus(Long userId, Long riskCheckId);
+
       /**
        * 서비스 외 매물 사기 위험도 분석
        *
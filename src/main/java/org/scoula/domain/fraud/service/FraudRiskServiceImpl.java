@@ -3,8 +3,18 @@ package org.scoula.domain.fraud.service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+
 import org.scoula.domain.fraud.dto.ai.FraudRiskCheckDto;
 import org.scoula.domain.fraud.dto.common.BuildingDocumentDto;
 import org.scoula.domain.fraud.dto.common.RegistryDocumentDto;
@@ -12,25 +22,39 @@ import org.scoula.domain.fraud.dto.request.ExternalRiskAnalysisRequest;
 import org.scoula.domain.fraud.dto.request.RiskAnalysisRequest;
 import org.scoula.domain.fraud.dto.response.DocumentAnalysisResponse;
 import org.scoula.domain.fraud.dto.response.LikedHomeResponse;
+import org.scoula.domain.fraud.dto.response.RiskAnalysisJobResponse;
 import org.scoula.domain.fraud.dto.response.RiskAnalysisResponse;
 import org.scoula.domain.fraud.dto.response.RiskCheckDetailResponse;
 import org.scoula.domain.fraud.dto.response.RiskCheckListResponse;
 import org.scoula.domain.fraud.dto.response.RiskCheckSummaryResponse;
+import org.scoula.domain.fraud.enums.AnalysisPath;
 import org.scoula.domain.fraud.enums.AnalysisStatus;
 import org.scoula.domain.fraud.enums.RiskType;
 import org.scoula.domain.fraud.exception.FraudErrorCode;
 import org.scoula.domain.fraud.exception.FraudRiskException;
 import org.scoula.domain.fraud.mapper.FraudRiskMapper;
 import org.scoula.domain.fraud.mapper.HomeLikeMapper;
+import org.scoula.domain.fraud.service.SharedRiskAnalysisCache.SharedRiskAnalysis;
+import org.scoula.domain.fraud.service.SharedRiskAnalysisCache.TodayRiskCheck;
 import org.scoula.domain.fraud.vo.RiskCheckDetailVO;
 import org.scoula.domain.fraud.vo.RiskCheckVO;
 import org.scoula.global.common.dto.PageRequest;
 import org.scoula.global.common.dto.PageResponse;
 import org.scoula.global.file.service.S3ServiceInterface;
+import org.scoula.global.file.util.BufferedMultipartFile;
+import org.scoula.global.redis.service.ListCountCacheService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -44,6 +68,31 @@ public class FraudRiskServiceImpl implements FraudRiskService {
       private final HomeLikeMapper homeLikeMapper;
       private final S3ServiceInterface s3Service;
       private final AiFraudAnalyzerService aiFraudAnalyzerService;
+      private final LocalRiskRuleEngine localRiskRuleEngine;
+      private final SharedRiskAnalysisCache sharedRiskAnalysisCache;
+      private final ListCountCacheService listCountCacheService;
+      private final SimpMessagingTemplate messagingTemplate;
+      private final PlatformTransactionManager transactionManager;
+
+      /** AI 서버 연결 제한 시간 (RestTemplateConfig와 같은 설정) */
+      @Value("${http.client.ai.connect-timeout-ms:5000}")
+      private long aiConnectTimeoutMillis;
+
+      /** AI 서버 읽기 제한 시간 (RestTemplateConfig와 같은 설정) */
+      @Value("${http.client.ai.read-timeout-ms:60000}")
+      private long aiReadTimeoutMillis;
+
+      /** S3 업로드와 OCR 요청을 병렬로 실행하는 공용 스레드 풀 (ExecutorConfig) */
+      @Qualifier("documentPipelineExecutor")
+      private final ExecutorService documentPipelineExecutor;
+
+      /** 비동기 위험도 분석 작업 스레드 풀 (ExecutorConfig) - 대기열이 가득 차면 요청을 실패 처리 */
+      @Qualifier("riskAnalysisExecutor")
+      private final ExecutorService riskAnalysisExecutor;
+
+      /** 대체 응답을 받은 비동기 분석의 재시도 간격 (시도마다 배수로 증가) */
+      @Value("${fraud.risk-analysis.fallback-retry-backoff-ms:2000}")
+      private long fallbackRetryBackoffMillis;
 
       // 허용된 파일 확장자
       private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList("pdf", "PDF");
@@ -55,6 +104,21 @@ public class FraudRiskServiceImpl implements FraudRiskService {
       private static final String BUILDING_FILE_PREFIX = "building";
       private static final String FILE_EXTENSION = ".pdf";
 
+      // 문서 분석 단계별 제한 시간 - OCR은 AI 서버 연결/읽기 제한 시간에 여유를 더함
+      private static final long UPLOAD_TIMEOUT_SECONDS = 30;
+      private static final long OCR_TIMEOUT_MARGIN_SECONDS = 5;
+
+      // 비동기 위험도 분석
+      private static final String RISK_ANALYSIS_TOPIC_PREFIX = "/topic/risk-analysis/";
+
+      /** 비동기 분석이 대체 응답(AI 동시 요청 한도 초과, 서킷 브레이커 OPEN)을 받았을 때 다시 시도할 횟수 */
+      private static final int FALLBACK_RETRY_ATTEMPTS = 3;
+
+      private static final long ANALYSIS_STALE_MINUTES = 10;
+
+      /** risk_check_detail 다중 행 INSERT 한 번에 담을 최대 행 수 (max_allowed_packet 고려) */
+      private static final int DETAIL_INSERT_CHUNK_SIZE = 100;
+
       @Override
       @Transactional
       public DocumentAnalysisResponse analyzeDocuments(
@@ -75,24 +139,71 @@ public class FraudRiskServiceImpl implements FraudRiskService {
           }
 
           LocalDateTime startTime = LocalDateTime.now();
+          BufferedMultipartFile registryBuffer = null;
+          BufferedMultipartFile buildingBuffer = null;
+          List<CompletableFuture<?>> steps = new ArrayList<>();
 
           try {
-              // 3. S3에 파일 업로드
+              // 3. 파일 내용을 한 번만 읽어 S3 업로드와 OCR 요청이 공유 (큰 파일은 임시 파일로 보관)
+              registryBuffer = BufferedMultipartFile.of(registryFile);
+              buildingBuffer = BufferedMultipartFile.of(buildingFile);
+              MultipartFile registrySource = registryBuffer;
+              MultipartFile buildingSource = buildingBuffer;
+
               String registryFileName = buildS3FilePath(userId, homeId, REGISTRY_FILE_PREFIX);
               String buildingFileName = buildS3FilePath(userId, homeId, BUILDING_FILE_PREFIX);
 
-              String registryFileKey = s3Service.uploadFile(registryFile, registryFileName);
-              String buildingFileKey = s3Service.uploadFile(buildingFile, buildingFileName);
+              // 4. S3 업로드 2건과 AI OCR 2건을 동시에 실행
+              CompletableFuture<String> registryUpload = new CompletableFuture<>();
+              CompletableFuture<String> buildingUpload = new CompletableFuture<>();
+              CompletableFuture<RegistryDocumentDto> registryOcr = new CompletableFuture<>();
+              CompletableFuture<BuildingDocumentDto> buildingOcr = new CompletableFuture<>();
+              steps.addAll(List.of(registryUpload, buildingUpload, registryOcr, buildingOcr));
+
+              CompletableFuture<String> registryUrl =
+                      startStep(
+                                      registryUpload,
+                                      () -> s3Service.uploadFile(registrySource, registryFileName),
+                                      UPLOAD_TIMEOUT_SECONDS,
+                                      "등기부등본 업로드")
+                              .thenApply(s3Service::getFileUrl);
+              CompletableFuture<String> buildingUrl =
+                      startStep(
+                                      buildingUpload,
+                                      () -> s3Service.uploadFile(buildingSource, buildingFileName),
+                                      UPLOAD_TIMEOUT_SECONDS,
+                                      "건축물대장 업로드")
+                              .thenApply(s3Service::getFileUrl);
+              CompletableFuture<RegistryDocumentDto> registryResult =
+                      startStep(
+                              registryOcr,
+                              () -> aiFraudAnalyzerService.parseRegistryDocument(registrySource),
+                              ocrTimeoutSeconds(),
+                              "등기부등본 OCR");
+              CompletableFuture<BuildingDocumentDto> buildingResult =
+                      startStep(
+                              buildingOcr,
+                              () -> aiFraudAnalyzerService.parseBuildingDocument(buildingSource),
+                              ocrTimeoutSeconds(),
+                              "건축물대장 OCR");
 
-              // 4. S3 URL 가져오기
-              String registryFileUrl = s3Service.getFileUrl(registryFileKey);
-              String buildingFileUrl = s3Service.getFileUrl(buildingFileKey);
+              try {
+                  awaitAllOrFirstFailure(registryUrl, buildingUrl, registryResult, buildingResult);
+              } catch (CompletionException e) {
+                  // 한 단계라도 실패하면 업로드된(또는 이후 업로드가 끝나는) S3 파일을 정리
+                  deleteUploadedQuietly(registryUpload);
+                  deleteUploadedQuietly(buildingUpload);
+                  throw e.getCause() instanceof FraudRiskException
+                          ? (FraudRiskException) e.getCause()
+                          : new FraudRiskException(
+                                  FraudErrorCode.DOCUMENT_PROCESSING_FAILED,
+                                  "문서 분석 중 오류가 발생했습니다: " + e.getCause().getMessage());
+              }
 
-              // AI OCR 서비스 호출 (실제 파일로)
-              RegistryDocumentDto registryDoc =
-                      aiFraudAnalyzerService.parseRegistryDocument(registryFile);
-              BuildingDocumentDto buildingDoc =
-                      aiFraudAnalyzerService.parseBuildingDocument(buildingFile);
+              String registryFileUrl = registryUrl.join();
+              String buildingFileUrl = buildingUrl.join();
+              RegistryDocumentDto registryDoc = registryResult.join();
+              BuildingDocumentDto buildingDoc = buildingResult.join();
 
               // 5. 응답 생성
               LocalDateTime endTime = LocalDateTime.now();
@@ -120,9 +231,120 @@ public class FraudRiskServiceImpl implements FraudRiskService {
               throw new FraudRiskException(
                       FraudErrorCode.DOCUMENT_PROCESSING_FAILED,
                       "문서 분석 중 오류가 발생했습니다: " + e.getMessage());
+          } finally {
+              // 시간 초과로 버려진 작업까지 모두 끝난 뒤 임시 파일 삭제
+              closeWhenDone(steps, registryBuffer, buildingBuffer);
           }
       }
 
+      /** OCR 단계 제한 시간 - HTTP 요청이 스스로 끝날 수 있는 시간보다 길어야 성공할 요청을 시간 초과로 버리지 않음 */
+      private long ocrTimeoutSeconds() {
+          long requestMillis = aiConnectTimeoutMillis + aiReadTimeoutMillis;
+          return TimeUnit.MILLISECONDS.toSeconds(requestMillis + 999) + OCR_TIMEOUT_MARGIN_SECONDS;
+      }
+
+      /**
+       * 문서 분석 단계를 공용 풀에 제출하고, 실행이 시작된 시점부터 제한 시간을 적용합니다.
+       *
+       * <p>제한 시간은 대기열에서 기다린 시간을 포함하지 않습니다. 시간이 초과되면 작업 스레드를 인터럽트해 버려진 요청이 풀을
+       * 계속 점유하지 않도록 합니다. 풀이 가득 차 제출이 거절되면 AI_SERVICE_UNAVAILABLE로 실패합니다. 원본 future(outcome)에는
+       * 제한 시간과 관계없이 작업 결과가 기록되므로, 시간 초과 후에 끝난 업로드도 정리할 수 있습니다.
+       *
+       * @param outcome 작업 결과를 기록할 원본 future
+       * @param task 실행할 작업
+       * @param timeoutSeconds 실행 시작 후 제한 시간
+       * @param stepName 로그/오류 메시지용 단계 이름
+       * @return 제한 시간이 적용된 결과 future
+       */
+      private <T> CompletableFuture<T> startStep(
+              CompletableFuture<T> outcome,
+              Supplier<T> task,
+              long timeoutSeconds,
+              String stepName) {
+          CompletableFuture<T> timed = outcome.thenApply(Function.identity());
+          AtomicReference<Future<?>> running = new AtomicReference<>();
+          Runnable onTimeout =
+                  () -> {
+                      FraudRiskException timeout =
+                              new FraudRiskException(
+                                      FraudErrorCode.AI_ANALYSIS_TIMEOUT,
+                                      stepName + " 처리 시간이 초과되었습니다.");
+                      if (timed.completeExceptionally(timeout)) {
+                          log.warn("{} 제한 시간({}초) 초과 - 작업 중단", stepName, timeoutSeconds);
+                          Future<?> future = running.get();
+                          if (future != null) {
+                              future.cancel(true);
+                          }
+                      }
+                  };
+          try {
+              running.set(
+                      documentPipelineExecutor.submit(
+                              () -> {
+                                  CompletableFuture.delayedExecutor(
+                                                  timeoutSeconds, TimeUnit.SECONDS)
+                                          .execute(onTimeout);
+                                  try {
+                                      outcome.complete(task.get());
+                                  } catch (Throwable e) {
+                                      outcome.completeExceptionally(e);
+                                  }
+                              }));
+          } catch (RejectedExecutionException e) {
+              log.warn("문서 분석 작업 대기열 초과 - {}", stepName);
+              outcome.completeExceptionally(
+                      new FraudRiskException(
+                              FraudErrorCode.AI_SERVICE_UNAVAILABLE,
+                              "문서 분석 요청이 많습니다. 잠시 후 다시 시도해주세요."));
+          }
+          return timed;
+      }
+
+      /** 모든 단계가 (성공/실패/취소로) 끝나면 버퍼의 임시 파일 삭제 */
+      private void closeWhenDone(
+              List<CompletableFuture<?>> steps, BufferedMultipartFile... buffers) {
+          CompletableFuture.allOf(steps.toArray(new CompletableFuture<?>[0]))
+                  .whenComplete(
+                          (ignored, ex) -> {
+                              for (BufferedMultipartFile buffer : buffers) {
+                                  if (buffer != null) {
+                                      buffer.close();
+                                  }
+                              }
+                          });
+      }
+
+      /** 모든 단계가 끝나거나 한 단계라도 실패할 때까지 대기 (실패 시 CompletionException) */
+      private void awaitAllOrFirstFailure(CompletableFuture<?>... steps) {
+          CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+          for (CompletableFuture<?> step : steps) {
+              step.whenComplete(
+                      (result, ex) -> {
+                          if (ex != null) {
+                              firstFailure.completeExceptionally(
+                                      ex instanceof CompletionException ? ex.getCause() : ex);
+                          }
+                      });
+          }
+          CompletableFuture.anyOf(CompletableFuture.allOf(steps), firstFailure).join();
+      }
+
+      /** 업로드가 성공했거나 이후 성공하면 해당 S3 파일 삭제 */
+      private void deleteUploadedQuietly(CompletableFuture<String> upload) {
+          upload.whenComplete(
+                  (fileKey, ex) -> {
+                      if (fileKey == null) {
+                          return;
+                      }
+                      try {
+                          s3Service.deleteFile(fileKey);
+                          log.debug("분석 실패로 업로드 파일 삭제 - fileKey: {}", fileKey);
+                      } catch (Exception e) {
+                          log.error("분석 실패 후 업로드 파일 삭제 실패 - fileKey: {}", fileKey, e);
+                      }
+                  });
+      }
+
       @Override
       @Transactional
       public RiskAnalysisResponse analyzeRisk(Long userId, RiskAnalysisRequest request) {
@@ -148,39 +370,39 @@ public class FraudRiskServiceImpl implements FraudRiskService {
 
               fraudRiskMapper.insertRiskCheck(riskCheck);
 
-              // 2. AI 분석 서비스 호출
-              FraudRiskCheckDto.Response aiResponse = null;
-              RiskType riskType = RiskType.WARN; // 기본값을 WARN으로 설정
-
+              // 2. 같은 날 같은 문서/거래 조건으로 분석된 공유 결과가 없으면 사전 점검 후 AI 분석
+              String analysisKey = sharedAnalysisKey(request);
+              ScreenedAnalysis analysis;
               try {
-                  // AI 서버에 분석 요청
-                  aiResponse = aiFraudAnalyzerService.analyzeFraudRisk(userId, request);
-                  riskType = aiFraudAnalyzerService.determineRiskType(aiResponse);
-
-                  log.debug(
-                          "AI 분석 결과 - riskType: {}, riskScore: {}",
-                          riskType,
-                          aiResponse != null ? aiResponse.getRiskScore() : null);
+                  analysis = analyzeWithSharedResult(userId, request, analysisKey);
               } catch (Exception e) {
                   log.error("AI 분석 실패", e);
                   throw new FraudRiskException(
                           FraudErrorCode.AI_SERVICE_UNAVAILABLE,
                           "AI 분석 중 오류가 발생했습니다: " + e.getMessage());
               }
+              RiskType riskType = analysis.getRiskType();
 
-              // 3. risk_check 업데이트
+              // 3. risk_check 업데이트 (판정 경로, 공유 분석 참조 포함)
               riskCheck.setRiskType(riskType);
+              riskCheck.setAnalysisPath(analysis.getPath());
+              riskCheck.setSourceRiskckId(analysis.getSourceRiskCheckId());
               fraudRiskMapper.updateRiskCheck(riskCheck);
 
-              // 4. 기존 상세 분석 결과 삭제 (중복 방지)
-              fraudRiskMapper.deleteRiskCheckDetail(riskCheck.getRiskckId());
-
-              // 5. AI 분석 결과를 risk_check_detail에 저장
-              saveAnalysisResultsToDb(aiResponse, riskCheck.getRiskckId());
-
-              // 6. 저장된 상세 분석 결과 조회 및 그룹화
-              List<RiskCheckDetailResponse.DetailGroup> detailGroups =
-                      getDetailGroupsFromDb(riskCheck.getRiskckId());
+              // 4-5. 기존 상세 분석 결과를 분석 결과로 교체 (삭제 1회 + 다중 행 INSERT)
+              List<RiskCheckDetailVO> details =
+                      saveAnalysisDetails(analysis, riskCheck.getRiskckId());
+
+              // 6. 상세 분석 결과 그룹화 및 커밋 후 공유
+              List<RiskCheckDetailResponse.DetailGroup> detailGroups = toDetailGroups(details);
+              shareAfterCommit(
+                      userId,
+                      request.getHomeId(),
+                      riskCheck.getRiskckId(),
+                      analysisKey,
+                      analysis,
+                      details);
+              listCountCacheService.evict(ListCountCacheService.Scope.RISK_CHECKS, userId);
 
               // 7. 응답 반환
               return RiskAnalysisResponse.builder()
@@ -201,6 +423,455 @@ public class FraudRiskServiceImpl implements FraudRiskService {
           }
       }
 
+      @Override
+      @Transactional
+      public RiskAnalysisJobResponse startRiskAnalysis(Long userId, RiskAnalysisRequest request) {
+          if (request.getHomeId() == null || request.getHomeId() <= 0) {
+              throw new FraudRiskException(FraudErrorCode.FRAUD_CHECK_NOT_FOUND, "유효한 매물 ID가 필요합니다.");
+          }
+
+          // 위험도 타입은 분석 완료 시 결정 - 그 전까지 목록/요약 조회에서 제외됨
+          RiskCheckVO riskCheck =
+                  RiskCheckVO.builder()
+                          .userId(userId)
+                          .homeId(request.getHomeId())
+                          .analysisStatus(AnalysisStatus.IN_PROGRESS)
+                          .analysisProgress(0)
+                          .registryFileUrl(request.getRegistryFileUrl())
+                          .buildingFileUrl(request.getBuildingFileUrl())
+                          .registryFileDate(LocalDateTime.now())
+                          .buildingFileDate(LocalDateTime.now())
+                          .build();
+          fraudRiskMapper.insertRiskCheck(riskCheck);
+
+          Long riskCheckId = riskCheck.getRiskckId();
+          log.info("비동기 위험도 분석 접수 - riskCheckId: {}, homeId: {}", riskCheckId, request.getHomeId());
+
+          // 커밋 후에 시작해야 작업 스레드에서 risk_check 행을 볼 수 있음
+          runAfterCommit(() -> submitRiskAnalysis(userId, riskCheckId, request));
+
+          return RiskAnalysisJobResponse.builder()
+                  .riskCheckId(riskCheckId)
+                  .status(AnalysisStatus.IN_PROGRESS)
+                  .progress(0)
+                  .message("분석 요청이 접수되었습니다.")
+                  .build();
+      }
+
+      @Override
+      public RiskAnalysisJobResponse getRiskAnalysisStatus(Long userId, Long riskCheckId) {
+          if (!fraudRiskMapper.isOwnerOfRiskCheck(riskCheckId, userId)) {
+              throw new FraudRiskException(FraudErrorCode.FRAUD_CHECK_ACCESS_DENIED);
+          }
+
+          RiskCheckVO riskCheck = fraudRiskMapper.selectRiskCheckById(riskCheckId);
+          if (riskCheck == null) {
+              throw new FraudRiskException(FraudErrorCode.FRAUD_CHECK_NOT_FOUND);
+          }
+
+          AnalysisStatus status =
+                  riskCheck.getAnalysisStatus() != null
+                          ? riskCheck.getAnalysisStatus()
+                          : AnalysisStatus.SUCCESS;
+          RiskAnalysisJobResponse.RiskAnalysisJobResponseBuilder response =
+                  RiskAnalysisJobResponse.builder().riskCheckId(riskCheckId).status(status);
+
+          switch (status) {
+              case SUCCESS:
+                  return response.progress(100)
+                          .result(
+                                  RiskAnalysisResponse.builder()
+                                          .riskCheckId(riskCheckId)
+                                          .riskType(riskCheck.getRiskType())
+                                          .analyzedAt(riskCheck.getCheckedAt())
+                                          .detailGroups(getDetailGroupsFromDb(riskCheckId))
+                                          .build())
+                          .build();
+              case IN_PROGRESS:
+                  if (isStale(riskCheck)) {
+                      // 분석 도중 서버가 재시작되어 끝나지 못한 작업
+                      return response.status(AnalysisStatus.FAILED)
+                              .message("분석이 제한 시간 안에 완료되지 않았습니다. 다시 분석해 주세요.")
+                              .build();
+                  }
+                  return response.progress(
+                                  riskCheck.getAnalysisProgress() != null
+                                          ? riskCheck.getAnalysisProgress()
+                                          : 0)
+                          .message(AnalysisStatus.IN_PROGRESS.getDescription())
+                          .build();
+              default:
+                  return response.message(status.getDescription()).build();
+          }
+      }
+
+      private boolean isStale(RiskCheckVO riskCheck) {
+          return riskCheck.getCheckedAt() != null
+                  && riskCheck
+                          .getCheckedAt()
+                          .isBefore(LocalDateTime.now().minusMinutes(ANALYSIS_STALE_MINUTES));
+      }
+
+      /**
+       * 문서 데이터 사전 점검으로 판정이 명확하면 AI 서버를 호출하지 않고 바로 판정하고, 그 외에는 AI 분석 결과를 사용합니다.
+       *
+       * @return 판정 결과와 판정 경로
+       */
+      private ScreenedAnalysis analyzeWithPreScreen(Long userId, RiskAnalysisRequest request) {
+          LocalRiskRuleEngine.Result screen =
+                  localRiskRuleEngine.screen(
+                          request.getRegistryDocument(),
+                          request.getBuildingDocument(),
+                          request.getPropertyPrice(),
+                          request.getMarketPrice(),
+                          request.getRegisteredUserName());
+
+          if (screen.isDecided()) {
+              log.info(
+                      "사전 점검 판정 - homeId: {}, riskType: {}, path: {}, findings: {}",
+                      request.getHomeId(),
+                      screen.getRiskType(),
+                      AnalysisPath.LOCAL_RULE,
+                      screen.getFindings().size());
+              return new ScreenedAnalysis(
+                      screen.toResponse(), screen.getRiskType(), AnalysisPath.LOCAL_RULE, null);
+          }
+
+          FraudRiskCheckDto.Response aiResponse =
+                  aiFraudAnalyzerService.analyzeFraudRisk(userId, request);
+          RiskType riskType = aiFraudAnalyzerService.determineRiskType(aiResponse);
+          AnalysisPath path = aiAnalysisPath(aiResponse);
+          log.info(
+                  "AI 분석 판정 - homeId: {}, riskType: {}, path: {}, riskScore: {}",
+                  request.getHomeId(),
+                  riskType,
+                  path,
+                  aiResponse != null ? aiResponse.getRiskScore() : null);
+          return new ScreenedAnalysis(aiResponse, riskType, path, null);
+      }
+
+      /**
+       * 같은 날 같은 문서/거래 조건으로 분석된 공유 결과가 있으면 재사용하고, 없으면 사전 점검 후 AI 분석합니다.
+       *
+       * @param analysisKey 공유 캐시 키 (문서가 없으면 null)
+       * @return 판정 결과와 판정 경로
+       */
+      private ScreenedAnalysis analyzeWithSharedResult(
+              Long userId, RiskAnalysisRequest request, String analysisKey) {
+          SharedRiskAnalysis shared = sharedRiskAnalysisCache.get(analysisKey);
+          if (shared == null || shared.getRiskType() == null) {
+              return analyzeWithPreScreen(userId, request);
+          }
+          log.info(
+                  "공유 분석 결과 재사용 - homeId: {}, riskType: {}, sourceRiskCheckId: {}",
+                  request.getHomeId(),
+                  shared.getRiskType(),
+                  shared.getSourceRiskCheckId());
+          return new ScreenedAnalysis(null, shared.getRiskType(), shared.getAnalysisPath(), shared);
+      }
+
+      /** 판정에 영향을 주는 문서와 거래 조건으로 공유 캐시 키 생성 */
+      private String sharedAnalysisKey(RiskAnalysisRequest request) {
+          return sharedRiskAnalysisCache.keyOf(
+                  request.getHomeId(),
+                  request.getRegistryDocument(),
+                  request.getBuildingDocument(),
+                  SharedRiskAnalysisCache.terms(
+                          "address",
+                          request.getAddress(),
+                          "propertyPrice",
+                          request.getPropertyPrice(),
+                          "marketPrice",
+                          request.getMarketPrice(),
+                          "leaseType",
+                          request.getLeaseType(),
+                          "monthlyRent",
+                          request.getMonthlyRent(),
+                          "residenceType",
+                          request.getResidenceType(),
+                          "registeredUserName",
+                          request.getRegisteredUserName()));
+      }
+
+      private String sharedAnalysisKey(ExternalRiskAnalysisRequest request) {
+          return sharedRiskAnalysisCache.keyOf(
+                  null,
+                  request.getRegistryDocument(),
+                  request.getBuildingDocument(),
+                  SharedRiskAnalysisCache.terms(
+                          "address",
+                          request.getAddress(),
+                          "propertyPrice",
+                          request.getPropertyPrice(),
+                          "marketPrice",
+                          request.getMarketPrice(),
+                          "leaseType",
+                          request.getLeaseType(),
+                          "monthlyRent",
+                          request.getMonthlyRent(),
+                          "residenceType",
+                          request.getResidenceType(),
+                          "registeredUserName",
+                          request.getRegisteredUserName()));
+      }
+
+      /**
+       * 판정 결과의 상세 항목을 저장합니다. 공유 결과는 AI 호출 없이 항목만 복사하고, 직접 분석한 결과는 변환해 저장합니다.
+       *
+       * @return 저장된 상세 항목
+       */
+      private List<RiskCheckDetailVO> saveAnalysisDetails(
+              ScreenedAnalysis analysis, Long riskCheckId) {
+          if (analysis.getShared() == null) {
+              replaceRiskCheckDetails(analysis.getResponse(), riskCheckId);
+              return fraudRiskMapper.selectRiskCheckDetailByRiskCheckId(riskCheckId);
+          }
+
+          List<RiskCheckDetailVO> details = new ArrayList<>();
+          if (analysis.getShared().getDetails() != null) {
+              for (RiskCheckDetailVO detail : analysis.getShared().getDetails()) {
+                  details.add(
+                          toRiskCheckDetail(
+                                  riskCheckId,
+                                  detail.getTitle1(),
+                                  detail.getTitle2(),
+                                  detail.getContent()));
+              }
+          }
+          fraudRiskMapper.deleteRiskCheckDetail(riskCheckId);
+          insertRiskCheckDetails(details);
+          return details;
+      }
+
+      /** 커밋 후 직접 분석한 결과를 공유하고 사용자의 오늘 분석으로 연결 */
+      private void shareAfterCommit(
+              Long userId,
+              Long homeId,
+              Long riskCheckId,
+              String analysisKey,
+              ScreenedAnalysis analysis,
+              List<RiskCheckDetailVO> details) {
+          if (analysisKey == null) {
+              return;
+          }
+          if (analysis.getShared() == null && !isShareable(analysis.getPath())) {
+              log.info(
+                      "공유하지 않는 분석 결과 - riskCheckId: {}, path: {}",
+                      riskCheckId,
+                      analysis.getPath());
+              return;
+          }
+          SharedRiskAnalysis shared =
+                  analysis.getShared() != null
+                          ? null
+                          : toSharedAnalysis(
+                                  riskCheckId, analysis.getRiskType(), analysis.getPath(), details);
+          runAfterCommit(
+                  () -> {
+                      if (shared != null) {
+                          sharedRiskAnalysisCache.put(analysisKey, shared);
+                      }
+                      sharedRiskAnalysisCache.markToday(userId, homeId, riskCheckId, analysisKey);
+                  });
+      }
+
+      /** AI 서버 장애로 받은 대체 응답은 AI 분석과 구분해 AI_FALLBACK 경로로 기록 */
+      private static AnalysisPath aiAnalysisPath(FraudRiskCheckDto.Response aiResponse) {
+          return AiFraudAnalyzerService.isFallback(aiResponse)
+                  ? AnalysisPath.AI_FALLBACK
+                  : AnalysisPath.AI;
+      }
+
+      /**
+       * 다른 사용자와 공유해도 되는 판정인지 확인합니다. 사전 점검 판정과 AI 서버가 실제로 분석한 결과만 공유하고, 대체
+       * 응답(AI_FALLBACK)은 공유하지 않습니다.
+       */
+      private static boolean isShareable(AnalysisPath path) {
+          return path == AnalysisPath.LOCAL_RULE || path == AnalysisPath.AI;
+      }
+
+      /** 공유 캐시에 저장할 분석 결과 (상세 항목은 riskckId 없이 복사) */
+      private SharedRiskAnalysis toSharedAnalysis(
+              Long riskCheckId,
+              RiskType riskType,
+              AnalysisPath path,
+              List<RiskCheckDetailVO> details) {
+          List<RiskCheckDetailVO> sharedDetails = new ArrayList<>();
+          if (details != null) {
+              for (RiskCheckDetailVO detail : details) {
+                  sharedDetails.add(
+                          toRiskCheckDetail(
+                                  null,
+                                  detail.getTitle1(),
+                                  detail.getTitle2(),
+                                  detail.getContent()));
+              }
+          }
+          return SharedRiskAnalysis.builder()
+                  .sourceRiskCheckId(riskCheckId)
+                  .riskType(riskType)
+                  .analysisPath(path)
+                  .analyzedAt(LocalDateTime.now())
+                  .details(sharedDetails)
+                  .build();
+      }
+
+      private void runAfterCommit(Runnable task) {
+          if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+              task.run();
+              return;
+          }
+          TransactionSynchronizationManager.registerSynchronization(
+                  new TransactionSynchronization() {
+                      @Override
+                      public void afterCommit() {
+                          task.run();
+                      }
+                  });
+      }
+
+      private void submitRiskAnalysis(Long userId, Long riskCheckId, RiskAnalysisRequest request) {
+          try {
+              riskAnalysisExecutor.execute(() -> runRiskAnalysis(userId, riskCheckId, request));
+          } catch (RejectedExecutionException e) {
+              log.warn("위험도 분석 대기열 초과 - riskCheckId: {}", riskCheckId);
+              failRiskAnalysis(riskCheckId, "분석 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+          }
+      }
+
+      /** 작업 스레드에서 AI 분석 후 결과를 저장하고 진행 상황을 전송 */
+      private void runRiskAnalysis(Long userId, Long riskCheckId, RiskAnalysisRequest request) {
+          publishProgress(riskCheckId, 10, "AI 사기 위험도 분석 중");
+
+          String analysisKey = sharedAnalysisKey(request);
+          ScreenedAnalysis analysis;
+          try {
+              analysis = analyzeInBackground(userId, riskCheckId, request, analysisKey);
+          } catch (Exception e) {
+              log.error("비동기 AI 분석 실패 - riskCheckId: {}", riskCheckId, e);
+              failRiskAnalysis(riskCheckId, "AI 분석 중 오류가 발생했습니다: " + e.getMessage());
+              return;
+          }
+
+          RiskType riskType = analysis.getRiskType();
+
+          publishProgress(riskCheckId, 70, "분석 결과 저장 중");
+          try {
+              RiskAnalysisResponse result =
+                      new TransactionTemplate(transactionManager)
+                              .execute(
+                                      status -> {
+                                          fraudRiskMapper.updateRiskCheckAnalysis(
+                                                  riskCheckId,
+                                                  riskType,
+                                                  AnalysisStatus.SUCCESS,
+                                                  analysis.getPath(),
+                                                  analysis.getSourceRiskCheckId());
+                                          List<RiskCheckDetailVO> details =
+                                                  saveAnalysisDetails(analysis, riskCheckId);
+                                          shareAfterCommit(
+                                                  userId,
+                                                  request.getHomeId(),
+                                                  riskCheckId,
+                                                  analysisKey,
+                                                  analysis,
+                                                  details);
+                                          listCountCacheService.evict(
+                                                  ListCountCacheService.Scope.RISK_CHECKS,
+                                                  userId);
+                                          return RiskAnalysisResponse.builder()
+                                                  .riskCheckId(riskCheckId)
+                                                  .riskType(riskType)
+                                                  .analyzedAt(LocalDateTime.now())
+                                                  .detailGroups(toDetailGroups(details))
+                                                  .build();
+                                      });
+
+              publish(
+                      RiskAnalysisJobResponse.builder()
+                              .riskCheckId(riskCheckId)
+                              .status(AnalysisStatus.SUCCESS)
+                              .progress(100)
+                              .message(AnalysisStatus.SUCCESS.getDescription())
+                              .result(result)
+                              .build());
+              log.info("비동기 위험도 분석 완료 - riskCheckId: {}, riskType: {}", riskCheckId, riskType);
+          } catch (Exception e) {
+              log.error("비동기 위험도 분석 결과 저장 실패 - riskCheckId: {}", riskCheckId, e);
+              failRiskAnalysis(riskCheckId, "분석 결과 저장 중 오류가 발생했습니다.");
+          }
+      }
+
+      /**
+       * 비동기 분석은 응답을 기다리는 사용자가 없으므로, AI 서버 보호 계층이 호출을 거절해 대체 응답을 받으면 바로 WARN으로 저장하지 않고 간격을
+       * 늘려 가며 다시 시도합니다. 재시도 후에도 대체 응답이면 그대로 저장합니다.
+       */
+      private ScreenedAnalysis analyzeInBackground(
+              Long userId, Long riskCheckId, RiskAnalysisRequest request, String analysisKey) {
+          ScreenedAnalysis analysis = analyzeWithSharedResult(userId, request, analysisKey);
+          int attempt = 0;
+          while (analysis.getPath() == AnalysisPath.AI_FALLBACK
+                  && attempt < FALLBACK_RETRY_ATTEMPTS) {
+              attempt++;
+              log.info("AI 대체 응답 - 재시도 대기: riskCheckId={}, attempt={}", riskCheckId, attempt);
+              try {
+                  Thread.sleep(fallbackRetryBackoffMillis * attempt);
+              } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                  break;
+              }
+              analysis = analyzeWithSharedResult(userId, request, analysisKey);
+          }
+          return analysis;
+      }
+
+      private void failRiskAnalysis(Long riskCheckId, String message) {
+          try {
+              fraudRiskMapper.updateRiskCheckAnalysis(
+                      riskCheckId, null, AnalysisStatus.FAILED, null, null);
+          } catch (Exception e) {
+              log.error("위험도 분석 실패 상태 저장 실패 - riskCheckId: {}", riskCheckId, e);
+          }
+          publish(
+                  RiskAnalysisJobResponse.builder()
+                          .riskCheckId(riskCheckId)
+                          .status(AnalysisStatus.FAILED)
+                          .message(message)
+                          .build());
+      }
+
+      /** 진행률을 risk_check에 저장해 (다른 서버의) 상태 조회 API에서도 보이도록 하고 WebSocket으로 전송 */
+      private void publishProgress(Long riskCheckId, int progress, String message) {
+          try {
+              fraudRiskMapper.updateRiskCheckProgress(riskCheckId, progress);
+          } catch (Exception e) {
+              log.warn(
+                      "위험도 분석 진행률 저장 실패 - riskCheckId: {}, error: {}",
+                      riskCheckId,
+                      e.getMessage());
+          }
+          publish(
+                  RiskAnalysisJobResponse.builder()
+                          .riskCheckId(riskCheckId)
+                          .status(AnalysisStatus.IN_PROGRESS)
+                          .progress(progress)
+                          .message(message)
+                          .build());
+      }
+
+      private void publish(RiskAnalysisJobResponse job) {
+          try {
+              messagingTemplate.convertAndSend(
+                      RISK_ANALYSIS_TOPIC_PREFIX + job.getRiskCheckId(), job);
+          } catch (Exception e) {
+              // 전송 실패해도 상태 조회 API로 확인 가능
+              log.warn(
+                      "위험도 분석 진행 알림 전송 실패 - riskCheckId: {}, error: {}",
+                      job.getRiskCheckId(),
+                      e.getMessage());
+          }
+      }
+
       @Override
       public PageResponse<RiskCheckListResponse> getRiskCheckList(
               Long userId, PageRequest pageRequest) {
@@ -212,7 +883,12 @@ public class FraudRiskServiceImpl implements FraudRiskService {
 
           List<RiskCheckListResponse> list =
                   fraudRiskMapper.selectRiskChecksByUserId(userId, pageRequest);
-          long totalElements = fraudRiskMapper.countRiskChecksByUserId(userId);
+          long totalElements =
+                  listCountCacheService.count(
+                          ListCountCacheService.Scope.RISK_CHECKS,
+                          userId,
+                          pageRequest.isApproximateCount(),
+                          () -> fraudRiskMapper.countRiskChecksByUserId(userId));
 
           return PageResponse.of(list, pageRequest, totalElements);
       }
@@ -271,10 +947,13 @@ public class FraudRiskServiceImpl implements FraudRiskService {
               throw new FraudRiskException(
                       FraudErrorCode.FRAUD_ANALYSIS_FAILED, "위험도 체크 결과 삭제에 실패했습니다.");
           }
+          listCountCacheService.evict(ListCountCacheService.Scope.RISK_CHECKS, userId);
 
           // S3 파일 삭제 (실패해도 에러는 발생시키지 않음)
           if (riskCheck != null) {
               deleteS3Files(riskCheck.getRegistryFileUrl(), riskCheck.getBuildingFileUrl());
+              runAfterCommit(
+                      () -> sharedRiskAnalysisCache.evictToday(userId, riskCheck.getHomeId()));
           }
       }
 
@@ -328,7 +1007,12 @@ public class FraudRiskServiceImpl implements FraudRiskService {
 
           List<LikedHomeResponse> list =
                   homeLikeMapper.selectChattingHomesByUserId(userId, pageRequest);
-          long totalElements = homeLikeMapper.countChattingHomesByUserId(userId);
+          long totalElements =
+                  listCountCacheService.count(
+                          ListCountCacheService.Scope.CHATTING_HOMES,
+                          userId,
+                          pageRequest.isApproximateCount(),
+                          () -> homeLikeMapper.countChattingHomesByUserId(userId));
 
           return PageResponse.of(list, pageRequest, totalElements);
       }
@@ -340,14 +1024,46 @@ public class FraudRiskServiceImpl implements FraudRiskService {
           log.info("서비스 외 매물 위험도 분석 시작 - userId: {}", userId);
 
           try {
+              // 같은 날 같은 문서/거래 조건으로 분석된 공유 결과가 있으면 재사용
+              String analysisKey = sharedAnalysisKey(request);
+              SharedRiskAnalysis shared = sharedRiskAnalysisCache.get(analysisKey);
+              if (shared != null && shared.getRiskType() != null) {
+                  log.info("서비스 외 매물 공유 분석 결과 재사용 - riskType: {}", shared.getRiskType());
+                  return RiskAnalysisResponse.builder()
+                          .riskCheckId(null)
+                          .riskType(shared.getRiskType())
+                          .analyzedAt(LocalDateTime.now())
+                          .detailGroups(toDetailGroups(shared.getDetails()))
+                          .build();
+              }
+
               // AI 분석 서비스 호출
               FraudRiskCheckDto.Response aiResponse = null;
               RiskType riskType = RiskType.WARN; // 기본값을 WARN으로 설정
+              AnalysisPath analysisPath = AnalysisPath.AI;
 
               try {
-                  // AI 서버에 분석 요청 (ExternalRiskAnalysisRequest 직접 전달)
-                  aiResponse = aiFraudAnalyzerService.analyzeFraudRisk(userId, request);
-                  riskType = aiFraudAnalyzerService.determineRiskType(aiResponse);
+                  LocalRiskRuleEngine.Result screen =
+                          localRiskRuleEngine.screen(
+                                  request.getRegistryDocument(),
+                                  request.getBuildingDocument(),
+                                  request.getPropertyPrice(),
+                                  request.getMarketPrice(),
+                                  request.getRegisteredUserName());
+                  if (screen.isDecided()) {
+                      log.info(
+                              "서비스 외 매물 사전 점검 판정 - riskType: {}, path: {}",
+                              screen.getRiskType(),
+                              AnalysisPath.LOCAL_RULE);
+                      aiResponse = screen.toResponse();
+                      riskType = screen.getRiskType();
+                      analysisPath = AnalysisPath.LOCAL_RULE;
+                  } else {
+                      // AI 서버에 분석 요청 (ExternalRiskAnalysisRequest 직접 전달)
+                      aiResponse = aiFraudAnalyzerService.analyzeFraudRisk(userId, request);
+                      riskType = aiFraudAnalyzerService.determineRiskType(aiResponse);
+                      analysisPath = aiAnalysisPath(aiResponse);
+                  }
 
                   log.debug(
                           "AI 분석 결과 - riskType: {}, riskScore: {}",
@@ -365,6 +1081,15 @@ public class FraudRiskServiceImpl implements FraudRiskService {
                       convertToDetailGroups(
                               aiResponse != null ? aiResponse.getAnalysisResults() : null,
                               aiResponse != null ? aiResponse.getRecommendations() : null);
+              if (isShareable(analysisPath)) {
+                  sharedRiskAnalysisCache.put(
+                          analysisKey,
+                          toSharedAnalysis(
+                                  null,
+                                  riskType,
+                                  analysisPath,
+                                  collectRiskCheckDetails(aiResponse, null)));
+              }
 
               // 응답 반환 (riskCheckId는 null)
               return RiskAnalysisResponse.builder()
@@ -566,29 +1291,52 @@ public class FraudRiskServiceImpl implements FraudRiskService {
       }
 
       /**
-       * AI 분석 결과를 DB에 저장
+       * 기존 상세 분석 결과를 삭제하고 AI 분석 결과로 교체
+       *
+       * <p>항목마다 INSERT하지 않고 모든 행을 모은 뒤 다중 행 INSERT로 저장하므로, 분석 한 번의 DB 왕복은 (1 + 항목 수)회에서 (1 +
+       * 청크 수)회로 줄어듭니다.
        *
        * @param aiResponse AI 응답
        * @param riskCheckId risk_check ID
        */
-      private void saveAnalysisResultsToDb(FraudRiskCheckDto.Response aiResponse, Long riskCheckId) {
-          if (aiResponse == null || riskCheckId == null) {
-              return;
+      private void replaceRiskCheckDetails(
+              FraudRiskCheckDto.Response aiResponse, Long riskCheckId) {
+          fraudRiskMapper.deleteRiskCheckDetail(riskCheckId);
+          insertRiskCheckDetails(collectRiskCheckDetails(aiResponse, riskCheckId));
+      }
+
+      /**
+       * AI 분석 결과를 risk_check_detail 행으로 변환
+       *
+       * @param aiResponse AI 응답
+       * @param riskCheckId risk_check ID (공유 캐시용이면 null)
+       * @return 저장할 상세 정보 (분석 결과 순서, 추천사항은 마지막)
+       */
+      private List<RiskCheckDetailVO> collectRiskCheckDetails(
+              FraudRiskCheckDto.Response aiResponse, Long riskCheckId) {
+          List<RiskCheckDetailVO> details = new ArrayList<>();
+          if (aiResponse == null) {
+              return details;
           }
 
-          // 분석 결과 저장
+          // 분석 결과
           if (aiResponse.getAnalysisResults() != null) {
-              saveAnalysisResults(aiResponse.getAnalysisResults(), riskCheckId);
+              collectAnalysisResults(aiResponse.getAnalysisResults(), riskCheckId, details);
           }
 
-          // 추천사항 저장
+          // 추천사항
           if (aiResponse.getRecommendations() != null && !aiResponse.getRecommendations().isEmpty()) {
-              saveRecommendations(aiResponse.getRecommendations(), riskCheckId);
+              String content = String.join("\n", aiResponse.getRecommendations());
+              details.add(toRiskCheckDetail(riskCheckId, "추천사항", "AI 분석 기반 추천", content));
           }
+          return details;
       }
 
-      /** 분석 결과를 DB에 저장 */
-      private void saveAnalysisResults(Map<String, Object> analysisResults, Long riskCheckId) {
+      /** 분석 결과 그룹을 상세 정보로 변환 */
+      private void collectAnalysisResults(
+              Map<String, Object> analysisResults,
+              Long riskCheckId,
+              List<RiskCheckDetailVO> details) {
           for (Map.Entry<String, Object> groupEntry : analysisResults.entrySet()) {
               String title1 = groupEntry.getKey();
               Object groupValue = groupEntry.getValue();
@@ -596,13 +1344,17 @@ public class FraudRiskServiceImpl implements FraudRiskService {
               if (groupValue instanceof Map) {
                   @SuppressWarnings("unchecked")
                   Map<String, Object> groupItems = (Map<String, Object>) groupValue;
-                  saveGroupItems(title1, groupItems, riskCheckId);
+                  collectGroupItems(title1, groupItems, riskCheckId, details);
               }
           }
       }
 
-      /** 그룹 항목들을 DB에 저장 */
-      private void saveGroupItems(String title1, Map<String, Object> groupItems, Long riskCheckId) {
+      /** 그룹 항목들을 상세 정보로 변환 */
+      private void collectGroupItems(
+              String title1,
+              Map<String, Object> groupItems,
+              Long riskCheckId,
+              List<RiskCheckDetailVO> details) {
           for (Map.Entry<String, Object> itemEntry : groupItems.entrySet()) {
               Object itemValue = itemEntry.getValue();
 
@@ -613,36 +1365,51 @@ public class FraudRiskServiceImpl implements FraudRiskService {
                   String title2 = itemDetails.getOrDefault("title", "").toString();
                   String content = itemDetails.getOrDefault("content", "").toString();
 
-                  saveRiskCheckDetail(riskCheckId, title1, title2, content);
+                  details.add(toRiskCheckDetail(riskCheckId, title1, title2, content));
               }
           }
       }
 
-      /** 추천사항을 DB에 저장 */
-      private void saveRecommendations(List<String> recommendations, Long riskCheckId) {
-          String content = String.join("\n", recommendations);
-          saveRiskCheckDetail(riskCheckId, "추천사항", "AI 분석 기반 추천", content);
+      private RiskCheckDetailVO toRiskCheckDetail(
+              Long riskCheckId, String title1, String title2, String content) {
+          return RiskCheckDetailVO.builder()
+                  .riskckId(riskCheckId)
+                  .title1(title1)
+                  .title2(title2)
+                  .content(content)
+                  .build();
       }
 
-      /** 위험도 체크 상세 정보를 DB에 저장 */
-      private void saveRiskCheckDetail(
-              Long riskCheckId, String title1, String title2, String content) {
-          RiskCheckDetailVO detail =
-                  RiskCheckDetailVO.builder()
-                          .riskckId(riskCheckId)
-                          .title1(title1)
-                          .title2(title2)
-                          .content(content)
-                          .build();
+      /**
+       * 상세 정보를 청크 단위 다중 행 INSERT로 저장합니다. 청크 INSERT가 실패하면 그 청크만 한 건씩 다시 저장해, 저장할 수 없는 항목만
+       * 건너뜁니다.
+       */
+      private void insertRiskCheckDetails(List<RiskCheckDetailVO> details) {
+          for (int from = 0; from < details.size(); from += DETAIL_INSERT_CHUNK_SIZE) {
+              List<RiskCheckDetailVO> chunk =
+                      details.subList(
+                              from, Math.min(from + DETAIL_INSERT_CHUNK_SIZE, details.size()));
+              try {
+                  fraudRiskMapper.insertRiskCheckDetails(chunk);
+                  log.debug("상세 분석 결과 저장 성공 - {}건", chunk.size());
+              } catch (Exception e) {
+                  log.warn(
+                          "상세 분석 결과 일괄 저장 실패 - {}건 개별 저장으로 재시도, error: {}",
+                          chunk.size(),
+                          e.getMessage());
+                  chunk.forEach(this::insertRiskCheckDetail);
+              }
+          }
+      }
 
+      private void insertRiskCheckDetail(RiskCheckDetailVO detail) {
           try {
               fraudRiskMapper.insertRiskCheckDetail(detail);
-              log.debug("상세 분석 결과 저장 성공 - title1: {}, title2: {}", title1, title2);
           } catch (Exception e) {
               log.warn(
                       "상세 분석 결과 저장 실패 - title1: {}, title2: {}, error: {}",
-                      title1,
-                      title2,
+                      detail.getTitle1(),
+                      detail.getTitle2(),
                       e.getMessage());
           }
       }
@@ -654,9 +1421,12 @@ public class FraudRiskServiceImpl implements FraudRiskService {
        * @return DetailGroup 리스트
        */
       private List<RiskCheckDetailResponse.DetailGroup> getDetailGroupsFromDb(Long riskCheckId) {
-          List<RiskCheckDetailVO> details =
-                  fraudRiskMapper.selectRiskCheckDetailByRiskCheckId(riskCheckId);
+          return toDetailGroups(fraudRiskMapper.selectRiskCheckDetailByRiskCheckId(riskCheckId));
+      }
 
+      /** 상세 정보를 title1별로 묶어 DetailGroup으로 변환 */
+      private List<RiskCheckDetailResponse.DetailGroup> toDetailGroups(
+              List<RiskCheckDetailVO> details) {
           if (details == null || details.isEmpty()) {
               return new ArrayList<>();
           }
@@ -695,6 +1465,18 @@ public class FraudRiskServiceImpl implements FraudRiskService {
       public RiskCheckSummaryResponse getTodayRiskCheckSummary(Long userId, Long homeId) {
           log.info("오늘 분석한 위험도 체크 요약 조회 - userId: {}, homeId: {}", userId, homeId);
 
+          // 오늘 분석이 공유 결과를 가리키면 DB 조회 없이 응답
+          TodayRiskCheck today = sharedRiskAnalysisCache.getToday(userId, homeId);
+          SharedRiskAnalysis shared =
+                  today != null ? sharedRiskAnalysisCache.get(today.getAnalysisKey()) : null;
+          if (shared != null && shared.getRiskType() != null) {
+              return RiskCheckSummaryResponse.builder()
+                      .riskCheckId(today.getRiskCheckId())
+                      .riskType(shared.getRiskType().name())
+                      .detailGroups(toSummaryDetailGroups(shared.getDetails()))
+                      .build();
+          }
+
           LocalDateTime[] todayRange = getTodayDateRange();
 
           // 오늘 분석한 위험도 체크 ID 조회
@@ -714,7 +1496,8 @@ public class FraudRiskServiceImpl implements FraudRiskService {
 
           // 상세 분석 결과 조회 및 변환
           List<RiskCheckSummaryResponse.DetailGroup> detailGroups =
-                  convertToSummaryDetailGroups(riskCheckId);
+                  toSummaryDetailGroups(
+                          fraudRiskMapper.selectRiskCheckDetailByRiskCheckId(riskCheckId));
 
           return RiskCheckSummaryResponse.builder()
                   .riskCheckId(riskCheck.getRiskckId())
@@ -729,12 +1512,9 @@ public class FraudRiskServiceImpl implements FraudRiskService {
           return new LocalDateTime[] {today.atStartOfDay(), today.atTime(23, 59, 59)};
       }
 
-      /** DB에서 조회한 상세 정보를 RiskCheckSummaryResponse.DetailGroup으로 변환 */
-      private List<RiskCheckSummaryResponse.DetailGroup> convertToSummaryDetailGroups(
-              Long riskCheckId) {
-          List<RiskCheckDetailVO> details =
-                  fraudRiskMapper.selectRiskCheckDetailByRiskCheckId(riskCheckId);
-
+      /** 상세 정보를 RiskCheckSummaryResponse.DetailGroup으로 변환 */
+      private List<RiskCheckSummaryResponse.DetailGroup> toSummaryDetailGroups(
+              List<RiskCheckDetailVO> details) {
           if (details == null || details.isEmpty()) {
               return new ArrayList<>();
           }
@@ -770,4 +1550,20 @@ public class FraudRiskServiceImpl implements FraudRiskService {
                           })
                   .collect(Collectors.toList());
       }
+
+      /** 위험도 판정 결과와 판정 경로 */
+      @Getter
+      @RequiredArgsConstructor
+      private static class ScreenedAnalysis {
+          private final FraudRiskCheckDto.Response response;
+          private final RiskType riskType;
+          private final AnalysisPath path;
+
+          /** 재사용한 공유 분석 결과 (직접 분석했으면 null) */
+          private final SharedRiskAnalysis shared;
+
+          Long getSourceRiskCheckId() {
+              return shared != null ? shared.getSourceRiskCheckId() : null;
+          }
+      }
 }
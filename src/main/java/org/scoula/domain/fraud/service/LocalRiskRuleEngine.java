@@ -0,0 +1,246 @@
+package org.scoula.domain.fraud.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.scoula.domain.fraud.dto.ai.FraudRiskCheckDto;
+import org.scoula.domain.fraud.dto.common.BuildingDocumentDto;
+import org.scoula.domain.fraud.dto.common.MortgageeDto;
+import org.scoula.domain.fraud.dto.common.RegistryDocumentDto;
+import org.scoula.domain.fraud.enums.RiskType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 구조화된 문서 데이터 기반 위험도 사전 점검
+ *
+ * <p>등기부등본/건축물대장 값만으로 결론이 명확한 경우 AI 서버를 호출하지 않고 바로 판정합니다. 권리 제한(압류/경매/소송/가압류)과 시세 대비
+ * 선순위 채권 초과는 DANGER로, 근저당과 권리 제한이 없음이 모두 확인되고 소유자/주소가 일치하는 위반건축물이 아닌 매물은 SAFE로 판정합니다.
+ * 등기부 소유자와 계약 상대방 불일치는 대리 계약일 수 있으므로 판정을 보류하고, OCR에서 확인하지 못한(null) 값이 있으면 SAFE로 판정하지
+ * 않습니다. 그 외에는 판정을 보류하고 AI 분석에 맡깁니다.
+ *
+ * @author ITZeep Team
+ * @since 1.0.0
+ */
+@Component
+public class LocalRiskRuleEngine {
+
+      /** 사전 점검 결과가 저장되는 상세 그룹 제목 */
+      public static final String DETAIL_GROUP_TITLE = "사전 점검";
+
+      /** AI 응답 대신 사용하는 응답의 status */
+      public static final String RESPONSE_STATUS = "LOCAL_RULE";
+
+      @Value("${fraud.prescreen.enabled:true}")
+      private boolean enabled = true;
+
+      /** (보증금 + 선순위 채권최고액) / 시세 가 이 비율(%) 이상이면 DANGER */
+      @Value("${fraud.prescreen.lien-ratio-threshold:80}")
+      private int lienRatioThreshold = 80;
+
+      /**
+       * 문서 데이터를 점검합니다.
+       *
+       * @param registry 등기부등본
+       * @param building 건축물대장
+       * @param deposit 보증금 (원)
+       * @param marketPrice 매매 시세 (원), 모르면 null
+       * @param registeredUserName 계약 상대방(등록된 소유자) 이름
+       * @return 점검 결과, 판정 보류 시 {@link Result#isDecided()}가 false
+       */
+      public Result screen(
+              RegistryDocumentDto registry,
+              BuildingDocumentDto building,
+              Long deposit,
+              Long marketPrice,
+              String registeredUserName) {
+          if (!enabled || registry == null || building == null) {
+              return Result.deferred(Collections.emptyList());
+          }
+
+          List<Finding> dangers = new ArrayList<>();
+          collectLegalRestrictions(registry, dangers);
+
+          String ownerName = normalize(registry.getOwnerName());
+          String contractorName = normalize(registeredUserName);
+          Finding ownerMismatch = null;
+          if (!ownerName.isEmpty()
+                  && !contractorName.isEmpty()
+                  && !ownerName.equals(contractorName)) {
+              ownerMismatch =
+                      new Finding(
+                              "소유자 불일치",
+                              "등기부등본 소유자("
+                                      + registry.getOwnerName()
+                                      + ")와 계약 상대방("
+                                      + registeredUserName
+                                      + ")이 다릅니다. 대리 계약이라면 위임장과 인감증명서를 반드시 확인하세요.");
+          }
+
+          long liens = sumMaxClaimAmount(registry.getMortgageeList());
+          if (marketPrice != null && marketPrice > 0) {
+              long exposure = liens + (deposit != null ? deposit : 0L);
+              long ratio = exposure * 100 / marketPrice;
+              if (liens >= marketPrice) {
+                  dangers.add(
+                          new Finding(
+                                  "선순위 채권 초과",
+                                  "근저당 채권최고액 합계가 매매 시세 이상입니다. 보증금을 돌려받지 못할 가능성이 매우 높습니다."));
+              } else if (ratio >= lienRatioThreshold) {
+                  dangers.add(
+                          new Finding(
+                                  "깡통 전세 위험",
+                                  "보증금과 선순위 채권최고액 합계가 매매 시세의 "
+                                          + ratio
+                                          + "%로 기준("
+                                          + lienRatioThreshold
+                                          + "%)을 넘습니다."));
+              }
+          }
+
+          if (!dangers.isEmpty()) {
+              if (ownerMismatch != null) {
+                  dangers.add(ownerMismatch);
+              }
+              return Result.decided(RiskType.DANGER, dangers);
+          }
+          if (ownerMismatch != null) {
+              // 대리 계약 등 정상적인 경우도 있어 AI 분석에 맡김
+              return Result.deferred(List.of(ownerMismatch));
+          }
+
+          if (isClearlySafe(registry, building, liens, ownerName, contractorName)) {
+              return Result.decided(
+                      RiskType.SAFE,
+                      List.of(
+                              new Finding(
+                                      "권리 관계",
+                                      "근저당과 압류/경매/소송/가압류 기록이 없고 등기부등본 소유자와 계약 상대방이 일치합니다."),
+                              new Finding(
+                                      "건축물 정보",
+                                      "건축물대장과 등기부등본의 주소가 일치하며 위반건축물이 아닙니다.")));
+          }
+
+          return Result.deferred(Collections.emptyList());
+      }
+
+      private void collectLegalRestrictions(RegistryDocumentDto registry, List<Finding> dangers) {
+          if (Boolean.TRUE.equals(registry.getHasSeizure())) {
+              dangers.add(new Finding("가압류", "등기부등본에 가압류 기록이 있습니다."));
+          }
+          if (Boolean.TRUE.equals(registry.getHasAuction())) {
+              dangers.add(new Finding("경매", "등기부등본에 경매개시결정 기록이 있습니다."));
+          }
+          if (Boolean.TRUE.equals(registry.getHasLitigation())) {
+              dangers.add(new Finding("소송", "등기부등본에 소송(예고등기 등) 기록이 있습니다."));
+          }
+          if (Boolean.TRUE.equals(registry.getHasAttachment())) {
+              dangers.add(new Finding("압류", "등기부등본에 압류 기록이 있습니다."));
+          }
+      }
+
+      /** 모든 값이 명시적으로 확인된 경우에만 SAFE - 하나라도 비어 있으면(근저당 목록 포함) 보류 */
+      private boolean isClearlySafe(
+              RegistryDocumentDto registry,
+              BuildingDocumentDto building,
+              long liens,
+              String ownerName,
+              String contractorName) {
+          boolean noRestriction =
+                  Boolean.FALSE.equals(registry.getHasSeizure())
+                          && Boolean.FALSE.equals(registry.getHasAuction())
+                          && Boolean.FALSE.equals(registry.getHasLitigation())
+                          && Boolean.FALSE.equals(registry.getHasAttachment());
+          boolean noMortgage =
+                  liens == 0
+                          && registry.getMortgageeList() != null
+                          && registry.getMortgageeList().isEmpty();
+          String registryAddress = normalize(registry.getRoadAddress());
+          boolean sameAddress =
+                  !registryAddress.isEmpty()
+                          && registryAddress.equals(normalize(building.getRoadAddress()));
+
+          return noRestriction
+                  && noMortgage
+                  && !ownerName.isEmpty()
+                  && ownerName.equals(contractorName)
+                  && sameAddress
+                  && Boolean.FALSE.equals(building.getIsViolationBuilding());
+      }
+
+      private long sumMaxClaimAmount(List<MortgageeDto> mortgagees) {
+          if (mortgagees == null) {
+              return 0L;
+          }
+          long sum = 0L;
+          for (MortgageeDto mortgagee : mortgagees) {
+              if (mortgagee.getMaxClaimAmount() != null) {
+                  sum += mortgagee.getMaxClaimAmount();
+              }
+          }
+          return sum;
+      }
+
+      private static String normalize(String value) {
+          return value == null ? "" : value.replaceAll("\\s+", "");
+      }
+
+      /** 점검 항목 */
+      @Getter
+      public static class Finding {
+          private final String title;
+          private final String content;
+
+          public Finding(String title, String content) {
+              this.title = title;
+              this.content = content;
+          }
+      }
+
+      /** 사전 점검 결과 */
+      @Getter
+      @Builder
+      public static class Result {
+          /** 판정 결과, 보류 시 null */
+          private final RiskType riskType;
+
+          private final List<Finding> findings;
+
+          static Result decided(RiskType riskType, List<Finding> findings) {
+              return Result.builder().riskType(riskType).findings(findings).build();
+          }
+
+          static Result deferred(List<Finding> findings) {
+              return Result.builder().findings(findings).build();
+          }
+
+          public boolean isDecided() {
+              return riskType != null;
+          }
+
+          /** 상세 분석 저장/응답 변환에 그대로 쓸 수 있도록 AI 응답 형식으로 변환 */
+          public FraudRiskCheckDto.Response toResponse() {
+              Map<String, Object> items = new LinkedHashMap<>();
+              for (Finding finding : findings) {
+                  items.put(
+                          finding.getTitle(),
+                          Map.of("title", finding.getTitle(), "content", finding.getContent()));
+              }
+              Map<String, Object> analysisResults = new LinkedHashMap<>();
+              analysisResults.put(DETAIL_GROUP_TITLE, items);
+
+              return FraudRiskCheckDto.Response.builder()
+                      .status(RESPONSE_STATUS)
+                      .riskLevel(riskType != null ? riskType.getValue() : null)
+                      .analysisId("")
+                      .analysisResults(analysisResults)
+                      .build();
+          }
+      }
+}
@@ -0,0 +1,228 @@
+package org.scoula.domain.fraud.service;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.scoula.domain.fraud.dto.common.BuildingDocumentDto;
+import org.scoula.domain.fraud.dto.common.RegistryDocumentDto;
+import org.scoula.domain.fraud.enums.AnalysisPath;
+import org.scoula.domain.fraud.enums.RiskType;
+import org.scoula.domain.fraud.vo.RiskCheckDetailVO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매물별 위험도 분석 결과 공유 캐시
+ *
+ * <p>같은 매물을 같은 날 같은 등기부등본/건축물대장으로 여러 임차인이 분석하는 경우가 많아, (매물 ID, 등기부등본 해시, 건축물대장 해시, 거래 조건 해시,
+ * 모델 버전)을 키로 판정 결과와 상세 항목을 Redis에 저장합니다. 항목은 당일 자정에 만료됩니다.
+ *
+ * <p>사용자별 오늘의 분석(사용자 + 매물)은 공유 항목 키와 사용자의 risk_check ID만 가리키므로, 오늘 분석 요약 조회는 DB 없이 공유 항목으로 응답할 수
+ * 있습니다. Redis 장애 시에는 캐시 없이 진행합니다.
+ *
+ * @author ITZeep Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SharedRiskAnalysisCache {
+
+      private static final String KEY_PREFIX = "risk-analysis:";
+      private static final String TODAY_PREFIX = KEY_PREFIX + "today:";
+
+      /** 서비스 외 매물 분석의 매물 ID 자리 */
+      private static final String EXTERNAL_HOME = "external";
+
+      private final RedisTemplate<String, String> stringRedisTemplate;
+      private final ObjectMapper objectMapper;
+
+      @Value("${ai.model.version:1}")
+      private String modelVersion;
+
+      /**
+       * 분석 입력으로 공유 캐시 키를 만듭니다.
+       *
+       * @param homeId 매물 ID (서비스 외 매물은 null)
+       * @param registry 등기부등본
+       * @param building 건축물대장
+       * @param terms 판정에 영향을 주는 거래 조건 (보증금, 계약 상대방 등)
+       * @return 캐시 키, 문서가 없거나 해시 계산에 실패하면 null
+       */
+      public String keyOf(
+              Long homeId,
+              RegistryDocumentDto registry,
+              BuildingDocumentDto building,
+              Map<String, Object> terms) {
+          if (registry == null || building == null) {
+              return null;
+          }
+          try {
+              return KEY_PREFIX
+                      + "v"
+                      + modelVersion
+                      + ":"
+                      + (homeId != null ? homeId : EXTERNAL_HOME)
+                      + ":"
+                      + hash(registry)
+                      + ":"
+                      + hash(building)
+                      + ":"
+                      + hash(terms);
+          } catch (Exception e) {
+              log.warn("위험도 분석 캐시 키 생성 실패 - 캐시 없이 진행: {}", e.getMessage());
+              return null;
+          }
+      }
+
+      /**
+       * 공유 분석 결과를 조회합니다.
+       *
+       * @param key 캐시 키 (null이면 항상 miss)
+       * @return 분석 결과, 없으면 null
+       */
+      public SharedRiskAnalysis get(String key) {
+          return key != null ? read(key, SharedRiskAnalysis.class) : null;
+      }
+
+      /**
+       * 공유 분석 결과를 당일 자정까지 저장합니다.
+       *
+       * @param key 캐시 키 (null이면 저장하지 않음)
+       * @param analysis 분석 결과
+       */
+      public void put(String key, SharedRiskAnalysis analysis) {
+          if (key != null) {
+              write(key, analysis);
+          }
+      }
+
+      /**
+       * 사용자의 오늘 분석을 공유 항목에 연결합니다.
+       *
+       * @param userId 사용자 ID
+       * @param homeId 매물 ID
+       * @param riskCheckId 사용자의 risk_check ID
+       * @param key 공유 캐시 키
+       */
+      public void markToday(Long userId, Long homeId, Long riskCheckId, String key) {
+          if (key == null || homeId == null) {
+              return;
+          }
+          write(todayKey(userId, homeId), new TodayRiskCheck(riskCheckId, key));
+      }
+
+      /**
+       * 사용자의 오늘 분석 연결 정보를 조회합니다.
+       *
+       * @return 연결 정보, 없으면 null
+       */
+      public TodayRiskCheck getToday(Long userId, Long homeId) {
+          return read(todayKey(userId, homeId), TodayRiskCheck.class);
+      }
+
+      /** 사용자의 오늘 분석 연결 정보를 제거합니다 (분석 삭제 시). */
+      public void evictToday(Long userId, Long homeId) {
+          try {
+              stringRedisTemplate.delete(todayKey(userId, homeId));
+          } catch (Exception e) {
+              log.warn("오늘의 위험도 분석 캐시 삭제 실패: {}", e.getMessage());
+          }
+      }
+
+      private String todayKey(Long userId, Long homeId) {
+          return TODAY_PREFIX + LocalDate.now() + ":" + userId + ":" + homeId;
+      }
+
+      private <T> T read(String key, Class<T> type) {
+          try {
+              String json = stringRedisTemplate.opsForValue().get(key);
+              return json != null ? objectMapper.readValue(json, type) : null;
+          } catch (Exception e) {
+              log.warn("위험도 분석 캐시 조회 실패 - 캐시 없이 진행: {}", e.getMessage());
+              return null;
+          }
+      }
+
+      private void write(String key, Object value) {
+          try {
+              stringRedisTemplate
+                      .opsForValue()
+                      .set(key, objectMapper.writeValueAsString(value), untilMidnight());
+          } catch (Exception e) {
+              log.warn("위험도 분석 캐시 저장 실패: {}", e.getMessage());
+          }
+      }
+
+      /** 당일 자정까지 남은 시간 (최소 1분) */
+      private Duration untilMidnight() {
+          LocalDateTime now = LocalDateTime.now();
+          Duration remaining = Duration.between(now, now.toLocalDate().plusDays(1).atStartOfDay());
+          return remaining.compareTo(Duration.ofMinutes(1)) < 0 ? Duration.ofMinutes(1) : remaining;
+      }
+
+      private String hash(Object value) throws Exception {
+          byte[] digest =
+                  MessageDigest.getInstance("SHA-256")
+                          .digest(objectMapper.writeValueAsBytes(value));
+          StringBuilder hex = new StringBuilder(digest.length * 2);
+          for (byte b : digest) {
+              hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+              hex.append(Character.forDigit(b & 0xF, 16));
+          }
+          return hex.toString();
+      }
+
+      /** 거래 조건 맵 생성 (null 값 허용, 순서 고정) */
+      public static Map<String, Object> terms(Object... keyValues) {
+          Map<String, Object> terms = new LinkedHashMap<>();
+          for (int i = 0; i + 1 < keyValues.length; i += 2) {
+              terms.put(String.valueOf(keyValues[i]), keyValues[i + 1]);
+          }
+          return terms;
+      }
+
+      /** 공유 분석 결과 */
+      @Getter
+      @Setter
+      @Builder
+      @NoArgsConstructor
+      @AllArgsConstructor
+      public static class SharedRiskAnalysis {
+          /** 처음 분석한 risk_check ID (서비스 외 매물이면 null) */
+          private Long sourceRiskCheckId;
+
+          private RiskType riskType;
+          private AnalysisPath analysisPath;
+          private LocalDateTime analyzedAt;
+
+          /** 상세 항목 (riskckId 없이 저장) */
+          private List<RiskCheckDetailVO> details;
+      }
+
+      /** 사용자의 오늘 분석 - 공유 항목을 가리킴 */
+      @Getter
+      @Setter
+      @NoArgsConstructor
+      @AllArgsConstructor
+      public static class TodayRiskCheck {
+          private Long riskCheckId;
+          private String analysisKey;
+      }
+}
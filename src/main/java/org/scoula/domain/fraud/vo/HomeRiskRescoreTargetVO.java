@@ -0,0 +1,31 @@
+package org.scoula.domain.fraud.vo;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 야간 재평가 대상 매물 - 찜하거나 채팅 중인 매물과 가장 최근에 분석된 문서 */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HomeRiskRescoreTargetVO {
+      private Long homeId;
+      private String address;
+      private String leaseType;
+      private String residenceType;
+      private Long depositPrice;
+      private Long monthlyRent;
+      private String registeredUserName;
+
+      // 문서를 가져올 risk_check
+      private Long riskckId;
+      private String registryFileUrl;
+      private String buildingFileUrl;
+
+      // 마지막 재평가 시각 (재시작 시 이미 처리한 매물을 건너뛰는 데 사용)
+      private LocalDateTime lastScoredAt;
+}
@@ -0,0 +1,27 @@
+package org.scoula.domain.fraud.vo;
+
+import java.time.LocalDateTime;
+
+import org.scoula.domain.fraud.enums.AnalysisPath;
+import org.scoula.domain.fraud.enums.RiskType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 매물별 최신 위험도 (야간 재평가 결과, 찜/채팅 매물 목록 배지용) */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HomeRiskScoreVO {
+      private Long homeId;
+      private RiskType riskType;
+      private AnalysisPath analysisPath;
+
+      // 재평가에 사용한 문서의 risk_check ID
+      private Long riskckId;
+
+      private LocalDateTime scoredAt;
+}
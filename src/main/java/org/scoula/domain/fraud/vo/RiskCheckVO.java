@@ -3,6 +3,8 @@ package org.scoula.domain.fraud.vo;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.scoula.domain.fraud.enums.AnalysisPath;
+import org.scoula.domain.fraud.enums.AnalysisStatus;
 import org.scoula.domain.fraud.enums.RiskType;
 
 import lombok.AllArgsConstructor;
@@ -25,6 +27,18 @@ public class RiskCheckVO {
       private LocalDateTime registryFileDate;
       private LocalDateTime buildingFileDate;
 
+      // 분석 상태 - 비동기 분석 중에는 IN_PROGRESS (NULL이면 저장 시 SUCCESS)
+      private AnalysisStatus analysisStatus;
+
+      // 분석 진행률(%) - 비동기 분석 중에만 값이 있음
+      private Integer analysisProgress;
+
+      // 판정 경로 - 사전 점검(LOCAL_RULE) 또는 AI 분석(AI), 감사용
+      private AnalysisPath analysisPath;
+
+      // 같은 날 같은 문서로 먼저 분석된 risk_check ID - 공유 분석 결과를 재사용한 경우에만 설정
+      private Long sourceRiskckId;
+
       // 상세 정보 리스트 - JOIN 시 사용
       private List<RiskCheckDetailVO> details;
 }
@@ -7,6 +7,9 @@ import org.scoula.domain.health.dto.WelcomeResponse;
 import org.scoula.domain.health.exception.HomeErrorCode;
 import org.scoula.global.common.dto.ApiResponse;
 import org.scoula.global.common.exception.BusinessException;
+import org.scoula.global.common.resilience.AiResilienceExecutor;
+import org.scoula.global.common.util.HttpClientPoolMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -28,6 +31,12 @@ public class HealthControllerImpl implements HealthController {
       @Value("${app.version:1.0.0}")
       private String version;
 
+      @Autowired(required = false)
+      private HttpClientPoolMetrics httpClientPoolMetrics;
+
+      @Autowired(required = false)
+      private AiResilienceExecutor aiResilienceExecutor;
+
       /** {@inheritDoc} */
       @Override
       @GetMapping
@@ -60,6 +69,14 @@ public class HealthControllerImpl implements HealthController {
                               .service(applicationName)
                               .version(version)
                               .timestamp(LocalDateTime.now())
+                              .httpClients(
+                                      httpClientPoolMetrics != null
+                                              ? httpClientPoolMetrics.snapshot()
+                                              : null)
+                              .aiCircuitBreakers(
+                                      aiResilienceExecutor != null
+                                              ? aiResilienceExecutor.snapshot()
+                                              : null)
                               .build();
 
               return ResponseEntity.ok(ApiResponse.success(response));
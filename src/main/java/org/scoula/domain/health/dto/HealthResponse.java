@@ -1,6 +1,10 @@
 package org.scoula.domain.health.dto;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.scoula.global.common.resilience.AiResilienceExecutor;
+import org.scoula.global.common.util.HttpClientPoolMetrics;
 
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
@@ -28,4 +32,10 @@ public class HealthResponse {
 
       @ApiModelProperty(value = "체크 시간", example = "2025-01-20T10:30:00")
       private LocalDateTime timestamp;
+
+      @ApiModelProperty(value = "외부 HTTP 호출 커넥션 풀/지연시간 지표 (하위 서비스별)")
+      private Map<String, HttpClientPoolMetrics.DownstreamStats> httpClients;
+
+      @ApiModelProperty(value = "AI 서버 엔드포인트별 서킷 브레이커/동시 요청 상태")
+      private Map<String, AiResilienceExecutor.EndpointState> aiCircuitBreakers;
 }
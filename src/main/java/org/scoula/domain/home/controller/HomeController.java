@@ -1,22 +1,31 @@
 package org.scoula.domain.home.controller;
 
 import java.util.List;
+import java.util.Set;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 
 import org.scoula.domain.home.dto.request.HomeCreateRequestDto;
 import org.scoula.domain.home.dto.request.HomeReportRequestDto;
+import org.scoula.domain.home.dto.request.HomeSearchRequestDto;
 import org.scoula.domain.home.dto.request.HomeUpdateRequestDto;
+import org.scoula.domain.home.dto.response.HomeCursorPageResponseDto;
+import org.scoula.domain.home.dto.response.HomeDetailResultDto;
 import org.scoula.domain.home.dto.response.HomeResponseDto;
 import org.scoula.domain.home.service.HomeService;
 import org.scoula.global.auth.dto.CustomUserDetails;
 import org.scoula.global.common.dto.ApiResponse;
 import org.scoula.global.common.dto.PageRequest;
 import org.scoula.global.common.dto.PageResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -31,6 +40,10 @@ public class HomeController {
 
       private final HomeService homeService;
 
+      /** X-Forwarded-For를 믿을 수 있는 프록시(로드밸런서 등) 주소 - 그 밖의 요청은 헤더를 무시하고 접속 주소 사용 */
+      @Value("#{'${home.view.trusted-proxies:127.0.0.1,0:0:0:0:0:0:0:1}'.split(',')}")
+      private Set<String> trustedProxies;
+
       @ApiOperation(value = "매물 등록", notes = "새로운 매물을 등록합니다.")
       @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
       public ResponseEntity<ApiResponse<Long>> createHome(
@@ -51,12 +64,23 @@ public class HomeController {
           return ResponseEntity.ok(ApiResponse.success());
       }
 
-      @ApiOperation(value = "매물 상세 조회", notes = "homeId에 해당하는 매물 정보를 조회합니다.")
+      @ApiOperation(
+              value = "매물 상세 조회",
+              notes = "homeId에 해당하는 매물 정보를 조회합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
       @GetMapping("/{homeId}")
       public ResponseEntity<ApiResponse<HomeResponseDto>> getHomeDetail(
-              @AuthenticationPrincipal CustomUserDetails userDetails, @PathVariable Long homeId) {
-          HomeResponseDto response = homeService.getHomeDetail(homeId);
-          return ResponseEntity.ok(ApiResponse.success(response));
+              @AuthenticationPrincipal CustomUserDetails userDetails,
+              @PathVariable Long homeId,
+              WebRequest webRequest) {
+          HomeDetailResultDto result = homeService.getHomeDetailWithETag(homeId);
+          if (webRequest.checkNotModified(result.getETag())) {
+              return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(result.getETag()).build();
+          }
+
+          return ResponseEntity.ok()
+                  .eTag(result.getETag())
+                  .cacheControl(CacheControl.noCache())
+                  .body(ApiResponse.success(result.getDetail()));
       }
 
       //      @ApiOperation(value = "내가 등록한 매물 목록 조회", notes = "사용자가 등록한 매물 목록을 페이지네이션하여 조회합니다.")
@@ -90,19 +114,44 @@ public class HomeController {
       @ApiOperation(value = "모든 매물 검색", notes = "전체 매물을 페이징하여 조회합니다.")
       @GetMapping
       public ResponseEntity<PageResponse<HomeResponseDto>> getAllHomes(
+              @AuthenticationPrincipal CustomUserDetails userDetails,
               @ApiParam(value = "페이지 번호", defaultValue = "1") @RequestParam(defaultValue = "1")
                       String pageStr,
               @ApiParam(value = "페이지 크기", defaultValue = "10") @RequestParam(defaultValue = "10")
-                      String sizeStr) {
+                      String sizeStr,
+              @ApiParam(value = "근사 총 개수 허용 (무한 스크롤용)", defaultValue = "false")
+                      @RequestParam(defaultValue = "false")
+                      boolean approximateCount) {
 
           int page = parseOrDefault(pageStr, 1);
           int size = parseOrDefault(sizeStr, 10);
 
-          PageRequest pageRequest = PageRequest.builder().page(page).size(size).build();
-          PageResponse<HomeResponseDto> response = homeService.getHomeList(pageRequest);
+          PageRequest pageRequest =
+                  PageRequest.builder()
+                          .page(page)
+                          .size(size)
+                          .approximateCount(approximateCount)
+                          .build();
+          PageResponse<HomeResponseDto> response =
+                  homeService.getHomeList(pageRequest, userIdOrNull(userDetails));
           return ResponseEntity.ok(response);
       }
 
+      @ApiOperation(
+              value = "매물 조건 검색",
+              notes = "임대/주거 유형, 가격, 면적, 방 개수, 반려동물/주차 조건으로 매물을 최신순 조회합니다. 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다.")
+      @GetMapping("/search")
+      public ResponseEntity<ApiResponse<HomeCursorPageResponseDto>> searchHomes(
+              @AuthenticationPrincipal CustomUserDetails userDetails,
+              @ModelAttribute HomeSearchRequestDto condition,
+              @ApiParam(value = "다음 페이지 커서") @RequestParam(required = false) String cursor,
+              @ApiParam(value = "페이지 크기", defaultValue = "10") @RequestParam(defaultValue = "10")
+                      int size) {
+          HomeCursorPageResponseDto response =
+                  homeService.searchHomes(condition, cursor, size, userIdOrNull(userDetails));
+          return ResponseEntity.ok(ApiResponse.success(response));
+      }
+
       @ApiOperation(value = "매물 찜하기", notes = "해당 매물을 찜합니다.")
       @PostMapping("/{homeId}/like")
       public ResponseEntity<ApiResponse<Void>> likeHome(
@@ -127,10 +176,27 @@ public class HomeController {
           return ResponseEntity.ok(ApiResponse.success(likedHomes));
       }
 
-      @ApiOperation(value = "조회수 증가", notes = "해당 매물의 조회수를 1 증가시킵니다.")
+      @ApiOperation(
+              value = "유사 매물 조회",
+              notes = "가격, 면적, 방 개수, 주거 유형, 층, 위치가 비슷한 매물을 가까운 순으로 조회합니다.")
+      @GetMapping("/{homeId}/similar")
+      public ResponseEntity<ApiResponse<List<HomeResponseDto>>> getSimilarHomes(
+              @PathVariable Long homeId,
+              @ApiParam(value = "최대 개수", defaultValue = "6") @RequestParam(defaultValue = "6")
+                      int size) {
+          List<HomeResponseDto> similarHomes = homeService.getSimilarHomes(homeId, size);
+          return ResponseEntity.ok(ApiResponse.success(similarHomes));
+      }
+
+      @ApiOperation(
+              value = "조회수 증가",
+              notes = "해당 매물의 조회수를 1 증가시킵니다. 같은 사용자(비로그인은 IP)의 반복 조회는 일정 시간 동안 한 번만 집계합니다.")
       @PostMapping("/{homeId}/view")
-      public ResponseEntity<ApiResponse<Void>> increaseViewCount(@PathVariable Long homeId) {
-          homeService.increaseViewCount(homeId);
+      public ResponseEntity<ApiResponse<Void>> increaseViewCount(
+              @AuthenticationPrincipal CustomUserDetails userDetails,
+              @PathVariable Long homeId,
+              HttpServletRequest request) {
+          homeService.increaseViewCount(homeId, viewerKey(userDetails, request));
           return ResponseEntity.ok(ApiResponse.success());
       }
 
@@ -152,6 +218,39 @@ public class HomeController {
           return ResponseEntity.ok(ApiResponse.success());
       }
 
+      // 유틸 메서드: 조회수 중복 집계 방지용 조회자 구분 값 (로그인 사용자 ID, 없으면 클라이언트 IP)
+      private String viewerKey(CustomUserDetails userDetails, HttpServletRequest request) {
+          if (userDetails != null) {
+              return "user:" + userDetails.getUserId();
+          }
+          return "ip:" + clientIp(request);
+      }
+
+      // 유틸 메서드: 클라이언트 IP - 신뢰하는 프록시를 거친 요청만 X-Forwarded-For를 오른쪽부터 따라가
+      // 처음 나오는 신뢰하지 않는 주소 사용 (클라이언트가 임의로 넣은 왼쪽 값은 무시)
+      private String clientIp(HttpServletRequest request) {
+          String remoteAddr = request.getRemoteAddr();
+          String forwardedFor = request.getHeader("X-Forwarded-For");
+          if (!trustedProxies.contains(remoteAddr)
+                  || forwardedFor == null
+                  || forwardedFor.isBlank()) {
+              return remoteAddr;
+          }
+          String[] hops = forwardedFor.split(",");
+          for (int i = hops.length - 1; i >= 0; i--) {
+              String hop = hops[i].trim();
+              if (!hop.isEmpty() && !trustedProxies.contains(hop)) {
+                  return hop;
+              }
+          }
+          return remoteAddr;
+      }
+
+      // 유틸 메서드: 로그인 사용자 ID (비로그인이면 null)
+      private Long userIdOrNull(CustomUserDetails userDetails) {
+          return userDetails != null ? userDetails.getUserId() : null;
+      }
+
       // 유틸 메서드: 숫자 변환 실패 시 기본값 반환
       private int parseOrDefault(String str, int defaultValue) {
           try {
@@ -0,0 +1,53 @@
+package org.scoula.domain.home.dto.request;
+
+import org.scoula.domain.home.enums.LeaseType;
+import org.scoula.domain.home.enums.ResidenceType;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 매물 검색 조건 DTO - 값이 없는 조건은 적용하지 않음 */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ApiModel(description = "매물 검색 조건")
+public class HomeSearchRequestDto {
+
+      @ApiModelProperty(value = "임대 유형", example = "WOLSE")
+      private LeaseType leaseType;
+
+      @ApiModelProperty(value = "주거 유형", example = "OFFICETEL")
+      private ResidenceType residenceType;
+
+      @ApiModelProperty(value = "최소 보증금", example = "1000")
+      private Integer minDepositPrice;
+
+      @ApiModelProperty(value = "최대 보증금", example = "5000")
+      private Integer maxDepositPrice;
+
+      @ApiModelProperty(value = "최소 월세", example = "30")
+      private Integer minMonthlyRent;
+
+      @ApiModelProperty(value = "최대 월세", example = "70")
+      private Integer maxMonthlyRent;
+
+      @ApiModelProperty(value = "최소 공급 면적", example = "20.0")
+      private Float minSupplyArea;
+
+      @ApiModelProperty(value = "최대 공급 면적", example = "60.0")
+      private Float maxSupplyArea;
+
+      @ApiModelProperty(value = "최소 방 개수", example = "1")
+      private Integer minRoomCnt;
+
+      @ApiModelProperty(value = "반려동물 가능 여부", example = "true")
+      private Boolean isPet;
+
+      @ApiModelProperty(value = "주차 가능 여부", example = "true")
+      private Boolean isParkingAvailable;
+}
@@ -0,0 +1,24 @@
+package org.scoula.domain.home.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 매물 검색 커서 페이지 응답 DTO - (createdAt, homeId) 기준 최신순 조회 */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HomeCursorPageResponseDto {
+      /** 최신순 매물 목록 */
+      private List<HomeResponseDto> content;
+
+      /** 다음 페이지 요청 시 전달할 커서, 마지막 페이지면 null */
+      private String nextCursor;
+
+      private int size;
+      private boolean hasNext;
+}
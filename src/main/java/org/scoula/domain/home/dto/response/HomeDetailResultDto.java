@@ -0,0 +1,19 @@
+package org.scoula.domain.home.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 매물 상세 조회 결과 DTO - 같은 캐시 항목에서 만든 응답과 ETag */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HomeDetailResultDto {
+      /** 조회수 버퍼 증가분을 더한 매물 상세 */
+      private HomeResponseDto detail;
+
+      /** 상세 응답의 ETag */
+      private String eTag;
+}
@@ -8,6 +8,7 @@ import java.util.List;
 import org.scoula.domain.home.enums.LeaseType;
 import org.scoula.domain.home.enums.ResidenceType;
 import org.scoula.domain.home.vo.HomeRegisterVO;
+import org.scoula.global.file.service.ImageDerivativeService;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -53,9 +54,13 @@ public class HomeResponseDto {
       private Integer viewCnt;
       private Integer chatCnt;
       private Integer likeCnt;
+      private Boolean isLiked; // 로그인 사용자의 목록 조회에서만 채움
 
       private String imageUrl;
+      private String thumbnailUrl; // 대표 이미지 썸네일 (생성 완료 시에만) - 없으면 imageUrl 사용
       private Long imageId;
+      private List<String> imageUrls; // 상세 조회에서만 채움
+      private List<String> mediumImageUrls; // imageUrls와 같은 순서의 중간 크기 이미지 (없으면 null 항목)
 
       private List<String> options;
       private List<Long> facilityItemIds;
@@ -106,6 +111,12 @@ public class HomeResponseDto {
                   .buildDate(vo.getBuildDate() != null ? vo.getBuildDate().toLocalDate() : null)
                   .moveInDate(vo.getMoveInDate())
                   .imageUrl(vo.getImageUrl())
+                  .thumbnailUrl(
+                          Boolean.TRUE.equals(vo.getThumbnailDerivativesReady())
+                                  ? ImageDerivativeService.variantUrl(
+                                          vo.getImageUrl(),
+                                          ImageDerivativeService.Variant.THUMBNAIL)
+                                  : null)
                   .imageId(vo.getImageId())
                   .options(vo.getOptions() != null ? vo.getOptions() : Collections.emptyList())
                   .facilityItemIds(
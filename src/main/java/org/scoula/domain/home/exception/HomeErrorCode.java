@@ -23,7 +23,16 @@ public enum HomeErrorCode implements IErrorCode {
 
       // 매물 관련 일반 에러
       HOME_NOT_FOUND("HOME_010", HttpStatus.NOT_FOUND, "매물을 찾을 수 없습니다"),
-      HOME_ACCESS_DENIED("HOME_011", HttpStatus.FORBIDDEN, "매물에 대한 권한이 없습니다");
+      HOME_ACCESS_DENIED("HOME_011", HttpStatus.FORBIDDEN, "매물에 대한 권한이 없습니다"),
+
+      // 매물 검색 관련 에러
+      HOME_INVALID_SEARCH_CONDITION("HOME_020", HttpStatus.BAD_REQUEST, "잘못된 매물 검색 조건입니다"),
+
+      // 매물 이미지 관련 에러
+      HOME_IMAGE_UPLOAD_FAILED(
+              "HOME_030", HttpStatus.INTERNAL_SERVER_ERROR, "매물 이미지 업로드에 실패하였습니다"),
+      HOME_IMAGE_UPLOAD_BUSY(
+              "HOME_031", HttpStatus.SERVICE_UNAVAILABLE, "이미지 업로드 요청이 많습니다. 잠시 후 다시 시도해주세요");
 
       private final String code;
       private final HttpStatus httpStatus;
@@ -1,13 +1,16 @@
 package org.scoula.domain.home.mapper;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.scoula.domain.home.dto.request.HomeSearchRequestDto;
 import org.scoula.domain.home.dto.response.FacilityResponseDto;
 import org.scoula.domain.home.dto.response.MaintenanceFeeItemResponseDto;
+import org.scoula.domain.home.vo.HomeImageVO;
 import org.scoula.domain.home.vo.HomeRegisterVO;
 import org.scoula.domain.home.vo.HomeReportVO;
 import org.scoula.global.common.dto.PageRequest;
@@ -21,10 +24,21 @@ public interface HomeMapper {
       /** 매물 전체 조회 (페이징 포함) */
       List<HomeRegisterVO> findHomes(@Param("offset") int offset, @Param("size") int size);
 
+      /**
+       * 조건 검색 (커서 페이징) - (created_at, home_id) 내림차순, 커서 이후 매물만 조회
+       *
+       * <p>커서가 없으면 첫 페이지를 조회합니다.
+       */
+      List<HomeRegisterVO> searchHomes(
+              @Param("condition") HomeSearchRequestDto condition,
+              @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+              @Param("cursorHomeId") Long cursorHomeId,
+              @Param("limit") int limit);
+
       /** 매물 총 개수 조회 */
       long countHomes(@Param("pageRequest") PageRequest pageRequest);
 
-      /** 매물 단건 조회 */
+      /** 매물 단건 조회 (기본 정보 + 상세 정보, 이미지/관리비/시설 제외) */
       Optional<HomeRegisterVO> findHomeById(@Param("homeId") Long homeId);
 
       List<FacilityResponseDto> findHomeFacilities(@Param("homeId") Long homeId);
@@ -33,7 +47,7 @@ public interface HomeMapper {
               @Param("homeId") Long homeId);
 
       /** 특정 매물 이미지 URL 리스트 조회 추가 */
-      List<String> findHomeImagesByHomeId(@Param("homeId") Long homeId);
+      List<HomeImageVO> findHomeImagesByHomeId(@Param("homeId") Long homeId);
 
       /** 매물 등록 */
       void insertHome(
@@ -47,18 +61,30 @@ public interface HomeMapper {
       /** 매물 삭제 */
       void deleteHome(@Param("homeId") Long homeId);
 
-      /** 찜 추가 */
-      void insertHomeLike(@Param("userId") Long userId, @Param("homeId") Long homeId);
+      /** 유사 매물 인덱스용 매물 조회 - homeId가 null이면 전체 */
+      List<HomeRegisterVO> findSimilarityCandidates(@Param("homeId") Long homeId);
+
+      /** 찜 추가 - 추가된 행 수 반환 (이미 찜한 매물이면 0) */
+      int insertHomeLike(@Param("userId") Long userId, @Param("homeId") Long homeId);
 
-      /** 찜 제거 */
-      void deleteLike(@Param("userId") Long userId, @Param("homeId") Long homeId);
+      /** 찜 제거 - 삭제된 행 수 반환 */
+      int deleteLike(@Param("userId") Long userId, @Param("homeId") Long homeId);
+
+      /** 찜 수 증감 */
+      void updateLikeCount(@Param("homeId") Long homeId, @Param("delta") int delta);
 
       /** 찜한 매물 목록 조회 */
       List<HomeRegisterVO> findLikedHomes(@Param("userId") Long userId);
 
+      /** 찜한 매물 ID 목록 조회 */
+      List<Long> findLikedHomeIds(@Param("userId") Long userId);
+
       /** 조회수 증가 */
       void incrementViewCount(@Param("homeId") Long homeId);
 
+      /** 조회수 일괄 증가 - 매물 ID별 증가분 */
+      void addViewCounts(@Param("deltas") Map<Long, Long> deltas);
+
       /** 내가 등록한 매물 리스트 & 개수 */
       //      List<HomeRegisterVO> findMyHomes(
       //              @Param("userId") Long userId, @Param("offset") int offset, @Param("size") int
@@ -75,6 +101,13 @@ public interface HomeMapper {
       /** 이미지 등록 */
       void insertHomeImages(Map<String, Object> param);
 
+      /** 대표 이미지(첫 번째 이미지) 갱신 - 이미지 추가/삭제 후 호출 */
+      void refreshHomeThumbnail(@Param("homeId") Long homeId);
+
+      /** 이미지 파생본 생성 완료 표시 */
+      int markHomeImageDerivativesReady(
+              @Param("homeId") Long homeId, @Param("imageUrl") String imageUrl);
+
       /** 관리비 항목 등록 */
       void insertHomeMaintenanceFees(
               @Param("homeId") Long homeId, @Param("fees") Map<Long, Integer> fees);
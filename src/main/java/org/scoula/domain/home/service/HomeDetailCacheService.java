@@ -0,0 +1,364 @@
+package org.scoula.domain.home.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.scoula.domain.home.dto.response.HomeResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 매물 상세 응답 캐시 (노드 메모리 + Redis 2단계)
+ *
+ * <p>매물 상세는 기본 정보와 이미지/관리비/시설 쿼리 네 개를 실행해 조립하므로, 조립한 응답을 직렬화한 JSON으로 저장합니다. 노드 메모리의 크기 제한
+ * LRU를 먼저 확인하고, 없으면 매물별 Redis 키를 확인합니다. 항목마다 JSON의 해시를 버전으로 함께 보관해 ETag 생성에 사용합니다. 조회수는 버퍼
+ * 증가분을 조회 시점에 더하므로 캐시에는 DB에 반영된 값만 들어갑니다.
+ *
+ * <p>매물 수정/삭제, 찜/찜 해제 시 {@link #evict}로 커밋 후 Redis 키를 지우고 무효화 메시지를 발행해 모든 노드의 메모리 캐시에서도 지웁니다. 조회수가
+ * DB에 반영된 매물도 지워 버퍼 증가분이 빠진 값이 남지 않도록 합니다. 메시지가 유실되어도 메모리 캐시는 짧은 TTL 안에 만료됩니다. Redis 장애 시에는
+ * 메모리 캐시만 사용합니다.
+ *
+ * <p>캐시 미스 후 DB에서 조립하는 사이에 수정이 커밋되면 조립한 값은 이미 낡은 값입니다. 이 값이 무효화 뒤에 저장되지 않도록 매물마다 세대 번호를 두고,
+ * 무효화할 때 세대를 올립니다. 조립 전에 {@link #loadToken}으로 세대를 받아 두고 {@link #put}에서 세대가 그대로일 때만 저장합니다. 메모리 캐시는
+ * 노드의 무효화 횟수로 같은 확인을 합니다.
+ *
+ * @author ITZeep Team
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class HomeDetailCacheService {
+
+      private static final String KEY_PREFIX = "home-detail:";
+      private static final String INVALIDATION_CHANNEL = KEY_PREFIX + "invalidate";
+      private static final String GENERATION_KEY_PREFIX = KEY_PREFIX + "gen:";
+      private static final String ID_DELIMITER = ",";
+      private static final String INITIAL_GENERATION = "0";
+
+      /** 세대 키 유지 시간 - 상세 조립에 걸리는 시간보다 충분히 길어야 함 */
+      private static final Duration GENERATION_TTL = Duration.ofHours(1);
+
+      /** 세대가 조립 시작 때와 같을 때만 저장 (KEYS: 상세 키, 세대 키 / ARGV: 세대, JSON, TTL) */
+      private static final RedisScript<Long> PUT_IF_CURRENT_SCRIPT =
+              new DefaultRedisScript<>(
+                      "if (redis.call('get', KEYS[2]) or '"
+                              + INITIAL_GENERATION
+                              + "') ~= ARGV[1] then return 0 end "
+                              + "redis.call('set', KEYS[1], ARGV[2], 'EX', ARGV[3]) return 1",
+                      Long.class);
+
+      /** 상세 키를 지우고 세대를 올림 (KEYS: 상세 키, 세대 키 쌍 / ARGV: 세대 키 TTL) */
+      private static final RedisScript<Long> INVALIDATE_SCRIPT =
+              new DefaultRedisScript<>(
+                      "for i = 1, #KEYS, 2 do redis.call('del', KEYS[i]) "
+                              + "redis.call('incr', KEYS[i + 1]) "
+                              + "redis.call('expire', KEYS[i + 1], ARGV[1]) end "
+                              + "return #KEYS / 2",
+                      Long.class);
+
+      private final RedisTemplate<String, String> stringRedisTemplate;
+      private final ObjectMapper objectMapper;
+      private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+      /** Redis 항목 TTL */
+      @Value("${home.detail-cache.ttl-seconds:300}")
+      private long ttlSeconds;
+
+      /** 메모리 캐시 항목 TTL - 무효화 메시지를 놓친 경우의 최대 지연 */
+      @Value("${home.detail-cache.local-ttl-seconds:30}")
+      private long localTtlSeconds;
+
+      /** 메모리 캐시 최대 항목 수 - 넘으면 가장 오래 조회되지 않은 항목부터 제거 */
+      @Value("${home.detail-cache.local-max-entries:1000}")
+      private int localMaxEntries;
+
+      private final Map<Long, CachedDetail> localCache =
+              Collections.synchronizedMap(
+                      new LinkedHashMap<Long, CachedDetail>(16, 0.75f, true) {
+                          @Override
+                          protected boolean removeEldestEntry(
+                                  Map.Entry<Long, CachedDetail> eldest) {
+                              return size() > localMaxEntries;
+                          }
+                      });
+
+      /** 이 노드에서 메모리 캐시를 무효화한 횟수 - 조립 중 무효화가 있었으면 메모리 캐시에 저장하지 않음 */
+      private final AtomicLong localInvalidations = new AtomicLong();
+
+      private final MessageListener invalidationListener =
+              (message, pattern) ->
+                      removeLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+
+      /** 캐시된 매물 상세 - 직렬화한 응답과 그 버전 */
+      @Getter
+      public static class CachedDetail {
+          private final String json;
+          private final String version;
+          private final long expiresAt;
+
+          private CachedDetail(String json, String version, long expiresAt) {
+              this.json = json;
+              this.version = version;
+              this.expiresAt = expiresAt;
+          }
+      }
+
+      /** 캐시 미스 후 조립을 시작할 때의 세대 */
+      public static class LoadToken {
+          private final Long homeId;
+          private final String generation;
+          private final long localInvalidations;
+
+          private LoadToken(Long homeId, String generation, long localInvalidations) {
+              this.homeId = homeId;
+              this.generation = generation;
+              this.localInvalidations = localInvalidations;
+          }
+      }
+
+      @PostConstruct
+      public void subscribeInvalidation() {
+          redisMessageListenerContainer.addMessageListener(
+                  invalidationListener, new ChannelTopic(INVALIDATION_CHANNEL));
+      }
+
+      @PreDestroy
+      public void unsubscribeInvalidation() {
+          redisMessageListenerContainer.removeMessageListener(invalidationListener);
+      }
+
+      /**
+       * 캐시된 매물 상세를 조회합니다. 메모리 캐시에 없으면 Redis에서 읽어 메모리 캐시에 채웁니다.
+       *
+       * @param homeId 매물 ID
+       * @return 캐시 항목, 없거나 조회에 실패하면 null
+       */
+      public CachedDetail get(Long homeId) {
+          CachedDetail local = localCache.get(homeId);
+          if (local != null && System.currentTimeMillis() < local.expiresAt) {
+              return local;
+          }
+
+          long invalidations = localInvalidations.get();
+          try {
+              String json = stringRedisTemplate.opsForValue().get(buildKey(homeId));
+              if (json == null) {
+                  return null;
+              }
+              CachedDetail cached = newEntry(json);
+              putLocal(homeId, cached, invalidations);
+              return cached;
+          } catch (Exception e) {
+              log.warn("매물 상세 캐시 조회 실패 - DB 조회: homeId={}, {}", homeId, e.getMessage());
+              return null;
+          }
+      }
+
+      /**
+       * DB에서 매물 상세를 조립하기 전에 현재 세대를 받습니다.
+       *
+       * @param homeId 매물 ID
+       * @return {@link #put}에 전달할 세대 정보
+       */
+      public LoadToken loadToken(Long homeId) {
+          long invalidations = localInvalidations.get();
+          try {
+              String generation = stringRedisTemplate.opsForValue().get(generationKey(homeId));
+              return new LoadToken(
+                      homeId, generation != null ? generation : INITIAL_GENERATION, invalidations);
+          } catch (Exception e) {
+              log.warn("매물 상세 캐시 세대 조회 실패: homeId={}, {}", homeId, e.getMessage());
+              return new LoadToken(homeId, null, invalidations);
+          }
+      }
+
+      /**
+       * 매물 상세를 두 단계 캐시에 저장합니다. 조립하는 동안 무효화되었으면 낡은 값이므로 저장하지 않습니다.
+       *
+       * @param token 조립 전에 받은 세대 정보
+       * @param detail 조회수 버퍼 증가분을 더하기 전의 응답
+       * @return 응답의 캐시 항목 (저장하지 않은 경우에도 반환)
+       */
+      public CachedDetail put(LoadToken token, HomeResponseDto detail) {
+          Long homeId = token.homeId;
+          String json;
+          try {
+              json = objectMapper.writeValueAsString(detail);
+          } catch (JsonProcessingException e) {
+              throw new IllegalStateException("매물 상세 직렬화 실패: homeId=" + homeId, e);
+          }
+
+          CachedDetail cached = newEntry(json);
+          putLocal(homeId, cached, token.localInvalidations);
+          if (token.generation == null) {
+              return cached;
+          }
+          try {
+              stringRedisTemplate.execute(
+                      PUT_IF_CURRENT_SCRIPT,
+                      List.of(buildKey(homeId), generationKey(homeId)),
+                      token.generation,
+                      json,
+                      String.valueOf(ttlSeconds));
+          } catch (Exception e) {
+              log.warn("매물 상세 캐시 저장 실패: homeId={}, {}", homeId, e.getMessage());
+          }
+          return cached;
+      }
+
+      /**
+       * 캐시 항목을 응답으로 복원합니다. 호출마다 새 객체를 만들므로 조회수 보정 등으로 수정해도 캐시에 영향이 없습니다.
+       *
+       * @param cached 캐시 항목
+       * @return 매물 상세 응답
+       */
+      public HomeResponseDto read(CachedDetail cached) {
+          try {
+              return objectMapper.readValue(cached.json, HomeResponseDto.class);
+          } catch (JsonProcessingException e) {
+              throw new IllegalStateException("매물 상세 역직렬화 실패", e);
+          }
+      }
+
+      /**
+       * 매물 상세 응답의 ETag를 생성합니다. 캐시 항목 이후 바뀌는 값은 조회수뿐이므로 함께 포함합니다.
+       *
+       * @param homeId 매물 ID
+       * @param cached 캐시 항목
+       * @param viewCnt 버퍼 증가분을 더한 조회수
+       * @return ETag
+       */
+      public String eTagOf(Long homeId, CachedDetail cached, Integer viewCnt) {
+          return "\"home-" + homeId + "-" + cached.version + "-" + viewCnt + "\"";
+      }
+
+      /**
+       * 매물 상세 캐시를 지웁니다. 트랜잭션 안에서 호출하면 커밋 후에 지워 커밋 전 값이 다시 저장되지 않도록 합니다.
+       *
+       * @param homeId 매물 ID
+       */
+      public void evict(Long homeId) {
+          evictAll(List.of(homeId));
+      }
+
+      /**
+       * 여러 매물의 상세 캐시를 한 번에 지우고 다른 노드에 무효화 메시지를 발행합니다.
+       *
+       * @param homeIds 매물 ID 목록
+       */
+      public void evictAll(Collection<Long> homeIds) {
+          if (homeIds.isEmpty()) {
+              return;
+          }
+          List<Long> targets = List.copyOf(homeIds);
+          if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+              invalidate(targets);
+              return;
+          }
+          TransactionSynchronizationManager.registerSynchronization(
+                  new TransactionSynchronization() {
+                      @Override
+                      public void afterCommit() {
+                          invalidate(targets);
+                      }
+                  });
+      }
+
+      private void invalidate(List<Long> homeIds) {
+          localInvalidations.incrementAndGet();
+          localCache.keySet().removeAll(homeIds);
+          List<String> keys = new ArrayList<>();
+          for (Long homeId : homeIds) {
+              keys.add(buildKey(homeId));
+              keys.add(generationKey(homeId));
+          }
+          String message =
+                  homeIds.stream().map(String::valueOf).collect(Collectors.joining(ID_DELIMITER));
+          try {
+              stringRedisTemplate.execute(
+                      INVALIDATE_SCRIPT, keys, String.valueOf(GENERATION_TTL.getSeconds()));
+              stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+          } catch (Exception e) {
+              log.warn("매물 상세 캐시 삭제 실패 - homeIds: {}, {}", homeIds, e.getMessage());
+          }
+      }
+
+      /** 다른 노드(또는 같은 노드의 다른 컨텍스트)가 발행한 무효화 메시지 처리 */
+      void removeLocal(String message) {
+          localInvalidations.incrementAndGet();
+          for (String homeId : message.split(ID_DELIMITER)) {
+              try {
+                  localCache.remove(Long.valueOf(homeId.trim()));
+              } catch (NumberFormatException e) {
+                  log.warn("잘못된 매물 상세 무효화 메시지 무시: {}", message);
+                  return;
+              }
+          }
+      }
+
+      /** 읽기 시작 후 이 노드에서 무효화가 없었을 때만 메모리 캐시에 저장 */
+      private void putLocal(Long homeId, CachedDetail cached, long invalidationsAtStart) {
+          synchronized (localCache) {
+              if (localInvalidations.get() == invalidationsAtStart) {
+                  localCache.put(homeId, cached);
+              }
+          }
+      }
+
+      private CachedDetail newEntry(String json) {
+          return new CachedDetail(
+                  json, hashOf(json), System.currentTimeMillis() + localTtlSeconds * 1000);
+      }
+
+      private String hashOf(String json) {
+          try {
+              byte[] digest =
+                      MessageDigest.getInstance("SHA-256")
+                              .digest(json.getBytes(StandardCharsets.UTF_8));
+              StringBuilder hex = new StringBuilder();
+              for (int i = 0; i < 8; i++) {
+                  hex.append(Character.forDigit((digest[i] >> 4) & 0xF, 16));
+                  hex.append(Character.forDigit(digest[i] & 0xF, 16));
+              }
+              return hex.toString();
+          } catch (Exception e) {
+              throw new IllegalStateException("매물 상세 해시 계산 실패", e);
+          }
+      }
+
+      private String buildKey(Long homeId) {
+          return KEY_PREFIX + homeId;
+      }
+
+      private String generationKey(Long homeId) {
+          return GENERATION_KEY_PREFIX + homeId;
+      }
+}
@@ -0,0 +1,197 @@
+package org.scoula.domain.home.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.scoula.domain.home.mapper.HomeMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 사용자별 찜한 매물 집합
+ *
+ * <p>목록 응답의 찜 여부를 매물마다 조회하지 않도록, 사용자별 Redis SET에 찜한 매물 ID를 보관합니다. 메모리는 매물 ID 범위가 아니라 사용자의 찜
+ * 개수에 비례하며, 한 페이지의 매물은 SMISMEMBER 한 번으로 확인합니다. "0" 멤버는 DB에서 적재를 마쳤다는 표시로 사용하며(매물 ID는 1부터 시작),
+ * 표시가 없으면 찜 목록을 DB에서 읽어 채웁니다.
+ *
+ * <p>적재는 표시와 TTL을 한 스크립트로 함께 씁니다. 찜/찜 해제는 커밋 후 적재된 집합에만 반영하므로 TTL 없는 키가 생기지 않으며, 적재되지 않은
+ * 사용자는 다음 조회 때 DB 값으로 채워집니다. DB에서 찜 목록을 읽는 사이에 찜/찜 해제가 반영되면 읽은 목록은 이미 낡은 값이므로, 사용자마다 세대
+ * 번호를 두고 찜 여부를 반영할 때마다(적재 여부와 관계없이) 세대를 올립니다. DB 조회 전에 세대를 받아 두고 세대가 그대로일 때만 적재합니다. Redis 장애
+ * 시에는 DB에서 찜 목록을 직접 조회합니다.
+ *
+ * @author ITZeep Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class HomeLikeIndex {
+
+      private static final String KEY_PREFIX = "home-like:user:";
+      private static final String GENERATION_KEY_PREFIX = "home-like:gen:";
+      private static final String INITIAL_GENERATION = "0";
+
+      /** 세대 키 유지 시간 - 찜 목록 DB 조회에 걸리는 시간보다 충분히 길어야 함 */
+      private static final Duration GENERATION_TTL = Duration.ofHours(1);
+
+      /** 적재 완료 표시 멤버 */
+      private static final String LOADED_MARKER = "0";
+
+      /** 세대가 DB 조회 전과 같을 때만 표시, 찜 목록, TTL을 기록 (KEYS: 집합 키, 세대 키 / ARGV: 세대, TTL, 표시, 매물 ID...) */
+      private static final RedisScript<Long> LOAD_SCRIPT =
+              new DefaultRedisScript<>(
+                      "if (redis.call('get', KEYS[2]) or '"
+                              + INITIAL_GENERATION
+                              + "') ~= ARGV[1] then return 0 end "
+                              + "for i = 3, #ARGV, 1000 do "
+                              + "redis.call('sadd', KEYS[1], "
+                              + "unpack(ARGV, i, math.min(i + 999, #ARGV))) end "
+                              + "redis.call('expire', KEYS[1], ARGV[2]) return 1",
+                      Long.class);
+
+      /** 세대를 올리고 적재된 집합에만 찜 여부 반영 (KEYS: 집합 키, 세대 키 / ARGV: 표시, 찜 여부, 매물 ID, 세대 TTL) */
+      private static final RedisScript<Long> MARK_SCRIPT =
+              new DefaultRedisScript<>(
+                      "redis.call('incr', KEYS[2]) redis.call('expire', KEYS[2], ARGV[4]) "
+                              + "if redis.call('sismember', KEYS[1], ARGV[1]) == 0 "
+                              + "then return 0 end "
+                              + "if ARGV[2] == '1' then redis.call('sadd', KEYS[1], ARGV[3]) "
+                              + "else redis.call('srem', KEYS[1], ARGV[3]) end return 1",
+                      Long.class);
+
+      private final RedisTemplate<String, String> stringRedisTemplate;
+      private final HomeMapper homeMapper;
+
+      /** 집합 TTL - 마지막 적재 이후 최대 유지 시간 */
+      @Value("${home.like-index.ttl-hours:24}")
+      private long ttlHours;
+
+      /**
+       * 주어진 매물 중 사용자가 찜한 매물을 반환합니다.
+       *
+       * @param userId 사용자 ID
+       * @param homeIds 확인할 매물 ID 목록
+       * @return 찜한 매물 ID 집합
+       */
+      public Set<Long> likedAmong(Long userId, Collection<Long> homeIds) {
+          if (homeIds.isEmpty()) {
+              return Set.of();
+          }
+          List<Long> targets = new ArrayList<>(homeIds);
+
+          String generation;
+          try {
+              Object[] members = new Object[targets.size() + 1];
+              members[0] = LOADED_MARKER;
+              for (int i = 0; i < targets.size(); i++) {
+                  members[i + 1] = String.valueOf(targets.get(i));
+              }
+              Map<Object, Boolean> membership =
+                      stringRedisTemplate.opsForSet().isMember(buildKey(userId), members);
+
+              if (membership != null && Boolean.TRUE.equals(membership.get(LOADED_MARKER))) {
+                  Set<Long> liked = new HashSet<>();
+                  for (int i = 0; i < targets.size(); i++) {
+                      if (Boolean.TRUE.equals(membership.get(members[i + 1]))) {
+                          liked.add(targets.get(i));
+                      }
+                  }
+                  return liked;
+              }
+              generation = stringRedisTemplate.opsForValue().get(buildGenerationKey(userId));
+          } catch (Exception e) {
+              log.warn("찜 집합 조회 실패 - DB 조회: userId={}, {}", userId, e.getMessage());
+              return filterLiked(homeMapper.findLikedHomeIds(userId), targets);
+          }
+
+          // 세대는 DB 조회 전에 받아 두어야 조회 중에 반영된 찜/찜 해제를 알아챌 수 있음
+          List<Long> likedHomeIds = homeMapper.findLikedHomeIds(userId);
+          load(userId, generation != null ? generation : INITIAL_GENERATION, likedHomeIds);
+          return filterLiked(likedHomeIds, targets);
+      }
+
+      /**
+       * 찜 여부 변경을 집합에 반영합니다. 트랜잭션 안에서 호출하면 커밋 후에 반영합니다.
+       *
+       * @param userId 사용자 ID
+       * @param homeId 매물 ID
+       * @param liked 찜 여부
+       */
+      public void mark(Long userId, Long homeId, boolean liked) {
+          if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+              apply(userId, homeId, liked);
+              return;
+          }
+          TransactionSynchronizationManager.registerSynchronization(
+                  new TransactionSynchronization() {
+                      @Override
+                      public void afterCommit() {
+                          apply(userId, homeId, liked);
+                      }
+                  });
+      }
+
+      /** 적재되지 않은 집합은 세대만 올림 - 진행 중인 적재는 건너뛰고 다음 조회 시 DB 값으로 적재 */
+      private void apply(Long userId, Long homeId, boolean liked) {
+          try {
+              stringRedisTemplate.execute(
+                      MARK_SCRIPT,
+                      List.of(buildKey(userId), buildGenerationKey(userId)),
+                      LOADED_MARKER,
+                      liked ? "1" : "0",
+                      String.valueOf(homeId),
+                      String.valueOf(GENERATION_TTL.getSeconds()));
+          } catch (Exception e) {
+              log.warn(
+                      "찜 집합 갱신 실패 - userId={}, homeId={}, {}",
+                      userId,
+                      homeId,
+                      e.getMessage());
+          }
+      }
+
+      private void load(Long userId, String generation, List<Long> likedHomeIds) {
+          Object[] args = new Object[likedHomeIds.size() + 3];
+          args[0] = generation;
+          args[1] = String.valueOf(Duration.ofHours(ttlHours).getSeconds());
+          args[2] = LOADED_MARKER;
+          for (int i = 0; i < likedHomeIds.size(); i++) {
+              args[i + 3] = String.valueOf(likedHomeIds.get(i));
+          }
+          try {
+              stringRedisTemplate.execute(
+                      LOAD_SCRIPT,
+                      List.of(buildKey(userId), buildGenerationKey(userId)),
+                      args);
+          } catch (Exception e) {
+              log.warn("찜 집합 적재 실패: userId={}, {}", userId, e.getMessage());
+          }
+      }
+
+      private Set<Long> filterLiked(List<Long> likedHomeIds, List<Long> targets) {
+          Set<Long> liked = new HashSet<>(likedHomeIds);
+          liked.retainAll(targets);
+          return liked;
+      }
+
+      private String buildKey(Long userId) {
+          return KEY_PREFIX + userId;
+      }
+
+      private String buildGenerationKey(Long userId) {
+          return GENERATION_KEY_PREFIX + userId;
+      }
+}
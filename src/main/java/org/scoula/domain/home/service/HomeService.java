@@ -4,17 +4,47 @@ import java.util.List;
 
 import org.scoula.domain.home.dto.request.HomeCreateRequestDto;
 import org.scoula.domain.home.dto.request.HomeReportRequestDto;
+import org.scoula.domain.home.dto.request.HomeSearchRequestDto;
 import org.scoula.domain.home.dto.request.HomeUpdateRequestDto;
+import org.scoula.domain.home.dto.response.HomeCursorPageResponseDto;
+import org.scoula.domain.home.dto.response.HomeDetailResultDto;
 import org.scoula.domain.home.dto.response.HomeResponseDto;
 import org.scoula.global.common.dto.PageRequest;
 import org.scoula.global.common.dto.PageResponse;
 
 public interface HomeService {
 
-      PageResponse<HomeResponseDto> getHomeList(PageRequest pageRequest);
+      /**
+       * 전체 매물을 페이징하여 조회합니다.
+       *
+       * @param pageRequest 페이지 요청
+       * @param userId 로그인 사용자 ID, 있으면 찜 여부를 함께 표시 (비로그인이면 null)
+       * @return 매물 목록
+       */
+      PageResponse<HomeResponseDto> getHomeList(PageRequest pageRequest, Long userId);
+
+      /**
+       * 조건에 맞는 매물을 최신순으로 커서 페이징하여 조회합니다.
+       *
+       * @param condition 검색 조건
+       * @param cursor 이전 응답의 nextCursor, 첫 페이지면 null
+       * @param size 페이지 크기
+       * @param userId 로그인 사용자 ID, 있으면 찜 여부를 함께 표시 (비로그인이면 null)
+       * @return 매물 목록과 다음 커서
+       */
+      HomeCursorPageResponseDto searchHomes(
+              HomeSearchRequestDto condition, String cursor, int size, Long userId);
 
       HomeResponseDto getHomeDetail(Long homeId);
 
+      /**
+       * 매물 상세와 그 ETag를 함께 반환합니다. 응답과 ETag를 같은 캐시 항목에서 만들므로 서로 어긋나지 않습니다.
+       *
+       * @param homeId 매물 ID
+       * @return 매물 상세와 ETag
+       */
+      HomeDetailResultDto getHomeDetailWithETag(Long homeId);
+
       Long createHome(Long userId, HomeCreateRequestDto request);
 
       void updateHome(Long userId, Long homeId, HomeUpdateRequestDto request);
@@ -27,7 +57,22 @@ public interface HomeService {
 
       List<HomeResponseDto> getLikedHomes(Long userId);
 
-      void increaseViewCount(Long homeId);
+      /**
+       * 가격, 면적, 방 개수, 주거 유형, 층, 위치가 비슷한 매물을 가까운 순으로 조회합니다.
+       *
+       * @param homeId 기준 매물 ID
+       * @param size 최대 개수
+       * @return 유사 매물 목록 (기준 매물 제외)
+       */
+      List<HomeResponseDto> getSimilarHomes(Long homeId, int size);
+
+      /**
+       * 조회수를 증가시킵니다. 같은 조회자의 반복 조회는 일정 기간 한 번만 셉니다.
+       *
+       * @param homeId 매물 ID
+       * @param viewerKey 조회자 구분 값 (로그인 사용자 ID 또는 IP)
+       */
+      void increaseViewCount(Long homeId, String viewerKey);
 
       //      PageResponse<HomeResponseDto> getMyHomeList(Long userId, PageRequest pageRequest);
 
@@ -1,25 +1,48 @@
 package org.scoula.domain.home.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.scoula.domain.home.dto.request.HomeCreateRequestDto;
 import org.scoula.domain.home.dto.request.HomeReportRequestDto;
+import org.scoula.domain.home.dto.request.HomeSearchRequestDto;
 import org.scoula.domain.home.dto.request.HomeUpdateRequestDto;
 import org.scoula.domain.home.dto.response.FacilityResponseDto;
+import org.scoula.domain.home.dto.response.HomeCursorPageResponseDto;
+import org.scoula.domain.home.dto.response.HomeDetailResultDto;
 import org.scoula.domain.home.dto.response.HomeResponseDto;
 import org.scoula.domain.home.dto.response.MaintenanceFeeItemResponseDto;
+import org.scoula.domain.home.exception.HomeErrorCode;
 import org.scoula.domain.home.exception.HomeRegisterException;
 import org.scoula.domain.home.mapper.HomeMapper;
+import org.scoula.domain.home.vo.HomeImageVO;
 import org.scoula.domain.home.vo.HomeRegisterVO;
 import org.scoula.domain.home.vo.HomeReportVO;
 import org.scoula.global.auth.util.S3Uploader;
 import org.scoula.global.common.dto.PageRequest;
 import org.scoula.global.common.dto.PageResponse;
+import org.scoula.global.common.exception.BusinessException;
+import org.scoula.global.file.service.ImageDerivativeService;
+import org.scoula.global.redis.service.ListCountCacheService;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -30,14 +53,37 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class HomeServiceImpl implements HomeService {
 
+      private static final int MAX_SEARCH_PAGE_SIZE = 50;
+      private static final int MAX_SIMILAR_HOMES = 20;
+      private static final String CURSOR_DELIMITER = "|";
+      private static final String HOME_IMAGE_DIR = "homes";
+
       private final HomeMapper homeMapper;
       private final S3Uploader s3Uploader;
+      private final ListCountCacheService listCountCacheService;
+      private final HomeViewCountBuffer homeViewCountBuffer;
+      private final HomeDetailCacheService homeDetailCacheService;
+      private final HomeLikeIndex homeLikeIndex;
+      private final SimilarHomeIndex similarHomeIndex;
+
+      /** 매물 상세의 이미지/관리비/시설 쿼리를 동시에 실행하는 공용 스레드 풀 */
+      @Qualifier("detailQueryExecutor")
+      private final ExecutorService detailQueryExecutor;
+
+      /** 매물 이미지를 병렬로 업로드하는 공용 스레드 풀 - 노드 전체의 동시 업로드 수를 제한 */
+      @Qualifier("imageUploadExecutor")
+      private final ExecutorService imageUploadExecutor;
 
       @Override
-      public PageResponse<HomeResponseDto> getHomeList(PageRequest pageRequest) {
+      public PageResponse<HomeResponseDto> getHomeList(PageRequest pageRequest, Long userId) {
           List<HomeRegisterVO> homes =
                   homeMapper.findHomes(pageRequest.getOffset(), pageRequest.getSize());
-          long totalCount = homeMapper.countHomes(pageRequest);
+          long totalCount =
+                  listCountCacheService.count(
+                          ListCountCacheService.Scope.HOMES,
+                          null,
+                          pageRequest.isApproximateCount(),
+                          () -> homeMapper.countHomes(pageRequest));
 
           List<HomeResponseDto> content =
                   homes.stream()
@@ -46,6 +92,8 @@ public class HomeServiceImpl implements HomeService {
                                           HomeResponseDto.from(
                                                   home, null, null)) // 두 번째, 세 번째 인자에 null 전달
                           .collect(Collectors.toList());
+          applyPendingViews(content);
+          applyLikedFlags(content, userId);
 
           return PageResponse.<HomeResponseDto>builder()
                   .content(content)
@@ -56,18 +104,161 @@ public class HomeServiceImpl implements HomeService {
       }
 
       @Override
+      public HomeCursorPageResponseDto searchHomes(
+              HomeSearchRequestDto condition, String cursor, int size, Long userId) {
+          if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+              throw new BusinessException(
+                      HomeErrorCode.HOME_INVALID_SEARCH_CONDITION,
+                      "페이지 크기는 1 이상 " + MAX_SEARCH_PAGE_SIZE + " 이하여야 합니다.");
+          }
+          HomeSearchRequestDto searchCondition =
+                  condition != null ? condition : new HomeSearchRequestDto();
+
+          HomeRegisterVO last =
+                  cursor != null && !cursor.isBlank()
+                          ? decodeSearchCursor(cursor)
+                          : new HomeRegisterVO();
+
+          // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+          List<HomeRegisterVO> homes =
+                  new ArrayList<>(
+                          homeMapper.searchHomes(
+                                  searchCondition,
+                                  last.getCreatedAt(),
+                                  last.getHomeId(),
+                                  size + 1));
+
+          boolean hasNext = homes.size() > size;
+          if (hasNext) {
+              homes = new ArrayList<>(homes.subList(0, size));
+          }
+          String nextCursor = hasNext ? encodeSearchCursor(homes.get(size - 1)) : null;
+
+          List<HomeResponseDto> content =
+                  homes.stream()
+                          .map(home -> HomeResponseDto.from(home, null, null))
+                          .collect(Collectors.toList());
+          applyPendingViews(content);
+          applyLikedFlags(content, userId);
+
+          return HomeCursorPageResponseDto.builder()
+                  .content(content)
+                  .nextCursor(nextCursor)
+                  .size(size)
+                  .hasNext(hasNext)
+                  .build();
+      }
+
+      /** 검색 커서 인코딩 - "createdAt|homeId"를 URL-safe Base64로 변환 */
+      static String encodeSearchCursor(HomeRegisterVO home) {
+          String raw = home.getCreatedAt() + CURSOR_DELIMITER + home.getHomeId();
+          return Base64.getUrlEncoder()
+                  .withoutPadding()
+                  .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+      }
+
+      /** 검색 커서 디코딩 - createdAt, homeId만 채운 마지막 매물 반환 */
+      static HomeRegisterVO decodeSearchCursor(String cursor) {
+          try {
+              String raw =
+                      new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+              int delimiterIndex = raw.lastIndexOf(CURSOR_DELIMITER);
+              return HomeRegisterVO.builder()
+                      .createdAt(LocalDateTime.parse(raw.substring(0, delimiterIndex)))
+                      .homeId(Long.valueOf(raw.substring(delimiterIndex + 1)))
+                      .build();
+          } catch (IllegalArgumentException
+                  | IndexOutOfBoundsException
+                  | DateTimeParseException e) {
+              throw new BusinessException(
+                      HomeErrorCode.HOME_INVALID_SEARCH_CONDITION, "유효하지 않은 커서입니다.");
+          }
+      }
+
+      @Override
+      @Transactional(propagation = Propagation.NOT_SUPPORTED)
       public HomeResponseDto getHomeDetail(Long homeId) {
+          HomeResponseDto response = homeDetailCacheService.read(cachedHomeDetail(homeId));
+          applyPendingViews(List.of(response));
+          return response;
+      }
+
+      @Override
+      @Transactional(propagation = Propagation.NOT_SUPPORTED)
+      public HomeDetailResultDto getHomeDetailWithETag(Long homeId) {
+          HomeDetailCacheService.CachedDetail cached = cachedHomeDetail(homeId);
+          HomeResponseDto response = homeDetailCacheService.read(cached);
+          applyPendingViews(List.of(response));
+          return HomeDetailResultDto.builder()
+                  .detail(response)
+                  .eTag(homeDetailCacheService.eTagOf(homeId, cached, response.getViewCnt()))
+                  .build();
+      }
+
+      /** 캐시된 매물 상세를 반환하고, 없으면 DB에서 조립해 저장 (조립 중 무효화되었으면 저장하지 않음) */
+      private HomeDetailCacheService.CachedDetail cachedHomeDetail(Long homeId) {
+          HomeDetailCacheService.CachedDetail cached = homeDetailCacheService.get(homeId);
+          if (cached == null) {
+              HomeDetailCacheService.LoadToken token = homeDetailCacheService.loadToken(homeId);
+              cached = homeDetailCacheService.put(token, loadHomeDetail(homeId));
+          }
+          return cached;
+      }
+
+      /**
+       * 기본 정보를 조회한 뒤 이미지/관리비/시설을 각각의 쿼리로 동시에 조회해 조립합니다. 한 쿼리로 JOIN하면 행 수가 이미지 × 관리비 × 시설로 곱해지므로
+       * 자식 테이블마다 따로 조회해 결과 크기를 자식 행 수에 비례하도록 합니다.
+       *
+       * <p>호출 스레드가 트랜잭션 커넥션을 잡은 채 작업 스레드의 커넥션을 기다리지 않도록 상세 조회는 트랜잭션 없이 실행합니다. 공용 풀이 가득 차면 호출
+       * 스레드에서 순서대로 조회합니다.
+       */
+      private HomeResponseDto loadHomeDetail(Long homeId) {
           HomeRegisterVO home =
                   homeMapper
                           .findHomeById(homeId)
                           .orElseThrow(() -> new HomeRegisterException("매물을 찾을 수 없습니다."));
 
-          List<MaintenanceFeeItemResponseDto> maintenanceItems =
-                  homeMapper.findHomeMaintenanceItemsByHomeId(homeId);
+          CompletableFuture<List<HomeImageVO>> images =
+                  detailQuery(() -> homeMapper.findHomeImagesByHomeId(homeId));
+          CompletableFuture<List<MaintenanceFeeItemResponseDto>> maintenanceItems =
+                  detailQuery(() -> homeMapper.findHomeMaintenanceItemsByHomeId(homeId));
+          CompletableFuture<List<FacilityResponseDto>> facilities =
+                  detailQuery(() -> homeMapper.findHomeFacilities(homeId));
+
+          try {
+              CompletableFuture.allOf(images, maintenanceItems, facilities).join();
+          } catch (CompletionException e) {
+              if (e.getCause() instanceof RuntimeException) {
+                  throw (RuntimeException) e.getCause();
+              }
+              throw e;
+          }
 
-          List<FacilityResponseDto> facilities = homeMapper.findHomeFacilities(homeId); // 시설 정보 조회
+          HomeResponseDto response =
+                  HomeResponseDto.from(home, maintenanceItems.join(), facilities.join());
+          List<String> imageUrls = new ArrayList<>();
+          List<String> mediumImageUrls = new ArrayList<>();
+          for (HomeImageVO image : images.join()) {
+              imageUrls.add(image.getImageUrl());
+              // 파생본 생성이 끝난 이미지만 중간 크기 URL 노출
+              mediumImageUrls.add(
+                      Boolean.TRUE.equals(image.getDerivativesReady())
+                              ? ImageDerivativeService.variantUrl(
+                                      image.getImageUrl(), ImageDerivativeService.Variant.MEDIUM)
+                              : null);
+          }
+          response.setImageUrls(imageUrls);
+          response.setMediumImageUrls(mediumImageUrls);
+          return response;
+      }
 
-          return HomeResponseDto.from(home, maintenanceItems, facilities); // 세 인자 모두 전달
+      /** 상세 자식 쿼리를 공용 풀에 제출 - 풀이 가득 차면 호출 스레드에서 바로 실행 */
+      private <T> CompletableFuture<T> detailQuery(Supplier<T> query) {
+          try {
+              return CompletableFuture.supplyAsync(query, detailQueryExecutor);
+          } catch (RejectedExecutionException e) {
+              return CompletableFuture.completedFuture(query.get());
+          }
       }
 
       @Override
@@ -83,6 +274,9 @@ public class HomeServiceImpl implements HomeService {
           }
 
           homeMapper.deleteHome(homeId);
+          homeDetailCacheService.evict(homeId);
+          similarHomeIndex.refresh(homeId);
+          evictHomeCounts(userId);
       }
 
       @Override
@@ -93,6 +287,9 @@ public class HomeServiceImpl implements HomeService {
           HomeRegisterVO vo = HomeRegisterVO.from(userId, request);
           vo.setUserName(userName);
 
+          // 이미지 업로드를 먼저 시작해 매물 INSERT와 겹치도록 함
+          List<CompletableFuture<String>> imageUploads = startImageUploads(request.getImageFiles());
+
           homeMapper.insertHome(userId, userName, vo);
           Long homeId = vo.getHomeId();
 
@@ -109,13 +306,12 @@ public class HomeServiceImpl implements HomeService {
                               request.getFacilityItemIds()));
           }
 
-          if (request.getImageFiles() != null && !request.getImageFiles().isEmpty()) {
-              List<String> imageUrls =
-                      request.getImageFiles().stream()
-                              .map(file -> s3Uploader.upload(file, "homes"))
-                              .collect(Collectors.toList());
+          if (!imageUploads.isEmpty()) {
+              List<String> imageUrls = awaitImageUploads(imageUploads);
 
               homeMapper.insertHomeImages(Map.of("homeId", homeId, "imageUrls", imageUrls));
+              homeMapper.refreshHomeThumbnail(homeId);
+              generateDerivativesAfterCommit(homeId, imageUrls);
           }
 
           if (request.getMaintenanceFeeItems() != null
@@ -129,9 +325,123 @@ public class HomeServiceImpl implements HomeService {
                                               HomeRegisterVO.MaintenanceFeeItem::getFee)));
           }
 
+          evictHomeCounts(userId);
+          similarHomeIndex.refresh(homeId);
           return homeId;
       }
 
+      /**
+       * 이미지 업로드를 병렬로 시작합니다. 트랜잭션이 롤백되면 업로드된(또는 이후 완료되는) 파일을 모두 삭제하도록 업로드 제출 전에 등록합니다. 공용 풀이
+       * 가득 차면 이미 제출한 업로드는 롤백 시 삭제되고 요청은 실패합니다.
+       */
+      private List<CompletableFuture<String>> startImageUploads(List<MultipartFile> imageFiles) {
+          if (imageFiles == null || imageFiles.isEmpty()) {
+              return List.of();
+          }
+
+          List<CompletableFuture<String>> uploads = new ArrayList<>(imageFiles.size());
+          if (TransactionSynchronizationManager.isSynchronizationActive()) {
+              TransactionSynchronizationManager.registerSynchronization(
+                      new TransactionSynchronization() {
+                          @Override
+                          public void afterCompletion(int status) {
+                              if (status == STATUS_ROLLED_BACK) {
+                                  uploads.forEach(upload -> deleteUploadedQuietly(upload));
+                              }
+                          }
+                      });
+          }
+
+          for (MultipartFile file : imageFiles) {
+              try {
+                  uploads.add(
+                          CompletableFuture.supplyAsync(
+                                  () -> s3Uploader.upload(file, HOME_IMAGE_DIR),
+                                  imageUploadExecutor));
+              } catch (RejectedExecutionException e) {
+                  log.warn("매물 이미지 업로드 풀 포화 - 요청 거절: {}", e.getMessage());
+                  deleteIfNotTransactional(uploads);
+                  throw new BusinessException(HomeErrorCode.HOME_IMAGE_UPLOAD_BUSY);
+              }
+          }
+          return uploads;
+      }
+
+      /** 업로드 순서대로 URL을 반환하고, 하나라도 실패하면 예외 발생 (나머지는 롤백 시 삭제) */
+      private List<String> awaitImageUploads(List<CompletableFuture<String>> uploads) {
+          List<String> imageUrls = new ArrayList<>(uploads.size());
+          for (CompletableFuture<String> upload : uploads) {
+              try {
+                  imageUrls.add(upload.join());
+              } catch (CompletionException e) {
+                  log.error("매물 이미지 업로드 실패", e.getCause());
+                  deleteIfNotTransactional(uploads);
+                  throw new BusinessException(
+                          HomeErrorCode.HOME_IMAGE_UPLOAD_FAILED, "매물 이미지 업로드에 실패했습니다.");
+              }
+          }
+          return imageUrls;
+      }
+
+      /** 커밋된 매물의 이미지만 파생본 생성 - 생성이 끝나면 완료를 표시해 그때부터 파생본 URL 노출 */
+      private void generateDerivativesAfterCommit(Long homeId, List<String> imageUrls) {
+          Runnable generate =
+                  () ->
+                          imageUrls.forEach(
+                                  imageUrl ->
+                                          s3Uploader.generateDerivatives(
+                                                  imageUrl,
+                                                  () -> markDerivativesReady(homeId, imageUrl)));
+          if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+              generate.run();
+              return;
+          }
+          TransactionSynchronizationManager.registerSynchronization(
+                  new TransactionSynchronization() {
+                      @Override
+                      public void afterCommit() {
+                          generate.run();
+                      }
+                  });
+      }
+
+      /** 파생본 생성 완료 표시 (파생본 작업 스레드에서 실행) - 캐시된 상세와 유사 매물 색인에도 반영 */
+      private void markDerivativesReady(Long homeId, String imageUrl) {
+          if (homeMapper.markHomeImageDerivativesReady(homeId, imageUrl) > 0) {
+              homeDetailCacheService.evict(homeId);
+              similarHomeIndex.refresh(homeId);
+          }
+      }
+
+      /** 트랜잭션 밖이라 롤백 시 삭제가 등록되지 않았으면 바로 삭제 */
+      private void deleteIfNotTransactional(List<CompletableFuture<String>> uploads) {
+          if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+              uploads.forEach(this::deleteUploadedQuietly);
+          }
+      }
+
+      /** 업로드가 성공했거나 이후 성공하면 해당 S3 파일 삭제 */
+      private void deleteUploadedQuietly(CompletableFuture<String> upload) {
+          upload.whenComplete(
+                  (imageUrl, ex) -> {
+                      if (imageUrl == null) {
+                          return;
+                      }
+                      try {
+                          s3Uploader.deleteByUrl(imageUrl);
+                          log.debug("매물 등록 실패로 업로드 이미지 삭제 - {}", imageUrl);
+                      } catch (Exception e) {
+                          log.error("매물 등록 실패 후 업로드 이미지 삭제 실패 - {}", imageUrl, e);
+                      }
+                  });
+      }
+
+      /** 매물 등록/삭제 후 전체 매물, 내 매물 개수 캐시 무효화 */
+      private void evictHomeCounts(Long userId) {
+          listCountCacheService.evict(ListCountCacheService.Scope.HOMES, null);
+          listCountCacheService.evict(ListCountCacheService.Scope.MY_PROPERTIES, userId);
+      }
+
       @Override
       @Transactional
       public void updateHome(Long userId, Long homeId, HomeUpdateRequestDto request) {
@@ -146,31 +456,87 @@ public class HomeServiceImpl implements HomeService {
 
           HomeRegisterVO vo = HomeRegisterVO.from(userId, request);
           homeMapper.updateHome(vo);
+          homeDetailCacheService.evict(homeId);
+          similarHomeIndex.refresh(homeId);
       }
 
       @Override
       @Transactional
       public void addLike(Long userId, Long homeId) {
-          homeMapper.insertHomeLike(userId, homeId);
+          if (homeMapper.insertHomeLike(userId, homeId) > 0) {
+              homeMapper.updateLikeCount(homeId, 1);
+              homeDetailCacheService.evict(homeId);
+              homeLikeIndex.mark(userId, homeId, true);
+          }
       }
 
       @Override
       @Transactional
       public void removeLike(Long userId, Long homeId) {
-          homeMapper.deleteLike(userId, homeId);
+          if (homeMapper.deleteLike(userId, homeId) > 0) {
+              homeMapper.updateLikeCount(homeId, -1);
+              homeDetailCacheService.evict(homeId);
+              homeLikeIndex.mark(userId, homeId, false);
+          }
       }
 
       @Override
       public List<HomeResponseDto> getLikedHomes(Long userId) {
-          return homeMapper.findLikedHomes(userId).stream()
-                  .map(home -> HomeResponseDto.from(home, null, null))
-                  .collect(Collectors.toList());
+          List<HomeResponseDto> likedHomes =
+                  homeMapper.findLikedHomes(userId).stream()
+                          .map(home -> HomeResponseDto.from(home, null, null))
+                          .collect(Collectors.toList());
+          applyPendingViews(likedHomes);
+          likedHomes.forEach(home -> home.setIsLiked(true));
+          return likedHomes;
       }
 
       @Override
-      @Transactional
-      public void increaseViewCount(Long homeId) {
-          homeMapper.incrementViewCount(homeId);
+      public List<HomeResponseDto> getSimilarHomes(Long homeId, int size) {
+          if (size < 1 || size > MAX_SIMILAR_HOMES) {
+              throw new BusinessException(
+                      HomeErrorCode.HOME_INVALID_SEARCH_CONDITION,
+                      "유사 매물 개수는 1 이상 " + MAX_SIMILAR_HOMES + " 이하여야 합니다.");
+          }
+          List<HomeResponseDto> similarHomes =
+                  similarHomeIndex.findSimilar(homeId, size).stream()
+                          .map(home -> HomeResponseDto.from(home, null, null))
+                          .collect(Collectors.toList());
+          applyPendingViews(similarHomes);
+          return similarHomes;
+      }
+
+      @Override
+      public void increaseViewCount(Long homeId, String viewerKey) {
+          homeViewCountBuffer.record(homeId, viewerKey);
+      }
+
+      /** 로그인 사용자의 찜 여부 표시 - 비로그인이면 null로 둠 */
+      private void applyLikedFlags(List<HomeResponseDto> homes, Long userId) {
+          if (userId == null || homes.isEmpty()) {
+              return;
+          }
+          List<Long> homeIds =
+                  homes.stream().map(HomeResponseDto::getHomeId).collect(Collectors.toList());
+          Set<Long> liked = homeLikeIndex.likedAmong(userId, homeIds);
+          homes.forEach(home -> home.setIsLiked(liked.contains(home.getHomeId())));
+      }
+
+      /** 아직 DB에 반영되지 않은 조회수 증가분을 응답에 더함 */
+      private void applyPendingViews(List<HomeResponseDto> homes) {
+          if (homes.isEmpty()) {
+              return;
+          }
+          List<Long> homeIds =
+                  homes.stream().map(HomeResponseDto::getHomeId).collect(Collectors.toList());
+          Map<Long, Long> pending = homeViewCountBuffer.pendingCounts(homeIds);
+          for (HomeResponseDto home : homes) {
+              Long delta = pending.get(home.getHomeId());
+              if (delta != null) {
+                  int viewCnt = home.getViewCnt() != null ? home.getViewCnt() : 0;
+                  home.setViewCnt(viewCnt + delta.intValue());
+              }
+          }
       }
 
       @Override
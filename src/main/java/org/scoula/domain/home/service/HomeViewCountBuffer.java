@@ -0,0 +1,218 @@
+package org.scoula.domain.home.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.scoula.domain.home.mapper.HomeMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 매물 조회수 쓰기 버퍼
+ *
+ * <p>조회마다 home 행을 UPDATE하면 인기 매물에서 행 잠금이 매물 수정과 경합하므로, 조회수 증가분을 Redis 해시(HINCRBY)에 모아 두고 주기적으로 한
+ * 번의 UPDATE로 반영합니다. 같은 사용자(비로그인은 IP)의 반복 조회는 중복 제거 기간 동안 한 번만 셉니다. 조회 API는 {@link #pendingCounts}로
+ * 아직 반영되지 않은 증가분을 더해 반환합니다.
+ *
+ * <p>반영 시에는 대기 해시를 반영 중 해시로 옮긴 뒤 DB에 쓰고 지우므로, 반영 도중 들어온 조회는 다음 주기로 넘어갑니다. DB 반영이 실패하면 반영 중
+ * 해시가 남아 다음 주기에 다시 시도합니다. Redis 장애 시에는 DB를 직접 갱신합니다.
+ *
+ * <p>반영 잠금에는 노드마다 새 토큰을 넣고, 해제할 때는 토큰이 같을 때만 지웁니다. 반영이 잠금 유지 시간보다 오래 걸려 다른 노드가 잠금을 가져간 뒤에도
+ * 그 노드의 잠금을 지우지 않습니다.
+ *
+ * @author ITZeep Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class HomeViewCountBuffer {
+
+      private static final String KEY_PREFIX = "home-view:";
+      private static final String PENDING_KEY = KEY_PREFIX + "pending";
+      private static final String FLUSHING_KEY = KEY_PREFIX + "flushing";
+      private static final String FLUSH_LOCK_KEY = KEY_PREFIX + "flush-lock";
+      private static final String SEEN_KEY_PREFIX = KEY_PREFIX + "seen:";
+
+      /** UPDATE 한 번에 반영하는 최대 매물 수 */
+      private static final int FLUSH_CHUNK_SIZE = 500;
+
+      /** 잠금 값이 토큰과 같을 때만 삭제 */
+      private static final RedisScript<Long> RELEASE_LOCK_SCRIPT =
+              new DefaultRedisScript<>(
+                      "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                              + "return redis.call('del', KEYS[1]) else return 0 end",
+                      Long.class);
+
+      private final RedisTemplate<String, String> stringRedisTemplate;
+      private final HomeMapper homeMapper;
+      private final HomeDetailCacheService homeDetailCacheService;
+
+      /** 같은 조회자의 반복 조회를 한 번으로 세는 기간 */
+      @Value("${home.view.dedup-window-minutes:30}")
+      private long dedupWindowMinutes;
+
+      /** 반영 잠금 유지 시간 - 반영 중 노드가 죽어도 이 시간이 지나면 다른 노드가 이어서 반영 */
+      @Value("${home.view.flush-lock-seconds:60}")
+      private long flushLockSeconds;
+
+      /**
+       * 조회를 기록합니다. 중복 제거 기간 안의 같은 조회자 재조회는 무시합니다.
+       *
+       * @param homeId 매물 ID
+       * @param viewerKey 조회자 구분 값 (사용자 ID 또는 IP), null이면 중복 제거 없이 기록
+       * @return 조회수에 반영되었으면 true
+       */
+      public boolean record(Long homeId, String viewerKey) {
+          try {
+              if (viewerKey != null) {
+                  Boolean firstView =
+                          stringRedisTemplate
+                                  .opsForValue()
+                                  .setIfAbsent(
+                                          SEEN_KEY_PREFIX + homeId + ":" + viewerKey,
+                                          "1",
+                                          Duration.ofMinutes(dedupWindowMinutes));
+                  if (!Boolean.TRUE.equals(firstView)) {
+                      return false;
+                  }
+              }
+              stringRedisTemplate.opsForHash().increment(PENDING_KEY, homeId.toString(), 1);
+              return true;
+          } catch (Exception e) {
+              log.warn("조회수 버퍼 기록 실패 - DB 직접 반영: homeId={}, {}", homeId, e.getMessage());
+              homeMapper.incrementViewCount(homeId);
+              return true;
+          }
+      }
+
+      /**
+       * 아직 DB에 반영되지 않은 조회수 증가분을 조회합니다.
+       *
+       * @param homeIds 매물 ID 목록
+       * @return 매물 ID별 증가분 (증가분이 없는 매물은 제외)
+       */
+      public Map<Long, Long> pendingCounts(Collection<Long> homeIds) {
+          Map<Long, Long> pending = new HashMap<>();
+          if (homeIds == null || homeIds.isEmpty()) {
+              return pending;
+          }
+          List<Object> fields = new ArrayList<>();
+          for (Long homeId : homeIds) {
+              fields.add(homeId.toString());
+          }
+          try {
+              addAll(pending, fields, multiGet(PENDING_KEY, fields));
+              addAll(pending, fields, multiGet(FLUSHING_KEY, fields));
+          } catch (Exception e) {
+              log.warn("조회수 버퍼 조회 실패 - DB 값만 사용: {}", e.getMessage());
+          }
+          return pending;
+      }
+
+      /** 대기 중인 조회수 증가분을 DB에 반영 */
+      @Scheduled(
+              fixedDelayString = "${home.view.flush-interval-ms:10000}",
+              initialDelayString = "${home.view.flush-interval-ms:10000}")
+      public void flush() {
+          try {
+              String lockToken = UUID.randomUUID().toString();
+              Boolean locked =
+                      stringRedisTemplate
+                              .opsForValue()
+                              .setIfAbsent(
+                                      FLUSH_LOCK_KEY,
+                                      lockToken,
+                                      Duration.ofSeconds(flushLockSeconds));
+              if (!Boolean.TRUE.equals(locked)) {
+                  return;
+              }
+              try {
+                  // 이전 반영이 실패해 남은 반영 중 해시가 있으면 그것부터 반영
+                  if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(FLUSHING_KEY))) {
+                      if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(PENDING_KEY))) {
+                          return;
+                      }
+                      stringRedisTemplate.rename(PENDING_KEY, FLUSHING_KEY);
+                  }
+                  int flushed =
+                          applyToDatabase(stringRedisTemplate.opsForHash().entries(FLUSHING_KEY));
+                  stringRedisTemplate.delete(FLUSHING_KEY);
+                  if (flushed > 0) {
+                      log.debug("조회수 반영 완료 - {}개 매물", flushed);
+                  }
+              } finally {
+                  stringRedisTemplate.execute(
+                          RELEASE_LOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), lockToken);
+              }
+          } catch (Exception e) {
+              log.warn("조회수 반영 실패 - 다음 주기에 재시도: {}", e.getMessage());
+          }
+      }
+
+      /**
+       * 매물 ID 순으로 묶어 CASE UPDATE 실행 (잠금 순서 고정). 반영한 묶음은 반영 중 해시에서 바로 지워 재시도 시 두 번 더하지 않습니다.
+       */
+      private int applyToDatabase(Map<Object, Object> entries) {
+          Map<Long, Long> deltas = new TreeMap<>();
+          for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+              long delta = Long.parseLong(entry.getValue().toString());
+              if (delta > 0) {
+                  deltas.put(Long.valueOf(entry.getKey().toString()), delta);
+              }
+          }
+
+          Map<Long, Long> chunk = new TreeMap<>();
+          for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+              chunk.put(entry.getKey(), entry.getValue());
+              if (chunk.size() == FLUSH_CHUNK_SIZE) {
+                  applyChunk(chunk);
+                  chunk = new TreeMap<>();
+              }
+          }
+          if (!chunk.isEmpty()) {
+              applyChunk(chunk);
+          }
+          return deltas.size();
+      }
+
+      private void applyChunk(Map<Long, Long> chunk) {
+          homeMapper.addViewCounts(chunk);
+          // 캐시된 상세의 조회수는 반영 전 DB 값이므로, 버퍼에서 빠지는 증가분만큼 줄어 보이지 않도록 함께 삭제
+          homeDetailCacheService.evictAll(chunk.keySet());
+          stringRedisTemplate
+                  .opsForHash()
+                  .delete(FLUSHING_KEY, chunk.keySet().stream().map(String::valueOf).toArray());
+      }
+
+      private List<Object> multiGet(String key, List<Object> fields) {
+          return stringRedisTemplate.opsForHash().multiGet(key, fields);
+      }
+
+      private void addAll(Map<Long, Long> pending, List<Object> fields, List<Object> values) {
+          if (values == null) {
+              return;
+          }
+          for (int i = 0; i < fields.size() && i < values.size(); i++) {
+              if (values.get(i) != null) {
+                  pending.merge(
+                          Long.valueOf(fields.get(i).toString()),
+                          Long.parseLong(values.get(i).toString()),
+                          Long::sum);
+              }
+          }
+      }
+}
@@ -0,0 +1,395 @@
+package org.scoula.domain.home.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.scoula.domain.home.enums.HomeStatus;
+import org.scoula.domain.home.mapper.HomeMapper;
+import org.scoula.domain.home.vo.HomeRegisterVO;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 유사 매물 검색용 메모리 인덱스
+ *
+ * <p>매물마다 보증금, 월세(로그 스케일), 전용면적, 방 개수, 층을 표준화한 수치 특성과 주거 유형, 임대 유형, 시/도, 시/군/구 범주 특성을 만들고, 가중
+ * 유클리드 거리(범주가 다르면 고정 거리)로 {@link VantagePointTree}를 구성합니다. 조회는 만들어 둔 스냅샷만 읽으므로 DB를 조회하지 않습니다.
+ *
+ * <p>시작 시 전체 매물을 적재하고, 매물 등록/수정/삭제가 커밋되면 해당 매물만 다시 읽어 반영합니다. 트리는 다시 만들지 않고 변경된 매물을 별도 목록에
+ * 두어 조회 때 함께 비교하며, 트리에 남은 이전 값은 결과에서 제외합니다. 변경이 {@value #MAX_PENDING_CHANGES}건을 넘으면 트리를 다시 만듭니다.
+ * 변경된 매물은 마지막 구성 때의 평균/표준편차로 표준화합니다. 다른 노드의 변경은 주기적인 전체 재적재로 반영하며, 이때 표준화 기준도 다시 계산합니다.
+ *
+ * <p>적재와 반영은 전용 스레드 하나에서만 실행하므로 변경 중인 상태를 조회 스레드와 공유하지 않습니다. 계약 완료 매물은 제외합니다. 인덱스가 노드마다 하나만
+ * 있도록 루트 컨텍스트에만 등록하며({@code ServletConfig}에서 제외), 주기적 재적재는 {@code SchedulingConfig}의 스케줄러에서 실행됩니다.
+ *
+ * @author ITZeep Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class SimilarHomeIndex {
+
+      /** 수치 특성 가중치 - 보증금, 월세, 전용면적, 방 개수, 층 */
+      private static final double[] FEATURE_WEIGHTS = {1.0, 1.0, 1.0, 0.7, 0.3};
+
+      /** 범주가 다를 때의 거리 - 주거 유형, 임대 유형, 시/도, 시/군/구 */
+      private static final double[] CATEGORY_WEIGHTS = {1.0, 2.0, 3.0, 1.5};
+
+      /** 트리를 다시 만들기 전까지 모아 둘 변경 수 - 조회마다 변경된 매물을 모두 비교하므로 작게 유지 */
+      static final int MAX_PENDING_CHANGES = 256;
+
+      private final HomeMapper homeMapper;
+
+      /** 인덱스 스레드 전용 - 현재 매물 */
+      private final Map<Long, Point> live = new HashMap<>();
+
+      /** 인덱스 스레드 전용 - 마지막 구성 이후 등록/수정되어 트리에 없는 매물 */
+      private final Set<Long> pendingIds = new LinkedHashSet<>();
+
+      /** 인덱스 스레드 전용 - 마지막 구성 이후 변경 수 (삭제 포함) */
+      private int changesSinceBuild;
+
+      private boolean dirty;
+
+      private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+      private final ExecutorService indexExecutor =
+              Executors.newSingleThreadExecutor(
+                      runnable -> {
+                          Thread thread = new Thread(runnable, "similar-home-index");
+                          thread.setDaemon(true);
+                          return thread;
+                      });
+
+      /** 특성 벡터로 변환한 매물 */
+      private static class Point {
+          private final HomeRegisterVO home;
+          private final double[] features;
+          private final String[] categories;
+
+          private Point(HomeRegisterVO home, double[] features, String[] categories) {
+              this.home = home;
+              this.features = features;
+              this.categories = categories;
+          }
+      }
+
+      /** 조회용 불변 스냅샷 - 트리와 트리 구성 이후 변경된 매물 */
+      private static class Snapshot {
+          private static final Snapshot EMPTY =
+                  new Snapshot(
+                          Map.of(),
+                          null,
+                          List.of(),
+                          new double[FEATURE_WEIGHTS.length],
+                          ones(FEATURE_WEIGHTS.length));
+
+          /** 현재 매물 - 트리의 점이 이 맵의 값과 다르면 이전 값 */
+          private final Map<Long, Point> points;
+
+          private final VantagePointTree<Point> tree;
+          private final List<Point> pending;
+
+          /** 트리 구성 시 표준화 기준 */
+          private final double[] mean;
+
+          private final double[] scale;
+
+          private Snapshot(
+                  Map<Long, Point> points,
+                  VantagePointTree<Point> tree,
+                  List<Point> pending,
+                  double[] mean,
+                  double[] scale) {
+              this.points = points;
+              this.tree = tree;
+              this.pending = pending;
+              this.mean = mean;
+              this.scale = scale;
+          }
+
+          private boolean isCurrent(Point point) {
+              return points.get(point.home.getHomeId()) == point;
+          }
+      }
+
+      @PostConstruct
+      public void loadOnStartup() {
+          indexExecutor.execute(this::reloadAll);
+      }
+
+      @PreDestroy
+      public void shutdown() {
+          indexExecutor.shutdown();
+      }
+
+      /** 다른 노드에서 변경된 매물을 반영하기 위해 주기적으로 전체 재적재 */
+      @Scheduled(
+              fixedDelayString = "${home.similar.reload-interval-ms:600000}",
+              initialDelayString = "${home.similar.reload-interval-ms:600000}")
+      public void scheduleReload() {
+          indexExecutor.execute(this::reloadAll);
+      }
+
+      /**
+       * 기준 매물과 비슷한 매물을 가까운 순으로 반환합니다.
+       *
+       * @param homeId 기준 매물 ID
+       * @param size 최대 개수
+       * @return 유사 매물 목록, 기준 매물이 인덱스에 없으면 빈 목록
+       */
+      public List<HomeRegisterVO> findSimilar(Long homeId, int size) {
+          Snapshot current = snapshot;
+          Point target = current.points.get(homeId);
+          if (target == null || size <= 0) {
+              return List.of();
+          }
+
+          List<Point> candidates = new ArrayList<>();
+          if (current.tree != null) {
+              candidates.addAll(
+                      current.tree.nearest(
+                              target,
+                              size,
+                              point -> point == target || !current.isCurrent(point)));
+          }
+          for (Point point : current.pending) {
+              if (point != target) {
+                  candidates.add(point);
+              }
+          }
+          return candidates.stream()
+                  .sorted(Comparator.comparingDouble(point -> distance(target, point)))
+                  .limit(size)
+                  .map(point -> point.home)
+                  .collect(Collectors.toList());
+      }
+
+      /**
+       * 매물 변경을 인덱스에 반영합니다. 트랜잭션 안에서 호출하면 커밋 후에 DB에서 다시 읽습니다.
+       *
+       * @param homeId 등록/수정/삭제된 매물 ID
+       */
+      public void refresh(Long homeId) {
+          if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+              scheduleRefresh(homeId);
+              return;
+          }
+          TransactionSynchronizationManager.registerSynchronization(
+                  new TransactionSynchronization() {
+                      @Override
+                      public void afterCommit() {
+                          scheduleRefresh(homeId);
+                      }
+                  });
+      }
+
+      private void scheduleRefresh(Long homeId) {
+          try {
+              indexExecutor.execute(() -> reloadHome(homeId));
+              // 연속된 변경은 대기 중인 재적재를 모두 반영한 뒤 한 번만 게시
+              indexExecutor.execute(this::publishIfDirty);
+          } catch (Exception e) {
+              log.warn("유사 매물 인덱스 갱신 요청 실패: homeId={}, {}", homeId, e.getMessage());
+          }
+      }
+
+      void reloadAll() {
+          try {
+              List<HomeRegisterVO> loaded = homeMapper.findSimilarityCandidates(null);
+              rebuild(loaded.stream().filter(this::indexable).collect(Collectors.toList()));
+              log.info("유사 매물 인덱스 적재 완료: {}건", live.size());
+          } catch (Exception e) {
+              log.error("유사 매물 인덱스 적재 실패", e);
+          }
+      }
+
+      void reloadHome(Long homeId) {
+          try {
+              List<HomeRegisterVO> loaded = homeMapper.findSimilarityCandidates(homeId);
+              if (loaded.isEmpty() || !indexable(loaded.get(0))) {
+                  if (live.remove(homeId) == null) {
+                      return;
+                  }
+                  pendingIds.remove(homeId);
+              } else {
+                  Snapshot current = snapshot;
+                  live.put(homeId, toPoint(loaded.get(0), current.mean, current.scale));
+                  pendingIds.add(homeId);
+              }
+              changesSinceBuild++;
+              dirty = true;
+          } catch (Exception e) {
+              log.warn("유사 매물 인덱스 매물 재적재 실패: homeId={}, {}", homeId, e.getMessage());
+          }
+      }
+
+      /** 변경을 게시 - 트리는 변경이 많이 쌓였을 때만 다시 만듦 */
+      void publishIfDirty() {
+          if (!dirty) {
+              return;
+          }
+          if (changesSinceBuild > MAX_PENDING_CHANGES) {
+              rebuild(live.values().stream().map(point -> point.home).collect(Collectors.toList()));
+              return;
+          }
+          dirty = false;
+          Snapshot current = snapshot;
+          snapshot =
+                  new Snapshot(
+                          Map.copyOf(live),
+                          current.tree,
+                          pendingIds.stream().map(live::get).collect(Collectors.toList()),
+                          current.mean,
+                          current.scale);
+      }
+
+      private void rebuild(List<HomeRegisterVO> homes) {
+          Snapshot built = buildSnapshot(homes);
+          live.clear();
+          live.putAll(built.points);
+          pendingIds.clear();
+          changesSinceBuild = 0;
+          dirty = false;
+          snapshot = built;
+      }
+
+      private boolean indexable(HomeRegisterVO home) {
+          return home.getHomeId() != null && home.getHomeStatus() != HomeStatus.SOLD;
+      }
+
+      /** 수치 특성을 평균/표준편차로 표준화하고 트리를 만듦 */
+      private static Snapshot buildSnapshot(List<HomeRegisterVO> homes) {
+          List<double[]> raw =
+                  homes.stream().map(SimilarHomeIndex::rawFeatures).collect(Collectors.toList());
+
+          int dimensions = FEATURE_WEIGHTS.length;
+          double[] mean = new double[dimensions];
+          double[] scale = new double[dimensions];
+          for (int i = 0; i < dimensions; i++) {
+              double sum = 0;
+              double squareSum = 0;
+              int count = 0;
+              for (double[] features : raw) {
+                  if (!Double.isNaN(features[i])) {
+                      sum += features[i];
+                      squareSum += features[i] * features[i];
+                      count++;
+                  }
+              }
+              mean[i] = count > 0 ? sum / count : 0;
+              double variance = count > 0 ? squareSum / count - mean[i] * mean[i] : 0;
+              scale[i] = variance > 1e-12 ? Math.sqrt(variance) : 1;
+          }
+
+          Map<Long, Point> points = new HashMap<>();
+          for (HomeRegisterVO home : homes) {
+              points.put(home.getHomeId(), toPoint(home, mean, scale));
+          }
+
+          VantagePointTree<Point> tree =
+                  new VantagePointTree<>(
+                          new ArrayList<>(points.values()), SimilarHomeIndex::distance);
+          return new Snapshot(Map.copyOf(points), tree, List.of(), mean, scale);
+      }
+
+      /** 주어진 평균/표준편차로 표준화한 점 */
+      private static Point toPoint(HomeRegisterVO home, double[] mean, double[] scale) {
+          double[] raw = rawFeatures(home);
+          double[] features = new double[raw.length];
+          for (int j = 0; j < raw.length; j++) {
+              // 값이 없으면 평균으로 간주
+              features[j] =
+                      Double.isNaN(raw[j])
+                              ? 0
+                              : (raw[j] - mean[j]) / scale[j] * FEATURE_WEIGHTS[j];
+          }
+          return new Point(home, features, categories(home));
+      }
+
+      private static double[] ones(int length) {
+          double[] values = new double[length];
+          Arrays.fill(values, 1);
+          return values;
+      }
+
+      /** 두 매물 사이의 거리 - 수치 특성은 유클리드, 범주 특성은 다르면 고정 거리 */
+      private static double distance(Point a, Point b) {
+          double sum = 0;
+          for (int i = 0; i < a.features.length; i++) {
+              double diff = a.features[i] - b.features[i];
+              sum += diff * diff;
+          }
+          for (int i = 0; i < a.categories.length; i++) {
+              if (!Objects.equals(a.categories[i], b.categories[i])) {
+                  sum += CATEGORY_WEIGHTS[i] * CATEGORY_WEIGHTS[i];
+              }
+          }
+          return Math.sqrt(sum);
+      }
+
+      /** 표준화 전 수치 특성 - 값이 없으면 NaN */
+      private static double[] rawFeatures(HomeRegisterVO home) {
+          Float area =
+                  home.getExclusiveArea() != null ? home.getExclusiveArea() : home.getSupplyArea();
+          return new double[] {
+              logOrNaN(home.getDepositPrice()),
+              logOrNaN(home.getMonthlyRent()),
+              area != null ? area : Double.NaN,
+              home.getRoomCnt() != null ? home.getRoomCnt() : Double.NaN,
+              parseFloor(home.getHomeFloor())
+          };
+      }
+
+      private static double logOrNaN(Integer value) {
+          return value != null && value >= 0 ? Math.log1p(value) : Double.NaN;
+      }
+
+      /** "3", "3층", "B1", "지하1층" 등에서 층수를 읽음 - 반지하/옥탑 등 숫자가 없으면 NaN */
+      private static double parseFloor(String homeFloor) {
+          if (homeFloor == null) {
+              return Double.NaN;
+          }
+          String digits = homeFloor.replaceAll("[^0-9]", "");
+          if (digits.isEmpty() || digits.length() > 3) {
+              return Double.NaN;
+          }
+          boolean basement =
+                  homeFloor.contains("지하")
+                          || homeFloor.trim().startsWith("-")
+                          || homeFloor.trim().toUpperCase().startsWith("B");
+          int floor = Integer.parseInt(digits);
+          return basement ? -floor : floor;
+      }
+
+      /** 범주 특성 - 주거 유형, 임대 유형, 주소의 시/도, 시/군/구 */
+      private static String[] categories(HomeRegisterVO home) {
+          String[] address =
+                  home.getAddr1() != null ? home.getAddr1().trim().split("\\s+") : new String[0];
+          return new String[] {
+              home.getResidenceType() != null ? home.getResidenceType().name() : null,
+              home.getLeaseType() != null ? home.getLeaseType().name() : null,
+              address.length > 0 ? address[0] : null,
+              address.length > 1 ? address[1] : null
+          };
+      }
+}
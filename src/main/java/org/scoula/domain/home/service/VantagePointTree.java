@@ -0,0 +1,148 @@
+package org.scoula.domain.home.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * 거리 함수만으로 최근접 이웃을 찾는 VP(vantage-point) 트리
+ *
+ * <p>노드마다 기준점을 하나 고르고 나머지 점을 기준점과의 거리 중앙값으로 안쪽/바깥쪽으로 나눕니다. 검색 시 현재 k번째 거리보다 먼 쪽은 삼각 부등식으로
+ * 건너뜁니다. 거리 함수는 삼각 부등식을 만족해야 합니다. 생성 후에는 변경하지 않으므로 여러 스레드가 동시에 검색해도 안전합니다.
+ *
+ * @param <T> 점 타입
+ * @author ITZeep Team
+ * @since 1.0.0
+ */
+class VantagePointTree<T> {
+
+      private final ToDoubleBiFunction<T, T> distance;
+      private final Node<T> root;
+      private final int size;
+
+      private static class Node<T> {
+          private final T point;
+          private double radius;
+          private Node<T> inside;
+          private Node<T> outside;
+
+          private Node(T point) {
+              this.point = point;
+          }
+      }
+
+      private static class Candidate<T> {
+          private final T point;
+          private final double distance;
+
+          private Candidate(T point, double distance) {
+              this.point = point;
+              this.distance = distance;
+          }
+      }
+
+      /**
+       * 주어진 점으로 트리를 만듭니다.
+       *
+       * @param points 점 목록 (복사해서 사용)
+       * @param distance 거리 함수
+       */
+      VantagePointTree(List<T> points, ToDoubleBiFunction<T, T> distance) {
+          this.distance = distance;
+          List<T> items = new ArrayList<>(points);
+          // 정렬된 입력에서도 균형이 맞도록 기준점을 무작위로 고름 (재현 가능하도록 시드 고정)
+          Collections.shuffle(items, new Random(items.size()));
+          this.root = build(items, 0, items.size());
+          this.size = items.size();
+      }
+
+      int size() {
+          return size;
+      }
+
+      /**
+       * 기준 점에서 가까운 순으로 최대 k개의 점을 반환합니다.
+       *
+       * @param target 기준 점
+       * @param k 최대 개수
+       * @param excluded 결과에서 제외할 점 조건 (기준 점 자신 등)
+       * @return 가까운 순으로 정렬된 점 목록
+       */
+      List<T> nearest(T target, int k, Predicate<T> excluded) {
+          if (k <= 0 || root == null) {
+              return List.of();
+          }
+          PriorityQueue<Candidate<T>> best =
+                  new PriorityQueue<>(
+                          k + 1,
+                          Comparator.comparingDouble((Candidate<T> c) -> c.distance).reversed());
+          search(root, target, k, excluded, best);
+
+          List<Candidate<T>> sorted = new ArrayList<>(best);
+          sorted.sort(Comparator.comparingDouble(c -> c.distance));
+          List<T> result = new ArrayList<>(sorted.size());
+          for (Candidate<T> candidate : sorted) {
+              result.add(candidate.point);
+          }
+          return result;
+      }
+
+      private Node<T> build(List<T> items, int from, int to) {
+          if (from >= to) {
+              return null;
+          }
+          Node<T> node = new Node<>(items.get(from));
+          if (to - from == 1) {
+              return node;
+          }
+
+          List<T> rest = items.subList(from + 1, to);
+          rest.sort(Comparator.comparingDouble(item -> distance.applyAsDouble(node.point, item)));
+          int median = (from + 1 + to) / 2;
+          node.radius = distance.applyAsDouble(node.point, items.get(median));
+          node.inside = build(items, from + 1, median);
+          node.outside = build(items, median, to);
+          return node;
+      }
+
+      private void search(
+              Node<T> node,
+              T target,
+              int k,
+              Predicate<T> excluded,
+              PriorityQueue<Candidate<T>> best) {
+          if (node == null) {
+              return;
+          }
+
+          double d = distance.applyAsDouble(target, node.point);
+          if (!excluded.test(node.point) && (best.size() < k || d < best.peek().distance)) {
+              best.add(new Candidate<>(node.point, d));
+              if (best.size() > k) {
+                  best.poll();
+              }
+          }
+
+          // 기준점에 가까운 쪽을 먼저 찾아 k번째 거리를 빨리 줄임
+          if (d < node.radius) {
+              search(node.inside, target, k, excluded, best);
+              if (best.size() < k || d + worst(best) >= node.radius) {
+                  search(node.outside, target, k, excluded, best);
+              }
+          } else {
+              search(node.outside, target, k, excluded, best);
+              if (best.size() < k || d - worst(best) <= node.radius) {
+                  search(node.inside, target, k, excluded, best);
+              }
+          }
+      }
+
+      private double worst(PriorityQueue<Candidate<T>> best) {
+          return best.peek().distance;
+      }
+}
@@ -0,0 +1,16 @@
+package org.scoula.domain.home.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HomeImageVO {
+      private Long imageId;
+      private String imageUrl;
+      private Boolean derivativesReady; // 썸네일/중간 크기/EXIF 제거본 생성 완료 여부
+}
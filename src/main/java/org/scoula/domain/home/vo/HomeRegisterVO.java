@@ -60,6 +60,7 @@ public class HomeRegisterVO {
       private List<String> imageUrls;
       private Long imageId; // << 이 필드를 추가했습니다.
       private String imageUrl;
+      private Boolean thumbnailDerivativesReady; // 대표 이미지 파생본 생성 완료 여부
 
       // 관리비 항목
       private List<MaintenanceFeeItem> maintenanceItems;
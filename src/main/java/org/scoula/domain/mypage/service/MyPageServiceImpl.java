@@ -7,6 +7,7 @@ import org.scoula.domain.mypage.exception.MyPageErrorCode;
 import org.scoula.domain.mypage.mapper.MyPageMapper;
 import org.scoula.global.common.exception.BusinessException;
 import org.scoula.global.common.util.LogSanitizerUtil;
+import org.scoula.global.redis.service.ListCountCacheService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -25,6 +26,7 @@ public class MyPageServiceImpl implements MyPageService {
 
       private final MyPageMapper myPageMapper;
       private final ProfileImageService profileImageService;
+      private final ListCountCacheService listCountCacheService;
 
       @Override
       public MyPageUserInfoDto getUserInfo(Long userId) {
@@ -105,7 +107,12 @@ public class MyPageServiceImpl implements MyPageService {
 
           List<MyPageContractDto> contracts =
                   myPageMapper.selectContractsByUserId(userId, offset, limit);
-          int total = myPageMapper.countContractsByUserId(userId);
+          long total =
+                  listCountCacheService.count(
+                          ListCountCacheService.Scope.MY_CONTRACTS,
+                          userId,
+                          false,
+                          () -> myPageMapper.countContractsByUserId(userId));
 
           return new PageImpl<>(contracts, pageable, total);
       }
@@ -119,7 +126,12 @@ public class MyPageServiceImpl implements MyPageService {
 
           List<MyPagePropertyDto> properties =
                   myPageMapper.selectPropertiesByUserId(userId, offset, limit);
-          int total = myPageMapper.countPropertiesByUserId(userId);
+          long total =
+                  listCountCacheService.count(
+                          ListCountCacheService.Scope.MY_PROPERTIES,
+                          userId,
+                          false,
+                          () -> myPageMapper.countPropertiesByUserId(userId));
 
           return new PageImpl<>(properties, pageable, total);
       }
@@ -133,7 +145,12 @@ public class MyPageServiceImpl implements MyPageService {
 
           List<MyPageRiskAnalysisDto> analyses =
                   myPageMapper.selectRiskAnalysesByUserId(userId, offset, limit);
-          int total = myPageMapper.countRiskAnalysesByUserId(userId);
+          long total =
+                  listCountCacheService.count(
+                          ListCountCacheService.Scope.RISK_CHECKS,
+                          userId,
+                          false,
+                          () -> myPageMapper.countRiskAnalysesByUserId(userId));
 
           return new PageImpl<>(analyses, pageable, total);
       }
@@ -12,6 +12,7 @@ import java.util.UUID;
 import org.scoula.domain.mypage.exception.MyPageErrorCode;
 import org.scoula.global.common.exception.BusinessException;
 import org.scoula.global.common.util.LogSanitizerUtil;
+import org.scoula.global.file.service.ImageDerivativeService;
 import org.scoula.global.file.service.S3ServiceInterface;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -32,6 +33,7 @@ import lombok.extern.log4j.Log4j2;
 public class ProfileImageServiceImpl implements ProfileImageService {
 
       private final S3ServiceInterface s3Service;
+      private final ImageDerivativeService imageDerivativeService;
 
       @Value("${aws.s3.bucket-name}")
       private String bucketName;
@@ -60,6 +62,7 @@ public class ProfileImageServiceImpl implements ProfileImageService {
                   String previousKey = extractKeyFromUrl(previousImageUrl);
                   if (previousKey != null && previousKey.startsWith("profile-images/")) {
                       s3Service.deleteFile(previousKey);
+                      imageDerivativeService.deleteDerivatives(s3Service, previousKey);
                       log.info("이전 프로필 이미지 삭제 완료: {}", previousKey);
                   }
               } catch (Exception e) {
@@ -77,6 +80,7 @@ public class ProfileImageServiceImpl implements ProfileImageService {
           try {
               // S3ServiceInterface의 uploadFile 메서드 사용
               String uploadedKey = s3Service.uploadFile(file, fileName);
+              imageDerivativeService.generateAsync(s3Service, uploadedKey);
 
               // 업로드된 파일을 profile-images 디렉토리로 이동하려면
               // S3 서비스에서 직접 처리하도록 수정 필요
@@ -190,6 +194,7 @@ public class ProfileImageServiceImpl implements ProfileImageService {
           try {
               String key = extractKeyFromUrl(imageUrl);
               if (key != null && key.startsWith("profile-images/")) {
+                  imageDerivativeService.deleteDerivatives(s3Service, key);
                   return s3Service.deleteFile(key);
               }
               return false;
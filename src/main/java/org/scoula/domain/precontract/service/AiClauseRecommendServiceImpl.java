@@ -4,6 +4,8 @@ import org.scoula.domain.precontract.dto.ai.ClauseRecommendRequestDto;
 import org.scoula.domain.precontract.dto.ai.ClauseRecommendResponseDto;
 import org.scoula.domain.precontract.exception.OwnerPreContractErrorCode;
 import org.scoula.global.common.exception.BusinessException;
+import org.scoula.global.common.resilience.AiResilienceExecutor;
+import org.scoula.global.common.resilience.CallNotPermittedException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -24,6 +26,7 @@ public class AiClauseRecommendServiceImpl implements AiClauseRecommendService {
 
       private final RestTemplate restTemplate;
       private final ObjectMapper objectMapper;
+      private final AiResilienceExecutor aiResilienceExecutor;
 
       @Value("${ai.server.url:http://localhost:8000}")
       private String aiServerUrl;
@@ -40,8 +43,13 @@ public class AiClauseRecommendServiceImpl implements AiClauseRecommendService {
               HttpEntity<ClauseRecommendRequestDto> requestEntity =
                       new HttpEntity<>(request, headers);
               ResponseEntity<ClauseRecommendResponseDto> response =
-                      restTemplate.postForEntity(
-                              url, requestEntity, ClauseRecommendResponseDto.class);
+                      aiResilienceExecutor.execute(
+                              AiResilienceExecutor.CLAUSE_RECOMMEND,
+                              () ->
+                                      restTemplate.postForEntity(
+                                              url,
+                                              requestEntity,
+                                              ClauseRecommendResponseDto.class));
 
               if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                   log.info(
@@ -57,6 +65,10 @@ public class AiClauseRecommendServiceImpl implements AiClauseRecommendService {
                   throw new BusinessException(OwnerPreContractErrorCode.AI_SERVER_ERROR);
               }
 
+          } catch (CallNotPermittedException e) {
+              log.warn("AI 특약 추천 요청 거절: {}", e.getMessage());
+              throw new BusinessException(
+                      OwnerPreContractErrorCode.AI_SERVER_ERROR, e.getMessage());
           } catch (Exception e) {
               log.error(request.toString());
               log.error("AI 특약 추천 요청 실패", e);
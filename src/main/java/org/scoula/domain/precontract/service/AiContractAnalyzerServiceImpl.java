@@ -6,7 +6,10 @@ import java.util.Map;
 import org.scoula.domain.precontract.dto.ai.ContractParseResponseDto;
 import org.scoula.domain.precontract.exception.OwnerPreContractErrorCode;
 import org.scoula.global.common.exception.BusinessException;
+import org.scoula.global.common.resilience.AiResilienceExecutor;
+import org.scoula.global.common.resilience.CallNotPermittedException;
 import org.scoula.global.common.util.LogSanitizerUtil;
+import org.scoula.global.redis.service.DocumentParseCacheService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -30,12 +33,23 @@ public class AiContractAnalyzerServiceImpl implements AiContractAnalyzerService
 
       private final RestTemplate restTemplate;
       private final ObjectMapper objectMapper;
+      private final DocumentParseCacheService documentParseCacheService;
+      private final AiResilienceExecutor aiResilienceExecutor;
 
       @Value("${ai.server.url:http://localhost:8000}")
       private String aiServerUrl;
 
       @Override
       public ContractParseResponseDto parseContractDocument(MultipartFile file) {
+          return documentParseCacheService.getOrParse(
+                  "contract",
+                  file,
+                  ContractParseResponseDto.class,
+                  response -> response.isSuccess() && response.getData() != null,
+                  () -> requestContractParse(file));
+      }
+
+      private ContractParseResponseDto requestContractParse(MultipartFile file) {
           try {
               // HTTP 헤더 설정
               HttpHeaders headers = new HttpHeaders();
@@ -55,7 +69,10 @@ public class AiContractAnalyzerServiceImpl implements AiContractAnalyzerService
                       LogSanitizerUtil.sanitizeValue(file.getSize()));
 
               @SuppressWarnings("rawtypes")
-              ResponseEntity<Map> response = restTemplate.postForEntity(url, httpEntity, Map.class);
+              ResponseEntity<Map> response =
+                      aiResilienceExecutor.execute(
+                              AiResilienceExecutor.CONTRACT_OCR,
+                              () -> restTemplate.postForEntity(url, httpEntity, Map.class));
 
               log.info(
                       "계약서 특약 OCR 응답 상태: {}",
@@ -107,6 +124,11 @@ public class AiContractAnalyzerServiceImpl implements AiContractAnalyzerService
                           "AI 서버 계약서 특약 OCR 응답 오류: " + response.getStatusCode());
               }
 
+          } catch (CallNotPermittedException e) {
+              log.warn("AI 계약서 OCR 요청 거절: {}", e.getMessage());
+              throw new BusinessException(
+                      OwnerPreContractErrorCode.AI_SERVICE_ERROR,
+                      "AI 서버가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.");
           } catch (BusinessException e) {
               throw e;
           } catch (Exception e) {
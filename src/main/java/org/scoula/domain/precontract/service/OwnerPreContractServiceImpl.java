@@ -7,6 +7,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.scoula.domain.chat.document.SpecialContractDocument;
+import org.scoula.domain.chat.repository.SpecialContractMongoRepository;
 import org.scoula.domain.precontract.document.ContractDocumentMongoDocument;
 import org.scoula.domain.precontract.document.OwnerMongoDocument;
 import org.scoula.domain.precontract.dto.ai.ClauseRecommendRequestDto;
@@ -29,7 +30,6 @@ import org.scoula.global.common.exception.BusinessException;
 import org.scoula.global.common.util.AesCryptoUtil;
 import org.scoula.global.common.util.LogSanitizerUtil;
 import org.springframework.dao.DataAccessException;
-import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -49,7 +49,7 @@ public class OwnerPreContractServiceImpl implements OwnerPreContractService {
       private final ContractDocumentMongoRepository contractDocumentMongoRepository;
       private final AiContractAnalyzerService aiContractAnalyzerService;
       private final AiClauseRecommendService aiClauseRecommendService;
-      private final MongoTemplate mongoTemplate;
+      private final SpecialContractMongoRepository specialContractMongoRepository;
       private final ObjectMapper objectMapper;
       private final AesCryptoUtil aesCryptoUtil;
 
@@ -560,7 +560,8 @@ public class OwnerPreContractServiceImpl implements OwnerPreContractService {
                               .clauses(convertClauses(aiResponse.getData().getClauses()))
                               .build();
 
-              SpecialContractDocument savedContract = mongoTemplate.save(specialContract);
+              SpecialContractDocument savedContract =
+                      specialContractMongoRepository.saveSpecialContractForNewRound(specialContract);
               log.info("AI 특약 추천 저장 완료 - 특약 수: {}", savedContract.getTotalClauses());
           }
       }
@@ -4,6 +4,7 @@ import org.scoula.domain.verification.dto.request.IdCardVerificationRequest;
 import org.scoula.domain.verification.dto.response.IdCardVerificationResponse;
 import org.scoula.domain.verification.exception.VerificationErrorCode;
 import org.scoula.domain.verification.exception.VerificationException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -38,6 +39,7 @@ import lombok.extern.log4j.Log4j2;
 @Transactional(readOnly = true)
 public class IdCardVerificationServiceImpl implements IdCardVerificationService {
 
+      @Qualifier("verificationRestTemplate")
       private final RestTemplate restTemplate;
       private final ObjectMapper objectMapper;
 
@@ -1,12 +1,15 @@
 package org.scoula.global.auth.util;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 
 import jakarta.annotation.PostConstruct;
 
+import org.scoula.global.file.service.ImageDerivativeService;
+import org.scoula.global.file.service.ImageObjectStorage;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
@@ -22,7 +25,9 @@ import software.amazon.awssdk.services.s3.model.*;
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class S3Uploader {
+public class S3Uploader implements ImageObjectStorage {
+
+      private final ImageDerivativeService imageDerivativeService;
 
       @Value("${cloud.aws.s3.bucket}")
       private String bucket;
@@ -49,11 +54,18 @@ public class S3Uploader {
                           .build();
       }
 
+      /**
+       * 파일을 S3에 업로드합니다. 파일 전체를 메모리에 올리지 않고 multipart 파트에서 바로 스트리밍합니다.
+       *
+       * @param file 업로드할 파일
+       * @param dirName 저장할 디렉토리
+       * @return 업로드된 파일 URL
+       */
       public String upload(MultipartFile file, String dirName) {
           String originalFileName = file.getOriginalFilename();
           String fileName = buildFileName(dirName, originalFileName);
 
-          try {
+          try (InputStream inputStream = file.getInputStream()) {
               PutObjectRequest putObjectRequest =
                       PutObjectRequest.builder()
                               .bucket(bucket)
@@ -64,7 +76,8 @@ public class S3Uploader {
 
               s3Client.putObject(
                       putObjectRequest,
-                      software.amazon.awssdk.core.sync.RequestBody.fromBytes(file.getBytes()));
+                      software.amazon.awssdk.core.sync.RequestBody.fromInputStream(
+                              inputStream, file.getSize()));
 
               return getFileUrl(fileName);
           } catch (IOException e) {
@@ -84,6 +97,55 @@ public class S3Uploader {
           return "https://" + bucket + ".s3." + region + ".amazonaws.com/" + fileName;
       }
 
+      /**
+       * {@link #upload}가 반환한 URL로 파일을 삭제합니다.
+       *
+       * @param fileUrl 업로드된 파일 URL
+       */
+      public void deleteByUrl(String fileUrl) {
+          delete(keyOf(fileUrl));
+      }
+
+      /**
+       * {@link #upload}가 반환한 URL의 이미지 파생본(썸네일, 중간 크기, EXIF 제거본) 생성을 백그라운드로 요청합니다.
+       *
+       * @param fileUrl 업로드된 파일 URL
+       * @param onGenerated 파생본을 모두 저장한 뒤 호출할 콜백 - 파생본 URL은 이후에만 노출
+       */
+      public void generateDerivatives(String fileUrl, Runnable onGenerated) {
+          imageDerivativeService.generateAsync(this, keyOf(fileUrl), onGenerated);
+      }
+
+      @Override
+      public InputStream readObject(String key) {
+          return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+      }
+
+      @Override
+      public void writeObject(String key, byte[] content, String contentType) {
+          s3Client.putObject(
+                  PutObjectRequest.builder()
+                          .bucket(bucket)
+                          .key(key)
+                          .acl(ObjectCannedACL.PUBLIC_READ)
+                          .contentType(contentType)
+                          .build(),
+                  software.amazon.awssdk.core.sync.RequestBody.fromBytes(content));
+      }
+
+      @Override
+      public void deleteObject(String key) {
+          delete(key);
+      }
+
+      private String keyOf(String fileUrl) {
+          String prefix = getFileUrl("");
+          if (fileUrl == null || !fileUrl.startsWith(prefix)) {
+              throw new IllegalArgumentException("이 버킷의 파일 URL이 아닙니다: " + fileUrl);
+          }
+          return fileUrl.substring(prefix.length());
+      }
+
       public void delete(String fileName) {
           try {
               DeleteObjectRequest deleteObjectRequest =
@@ -31,6 +31,9 @@ public class PageRequest {
 
       @Builder.Default private String direction = "DESC";
 
+      /** 근사 총 개수 허용 여부 - 무한 스크롤 등 정확한 총 개수가 필요 없는 화면용 */
+      @Builder.Default private boolean approximateCount = false;
+
       /** 오프셋 계산 (0-based) */
       public int getOffset() {
           return (page - 1) * size;
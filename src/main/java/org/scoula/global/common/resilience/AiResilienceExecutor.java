@@ -0,0 +1,213 @@
+package org.scoula.global.common.resilience;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * FastAPI AI 서버 호출 보호 계층
+ *
+ * <p>AI 엔드포인트마다 동시 요청 한도(bulkhead)와 서킷 브레이커를 둡니다. AI 서버가 느려지거나 장애가 나면 요청 스레드가 read timeout까지
+ * 묶이지 않도록, 한도를 넘는 요청과 OPEN 상태의 요청은 실제 호출 없이 {@link CallNotPermittedException}으로 즉시 거절합니다.
+ *
+ * <p>4xx 응답은 서버가 살아 있다는 뜻이므로 실패로 세지 않고, 연결 실패/5xx/타임아웃과 {@code ai.resilience.slow-call-ms}보다 오래 걸린
+ * 호출을 실패로 기록합니다. 엔드포인트별 동시 요청 한도는 {@code ai.resilience.<endpoint>.max-concurrent}로 조정할 수 있습니다.
+ *
+ * @author ITZeep Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class AiResilienceExecutor {
+
+      public static final String RISK_ANALYSIS = "ai-risk-analysis";
+      public static final String REGISTRY_OCR = "ai-registry-ocr";
+      public static final String BUILDING_OCR = "ai-building-ocr";
+      public static final String CONTRACT_OCR = "ai-contract-ocr";
+      public static final String CLAUSE_IMPROVE = "ai-clause-improve";
+      public static final String CLAUSE_RECOMMEND = "ai-clause-recommend";
+
+      /** 엔드포인트별 기본 동시 요청 한도 - OCR은 AI 서버 부하가 커서 낮게 설정 */
+      private static final Map<String, Integer> DEFAULT_MAX_CONCURRENT =
+              Map.of(
+                      RISK_ANALYSIS, 10,
+                      REGISTRY_OCR, 6,
+                      BUILDING_OCR, 6,
+                      CONTRACT_OCR, 4,
+                      CLAUSE_IMPROVE, 8,
+                      CLAUSE_RECOMMEND, 8);
+
+      private static final int FALLBACK_MAX_CONCURRENT = 5;
+
+      private final Environment environment;
+
+      private final Map<String, Guard> guards = new ConcurrentHashMap<>();
+
+      @Value("${ai.resilience.window-size:20}")
+      private int windowSize;
+
+      @Value("${ai.resilience.minimum-calls:10}")
+      private int minimumCalls;
+
+      @Value("${ai.resilience.failure-rate-threshold:50}")
+      private int failureRateThreshold;
+
+      @Value("${ai.resilience.open-duration-ms:30000}")
+      private long openDurationMillis;
+
+      @Value("${ai.resilience.half-open-calls:3}")
+      private int halfOpenCalls;
+
+      @Value("${ai.resilience.slow-call-ms:20000}")
+      private long slowCallMillis;
+
+      /** 동시 요청 한도가 찼을 때 자리를 기다리는 최대 시간 */
+      @Value("${ai.resilience.bulkhead-wait-ms:200}")
+      private long bulkheadWaitMillis;
+
+      /** 헬스체크에서 모든 엔드포인트 상태가 보이도록 미리 생성 */
+      @PostConstruct
+      public void initGuards() {
+          DEFAULT_MAX_CONCURRENT
+                  .keySet()
+                  .forEach(endpoint -> guards.computeIfAbsent(endpoint, this::createGuard));
+      }
+
+      /**
+       * bulkhead와 서킷 브레이커를 거쳐 AI 서버를 호출합니다.
+       *
+       * @param endpoint 엔드포인트 이름
+       * @param call 실제 호출
+       * @return 호출 결과
+       * @throws CallNotPermittedException 동시 요청 한도 초과 또는 서킷 브레이커 OPEN
+       */
+      public <T> T execute(String endpoint, Supplier<T> call) {
+          Guard guard = guards.computeIfAbsent(endpoint, this::createGuard);
+
+          if (!acquire(guard.bulkhead)) {
+              log.warn("AI 동시 요청 한도 초과 - {}", endpoint);
+              throw new CallNotPermittedException(endpoint, "동시 요청 한도 초과");
+          }
+          try {
+              if (!guard.circuitBreaker.tryAcquirePermission()) {
+                  throw new CallNotPermittedException(endpoint, "서킷 브레이커 OPEN");
+              }
+
+              long start = System.nanoTime();
+              T result;
+              try {
+                  result = call.get();
+              } catch (HttpClientErrorException e) {
+                  guard.circuitBreaker.onSuccess();
+                  throw e;
+              } catch (RuntimeException | Error e) {
+                  guard.circuitBreaker.onFailure();
+                  throw e;
+              }
+
+              long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+              if (elapsedMillis >= slowCallMillis) {
+                  log.warn("AI 응답 지연 - {}: {}ms", endpoint, elapsedMillis);
+                  guard.circuitBreaker.onFailure();
+              } else {
+                  guard.circuitBreaker.onSuccess();
+              }
+              return result;
+          } finally {
+              guard.bulkhead.release();
+          }
+      }
+
+      /**
+       * 엔드포인트별 서킷 브레이커/bulkhead 상태를 반환합니다.
+       *
+       * @return 엔드포인트 이름 - 상태
+       */
+      public Map<String, EndpointState> snapshot() {
+          Map<String, EndpointState> result = new LinkedHashMap<>();
+          guards.keySet().stream()
+                  .sorted()
+                  .forEach(
+                          endpoint -> {
+                              Guard guard = guards.get(endpoint);
+                              result.put(
+                                      endpoint,
+                                      EndpointState.builder()
+                                              .state(guard.circuitBreaker.getState().name())
+                                              .failureRate(guard.circuitBreaker.getFailureRate())
+                                              .recordedCalls(
+                                                      guard.circuitBreaker.getRecordedCalls())
+                                              .maxConcurrent(guard.maxConcurrent)
+                                              .inFlight(
+                                                      guard.maxConcurrent
+                                                              - guard.bulkhead.availablePermits())
+                                              .build());
+                          });
+          return result;
+      }
+
+      private boolean acquire(Semaphore bulkhead) {
+          try {
+              return bulkhead.tryAcquire(bulkheadWaitMillis, TimeUnit.MILLISECONDS);
+          } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+              return false;
+          }
+      }
+
+      private Guard createGuard(String endpoint) {
+          int maxConcurrent =
+                  environment.getProperty(
+                          "ai.resilience." + endpoint + ".max-concurrent",
+                          Integer.class,
+                          DEFAULT_MAX_CONCURRENT.getOrDefault(endpoint, FALLBACK_MAX_CONCURRENT));
+          CircuitBreaker circuitBreaker =
+                  new CircuitBreaker(
+                          endpoint,
+                          windowSize,
+                          minimumCalls,
+                          failureRateThreshold,
+                          openDurationMillis,
+                          halfOpenCalls,
+                          System::currentTimeMillis);
+          return new Guard(circuitBreaker, new Semaphore(maxConcurrent), maxConcurrent);
+      }
+
+      @RequiredArgsConstructor
+      private static class Guard {
+          private final CircuitBreaker circuitBreaker;
+          private final Semaphore bulkhead;
+          private final int maxConcurrent;
+      }
+
+      /** 엔드포인트 보호 상태 */
+      @Getter
+      @Builder
+      public static class EndpointState {
+          /** 서킷 브레이커 상태 (CLOSED, OPEN, HALF_OPEN) */
+          private final String state;
+
+          /** 최근 호출 실패율 (%) */
+          private final int failureRate;
+
+          private final int recordedCalls;
+          private final int maxConcurrent;
+          private final int inFlight;
+      }
+}
@@ -0,0 +1,20 @@
+package org.scoula.global.common.resilience;
+
+/**
+ * 서킷 브레이커가 열려 있거나 동시 요청 한도(bulkhead)를 초과해 외부 호출이 거절되었을 때 발생하는 예외
+ *
+ * <p>실제 호출 없이 즉시 발생하므로, 호출하는 쪽에서 대체 응답(fallback)을 반환하거나 도메인 예외로 변환합니다.
+ */
+public class CallNotPermittedException extends RuntimeException {
+
+      private final String endpoint;
+
+      public CallNotPermittedException(String endpoint, String reason) {
+          super(endpoint + " 호출 거절: " + reason);
+          this.endpoint = endpoint;
+      }
+
+      public String getEndpoint() {
+          return endpoint;
+      }
+}
@@ -0,0 +1,180 @@
+package org.scoula.global.common.resilience;
+
+import java.util.function.LongSupplier;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 최근 호출 결과 기반 서킷 브레이커
+ *
+ * <p>최근 {@code windowSize}건의 호출 결과를 링 버퍼에 기록하고, 최소 호출 수 이상에서 실패율이 임계치를 넘으면 OPEN으로 전환합니다. OPEN 상태에서는
+ * 호출을 즉시 거절하고, {@code openDurationMillis}가 지나면 HALF_OPEN으로 전환해 제한된 수의 시험 호출을 허용합니다. 시험 호출이 모두
+ * 성공하면 CLOSED로, 하나라도 실패하면 다시 OPEN으로 전환합니다.
+ *
+ * <p>호출 허용 여부를 확인한 뒤에는 반드시 {@link #onSuccess()} 또는 {@link #onFailure()} 중 하나를 호출해야 합니다.
+ */
+@Log4j2
+public class CircuitBreaker {
+
+      /** 서킷 브레이커 상태 */
+      public enum State {
+          CLOSED,
+          OPEN,
+          HALF_OPEN
+      }
+
+      private final String name;
+      private final int windowSize;
+      private final int minimumCalls;
+      private final int failureRateThreshold;
+      private final long openDurationMillis;
+      private final int halfOpenPermits;
+      private final LongSupplier clock;
+
+      private final boolean[] outcomes;
+      private int nextIndex;
+      private int recordedCalls;
+      private int failedCalls;
+
+      private State state = State.CLOSED;
+      private long openedAt;
+      private int halfOpenInFlight;
+      private int halfOpenSucceeded;
+
+      /**
+       * @param name 이름 (로그/지표용)
+       * @param windowSize 실패율 계산에 사용할 최근 호출 수
+       * @param minimumCalls 실패율을 계산하기 위한 최소 호출 수
+       * @param failureRateThreshold OPEN 전환 실패율 (%)
+       * @param openDurationMillis OPEN 유지 시간
+       * @param halfOpenPermits HALF_OPEN 상태에서 허용할 시험 호출 수
+       * @param clock 현재 시각 (밀리초)
+       */
+      public CircuitBreaker(
+              String name,
+              int windowSize,
+              int minimumCalls,
+              int failureRateThreshold,
+              long openDurationMillis,
+              int halfOpenPermits,
+              LongSupplier clock) {
+          this.name = name;
+          this.windowSize = windowSize;
+          this.minimumCalls = Math.min(minimumCalls, windowSize);
+          this.failureRateThreshold = failureRateThreshold;
+          this.openDurationMillis = openDurationMillis;
+          this.halfOpenPermits = halfOpenPermits;
+          this.clock = clock;
+          this.outcomes = new boolean[windowSize];
+      }
+
+      /**
+       * 호출 허용 여부를 확인합니다.
+       *
+       * @return 호출 가능하면 true
+       */
+      public synchronized boolean tryAcquirePermission() {
+          if (state == State.OPEN) {
+              if (clock.getAsLong() - openedAt < openDurationMillis) {
+                  return false;
+              }
+              transitionTo(State.HALF_OPEN);
+          }
+          if (state == State.HALF_OPEN) {
+              if (halfOpenInFlight + halfOpenSucceeded >= halfOpenPermits) {
+                  return false;
+              }
+              halfOpenInFlight++;
+          }
+          return true;
+      }
+
+      /** 허용된 호출이 성공했음을 기록합니다. */
+      public synchronized void onSuccess() {
+          if (state == State.HALF_OPEN) {
+              halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+              halfOpenSucceeded++;
+              if (halfOpenSucceeded >= halfOpenPermits) {
+                  transitionTo(State.CLOSED);
+              }
+              return;
+          }
+          if (state == State.CLOSED) {
+              record(false);
+          }
+      }
+
+      /** 허용된 호출이 실패(또는 지연)했음을 기록합니다. */
+      public synchronized void onFailure() {
+          if (state == State.HALF_OPEN) {
+              transitionTo(State.OPEN);
+              return;
+          }
+          if (state == State.CLOSED) {
+              record(true);
+              if (recordedCalls >= minimumCalls
+                      && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+                  transitionTo(State.OPEN);
+              }
+          }
+      }
+
+      public String getName() {
+          return name;
+      }
+
+      public synchronized State getState() {
+          if (state == State.OPEN && clock.getAsLong() - openedAt >= openDurationMillis) {
+              // 다음 호출에서 HALF_OPEN으로 전환될 예정
+              return State.HALF_OPEN;
+          }
+          return state;
+      }
+
+      /**
+       * 현재 윈도우의 실패율을 반환합니다.
+       *
+       * @return 실패율 (%), 기록된 호출이 없으면 0
+       */
+      public synchronized int getFailureRate() {
+          return recordedCalls == 0 ? 0 : failedCalls * 100 / recordedCalls;
+      }
+
+      public synchronized int getRecordedCalls() {
+          return recordedCalls;
+      }
+
+      private void record(boolean failed) {
+          if (recordedCalls == windowSize) {
+              if (outcomes[nextIndex]) {
+                  failedCalls--;
+              }
+          } else {
+              recordedCalls++;
+          }
+          outcomes[nextIndex] = failed;
+          if (failed) {
+              failedCalls++;
+          }
+          nextIndex = (nextIndex + 1) % windowSize;
+      }
+
+      private void transitionTo(State next) {
+          if (next == State.OPEN) {
+              log.warn("서킷 브레이커 OPEN - {}: 실패율 {}%", name, getFailureRate());
+          } else if (state != next) {
+              log.info("서킷 브레이커 {} -> {} - {}", state, next, name);
+          }
+          state = next;
+          halfOpenInFlight = 0;
+          halfOpenSucceeded = 0;
+          if (next == State.OPEN) {
+              openedAt = clock.getAsLong();
+          }
+          if (next == State.CLOSED) {
+              nextIndex = 0;
+              recordedCalls = 0;
+              failedCalls = 0;
+          }
+      }
+}
@@ -0,0 +1,137 @@
+package org.scoula.global.common.util;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 외부 HTTP 호출 커넥션 풀/지연시간 지표
+ *
+ * <p>하위 서비스(AI, OAuth, 본인인증)별 커넥션 풀 사용량과 요청 수, 오류 수, 평균/최대 지연시간을 집계합니다. 풀은 {@link
+ * #register}로 등록하고, 지연시간은 {@link #interceptor}가 반환하는 인터셉터를 RestTemplate에 추가하면 기록됩니다.
+ *
+ * @author ITZeep Team
+ * @since 1.0.0
+ */
+@Component
+public class HttpClientPoolMetrics {
+
+      private final Map<String, PoolingHttpClientConnectionManager> pools =
+              new ConcurrentHashMap<>();
+      private final Map<String, LatencyRecorder> latencies = new ConcurrentHashMap<>();
+
+      /**
+       * 하위 서비스의 커넥션 풀을 등록합니다.
+       *
+       * @param downstream 하위 서비스 이름
+       * @param connectionManager 커넥션 풀
+       */
+      public void register(
+              String downstream, PoolingHttpClientConnectionManager connectionManager) {
+          pools.put(downstream, connectionManager);
+          latencies.computeIfAbsent(downstream, key -> new LatencyRecorder());
+      }
+
+      /**
+       * 요청 지연시간과 오류를 기록하는 인터셉터를 반환합니다.
+       *
+       * @param downstream 하위 서비스 이름
+       * @return RestTemplate 인터셉터
+       */
+      public ClientHttpRequestInterceptor interceptor(String downstream) {
+          LatencyRecorder recorder =
+                  latencies.computeIfAbsent(downstream, key -> new LatencyRecorder());
+          return (request, body, execution) -> {
+              long start = System.nanoTime();
+              try {
+                  ClientHttpResponse response = execution.execute(request, body);
+                  recorder.record(start, response.getRawStatusCode() >= 500);
+                  return response;
+              } catch (IOException | RuntimeException e) {
+                  recorder.record(start, true);
+                  throw e;
+              }
+          };
+      }
+
+      /**
+       * 하위 서비스별 현재 지표를 반환합니다.
+       *
+       * @return 하위 서비스 이름 - 지표
+       */
+      public Map<String, DownstreamStats> snapshot() {
+          Map<String, DownstreamStats> result = new LinkedHashMap<>();
+          pools.keySet().stream()
+                  .sorted()
+                  .forEach(downstream -> result.put(downstream, statsOf(downstream)));
+          return result;
+      }
+
+      private DownstreamStats statsOf(String downstream) {
+          PoolStats pool = pools.get(downstream).getTotalStats();
+          LatencyRecorder recorder = latencies.get(downstream);
+          long requests = recorder.count.sum();
+          return DownstreamStats.builder()
+                  .leased(pool.getLeased())
+                  .available(pool.getAvailable())
+                  .pending(pool.getPending())
+                  .max(pool.getMax())
+                  .requestCount(requests)
+                  .errorCount(recorder.errors.sum())
+                  .avgLatencyMs(requests == 0 ? 0 : recorder.totalMillis.sum() / requests)
+                  .maxLatencyMs(recorder.maxMillis.get())
+                  .build();
+      }
+
+      /** 하위 서비스 지표 */
+      @Getter
+      @Builder
+      public static class DownstreamStats {
+          /** 사용 중인 커넥션 수 */
+          private final int leased;
+
+          /** 유휴 커넥션 수 */
+          private final int available;
+
+          /** 커넥션 대기 중인 요청 수 */
+          private final int pending;
+
+          /** 최대 커넥션 수 */
+          private final int max;
+
+          private final long requestCount;
+          private final long errorCount;
+          private final long avgLatencyMs;
+          private final long maxLatencyMs;
+      }
+
+      private static class LatencyRecorder {
+          private final LongAdder count = new LongAdder();
+          private final LongAdder errors = new LongAdder();
+          private final LongAdder totalMillis = new LongAdder();
+          private final AtomicLong maxMillis = new AtomicLong();
+
+          void record(long startNanos, boolean error) {
+              long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+              count.increment();
+              totalMillis.add(elapsed);
+              maxMillis.accumulateAndGet(elapsed, Math::max);
+              if (error) {
+                  errors.increment();
+              }
+          }
+      }
+}
@@ -0,0 +1,130 @@
+package org.scoula.global.config;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 공용 작업 스레드 풀 설정
+ *
+ * <p>루트 컨텍스트에서 한 번만 생성하고 서블릿 컨텍스트의 빈도 같은 풀을 사용합니다. 모든 풀은 스레드 수와 대기열 크기가 정해져 있으며, 대기열이 가득 차면
+ * {@link java.util.concurrent.RejectedExecutionException}을 던지므로 호출하는 쪽에서 요청을 실패 처리합니다. 컨텍스트 종료 시
+ * 종료됩니다.
+ *
+ * <ul>
+ *   <li>{@code documentPipelineExecutor} - 사기 위험 문서 분석의 S3 업로드와 OCR 요청
+ *   <li>{@code riskAnalysisExecutor} - 비동기 사기 위험도 분석
+ *   <li>{@code detailQueryExecutor} - 매물 상세의 이미지/관리비/시설 동시 조회
+ *   <li>{@code imageUploadExecutor} - 매물 등록 이미지의 S3 병렬 업로드
+ *   <li>{@code imageDerivativeExecutor} - 업로드한 이미지의 썸네일/중간 크기/EXIF 제거본 생성
+ * </ul>
+ */
+@Configuration
+public class ExecutorConfig {
+
+      @Value("${fraud.document-pipeline.threads:8}")
+      private int documentPipelineThreads;
+
+      /** 요청 한 건이 작업 4개(업로드 2, OCR 2)를 제출하므로 대략 (스레드 + 대기열) / 4건까지 동시에 받음 */
+      @Value("${fraud.document-pipeline.queue-capacity:32}")
+      private int documentPipelineQueueCapacity;
+
+      @Value("${fraud.risk-analysis.threads:4}")
+      private int riskAnalysisThreads;
+
+      @Value("${fraud.risk-analysis.queue-capacity:200}")
+      private int riskAnalysisQueueCapacity;
+
+      /** 위험도 분석 AI 엔드포인트의 동시 요청 한도 (AiResilienceExecutor와 같은 설정) */
+      @Value("${ai.resilience.ai-risk-analysis.max-concurrent:10}")
+      private int riskAnalysisMaxConcurrent;
+
+      @Value("${spring.datasource.hikari.maximum-pool-size:3}")
+      private int databasePoolSize;
+
+      @Value("${home.detail-query.threads:8}")
+      private int detailQueryThreads;
+
+      @Value("${home.detail-query.queue-capacity:64}")
+      private int detailQueryQueueCapacity;
+
+      @Value("${home.image-upload.threads:8}")
+      private int imageUploadThreads;
+
+      /** 매물 한 건이 이미지 수만큼 작업을 제출하므로 등록 몇 건의 이미지를 한꺼번에 받을 수 있는 크기 */
+      @Value("${home.image-upload.queue-capacity:64}")
+      private int imageUploadQueueCapacity;
+
+      /** 작업 하나가 원본 크기 이미지를 디코딩하므로 메모리 사용량이 스레드 수에 비례 */
+      @Value("${image.derivative.threads:2}")
+      private int imageDerivativeThreads;
+
+      @Value("${image.derivative.queue-capacity:500}")
+      private int imageDerivativeQueueCapacity;
+
+      @Bean(destroyMethod = "shutdown")
+      public ThreadPoolExecutor documentPipelineExecutor() {
+          return boundedExecutor(
+                  "fraud-document-pipeline-",
+                  documentPipelineThreads,
+                  documentPipelineQueueCapacity);
+      }
+
+      /**
+       * 작업마다 위험도 분석 AI 호출을 하나씩 하며 동기 분석 요청과 같은 동시 요청 한도를 나눠 씁니다. 동기 요청이 쓸 자리가 남도록 한도의 절반 이하로
+       * 제한합니다.
+       */
+      @Bean(destroyMethod = "shutdown")
+      public ThreadPoolExecutor riskAnalysisExecutor() {
+          int threads = Math.max(1, Math.min(riskAnalysisThreads, riskAnalysisMaxConcurrent / 2));
+          return boundedExecutor("fraud-risk-analysis-", threads, riskAnalysisQueueCapacity);
+      }
+
+      /**
+       * 작업마다 DB 커넥션을 하나씩 쓰므로 커넥션 풀보다 스레드가 많으면 커넥션을 기다리기만 합니다. 요청 스레드가 쓸 커넥션을 하나 남기도록 (커넥션 풀 크기 -
+       * 1) 이하로 제한합니다.
+       */
+      @Bean(destroyMethod = "shutdown")
+      public ThreadPoolExecutor detailQueryExecutor() {
+          int threads = Math.max(1, Math.min(detailQueryThreads, databasePoolSize - 1));
+          return boundedExecutor("home-detail-query-", threads, detailQueryQueueCapacity);
+      }
+
+      @Bean(destroyMethod = "shutdown")
+      public ThreadPoolExecutor imageUploadExecutor() {
+          return boundedExecutor(
+                  "home-image-upload-", imageUploadThreads, imageUploadQueueCapacity);
+      }
+
+      @Bean(destroyMethod = "shutdown")
+      public ThreadPoolExecutor imageDerivativeExecutor() {
+          return boundedExecutor(
+                  "image-derivative-", imageDerivativeThreads, imageDerivativeQueueCapacity);
+      }
+
+      private ThreadPoolExecutor boundedExecutor(String threadPrefix, int threads, int capacity) {
+          return new ThreadPoolExecutor(
+                  threads,
+                  threads,
+                  0L,
+                  TimeUnit.MILLISECONDS,
+                  new LinkedBlockingQueue<>(capacity),
+                  daemonThreadFactory(threadPrefix),
+                  new ThreadPoolExecutor.AbortPolicy());
+      }
+
+      private ThreadFactory daemonThreadFactory(String threadPrefix) {
+          AtomicInteger threadCount = new AtomicInteger();
+          return runnable -> {
+              Thread thread = new Thread(runnable, threadPrefix + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+          };
+      }
+}
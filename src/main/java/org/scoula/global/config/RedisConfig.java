@@ -7,6 +7,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -86,4 +87,13 @@ public class RedisConfig {
 
           return template;
       }
+
+      /** Redis Pub/Sub 구독 컨테이너 (노드 간 캐시 무효화 메시지 등) */
+      @Bean
+      public RedisMessageListenerContainer redisMessageListenerContainer(
+              RedisConnectionFactory connectionFactory) {
+          RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+          container.setConnectionFactory(connectionFactory);
+          return container;
+      }
 }
@@ -1,19 +1,196 @@
 package org.scoula.global.config;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.scoula.global.common.util.HttpClientPoolMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 외부 HTTP 호출용 RestTemplate 설정
+ *
+ * <p>하위 서비스마다 별도의 Apache HttpClient 커넥션 풀을 사용하여, 느린 서비스 하나가 커넥션을 모두 점유해도 다른 서비스 호출에는 영향이 없도록
+ * 합니다. 각 풀은 keep-alive로 커넥션을 재사용하고, 만료/유휴 커넥션은 백그라운드에서 정리합니다. 풀 사용량과 지연시간은 {@link
+ * HttpClientPoolMetrics}로 집계됩니다.
+ *
+ * <ul>
+ *   <li>{@code restTemplate} - FastAPI AI 서버 (기본 RestTemplate)
+ *   <li>{@code oauthRestTemplate} - Kakao OAuth
+ *   <li>{@code verificationRestTemplate} - 주민등록증 진위 확인 API
+ * </ul>
+ */
 @Configuration
-public class RestTemplateConfig {
+@Log4j2
+public class RestTemplateConfig implements DisposableBean {
+
+      /** 서버가 Keep-Alive 헤더를 주지 않을 때의 커넥션 유지 시간 */
+      private static final long DEFAULT_KEEP_ALIVE_MILLIS = 30_000L;
+
+      /** 유휴 커넥션 재사용 전 유효성 검사 간격 */
+      private static final int VALIDATE_AFTER_INACTIVITY_MILLIS = 2_000;
+
+      private final List<CloseableHttpClient> httpClients = new CopyOnWriteArrayList<>();
+
+      @Value("${http.client.idle-evict-seconds:30}")
+      private long idleEvictSeconds;
+
+      @Value("${http.client.ai.max-total:50}")
+      private int aiMaxTotal;
+
+      @Value("${http.client.ai.max-per-route:20}")
+      private int aiMaxPerRoute;
+
+      @Value("${http.client.ai.connect-timeout-ms:5000}")
+      private int aiConnectTimeout;
+
+      @Value("${http.client.ai.read-timeout-ms:60000}")
+      private int aiReadTimeout;
+
+      @Value("${http.client.oauth.max-total:20}")
+      private int oauthMaxTotal;
+
+      @Value("${http.client.oauth.max-per-route:10}")
+      private int oauthMaxPerRoute;
+
+      @Value("${http.client.oauth.connect-timeout-ms:3000}")
+      private int oauthConnectTimeout;
+
+      @Value("${http.client.oauth.read-timeout-ms:5000}")
+      private int oauthReadTimeout;
+
+      @Value("${http.client.verification.max-total:10}")
+      private int verificationMaxTotal;
+
+      @Value("${http.client.verification.max-per-route:5}")
+      private int verificationMaxPerRoute;
+
+      @Value("${http.client.verification.connect-timeout-ms:3000}")
+      private int verificationConnectTimeout;
 
+      @Value("${http.client.verification.read-timeout-ms:10000}")
+      private int verificationReadTimeout;
+
+      /** 풀에서 커넥션을 얻기까지 기다리는 최대 시간 - 풀이 가득 차면 빨리 실패 */
+      @Value("${http.client.pool-wait-timeout-ms:2000}")
+      private int poolWaitTimeout;
+
+      /** FastAPI AI 서버 호출용 (OCR, 특약 추천/개선, 계약서 분석) */
+      @Bean
+      @Primary
+      public RestTemplate restTemplate(HttpClientPoolMetrics httpClientPoolMetrics) {
+          return pooledRestTemplate(
+                  "ai",
+                  aiMaxTotal,
+                  aiMaxPerRoute,
+                  aiConnectTimeout,
+                  aiReadTimeout,
+                  httpClientPoolMetrics);
+      }
+
+      /** Kakao OAuth 호출용 */
       @Bean
-      public RestTemplate restTemplate() {
-          SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-          factory.setConnectTimeout(10000); // 10 seconds
-          factory.setReadTimeout(30000); // 30 seconds
+      public RestTemplate oauthRestTemplate(HttpClientPoolMetrics httpClientPoolMetrics) {
+          return pooledRestTemplate(
+                  "oauth",
+                  oauthMaxTotal,
+                  oauthMaxPerRoute,
+                  oauthConnectTimeout,
+                  oauthReadTimeout,
+                  httpClientPoolMetrics);
+      }
+
+      /** 주민등록증 진위 확인 API 호출용 */
+      @Bean
+      public RestTemplate verificationRestTemplate(HttpClientPoolMetrics httpClientPoolMetrics) {
+          return pooledRestTemplate(
+                  "verification",
+                  verificationMaxTotal,
+                  verificationMaxPerRoute,
+                  verificationConnectTimeout,
+                  verificationReadTimeout,
+                  httpClientPoolMetrics);
+      }
+
+      private RestTemplate pooledRestTemplate(
+              String downstream,
+              int maxTotal,
+              int maxPerRoute,
+              int connectTimeout,
+              int readTimeout,
+              HttpClientPoolMetrics metrics) {
+          PoolingHttpClientConnectionManager connectionManager =
+                  new PoolingHttpClientConnectionManager();
+          connectionManager.setMaxTotal(maxTotal);
+          connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+          connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MILLIS);
+
+          RequestConfig requestConfig =
+                  RequestConfig.custom()
+                          .setConnectTimeout(connectTimeout)
+                          .setSocketTimeout(readTimeout)
+                          .setConnectionRequestTimeout(poolWaitTimeout)
+                          .build();
+
+          CloseableHttpClient httpClient =
+                  HttpClients.custom()
+                          .setConnectionManager(connectionManager)
+                          .setDefaultRequestConfig(requestConfig)
+                          .setKeepAliveStrategy(keepAliveStrategy())
+                          .evictExpiredConnections()
+                          .evictIdleConnections(idleEvictSeconds, TimeUnit.SECONDS)
+                          .build();
+          httpClients.add(httpClient);
+          metrics.register(downstream, connectionManager);
+
+          RestTemplate restTemplate =
+                  new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+          restTemplate.getInterceptors().add(metrics.interceptor(downstream));
+
+          log.info(
+                  "HTTP 커넥션 풀 생성 - {}: maxTotal={}, maxPerRoute={}, connect={}ms, read={}ms",
+                  downstream,
+                  maxTotal,
+                  maxPerRoute,
+                  connectTimeout,
+                  readTimeout);
+          return restTemplate;
+      }
+
+      /** 서버가 지정한 Keep-Alive timeout을 따르고, 없으면 기본 유지 시간 사용 */
+      private ConnectionKeepAliveStrategy keepAliveStrategy() {
+          return (response, context) -> {
+              long serverKeepAlive =
+                      DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(
+                              response, context);
+              return serverKeepAlive > 0 ? serverKeepAlive : DEFAULT_KEEP_ALIVE_MILLIS;
+          };
+      }
 
-          return new RestTemplate(factory);
+      @Override
+      public void destroy() {
+          for (CloseableHttpClient httpClient : httpClients) {
+              try {
+                  httpClient.close();
+              } catch (IOException e) {
+                  log.warn("HTTP 커넥션 풀 종료 실패: {}", e.getMessage());
+              }
+          }
+          httpClients.clear();
       }
 }
@@ -4,7 +4,6 @@ import org.scoula.global.auth.config.SecurityConfig;
 import org.scoula.global.email.config.MailConfig;
 import org.scoula.global.file.config.S3Config;
 import org.scoula.global.mongodb.config.MongoConfig;
-import org.scoula.global.oauth2.config.OAuth2ManualConfig;
 import org.scoula.global.websocket.config.WebSocketConfig;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -30,7 +29,9 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
       SecurityConfig.class,
       WebSocketConfig.class,
       RedisConfig.class,
-      OAuth2ManualConfig.class
+      RestTemplateConfig.class,
+      ExecutorConfig.class,
+      SchedulingConfig.class
 })
 @ComponentScan(
           basePackages = {
@@ -42,6 +43,7 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
               "org.scoula.global.redis.service",
               "org.scoula.global.mongodb.service",
               "org.scoula.global.common.aop",
+              "org.scoula.global.common.resilience",
               "org.scoula.global.common.service",
               "org.scoula.global.common.util",
               "org.scoula.global.file.service",
@@ -49,6 +51,7 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
               "org.scoula.domain.user.service",
               "org.scoula.domain.chat",
               "org.scoula.domain.fraud.service",
+              "org.scoula.domain.fraud.batch",
               "org.scoula.domain.precontract.service",
               "org.scoula.domain.verification.service",
               "org.scoula.domain.home.service",
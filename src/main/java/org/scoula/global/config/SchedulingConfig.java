@@ -0,0 +1,36 @@
+package org.scoula.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 공용 스케줄러 설정
+ *
+ * <p>{@code @Scheduled} 작업은 모두 루트 컨텍스트의 이 스케줄러에서 실행됩니다. 스케줄러 빈이 없으면 스레드 하나로 모든 작업을 돌리므로, 야간 재평가
+ * 작업처럼 오래 걸리는 작업이 조회수 반영이나 유사 매물 색인 갱신을 막지 않도록 스레드 풀을 둡니다. 서블릿 컨텍스트는 스케줄링을 켜지 않으므로 두
+ * 컨텍스트에 같은 빈이 있어도 작업은 한 번만 실행됩니다.
+ */
+@Configuration
+@EnableScheduling
+@Log4j2
+public class SchedulingConfig {
+
+      @Value("${scheduling.pool-size:4}")
+      private int poolSize;
+
+      @Bean
+      public ThreadPoolTaskScheduler taskScheduler() {
+          ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+          scheduler.setPoolSize(poolSize);
+          scheduler.setThreadNamePrefix("scheduled-");
+          scheduler.setDaemon(true);
+          scheduler.setWaitForTasksToCompleteOnShutdown(false);
+          scheduler.setErrorHandler(t -> log.error("예약 작업 실패: {}", t.getMessage(), t));
+          return scheduler;
+      }
+}
@@ -2,9 +2,13 @@ package org.scoula.global.config;
 
 import java.util.List;
 
+import org.scoula.domain.chat.service.ContractChatSentAtBackfill;
+import org.scoula.domain.chat.service.SpecialContractChangeStreamPublisher;
+import org.scoula.domain.home.service.SimilarHomeIndex;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.multipart.MultipartResolver;
@@ -34,6 +38,19 @@ import lombok.RequiredArgsConstructor;
               "org.scoula.domain.precontract.controller",
               "org.scoula.domain.home.controller",
               "org.scoula.domain.mypage.controller"
+          },
+          // 배치 작업, 스케줄러, 시작 작업, 백그라운드 구독과 메모리 인덱스는 루트 컨텍스트에서만 생성 (중복 실행 방지)
+          excludeFilters = {
+              @ComponentScan.Filter(
+                      type = FilterType.REGEX,
+                      pattern = "org\\.scoula\\.domain\\..*\\.batch\\..*"),
+              @ComponentScan.Filter(
+                      type = FilterType.ASSIGNABLE_TYPE,
+                      classes = {
+                          SpecialContractChangeStreamPublisher.class,
+                          ContractChatSentAtBackfill.class,
+                          SimilarHomeIndex.class
+                      })
           })
 @RequiredArgsConstructor
 public class ServletConfig implements WebMvcConfigurer {
@@ -0,0 +1,453 @@
+package org.scoula.global.file.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 이미지 파생본 생성 파이프라인
+ *
+ * <p>업로드가 끝난 원본 이미지를 백그라운드에서 읽어 썸네일, 중간 크기, EXIF 제거본을 JPEG로 만들어 원본 옆에 저장합니다. 파생본 키는 원본 키에서
+ * 정해지므로({@link #variantKey}, {@link #variantUrl}) 별도 저장 없이 URL을 만들 수 있습니다. 디코딩 시 메타데이터를 버리므로 모든
+ * 파생본에서 EXIF(위치 정보 등)가 제거되며, EXIF 방향 값은 픽셀에 적용한 뒤 버립니다. 썸네일과 중간 크기는 원본 크기로 디코딩하지 않고 부분
+ * 샘플링으로 필요한 크기에 가깝게 디코딩합니다.
+ *
+ * <p>JDK ImageIO가 읽지 못하는 형식(WebP, HEIC 등)은 파생본을 만들지 않습니다. 원본을 복사하면 EXIF가 남은 파일이 EXIF 제거본으로
+ * 노출되기 때문입니다. 작업 대기열이 가득 차거나 생성에 실패해도 파생본이 없으므로, 파생본 URL은 생성 완료 콜백을 받은 뒤에만 노출하고 그 전에는 원본
+ * URL을 사용합니다. {@link #variantUrl}은 읽을 수 없는 형식이면 null을 반환합니다.
+ *
+ * @author ITZeep Team
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ImageDerivativeService {
+
+      /** 파생본 종류 */
+      public enum Variant {
+          /** 목록 카드용 (긴 변 320px) */
+          THUMBNAIL("thumb", 320),
+          /** 상세 화면용 (긴 변 1080px) */
+          MEDIUM("medium", 1080),
+          /** 원본 크기, EXIF 제거 */
+          STRIPPED("stripped", 0);
+
+          private final String suffix;
+          private final int maxEdge;
+
+          Variant(String suffix, int maxEdge) {
+              this.suffix = suffix;
+              this.maxEdge = maxEdge;
+          }
+      }
+
+      private static final String VARIANT_EXTENSION = ".jpg";
+      private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+      /** JDK ImageIO가 읽을 수 있는 원본 확장자 - 그 밖의 형식은 파생본을 만들지 않음 */
+      private static final Set<String> DECODABLE_EXTENSIONS =
+              Set.of("jpg", "jpeg", "png", "gif", "bmp");
+      private static final float JPEG_QUALITY = 0.85f;
+
+      /** 원본 최대 크기 - 이보다 크면 파생본을 만들지 않음 */
+      private static final int MAX_SOURCE_BYTES = 50 * 1024 * 1024;
+
+      /**
+       * 디코딩할 최대 픽셀 수 - 압축 폭탄 방지. 원본 크기로 디코딩하는 EXIF 제거본에서 디코딩 결과와 방향/RGB 변환 결과로 픽셀당 4바이트 사본이 최대
+       * 두 개 생기므로 작업 하나가 이 값의 약 8배 바이트(약 100MB)를 쓰고, 작업 스레드 수만큼 동시에 실행됩니다. 일반 스마트폰 사진(4032x3024)은
+       * 들어옵니다.
+       */
+      private static final long MAX_SOURCE_PIXELS = 13_000_000L;
+
+      @Qualifier("imageDerivativeExecutor")
+      private final ExecutorService imageDerivativeExecutor;
+
+      /**
+       * 원본 키에 대한 파생본 키를 반환합니다. 예: homes/a_b.png → homes/a_b_thumb.jpg
+       *
+       * @param originalKey 원본 키 또는 URL
+       * @param variant 파생본 종류
+       * @return 파생본 키 또는 URL
+       */
+      public static String variantKey(String originalKey, Variant variant) {
+          int nameStart = originalKey.lastIndexOf('/') + 1;
+          int extensionStart = originalKey.lastIndexOf('.');
+          String base =
+                  extensionStart > nameStart
+                          ? originalKey.substring(0, extensionStart)
+                          : originalKey;
+          return base + "_" + variant.suffix + VARIANT_EXTENSION;
+      }
+
+      /**
+       * 원본 URL에 대한 파생본 URL을 반환합니다.
+       *
+       * @param originalUrl 원본 URL
+       * @param variant 파생본 종류
+       * @return 파생본 URL, 원본 URL이 없거나 읽을 수 없는 형식이면 null
+       */
+      public static String variantUrl(String originalUrl, Variant variant) {
+          if (originalUrl == null || originalUrl.isEmpty() || !isDecodable(originalUrl)) {
+              return null;
+          }
+          return variantKey(originalUrl, variant);
+      }
+
+      /**
+       * 파생본을 만들 수 있는 형식인지 확장자로 확인합니다.
+       *
+       * @param originalKey 원본 키 또는 URL
+       * @return JDK ImageIO가 읽을 수 있는 확장자면 true
+       */
+      public static boolean isDecodable(String originalKey) {
+          int nameStart = originalKey.lastIndexOf('/') + 1;
+          int extensionStart = originalKey.lastIndexOf('.');
+          if (extensionStart <= nameStart) {
+              return false;
+          }
+          return DECODABLE_EXTENSIONS.contains(
+                  originalKey.substring(extensionStart + 1).toLowerCase(Locale.ROOT));
+      }
+
+      /**
+       * 파생본 생성을 백그라운드 작업으로 등록합니다.
+       *
+       * @param storage 원본이 저장된 저장소
+       * @param originalKey 원본 키
+       */
+      public void generateAsync(ImageObjectStorage storage, String originalKey) {
+          generateAsync(storage, originalKey, null);
+      }
+
+      /**
+       * 파생본 생성을 백그라운드 작업으로 등록하고, 모든 파생본을 저장하면 콜백을 호출합니다. 파생본을 만들지 못하면 호출하지 않습니다.
+       *
+       * @param storage 원본이 저장된 저장소
+       * @param originalKey 원본 키
+       * @param onGenerated 생성 완료 시 작업 스레드에서 호출할 콜백 (null 가능)
+       */
+      public void generateAsync(
+              ImageObjectStorage storage, String originalKey, Runnable onGenerated) {
+          try {
+              imageDerivativeExecutor.execute(
+                      () -> {
+                          if (generate(storage, originalKey) && onGenerated != null) {
+                              notifyGenerated(originalKey, onGenerated);
+                          }
+                      });
+          } catch (RejectedExecutionException e) {
+              log.warn("이미지 파생본 대기열 초과 - 건너뜀: {}", originalKey);
+          }
+      }
+
+      private void notifyGenerated(String originalKey, Runnable onGenerated) {
+          try {
+              onGenerated.run();
+          } catch (Exception e) {
+              log.warn("이미지 파생본 완료 처리 실패 - {}: {}", originalKey, e.getMessage());
+          }
+      }
+
+      /**
+       * 원본과 함께 파생본을 삭제합니다. 파생본이 없어도 실패하지 않습니다.
+       *
+       * @param storage 원본이 저장된 저장소
+       * @param originalKey 원본 키
+       */
+      public void deleteDerivatives(ImageObjectStorage storage, String originalKey) {
+          for (Variant variant : Variant.values()) {
+              try {
+                  storage.deleteObject(variantKey(originalKey, variant));
+              } catch (Exception e) {
+                  log.warn("이미지 파생본 삭제 실패 - {}: {}", originalKey, e.getMessage());
+              }
+          }
+      }
+
+      /**
+       * 원본을 읽어 모든 파생본을 저장 (작업 스레드에서 실행)
+       *
+       * @return 모든 파생본을 저장했으면 true
+       */
+      boolean generate(ImageObjectStorage storage, String originalKey) {
+          try {
+              byte[] source = readSource(storage, originalKey);
+              if (source == null) {
+                  return false;
+              }
+
+              int orientation = readExifOrientation(source);
+              for (Variant variant : Variant.values()) {
+                  BufferedImage image = decode(source, variant.maxEdge);
+                  if (image == null) {
+                      log.debug("디코딩할 수 없는 형식 - 파생본을 만들지 않음: {}", originalKey);
+                      return false;
+                  }
+                  image = applyOrientation(image, orientation);
+                  BufferedImage resized =
+                          variant.maxEdge > 0 ? fitWithin(image, variant.maxEdge) : image;
+                  storage.writeObject(
+                          variantKey(originalKey, variant),
+                          encodeJpeg(resized),
+                          VARIANT_CONTENT_TYPE);
+              }
+              log.debug("이미지 파생본 생성 완료: {}", originalKey);
+              return true;
+          } catch (Exception e) {
+              log.warn("이미지 파생본 생성 실패 - {}: {}", originalKey, e.getMessage());
+              return false;
+          }
+      }
+
+      private byte[] readSource(ImageObjectStorage storage, String originalKey) throws IOException {
+          try (InputStream in = storage.readObject(originalKey)) {
+              ByteArrayOutputStream out = new ByteArrayOutputStream();
+              byte[] buffer = new byte[8192];
+              int read;
+              while ((read = in.read(buffer)) != -1) {
+                  out.write(buffer, 0, read);
+                  if (out.size() > MAX_SOURCE_BYTES) {
+                      log.warn("원본 이미지가 너무 커서 파생본을 만들지 않음: {}", originalKey);
+                      return null;
+                  }
+              }
+              return out.toByteArray();
+          }
+      }
+
+      /**
+       * 크기를 먼저 확인한 뒤 긴 변이 maxEdge에 가깝도록 부분 샘플링해 디코딩, 읽을 수 없는 형식이면 null
+       *
+       * @param maxEdge 파생본의 긴 변, 0이면 원본 크기로 디코딩
+       */
+      private BufferedImage decode(byte[] source, int maxEdge) throws IOException {
+          try (ImageInputStream in =
+                  ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+              Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+              if (!readers.hasNext()) {
+                  return null;
+              }
+              ImageReader reader = readers.next();
+              try {
+                  reader.setInput(in, true, true);
+                  int width = reader.getWidth(0);
+                  int height = reader.getHeight(0);
+                  if ((long) width * height > MAX_SOURCE_PIXELS) {
+                      throw new IOException("이미지 픽셀 수 초과");
+                  }
+                  ImageReadParam param = reader.getDefaultReadParam();
+                  int subsampling = sourceSubsampling(Math.max(width, height), maxEdge);
+                  if (subsampling > 1) {
+                      param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                  }
+                  return reader.read(0, param);
+              } finally {
+                  reader.dispose();
+              }
+          }
+      }
+
+      /**
+       * 디코딩 시 건너뛸 픽셀 간격. 부분 샘플링은 픽셀을 골라 읽기만 하므로, 이후 단계별 축소로 계단 현상을 줄일 수 있도록 긴 변이 maxEdge의 두 배
+       * 이상 남게 합니다.
+       */
+      static int sourceSubsampling(int longEdge, int maxEdge) {
+          if (maxEdge <= 0) {
+              return 1;
+          }
+          return Math.max(1, longEdge / (maxEdge * 2));
+      }
+
+      /**
+       * 긴 변이 maxEdge 이하가 되도록 축소합니다. 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 나누어 줄입니다.
+       */
+      static BufferedImage fitWithin(BufferedImage image, int maxEdge) {
+          int width = image.getWidth();
+          int height = image.getHeight();
+          if (Math.max(width, height) <= maxEdge) {
+              return image;
+          }
+          double scale = (double) maxEdge / Math.max(width, height);
+          int targetWidth = Math.max(1, (int) Math.round(width * scale));
+          int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+          BufferedImage current = image;
+          while (current.getWidth() != targetWidth || current.getHeight() != targetHeight) {
+              int nextWidth = Math.max(targetWidth, current.getWidth() / 2);
+              int nextHeight = Math.max(targetHeight, current.getHeight() / 2);
+              BufferedImage next =
+                      new BufferedImage(nextWidth, nextHeight, BufferedImage.TYPE_INT_RGB);
+              Graphics2D g = next.createGraphics();
+              try {
+                  g.setRenderingHint(
+                          RenderingHints.KEY_INTERPOLATION,
+                          RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                  g.setRenderingHint(
+                          RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                  g.drawImage(current, 0, 0, nextWidth, nextHeight, null);
+              } finally {
+                  g.dispose();
+              }
+              current = next;
+          }
+          return current;
+      }
+
+      /**
+       * EXIF 방향 값(1~8)에 따른 회전/반전을 적용해 흰 배경의 RGB 이미지 하나에 그립니다. JPEG는 알파 채널이 없으므로 방향이 바뀌지 않아도 RGB가
+       * 아니면 변환합니다.
+       */
+      static BufferedImage applyOrientation(BufferedImage image, int orientation) {
+          boolean transformed = orientation >= 2 && orientation <= 8;
+          if (!transformed && image.getType() == BufferedImage.TYPE_INT_RGB) {
+              return image;
+          }
+          int width = image.getWidth();
+          int height = image.getHeight();
+          boolean swapSides = transformed && orientation >= 5;
+          int outWidth = swapSides ? height : width;
+          int outHeight = swapSides ? width : height;
+
+          BufferedImage oriented =
+                  new BufferedImage(outWidth, outHeight, BufferedImage.TYPE_INT_RGB);
+          Graphics2D g = oriented.createGraphics();
+          try {
+              g.setColor(Color.WHITE);
+              g.fillRect(0, 0, outWidth, outHeight);
+              g.drawImage(
+                      image,
+                      transformed
+                              ? orientationTransform(orientation, width, height)
+                              : new AffineTransform(),
+                      null);
+          } finally {
+              g.dispose();
+          }
+          return oriented;
+      }
+
+      /** 원본 좌표를 방향 적용 후 좌표로 옮기는 변환 (90도 단위라 픽셀이 그대로 옮겨짐) */
+      private static AffineTransform orientationTransform(int orientation, int width, int height) {
+          switch (orientation) {
+              case 2: // 좌우 반전
+                  return new AffineTransform(-1, 0, 0, 1, width, 0);
+              case 3: // 180도 회전
+                  return new AffineTransform(-1, 0, 0, -1, width, height);
+              case 4: // 상하 반전
+                  return new AffineTransform(1, 0, 0, -1, 0, height);
+              case 5: // 대각선 반전
+                  return new AffineTransform(0, 1, 1, 0, 0, 0);
+              case 6: // 시계 방향 90도 회전
+                  return new AffineTransform(0, 1, -1, 0, height, 0);
+              case 7: // 반대 대각선 반전
+                  return new AffineTransform(0, -1, -1, 0, height, width);
+              default: // 8: 반시계 방향 90도 회전
+                  return new AffineTransform(0, -1, 1, 0, 0, width);
+          }
+      }
+
+      /**
+       * JPEG APP1(Exif) 세그먼트에서 방향 태그(0x0112)를 읽습니다. ImageIO 표준 메타데이터에는 EXIF가 노출되지 않아 직접 파싱합니다.
+       *
+       * @return 방향 값, 없거나 JPEG가 아니면 1
+       */
+      static int readExifOrientation(byte[] jpeg) {
+          if (jpeg.length < 4 || (jpeg[0] & 0xFF) != 0xFF || (jpeg[1] & 0xFF) != 0xD8) {
+              return 1;
+          }
+          int offset = 2;
+          while (offset + 4 <= jpeg.length && (jpeg[offset] & 0xFF) == 0xFF) {
+              int marker = jpeg[offset + 1] & 0xFF;
+              int length = readUnsignedShort(jpeg, offset + 2, true);
+              if (marker == 0xDA || length < 2) {
+                  return 1; // 이미지 데이터 시작 - 이후에는 메타데이터 없음
+              }
+              if (marker == 0xE1
+                      && offset + 10 <= jpeg.length
+                      && new String(jpeg, offset + 4, 4, StandardCharsets.US_ASCII)
+                              .equals("Exif")) {
+                  return readTiffOrientation(jpeg, offset + 10, offset + 2 + length);
+              }
+              offset += 2 + length;
+          }
+          return 1;
+      }
+
+      private static int readTiffOrientation(byte[] data, int tiffStart, int segmentEnd) {
+          int end = Math.min(segmentEnd, data.length);
+          if (tiffStart + 8 > end) {
+              return 1;
+          }
+          boolean bigEndian = data[tiffStart] == 'M';
+          int ifdOffset = tiffStart + readInt(data, tiffStart + 4, bigEndian);
+          if (ifdOffset < tiffStart || ifdOffset + 2 > end) {
+              return 1;
+          }
+          int entryCount = readUnsignedShort(data, ifdOffset, bigEndian);
+          for (int i = 0; i < entryCount; i++) {
+              int entry = ifdOffset + 2 + i * 12;
+              if (entry + 12 > end) {
+                  return 1;
+              }
+              if (readUnsignedShort(data, entry, bigEndian) == 0x0112) {
+                  return readUnsignedShort(data, entry + 8, bigEndian);
+              }
+          }
+          return 1;
+      }
+
+      private static int readUnsignedShort(byte[] data, int offset, boolean bigEndian) {
+          int b0 = data[offset] & 0xFF;
+          int b1 = data[offset + 1] & 0xFF;
+          return bigEndian ? (b0 << 8) | b1 : (b1 << 8) | b0;
+      }
+
+      private static int readInt(byte[] data, int offset, boolean bigEndian) {
+          int high = readUnsignedShort(data, bigEndian ? offset : offset + 2, bigEndian);
+          int low = readUnsignedShort(data, bigEndian ? offset + 2 : offset, bigEndian);
+          return (high << 16) | low;
+      }
+
+      private byte[] encodeJpeg(BufferedImage image) throws IOException {
+          ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+          ByteArrayOutputStream out = new ByteArrayOutputStream();
+          try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+              writer.setOutput(ios);
+              ImageWriteParam param = writer.getDefaultWriteParam();
+              param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+              param.setCompressionQuality(JPEG_QUALITY);
+              writer.write(null, new IIOImage(image, null, null), param);
+          } finally {
+              writer.dispose();
+          }
+          return out.toByteArray();
+      }
+}
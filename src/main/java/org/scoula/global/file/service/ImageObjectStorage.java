@@ -0,0 +1,38 @@
+package org.scoula.global.file.service;
+
+import java.io.InputStream;
+
+/**
+ * 이미지 파생본 생성에 필요한 객체 저장소 접근
+ *
+ * <p>원본이 저장된 버킷에 파생본을 함께 저장하기 위해, 원본을 업로드한 저장소 구현체가 이 인터페이스로 읽기/쓰기/삭제를 제공합니다.
+ *
+ * @author ITZeep Team
+ * @since 1.0.0
+ */
+public interface ImageObjectStorage {
+
+      /**
+       * 객체를 읽습니다.
+       *
+       * @param key 객체 키
+       * @return 객체 내용 스트림 (호출자가 닫아야 함)
+       */
+      InputStream readObject(String key);
+
+      /**
+       * 지정한 키에 객체를 저장합니다.
+       *
+       * @param key 객체 키
+       * @param content 객체 내용
+       * @param contentType 컨텐츠 타입
+       */
+      void writeObject(String key, byte[] content, String contentType);
+
+      /**
+       * 객체를 삭제합니다.
+       *
+       * @param key 객체 키
+       */
+      void deleteObject(String key);
+}
@@ -155,6 +155,41 @@ public class S3ServiceImpl extends AbstractExternalService implements S3ServiceI
                   "S3 파일 업로드");
       }
 
+      /** {@inheritDoc} */
+      @Override
+      public InputStream readObject(String key) {
+          return downloadFile(key);
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public void writeObject(String key, byte[] content, String contentType) {
+          executeSafely(
+                  () -> {
+                      try {
+                          s3Client.putObject(
+                                  PutObjectRequest.builder()
+                                          .bucket(bucketName)
+                                          .key(key)
+                                          .contentType(contentType)
+                                          .contentLength((long) content.length)
+                                          .build(),
+                                  RequestBody.fromBytes(content));
+                          return key;
+                      } catch (Exception e) {
+                          throw new BusinessException(
+                                  S3ErrorCode.FILE_UPLOAD_FAILED, "S3 파일 업로드에 실패했습니다", e);
+                      }
+                  },
+                  "S3 파일 업로드");
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public void deleteObject(String key) {
+          deleteFile(key);
+      }
+
       /** {@inheritDoc} */
       @Override
       public InputStream downloadFile(String key) {
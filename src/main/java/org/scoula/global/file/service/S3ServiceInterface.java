@@ -8,12 +8,13 @@ import org.springframework.web.multipart.MultipartFile;
 /**
  * AWS S3 파일 저장소 서비스 인터페이스
  *
- * <p>AWS S3를 이용한 파일 업로드, 다운로드, 삭제 기능을 정의합니다. 미리 서명된 URL 생성 및 파일 존재 여부 확인 기능도 제공합니다.
+ * <p>AWS S3를 이용한 파일 업로드, 다운로드, 삭제 기능을 정의합니다. 미리 서명된 URL 생성 및 파일 존재 여부 확인 기능도 제공합니다. 이미지
+ * 파생본 생성을 위해 {@link ImageObjectStorage}로도 사용됩니다.
  *
  * @author ITZeep Team
  * @since 1.0.0
  */
-public interface S3ServiceInterface {
+public interface S3ServiceInterface extends ImageObjectStorage {
 
       /**
        * 파일을 S3에 업로드합니다.
@@ -0,0 +1,187 @@
+package org.scoula.global.file.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 한 번 읽어 두고 여러 번 읽을 수 있는 MultipartFile
+ *
+ * <p>요청의 MultipartFile은 임시 파일/스트림 기반이라 여러 스레드에서 동시에 읽을 수 없습니다. 내용을 한 번만 읽어 두고 {@link
+ * #getInputStream()} 호출마다 새 스트림을 제공하므로, S3 업로드와 OCR 요청처럼 같은 파일을 병렬로 전송할 때 사용합니다.
+ *
+ * <p>{@value #MEMORY_THRESHOLD_BYTES}바이트 이하는 메모리에 두고, 더 크면 임시 파일로 내려 동시 요청이 많아도 힙 사용량이 파일 크기에 비례해
+ * 늘지 않도록 합니다. 다 쓰고 나면 {@link #close()}로 임시 파일을 지워야 합니다.
+ */
+public final class BufferedMultipartFile implements MultipartFile, Closeable {
+
+      /** 이 크기를 넘으면 임시 파일에 보관 */
+      static final int MEMORY_THRESHOLD_BYTES = 1024 * 1024;
+
+      private static final String TEMP_FILE_PREFIX = "multipart-spool-";
+
+      private final String name;
+      private final String originalFilename;
+      private final String contentType;
+      private final byte[] content;
+      private final Path spoolFile;
+      private final long size;
+
+      private BufferedMultipartFile(
+              String name,
+              String originalFilename,
+              String contentType,
+              byte[] content,
+              Path spoolFile,
+              long size) {
+          this.name = name;
+          this.originalFilename = originalFilename;
+          this.contentType = contentType;
+          this.content = content;
+          this.spoolFile = spoolFile;
+          this.size = size;
+      }
+
+      /**
+       * MultipartFile의 내용을 한 번 읽어 버퍼링합니다.
+       *
+       * @param source 원본 MultipartFile
+       * @return 여러 번, 여러 스레드에서 읽을 수 있는 MultipartFile
+       * @throws IOException 원본 읽기 실패 시
+       */
+      public static BufferedMultipartFile of(MultipartFile source) throws IOException {
+          if (source instanceof BufferedMultipartFile) {
+              return (BufferedMultipartFile) source;
+          }
+          try (InputStream in = source.getInputStream()) {
+              return spool(
+                      source.getName(), source.getOriginalFilename(), source.getContentType(), in);
+          }
+      }
+
+      /**
+       * 스트림(S3에서 내려받은 파일 등)을 끝까지 읽어 버퍼링합니다. 스트림은 닫지 않습니다.
+       *
+       * @param name 파라미터 이름
+       * @param originalFilename 원본 파일명
+       * @param contentType 콘텐츠 타입
+       * @param in 파일 내용 스트림
+       * @return 여러 번, 여러 스레드에서 읽을 수 있는 MultipartFile
+       * @throws IOException 읽기 또는 임시 파일 쓰기 실패 시
+       */
+      public static BufferedMultipartFile spool(
+              String name, String originalFilename, String contentType, InputStream in)
+              throws IOException {
+          byte[] head = in.readNBytes(MEMORY_THRESHOLD_BYTES + 1);
+          if (head.length <= MEMORY_THRESHOLD_BYTES) {
+              return new BufferedMultipartFile(
+                      name, originalFilename, contentType, head, null, head.length);
+          }
+
+          Path spoolFile = Files.createTempFile(TEMP_FILE_PREFIX, ".tmp");
+          try (OutputStream out = Files.newOutputStream(spoolFile)) {
+              out.write(head);
+              long size = head.length + in.transferTo(out);
+              return new BufferedMultipartFile(
+                      name, originalFilename, contentType, null, spoolFile, size);
+          } catch (IOException | RuntimeException e) {
+              Files.deleteIfExists(spoolFile);
+              throw e;
+          }
+      }
+
+      /**
+       * 이미 읽어 둔 내용으로 MultipartFile을 만듭니다.
+       *
+       * @param name 파라미터 이름
+       * @param originalFilename 원본 파일명
+       * @param contentType 콘텐츠 타입
+       * @param content 파일 내용
+       * @return 여러 번, 여러 스레드에서 읽을 수 있는 MultipartFile
+       */
+      public static BufferedMultipartFile of(
+              String name, String originalFilename, String contentType, byte[] content) {
+          return new BufferedMultipartFile(
+                  name, originalFilename, contentType, content, null, content.length);
+      }
+
+      /** 임시 파일에 보관 중인지 여부 */
+      public boolean isSpooled() {
+          return spoolFile != null;
+      }
+
+      @Override
+      public String getName() {
+          return name;
+      }
+
+      @Override
+      public String getOriginalFilename() {
+          return originalFilename;
+      }
+
+      @Override
+      public String getContentType() {
+          return contentType;
+      }
+
+      @Override
+      public boolean isEmpty() {
+          return size == 0;
+      }
+
+      @Override
+      public long getSize() {
+          return size;
+      }
+
+      @Override
+      public byte[] getBytes() throws IOException {
+          if (spoolFile == null) {
+              return content.clone();
+          }
+          try (InputStream in = getInputStream()) {
+              ByteArrayOutputStream out = new ByteArrayOutputStream((int) size);
+              in.transferTo(out);
+              return out.toByteArray();
+          }
+      }
+
+      @Override
+      public InputStream getInputStream() throws IOException {
+          return spoolFile != null
+                  ? Files.newInputStream(spoolFile)
+                  : new ByteArrayInputStream(content);
+      }
+
+      @Override
+      public void transferTo(File dest) throws IOException {
+          if (spoolFile != null) {
+              Files.copy(spoolFile, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+          } else {
+              Files.write(dest.toPath(), content);
+          }
+      }
+
+      /** 임시 파일 삭제 - 메모리에 보관 중이면 아무것도 하지 않고, 삭제에 실패하면 JVM 종료 시 삭제 */
+      @Override
+      public void close() {
+          if (spoolFile == null) {
+              return;
+          }
+          try {
+              Files.deleteIfExists(spoolFile);
+          } catch (IOException e) {
+              spoolFile.toFile().deleteOnExit();
+          }
+      }
+}
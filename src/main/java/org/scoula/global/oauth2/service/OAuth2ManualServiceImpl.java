@@ -11,6 +11,7 @@ import org.scoula.global.auth.jwt.JwtUtil;
 import org.scoula.global.common.util.HttpHeadersUtil;
 import org.scoula.global.oauth2.dto.OAuth2TokenResponse;
 import org.scoula.global.oauth2.dto.OAuth2UserResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -37,6 +38,7 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class OAuth2ManualServiceImpl implements OAuth2ManualServiceInterface {
 
+      @Qualifier("oauthRestTemplate")
       private final RestTemplate restTemplate;
       private final JwtUtil jwtUtil;
       private final UserServiceInterface userService;
@@ -0,0 +1,196 @@
+package org.scoula.global.redis.service;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * AI 문서 파싱 결과 캐시
+ *
+ * <p>같은 PDF(등기부등본, 건축물대장, 계약서)가 반복 업로드되어도 OCR을 다시 요청하지 않도록 파일 내용의 SHA-256과 파서 버전을 키로 파싱 결과를
+ * Redis에 저장합니다. 같은 파일에 대한 동시 요청은 노드 안에서 하나의 OCR 요청으로 합쳐집니다(single-flight).
+ *
+ * <p>항목은 TTL로 만료되며, 전체 항목 수는 저장 시각 기준 sorted set 인덱스로 상한을 유지합니다(오래된 항목부터 제거). Redis 장애 시에는 캐시 없이
+ * 파서를 직접 호출합니다.
+ *
+ * @author ITZeep Team
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class DocumentParseCacheService {
+
+      private static final String KEY_PREFIX = "doc-parse:";
+      private static final String INDEX_KEY = KEY_PREFIX + "index";
+
+      /** 결과 하나의 최대 저장 크기 - 이보다 크면 캐시하지 않음 */
+      private static final int MAX_VALUE_BYTES = 256 * 1024;
+
+      private final RedisTemplate<String, String> stringRedisTemplate;
+      private final ObjectMapper objectMapper;
+
+      private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+      @Value("${ai.parser.version:1}")
+      private String parserVersion;
+
+      @Value("${ai.parse-cache.ttl-hours:168}")
+      private long ttlHours;
+
+      @Value("${ai.parse-cache.max-entries:10000}")
+      private long maxEntries;
+
+      /**
+       * 캐시된 파싱 결과를 반환하거나, 없으면 파서를 호출하고 결과를 저장합니다.
+       *
+       * @param documentType 문서 종류 (registry, building, contract 등)
+       * @param file 파싱할 파일
+       * @param resultType 결과 타입
+       * @param cacheable 저장 여부 판단 (실패 응답 등은 저장하지 않음)
+       * @param parser 실제 파싱 호출
+       * @return 파싱 결과
+       */
+      public <T> T getOrParse(
+              String documentType,
+              MultipartFile file,
+              Class<T> resultType,
+              Predicate<T> cacheable,
+              Supplier<T> parser) {
+          String key = buildKey(documentType, file);
+          if (key == null) {
+              return parser.get();
+          }
+
+          T cached = read(key, resultType);
+          if (cached != null) {
+              log.debug("문서 파싱 캐시 적중 - type: {}", documentType);
+              return cached;
+          }
+
+          CompletableFuture<Object> flight = new CompletableFuture<>();
+          CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+          if (existing != null) {
+              log.debug("동일 문서 파싱 진행 중 - 결과 대기: {}", documentType);
+              return resultType.cast(await(existing));
+          }
+
+          try {
+              T parsed = parser.get();
+              if (parsed != null && cacheable.test(parsed)) {
+                  write(key, parsed);
+              }
+              flight.complete(parsed);
+              return parsed;
+          } catch (RuntimeException e) {
+              flight.completeExceptionally(e);
+              throw e;
+          } finally {
+              inFlight.remove(key, flight);
+          }
+      }
+
+      private Object await(CompletableFuture<Object> flight) {
+          try {
+              return flight.join();
+          } catch (CompletionException e) {
+              if (e.getCause() instanceof RuntimeException) {
+                  throw (RuntimeException) e.getCause();
+              }
+              throw e;
+          }
+      }
+
+      private <T> T read(String key, Class<T> resultType) {
+          try {
+              String json = stringRedisTemplate.opsForValue().get(key);
+              return json != null ? objectMapper.readValue(json, resultType) : null;
+          } catch (Exception e) {
+              log.warn("문서 파싱 캐시 조회 실패 - 캐시 없이 진행: {}", e.getMessage());
+              return null;
+          }
+      }
+
+      private void write(String key, Object value) {
+          try {
+              String json = objectMapper.writeValueAsString(value);
+              if (json.getBytes(StandardCharsets.UTF_8).length > MAX_VALUE_BYTES) {
+                  log.debug("문서 파싱 결과가 너무 커서 캐시하지 않음 - key: {}", key);
+                  return;
+              }
+
+              long now = System.currentTimeMillis();
+              stringRedisTemplate.opsForValue().set(key, json, Duration.ofHours(ttlHours));
+              stringRedisTemplate.opsForZSet().add(INDEX_KEY, key, now);
+              evictOverflow(now);
+          } catch (Exception e) {
+              log.warn("문서 파싱 캐시 저장 실패: {}", e.getMessage());
+          }
+      }
+
+      /** TTL이 지난 인덱스 항목과 상한을 넘는 오래된 항목 제거 */
+      private void evictOverflow(long now) {
+          stringRedisTemplate
+                  .opsForZSet()
+                  .removeRangeByScore(INDEX_KEY, 0, now - Duration.ofHours(ttlHours).toMillis());
+
+          Long size = stringRedisTemplate.opsForZSet().zCard(INDEX_KEY);
+          if (size == null || size <= maxEntries) {
+              return;
+          }
+
+          Set<String> oldest =
+                  stringRedisTemplate.opsForZSet().range(INDEX_KEY, 0, size - maxEntries - 1);
+          if (oldest == null || oldest.isEmpty()) {
+              return;
+          }
+          stringRedisTemplate.delete(oldest);
+          stringRedisTemplate.opsForZSet().remove(INDEX_KEY, oldest.toArray());
+          log.debug("문서 파싱 캐시 상한 초과 - {}건 제거", oldest.size());
+      }
+
+      private String buildKey(String documentType, MultipartFile file) {
+          if (file == null || file.isEmpty()) {
+              return null;
+          }
+          try (InputStream in = file.getInputStream()) {
+              MessageDigest digest = MessageDigest.getInstance("SHA-256");
+              byte[] buffer = new byte[8192];
+              int read;
+              while ((read = in.read(buffer)) != -1) {
+                  digest.update(buffer, 0, read);
+              }
+              return KEY_PREFIX + documentType + ":v" + parserVersion + ":" + toHex(digest.digest());
+          } catch (Exception e) {
+              log.warn("문서 해시 계산 실패 - 캐시 없이 진행: {}", e.getMessage());
+              return null;
+          }
+      }
+
+      private String toHex(byte[] bytes) {
+          StringBuilder hex = new StringBuilder(bytes.length * 2);
+          for (byte b : bytes) {
+              hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+              hex.append(Character.forDigit(b & 0xF, 16));
+          }
+          return hex.toString();
+      }
+}
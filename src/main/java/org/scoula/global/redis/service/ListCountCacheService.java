@@ -0,0 +1,226 @@
+package org.scoula.global.redis.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 목록 전체 개수 캐시
+ *
+ * <p>페이지 목록마다 함께 실행되던 COUNT 쿼리 결과를 대상(전체/사용자)별 Redis 해시에 저장합니다. 기본 조회는 짧은 TTL 안의 값만 사용하는 정확 모드이고,
+ * 무한 스크롤처럼 정확한 총 개수가 필요 없는 화면은 근사 모드로 더 오래된 값도 그대로 사용할 수 있습니다.
+ *
+ * <p>매물 등록/삭제, 위험도 분석 완료/삭제 시 {@link #evict}로 커밋 후 해당 대상의 개수를 모두 지웁니다. 별도 무효화 지점이 없는 목록(계약 채팅,
+ * 채팅 중인 매물)은 정확 모드 TTL만큼 늦게 반영됩니다. Redis 장애 시에는 캐시 없이 COUNT를 실행합니다.
+ *
+ * <p>COUNT를 실행하는 사이에 무효화가 커밋되면 계산한 값은 이미 낡은 값입니다. 이 값이 무효화 뒤에 저장되지 않도록 대상마다 세대 번호를 두고 무효화할
+ * 때 세대를 올립니다. COUNT 전에 세대를 받아 두고 세대가 그대로일 때만 저장합니다.
+ *
+ * @author ITZeep Team
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ListCountCacheService {
+
+      /** 개수를 캐시하는 목록 */
+      public enum Scope {
+          /** 전체 매물 목록 */
+          HOMES("homes"),
+          /** 사용자가 등록한 매물 */
+          MY_PROPERTIES("my-properties"),
+          /** 사용자의 위험도 분석 기록 (분석 완료 건) */
+          RISK_CHECKS("risk-checks"),
+          /** 사용자가 채팅 중인 매물 */
+          CHATTING_HOMES("chatting-homes"),
+          /** 사용자의 계약 채팅 */
+          MY_CONTRACTS("my-contracts");
+
+          private final String key;
+
+          Scope(String key) {
+              this.key = key;
+          }
+      }
+
+      private static final String KEY_PREFIX = "list-count:";
+      private static final String ALL = "all";
+      private static final String VALUE_DELIMITER = "|";
+      private static final String GENERATION_KEY_PREFIX = KEY_PREFIX + "gen:";
+      private static final String INITIAL_GENERATION = "0";
+
+      /** 세대 키 유지 시간 - COUNT 실행 시간보다 충분히 길어야 함 */
+      private static final Duration GENERATION_TTL = Duration.ofHours(1);
+
+      /** 세대가 COUNT 시작 때와 같을 때만 저장 (KEYS: 개수 키, 세대 키 / ARGV: 세대, 조건, 값, TTL) */
+      private static final RedisScript<Long> PUT_IF_CURRENT_SCRIPT =
+              new DefaultRedisScript<>(
+                      "if (redis.call('get', KEYS[2]) or '"
+                              + INITIAL_GENERATION
+                              + "') ~= ARGV[1] then return 0 end "
+                              + "redis.call('hset', KEYS[1], ARGV[2], ARGV[3]) "
+                              + "redis.call('expire', KEYS[1], ARGV[4]) return 1",
+                      Long.class);
+
+      /** 개수 키를 지우고 세대를 올림 (KEYS: 개수 키, 세대 키 / ARGV: 세대 키 TTL) */
+      private static final RedisScript<Long> INVALIDATE_SCRIPT =
+              new DefaultRedisScript<>(
+                      "redis.call('del', KEYS[1]) redis.call('incr', KEYS[2]) "
+                              + "redis.call('expire', KEYS[2], ARGV[1]) return 1",
+                      Long.class);
+
+      private final RedisTemplate<String, String> stringRedisTemplate;
+
+      /** 정확 모드에서 사용하는 값의 최대 나이 */
+      @Value("${list-count.exact-ttl-seconds:30}")
+      private long exactTtlSeconds;
+
+      /** 근사 모드에서 사용하는 값의 최대 나이 (Redis 키 TTL) */
+      @Value("${list-count.approximate-ttl-seconds:600}")
+      private long approximateTtlSeconds;
+
+      /**
+       * 캐시된 개수를 반환하거나, 없거나 오래되었으면 COUNT를 실행하고 저장합니다.
+       *
+       * @param scope 목록 종류
+       * @param owner 목록 대상 (사용자 ID 등), 전체 목록이면 null
+       * @param approximate 근사 모드 여부 - true면 정확 모드 TTL이 지난 값도 사용
+       * @param counter 실제 COUNT 실행
+       * @return 목록 전체 개수
+       */
+      public long count(Scope scope, Object owner, boolean approximate, LongSupplier counter) {
+          return count(scope, owner, ALL, approximate, counter);
+      }
+
+      /**
+       * 같은 대상의 목록을 조건(variant)별로 나누어 개수를 캐시합니다. 무효화는 대상 단위로 모든 조건에 적용됩니다.
+       *
+       * @param scope 목록 종류
+       * @param owner 목록 대상 (사용자 ID 등), 전체 목록이면 null
+       * @param variant 조건 구분 값 (필터 등)
+       * @param approximate 근사 모드 여부
+       * @param counter 실제 COUNT 실행
+       * @return 목록 전체 개수
+       */
+      public long count(
+              Scope scope,
+              Object owner,
+              String variant,
+              boolean approximate,
+              LongSupplier counter) {
+          String key = buildKey(scope, owner);
+          String generationKey = buildGenerationKey(scope, owner);
+          String field = variant != null ? variant : ALL;
+          long maxAgeSeconds = approximate ? approximateTtlSeconds : exactTtlSeconds;
+
+          Long cached = read(key, field, maxAgeSeconds);
+          if (cached != null) {
+              return cached;
+          }
+
+          String generation = readGeneration(generationKey);
+          long count = counter.getAsLong();
+          if (generation != null) {
+              write(key, generationKey, generation, field, count);
+          }
+          return count;
+      }
+
+      /**
+       * 대상의 캐시된 개수를 모두 지웁니다. 트랜잭션 안에서 호출하면 커밋 후에 지워 커밋 전 값이 다시 저장되지 않도록 합니다.
+       *
+       * @param scope 목록 종류
+       * @param owner 목록 대상 (사용자 ID 등), 전체 목록이면 null
+       */
+      public void evict(Scope scope, Object owner) {
+          String key = buildKey(scope, owner);
+          String generationKey = buildGenerationKey(scope, owner);
+          if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+              invalidate(key, generationKey);
+              return;
+          }
+          TransactionSynchronizationManager.registerSynchronization(
+                  new TransactionSynchronization() {
+                      @Override
+                      public void afterCommit() {
+                          invalidate(key, generationKey);
+                      }
+                  });
+      }
+
+      private Long read(String key, String field, long maxAgeSeconds) {
+          try {
+              Object value = stringRedisTemplate.opsForHash().get(key, field);
+              if (value == null) {
+                  return null;
+              }
+              String raw = value.toString();
+              int delimiterIndex = raw.indexOf(VALUE_DELIMITER);
+              long savedAt = Long.parseLong(raw.substring(delimiterIndex + 1));
+              if (System.currentTimeMillis() - savedAt > maxAgeSeconds * 1000) {
+                  return null;
+              }
+              return Long.parseLong(raw.substring(0, delimiterIndex));
+          } catch (Exception e) {
+              log.warn("목록 개수 캐시 조회 실패 - COUNT 실행: {}", e.getMessage());
+              return null;
+          }
+      }
+
+      /** COUNT 전의 세대 - 조회에 실패하면 null을 반환해 저장하지 않음 */
+      private String readGeneration(String generationKey) {
+          try {
+              String generation = stringRedisTemplate.opsForValue().get(generationKey);
+              return generation != null ? generation : INITIAL_GENERATION;
+          } catch (Exception e) {
+              log.warn("목록 개수 캐시 세대 조회 실패: {}", e.getMessage());
+              return null;
+          }
+      }
+
+      private void write(
+              String key, String generationKey, String generation, String field, long count) {
+          try {
+              stringRedisTemplate.execute(
+                      PUT_IF_CURRENT_SCRIPT,
+                      List.of(key, generationKey),
+                      generation,
+                      field,
+                      count + VALUE_DELIMITER + System.currentTimeMillis(),
+                      String.valueOf(approximateTtlSeconds));
+          } catch (Exception e) {
+              log.warn("목록 개수 캐시 저장 실패: {}", e.getMessage());
+          }
+      }
+
+      private void invalidate(String key, String generationKey) {
+          try {
+              stringRedisTemplate.execute(
+                      INVALIDATE_SCRIPT,
+                      List.of(key, generationKey),
+                      String.valueOf(GENERATION_TTL.getSeconds()));
+          } catch (Exception e) {
+              log.warn("목록 개수 캐시 삭제 실패 - key: {}, {}", key, e.getMessage());
+          }
+      }
+
+      private String buildKey(Scope scope, Object owner) {
+          return KEY_PREFIX + scope.key + ":" + (owner != null ? owner : ALL);
+      }
+
+      private String buildGenerationKey(Scope scope, Object owner) {
+          return GENERATION_KEY_PREFIX + scope.key + ":" + (owner != null ? owner : ALL);
+      }
+}
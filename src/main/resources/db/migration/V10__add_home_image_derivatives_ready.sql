@@ -0,0 +1,7 @@
+-- 이미지 파생본(썸네일/중간 크기/EXIF 제거본) 생성 완료 여부: 생성이 끝난 이미지만 파생본 URL을 응답에 포함
+-- 파생본 생성 완료 시 HomeMapper.markHomeImageDerivativesReady로 갱신, 매물 대표 이미지 값은 refreshHomeThumbnail로 함께 갱신
+ALTER TABLE home_image
+    ADD COLUMN derivatives_ready TINYINT(1) NOT NULL DEFAULT 0;
+
+ALTER TABLE home
+    ADD COLUMN thumbnail_derivatives_ready TINYINT(1) NOT NULL DEFAULT 0;
@@ -0,0 +1,4 @@
+-- 비동기 사기 위험도 분석: 분석 중(IN_PROGRESS)/실패(FAILED) 상태의 risk_check는 목록·요약 조회에서 제외
+-- 기존 행은 모두 완료된 분석이므로 기본값 SUCCESS
+ALTER TABLE risk_check
+    ADD COLUMN analysis_status VARCHAR(20) NOT NULL DEFAULT 'SUCCESS' AFTER risk_type;
@@ -0,0 +1,4 @@
+-- 사기 위험도 판정 경로 감사: 문서 데이터 사전 점검(LOCAL_RULE)으로 판정했는지 AI 분석(AI)으로 판정했는지 기록
+-- 기존 행은 경로를 알 수 없으므로 NULL
+ALTER TABLE risk_check
+    ADD COLUMN analysis_path VARCHAR(20) NULL AFTER analysis_status;
@@ -0,0 +1,4 @@
+-- 매물별 위험도 분석 공유: 같은 날 같은 등기부등본/건축물대장으로 먼저 분석된 결과를 재사용한 경우 원본 risk_check ID 기록
+-- 직접 분석한 행과 기존 행은 NULL
+ALTER TABLE risk_check
+    ADD COLUMN source_riskck_id BIGINT NULL AFTER analysis_path;
@@ -0,0 +1,9 @@
+-- 야간 재평가: 찜하거나 채팅 중인 매물의 최신 위험도를 매물 단위로 저장해 목록 화면에서 AI 호출 없이 배지로 표시
+CREATE TABLE IF NOT EXISTS home_risk_score (
+    home_id BIGINT PRIMARY KEY,
+    risk_type ENUM('DANGER', 'WARN', 'SAFE') NOT NULL,
+    analysis_path VARCHAR(20),
+    riskck_id BIGINT,
+    scored_at DATETIME NOT NULL,
+    FOREIGN KEY (home_id) REFERENCES home(home_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
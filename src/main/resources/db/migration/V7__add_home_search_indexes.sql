@@ -0,0 +1,22 @@
+-- 매물 조건 검색: (created_at, home_id) 키셋 커서 정렬과 자주 쓰는 필터를 인덱스로 처리해 깊은 페이지에서도 스캔 범위 유지
+
+-- 키셋 커서가 NULL 분기 없이 인덱스 범위 조건이 되도록 등록일을 채우고 필수로 변경
+UPDATE home
+SET created_at = COALESCE(updated_at, NOW())
+WHERE created_at IS NULL;
+
+ALTER TABLE home
+    MODIFY COLUMN created_at DATETIME NOT NULL;
+
+-- 필터 없는 최신순 목록/검색
+CREATE INDEX idx_home_created_at_home_id ON home (created_at, home_id);
+
+-- 임대/주거 유형 동등 조건 + 최신순 정렬
+CREATE INDEX idx_home_lease_residence_created ON home (lease_type, residence_type, created_at, home_id);
+
+-- 임대 유형별 보증금/월세 범위 조건: 보증금 범위로 스캔 범위를 줄이고 월세/커서 조건은 인덱스에서 거름
+-- (범위 조건 뒤의 정렬 키는 정렬에 쓰이지 않으므로 조건에 맞는 행만 filesort로 정렬)
+CREATE INDEX idx_home_lease_deposit_rent ON home (lease_type, deposit_price, monthly_rent, created_at, home_id);
+
+-- 반려동물/주차 조건 조인
+CREATE INDEX idx_home_detail_home_pet_parking ON home_detail (home_id, is_pet, is_parking_available);
@@ -0,0 +1,16 @@
+-- 매물 대표 이미지: 목록 조회마다 home_image를 집계하지 않도록 첫 번째 이미지(가장 작은 image_id)를 매물에 저장
+-- 이미지 추가/삭제 시 HomeMapper.refreshHomeThumbnail로 갱신
+ALTER TABLE home
+    ADD COLUMN thumbnail_image_id BIGINT NULL,
+    ADD COLUMN thumbnail_url VARCHAR(255) NULL;
+
+-- 기존 매물 대표 이미지 채우기
+UPDATE home h
+    JOIN (
+        SELECT home_id, MIN(image_id) AS image_id
+        FROM home_image
+        GROUP BY home_id
+    ) first_image ON first_image.home_id = h.home_id
+    JOIN home_image hi ON hi.image_id = first_image.image_id
+SET h.thumbnail_image_id = hi.image_id,
+    h.thumbnail_url = hi.image_url;
@@ -0,0 +1,4 @@
+-- 비동기 사기 위험도 분석 진행률(%): 어느 서버가 분석을 실행하든 상태 조회 API가 같은 값을 보도록 risk_check에 저장
+-- 분석이 끝나면(SUCCESS/FAILED) NULL
+ALTER TABLE risk_check
+    ADD COLUMN analysis_progress TINYINT NULL AFTER analysis_status;
@@ -0,0 +1,33 @@
+package org.scoula.domain.chat.service;
+
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.domain.chat.repository.ContractChatMessageRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContractChatSentAtBackfill 테스트")
+class ContractChatSentAtBackfillTest {
+
+      @Mock private ContractChatMessageRepository contractChatMessageRepository;
+
+      @InjectMocks private ContractChatSentAtBackfill contractChatSentAtBackfill;
+
+      @Test
+      @DisplayName("한 컬렉션의 채우기가 실패해도 나머지 컬렉션을 모두 채운다")
+      void backfill_continuesAfterShardFailure() {
+          when(contractChatMessageRepository.backfillSentAt(1))
+                  .thenThrow(new RuntimeException("timeout"));
+
+          contractChatSentAtBackfill.backfill();
+
+          for (int shard = 0; shard < ContractChatMessageRepository.SHARD_COUNT; shard++) {
+              verify(contractChatMessageRepository).backfillSentAt(shard);
+          }
+      }
+}
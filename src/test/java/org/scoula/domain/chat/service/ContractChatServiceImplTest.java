@@ -0,0 +1,181 @@
+package org.scoula.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.domain.chat.document.ContractChatDocument;
+import org.scoula.domain.chat.dto.ContractChatMessagePageDto;
+import org.scoula.domain.chat.repository.ContractChatMessageRepository;
+import org.scoula.global.common.exception.BusinessException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContractChatServiceImpl 메시지 커서 조회 테스트")
+class ContractChatServiceImplTest {
+
+      @Mock private ContractChatMessageRepository contractChatMessageRepository;
+
+      @InjectMocks private ContractChatServiceImpl contractChatService;
+
+      private final Long contractChatId = 1L;
+
+      private static final Comparator<ContractChatDocument> NEWEST_FIRST =
+              Comparator.comparing(ContractChatDocument::getSentAt)
+                      .thenComparing(ContractChatDocument::getId)
+                      .reversed();
+
+      @Test
+      @DisplayName("nextCursor로 이어서 조회하면 같은 시각의 메시지도 중복/누락 없이 모두 조회한다")
+      void getContractMessages_pagesWithoutDuplicates() {
+          Instant base = Instant.parse("2025-01-01T00:00:00Z");
+          List<ContractChatDocument> stored =
+                  List.of(
+                          message(base),
+                          message(base.plusMillis(5)),
+                          message(base.plusMillis(5)),
+                          message(base.plusMillis(5)),
+                          message(base.plusSeconds(1)));
+          stubRepositoryWith(stored);
+
+          List<String> collected = new ArrayList<>();
+          String cursor = null;
+          int pages = 0;
+          do {
+              ContractChatMessagePageDto page =
+                      contractChatService.getContractMessages(contractChatId, cursor, 2);
+              // 각 페이지는 시간순이고 과거 방향으로 이어지므로 앞에 붙이면 전체가 시간순
+              collected.addAll(
+                      0,
+                      page.getMessages().stream()
+                              .map(ContractChatDocument::getId)
+                              .collect(Collectors.toList()));
+              cursor = page.getNextCursor();
+              pages++;
+          } while (cursor != null);
+
+          List<String> expected =
+                  stored.stream()
+                          .sorted(NEWEST_FIRST.reversed())
+                          .map(ContractChatDocument::getId)
+                          .collect(Collectors.toList());
+          assertThat(pages).isEqualTo(3);
+          assertThat(collected).containsExactlyElementsOf(expected);
+      }
+
+      @Test
+      @DisplayName("nextCursor는 마지막 메시지의 (sentAt, _id)로 복원된다")
+      void getContractMessages_cursorRoundTrip() {
+          Instant base = Instant.parse("2025-01-01T00:00:00.123Z");
+          ContractChatDocument newer = message(base.plusSeconds(1));
+          ContractChatDocument boundary = message(base);
+          ContractChatDocument older = message(base.minusSeconds(1));
+          when(contractChatMessageRepository.getMessagesBefore(
+                          eq(contractChatId), isNull(), isNull(), eq(3)))
+                  .thenReturn(List.of(newer, boundary, older));
+          when(contractChatMessageRepository.getMessagesBefore(
+                          contractChatId, base, boundary.getId(), 3))
+                  .thenReturn(List.of(older));
+
+          ContractChatMessagePageDto first =
+                  contractChatService.getContractMessages(contractChatId, null, 2);
+          ContractChatMessagePageDto second =
+                  contractChatService.getContractMessages(contractChatId, first.getNextCursor(), 2);
+
+          assertThat(first.isHasNext()).isTrue();
+          assertThat(first.getMessages())
+                  .extracting(ContractChatDocument::getId)
+                  .containsExactly(boundary.getId(), newer.getId());
+          assertThat(second.isHasNext()).isFalse();
+          assertThat(second.getNextCursor()).isNull();
+          assertThat(second.getMessages())
+                  .extracting(ContractChatDocument::getId)
+                  .containsExactly(older.getId());
+      }
+
+      @Test
+      @DisplayName("형식이 잘못된 커서는 BusinessException을 던진다")
+      void getContractMessages_rejectsMalformedCursor() {
+          List<String> malformed =
+                  List.of(
+                          "not base64!",
+                          encode("no-delimiter"),
+                          encode("2025-01-01T00:00|" + new ObjectId().toHexString()),
+                          encode("1735689600000|not-an-object-id"),
+                          encode("|" + new ObjectId().toHexString()));
+
+          for (String cursor : malformed) {
+              assertThatThrownBy(() -> contractChatService.getContractMessages(1L, cursor, 10))
+                      .isInstanceOf(BusinessException.class);
+          }
+          verifyNoInteractions(contractChatMessageRepository);
+      }
+
+      @Test
+      @DisplayName("페이지 크기가 범위를 벗어나면 BusinessException을 던진다")
+      void getContractMessages_rejectsInvalidSize() {
+          assertThatThrownBy(() -> contractChatService.getContractMessages(1L, null, 0))
+                  .isInstanceOf(BusinessException.class);
+          assertThatThrownBy(() -> contractChatService.getContractMessages(1L, null, 101))
+                  .isInstanceOf(BusinessException.class);
+          verifyNoInteractions(contractChatMessageRepository);
+      }
+
+      /** 저장소의 (sentAt, _id) 내림차순 커서 조회를 메모리 목록으로 흉내냄 */
+      private void stubRepositoryWith(List<ContractChatDocument> stored) {
+          when(contractChatMessageRepository.getMessagesBefore(
+                          eq(contractChatId), any(), any(), anyInt()))
+                  .thenAnswer(
+                          invocation -> {
+                              Instant beforeSentAt = invocation.getArgument(1);
+                              String beforeId = invocation.getArgument(2);
+                              int limit = invocation.getArgument(3);
+                              return stored.stream()
+                                      .filter(m -> isBefore(m, beforeSentAt, beforeId))
+                                      .sorted(NEWEST_FIRST)
+                                      .limit(limit)
+                                      .collect(Collectors.toList());
+                          });
+      }
+
+      private boolean isBefore(ContractChatDocument message, Instant sentAt, String id) {
+          if (sentAt == null) {
+              return true;
+          }
+          int compared = message.getSentAt().compareTo(sentAt);
+          return compared < 0 || (compared == 0 && message.getId().compareTo(id) < 0);
+      }
+
+      private ContractChatDocument message(Instant sentAt) {
+          return ContractChatDocument.builder()
+                  .id(new ObjectId().toHexString())
+                  .contractChatId(contractChatId.toString())
+                  .content("msg")
+                  .sentAt(sentAt)
+                  .build();
+      }
+
+      private String encode(String raw) {
+          return Base64.getUrlEncoder()
+                  .withoutPadding()
+                  .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+      }
+}
@@ -0,0 +1,142 @@
+package org.scoula.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.domain.chat.mapper.ContractChatMapper;
+import org.scoula.domain.chat.vo.ContractChat;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContractChatStateCache 테스트")
+class ContractChatStateCacheTest {
+
+      @Mock private ContractChatMapper contractChatMapper;
+      @Mock private RedisTemplate<String, String> stringRedisTemplate;
+      @Mock private RedisMessageListenerContainer redisMessageListenerContainer;
+
+      @InjectMocks private ContractChatStateCache contractChatStateCache;
+
+      private final Long contractChatId = 1L;
+
+      @BeforeEach
+      void setUp() {
+          lenient()
+                  .when(contractChatMapper.findByContractChatId(contractChatId))
+                  .thenAnswer(invocation -> contractChat(ContractChat.ContractStatus.ROUND0));
+      }
+
+      @Test
+      @DisplayName("같은 채팅방을 반복 조회하면 DB는 한 번만 조회한다")
+      void get_cachesState() {
+          ContractChat first = contractChatStateCache.get(contractChatId);
+          ContractChat second = contractChatStateCache.get(contractChatId);
+
+          assertThat(first.getOwnerId()).isEqualTo(10L);
+          assertThat(second.getCurrentRound()).isEqualTo(1L);
+          verify(contractChatMapper, times(1)).findByContractChatId(contractChatId);
+      }
+
+      @Test
+      @DisplayName("상태 변경 시 버전이 증가하고 다음 조회는 DB에서 다시 읽는다")
+      void updateStatus_invalidates() {
+          contractChatStateCache.get(contractChatId);
+          long versionBefore = contractChatStateCache.currentVersion(contractChatId);
+
+          when(contractChatMapper.findByContractChatId(contractChatId))
+                  .thenAnswer(invocation -> contractChat(ContractChat.ContractStatus.ROUND1));
+          contractChatStateCache.updateStatus(contractChatId, ContractChat.ContractStatus.ROUND1);
+
+          assertThat(contractChatStateCache.currentVersion(contractChatId))
+                  .isGreaterThan(versionBefore);
+          assertThat(contractChatStateCache.get(contractChatId).getCurrentRound()).isEqualTo(2L);
+          verify(contractChatMapper).updateStatus(contractChatId, ContractChat.ContractStatus.ROUND1);
+          verify(contractChatMapper, times(2)).findByContractChatId(contractChatId);
+      }
+
+      @Test
+      @DisplayName("조회 중 쓰기가 끼어들면 조회 결과를 캐시에 적재하지 않는다")
+      void get_skipsCacheWhenConcurrentWrite() {
+          when(contractChatMapper.findByContractChatId(contractChatId))
+                  .thenAnswer(
+                          invocation -> {
+                              // 조회 도중 다른 요청이 라운드를 변경
+                              contractChatStateCache.invalidate(contractChatId);
+                              return contractChat(ContractChat.ContractStatus.ROUND0);
+                          })
+                  .thenAnswer(invocation -> contractChat(ContractChat.ContractStatus.ROUND1));
+
+          contractChatStateCache.get(contractChatId);
+          ContractChat reloaded = contractChatStateCache.get(contractChatId);
+
+          assertThat(reloaded.getStatus()).isEqualTo(ContractChat.ContractStatus.ROUND1);
+          verify(contractChatMapper, times(2)).findByContractChatId(contractChatId);
+      }
+
+      @Test
+      @DisplayName("반환된 객체를 수정해도 캐시된 상태는 변하지 않는다")
+      void get_returnsDefensiveCopy() {
+          ContractChat first = contractChatStateCache.get(contractChatId);
+          first.setStatus(ContractChat.ContractStatus.ROUND3);
+
+          assertThat(contractChatStateCache.get(contractChatId).getStatus())
+                  .isEqualTo(ContractChat.ContractStatus.ROUND0);
+      }
+
+      @Test
+      @DisplayName("상태 변경 시 다른 노드에 무효화 메시지를 발행한다")
+      void updateStatus_publishesInvalidation() {
+          contractChatStateCache.updateStatus(contractChatId, ContractChat.ContractStatus.ROUND1);
+
+          verify(stringRedisTemplate)
+                  .convertAndSend("contract-chat-state:invalidate", contractChatId.toString());
+      }
+
+      @Test
+      @DisplayName("다른 노드의 무효화 메시지를 받으면 다음 조회는 DB에서 다시 읽는다")
+      void onRemoteInvalidation_evictsLocalCopy() {
+          contractChatStateCache.get(contractChatId);
+          long versionBefore = contractChatStateCache.currentVersion(contractChatId);
+
+          contractChatStateCache.onRemoteInvalidation(contractChatId.toString());
+          contractChatStateCache.get(contractChatId);
+
+          assertThat(contractChatStateCache.currentVersion(contractChatId))
+                  .isGreaterThan(versionBefore);
+          verify(contractChatMapper, times(2)).findByContractChatId(contractChatId);
+      }
+
+      @Test
+      @DisplayName("Redis 발행에 실패해도 로컬 무효화는 수행한다")
+      void invalidate_toleratesRedisFailure() {
+          contractChatStateCache.get(contractChatId);
+          doThrow(new RuntimeException("down"))
+                  .when(stringRedisTemplate)
+                  .convertAndSend(anyString(), anyString());
+
+          contractChatStateCache.invalidate(contractChatId);
+          contractChatStateCache.get(contractChatId);
+
+          verify(contractChatMapper, times(2)).findByContractChatId(contractChatId);
+      }
+
+      private ContractChat contractChat(ContractChat.ContractStatus status) {
+          ContractChat contractChat = new ContractChat();
+          contractChat.setContractChatId(contractChatId);
+          contractChat.setOwnerId(10L);
+          contractChat.setBuyerId(20L);
+          contractChat.setHomeId(100L);
+          contractChat.setLastMessage("last");
+          contractChat.setStatus(status);
+          return contractChat;
+      }
+}
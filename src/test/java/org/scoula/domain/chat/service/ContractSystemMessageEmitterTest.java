@@ -0,0 +1,136 @@
+package org.scoula.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.domain.chat.document.ContractChatDocument;
+import org.scoula.domain.chat.dto.ContractChatFrameDto;
+import org.scoula.domain.chat.mapper.ContractChatMapper;
+import org.scoula.domain.chat.repository.ContractChatMessageRepository;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContractSystemMessageEmitter 테스트")
+class ContractSystemMessageEmitterTest {
+
+      @Mock private ContractChatMessageRepository contractChatMessageRepository;
+      @Mock private ContractChatMapper contractChatMapper;
+      @Mock private SimpMessagingTemplate messagingTemplate;
+
+      @InjectMocks private ContractSystemMessageEmitter emitter;
+
+      private final Long contractChatId = 1L;
+
+      @BeforeEach
+      void setUp() {
+          lenient()
+                  .when(contractChatMessageRepository.saveMessages(anyLong(), anyList()))
+                  .thenAnswer(invocation -> invocation.getArgument(1));
+      }
+
+      @AfterEach
+      void tearDown() {
+          if (TransactionSynchronizationManager.isSynchronizationActive()) {
+              TransactionSynchronizationManager.clearSynchronization();
+          }
+      }
+
+      @Test
+      @DisplayName("트랜잭션 밖에서는 메시지 하나도 목록 프레임으로 즉시 발송한다")
+      void emit_withoutTransaction_sendsListFrame() {
+          emitter.emit(contractChatId, ContractSystemMessageEmitter.Sender.AI, "안내");
+
+          ContractChatFrameDto frame = sentFrame();
+          assertThat(frame.getType()).isEqualTo(ContractChatFrameDto.MESSAGES);
+          assertThat(frame.getMessages())
+                  .extracting(ContractChatDocument::getContent)
+                  .containsExactly("안내");
+          verify(contractChatMapper).updateLastMessage(contractChatId, "안내");
+      }
+
+      @Test
+      @DisplayName("트랜잭션 안의 메시지는 커밋 후 한 번에 저장하고 하나의 목록 프레임으로 발송한다")
+      void emit_inTransaction_batchesUntilCommit() {
+          TransactionSynchronizationManager.initSynchronization();
+
+          emitter.emit(contractChatId, ContractSystemMessageEmitter.Sender.AI, "첫 번째");
+          emitter.emit(contractChatId, ContractSystemMessageEmitter.Sender.AI_BUTTON, "두 번째");
+          verifyNoInteractions(contractChatMessageRepository, messagingTemplate);
+
+          complete(TransactionSynchronization.STATUS_COMMITTED);
+
+          verify(contractChatMessageRepository, times(1))
+                  .saveMessages(eq(contractChatId), anyList());
+          verify(contractChatMapper, times(1)).updateLastMessage(contractChatId, "두 번째");
+          ContractChatFrameDto frame = sentFrame();
+          assertThat(frame.getMessages())
+                  .extracting(ContractChatDocument::getContent)
+                  .containsExactly("첫 번째", "두 번째");
+          assertThat(frame.getMessages())
+                  .extracting(ContractChatDocument::getSenderId)
+                  .containsExactly(9999L, 9998L);
+      }
+
+      @Test
+      @DisplayName("트랜잭션이 롤백되면 모아 둔 메시지를 저장하거나 발송하지 않는다")
+      void emit_inTransaction_discardsOnRollback() {
+          TransactionSynchronizationManager.initSynchronization();
+
+          emitter.emit(contractChatId, ContractSystemMessageEmitter.Sender.AI, "안내");
+          complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+          verifyNoInteractions(contractChatMessageRepository, messagingTemplate);
+          verifyNoInteractions(contractChatMapper);
+      }
+
+      @Test
+      @DisplayName("발송에 실패해도 커밋 후 콜백은 예외를 전파하지 않는다")
+      void emit_inTransaction_swallowsPublishFailure() {
+          TransactionSynchronizationManager.initSynchronization();
+          doThrow(new RuntimeException("broker down"))
+                  .when(messagingTemplate)
+                  .convertAndSend(anyString(), any(Object.class));
+
+          emitter.emit(contractChatId, ContractSystemMessageEmitter.Sender.AI_NEXT, "다음 단계");
+          complete(TransactionSynchronization.STATUS_COMMITTED);
+
+          verify(contractChatMessageRepository).saveMessages(eq(contractChatId), anyList());
+      }
+
+      /** 트랜잭션 완료 콜백을 커밋/롤백 순서대로 호출 */
+      private void complete(int status) {
+          List<TransactionSynchronization> synchronizations =
+                  TransactionSynchronizationManager.getSynchronizations();
+          if (status == TransactionSynchronization.STATUS_COMMITTED) {
+              synchronizations.forEach(s -> s.beforeCommit(false));
+              synchronizations.forEach(TransactionSynchronization::afterCommit);
+          }
+          synchronizations.forEach(s -> s.afterCompletion(status));
+          TransactionSynchronizationManager.clearSynchronization();
+      }
+
+      private ContractChatFrameDto sentFrame() {
+          ArgumentCaptor<Object> frame = ArgumentCaptor.forClass(Object.class);
+          verify(messagingTemplate).convertAndSend(eq("/topic/contract-chat/1"), frame.capture());
+          assertThat(frame.getValue()).isInstanceOf(ContractChatFrameDto.class);
+          return (ContractChatFrameDto) frame.getValue();
+      }
+}
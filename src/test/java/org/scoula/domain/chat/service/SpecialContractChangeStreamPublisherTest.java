@@ -0,0 +1,177 @@
+package org.scoula.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.domain.chat.dto.SpecialContractDeltaDto;
+import org.scoula.domain.chat.repository.ChangeStreamResumeTokenRepository;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SpecialContractChangeStreamPublisher 테스트")
+class SpecialContractChangeStreamPublisherTest {
+
+      @Mock private MongoTemplate mongoTemplate;
+      @Mock private SimpMessagingTemplate messagingTemplate;
+      @Mock private ChangeStreamResumeTokenRepository resumeTokenRepository;
+
+      @Mock private MongoCollection<Document> collection;
+      @Mock private ChangeStreamIterable<Document> stream;
+      @Mock private MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor;
+      @Mock private ChangeStreamDocument<Document> event;
+
+      @InjectMocks private SpecialContractChangeStreamPublisher publisher;
+
+      private final BsonDocument token = new BsonDocument("_data", new BsonString("8263A1"));
+
+      @Test
+      @DisplayName("특약 수정 이벤트를 채팅방 ID와 변경 필드가 담긴 FIX 변경 요약으로 변환한다")
+      void toDelta_fixUpdate() {
+          when(event.getFullDocument())
+                  .thenReturn(
+                          new Document("contractChatId", 7L)
+                                  .append("order", 2)
+                                  .append("round", 3L)
+                                  .append("isPassed", true));
+          when(event.getOperationType()).thenReturn(OperationType.UPDATE);
+          when(event.getUpdateDescription())
+                  .thenReturn(
+                          new UpdateDescription(
+                                  List.of(), new BsonDocument("isPassed", BsonBoolean.TRUE)));
+
+          SpecialContractDeltaDto delta = publisher.toDelta("SPECIAL_CONTRACT_FIX", event);
+
+          assertThat(delta.getSource()).isEqualTo("FIX");
+          assertThat(delta.getOperation()).isEqualTo("update");
+          assertThat(delta.getContractChatId()).isEqualTo(7L);
+          assertThat(delta.getOrder()).isEqualTo(2L);
+          assertThat(delta.getRound()).isEqualTo(3L);
+          assertThat(delta.getIsPassed()).isTrue();
+          assertThat(delta.getUpdatedFields()).containsExactly("isPassed");
+      }
+
+      @Test
+      @DisplayName("선택 완료 이벤트는 양측 완료 여부를 담은 SELECTION 변경 요약으로 변환한다")
+      void toDelta_selectionInsert() {
+          when(event.getFullDocument())
+                  .thenReturn(
+                          new Document("contractChatId", 7)
+                                  .append("ownerCompleted", true)
+                                  .append("tenantCompleted", false)
+                                  .append("processed", false));
+          when(event.getOperationType()).thenReturn(OperationType.INSERT);
+
+          SpecialContractDeltaDto delta = publisher.toDelta("SPECIAL_CONTRACT_SELECTION", event);
+
+          assertThat(delta.getSource()).isEqualTo("SELECTION");
+          assertThat(delta.getOwnerCompleted()).isTrue();
+          assertThat(delta.getTenantCompleted()).isFalse();
+          assertThat(delta.getUpdatedFields()).isNull();
+      }
+
+      @Test
+      @DisplayName("문서가 없거나 채팅방 ID가 숫자가 아니면 변경 요약을 만들지 않는다")
+      void toDelta_ignoresUnknownChat() {
+          when(event.getFullDocument()).thenReturn(null, new Document("contractChatId", "7"));
+
+          assertThat(publisher.toDelta("FINAL_SPECIAL_CONTRACT", event)).isNull();
+          assertThat(publisher.toDelta("FINAL_SPECIAL_CONTRACT", event)).isNull();
+      }
+
+      @Test
+      @DisplayName("저장된 resume token이 있으면 그 다음 이벤트부터 구독한다")
+      void open_resumesAfterStoredToken() {
+          stubStream();
+          when(resumeTokenRepository.findToken("consumer:SPECIAL_CONTRACT_FIX")).thenReturn(token);
+          when(stream.resumeAfter(token)).thenReturn(stream);
+
+          assertThat(publisher.open("SPECIAL_CONTRACT_FIX", "consumer:SPECIAL_CONTRACT_FIX"))
+                  .isSameAs(cursor);
+          verify(stream).resumeAfter(token);
+      }
+
+      @Test
+      @DisplayName("저장된 resume token이 없으면 현재 시점부터 구독한다")
+      void open_withoutToken_startsFromNow() {
+          stubStream();
+
+          publisher.open("SPECIAL_CONTRACT_FIX", "consumer:SPECIAL_CONTRACT_FIX");
+
+          verify(stream, never()).resumeAfter(any());
+      }
+
+      @Test
+      @DisplayName("resume token은 일정 개수마다 마지막 token 하나만 저장한다")
+      void checkpoint_savesEveryNEvents() {
+          SpecialContractChangeStreamPublisher.ResumeTokenCheckpoint checkpoint =
+                  new SpecialContractChangeStreamPublisher.ResumeTokenCheckpoint(
+                          resumeTokenRepository, "key", 3, Long.MAX_VALUE);
+          BsonDocument third = new BsonDocument("_data", new BsonString("03"));
+
+          checkpoint.record(new BsonDocument("_data", new BsonString("01")));
+          checkpoint.record(new BsonDocument("_data", new BsonString("02")));
+          verifyNoInteractions(resumeTokenRepository);
+
+          checkpoint.record(third);
+          checkpoint.flush();
+
+          verify(resumeTokenRepository, times(1)).saveToken(anyString(), any());
+          verify(resumeTokenRepository).saveToken("key", third);
+      }
+
+      @Test
+      @DisplayName("저장에 실패한 token은 다음 flush에서 다시 저장하고, 버린 token은 저장하지 않는다")
+      void checkpoint_retriesAndDiscards() {
+          SpecialContractChangeStreamPublisher.ResumeTokenCheckpoint checkpoint =
+                  new SpecialContractChangeStreamPublisher.ResumeTokenCheckpoint(
+                          resumeTokenRepository, "key", 100, Long.MAX_VALUE);
+          doThrow(new RuntimeException("mongo down"))
+                  .doNothing()
+                  .when(resumeTokenRepository)
+                  .saveToken("key", token);
+
+          checkpoint.record(token);
+          checkpoint.flush();
+          checkpoint.flush();
+          checkpoint.record(new BsonDocument("_data", new BsonString("lost")));
+          checkpoint.discard();
+          checkpoint.flush();
+
+          verify(resumeTokenRepository, times(2)).saveToken("key", token);
+          verifyNoMoreInteractions(resumeTokenRepository);
+      }
+
+      private void stubStream() {
+          when(mongoTemplate.getCollection("SPECIAL_CONTRACT_FIX")).thenReturn(collection);
+          when(collection.watch(anyList())).thenReturn(stream);
+          when(stream.fullDocument(FullDocument.UPDATE_LOOKUP)).thenReturn(stream);
+          when(stream.maxAwaitTime(anyLong(), any(TimeUnit.class))).thenReturn(stream);
+          when(stream.cursor()).thenReturn(cursor);
+      }
+}
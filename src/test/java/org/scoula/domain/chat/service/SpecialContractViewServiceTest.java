@@ -0,0 +1,111 @@
+package org.scoula.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.domain.chat.document.SpecialContractDocument;
+import org.scoula.domain.chat.document.SpecialContractFixDocument;
+import org.scoula.domain.chat.document.SpecialContractViewDocument;
+import org.scoula.domain.chat.repository.SpecialContractMongoRepository;
+import org.scoula.domain.chat.repository.SpecialContractViewRepository;
+import org.scoula.domain.chat.vo.ContractChat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SpecialContractViewService 테스트")
+class SpecialContractViewServiceTest {
+
+      @Mock private SpecialContractViewRepository specialContractViewRepository;
+      @Mock private SpecialContractMongoRepository specialContractMongoRepository;
+
+      @InjectMocks private SpecialContractViewService specialContractViewService;
+
+      private final Long contractChatId = 1L;
+
+      @Test
+      @DisplayName("최신 조회 문서가 있으면 원본을 읽지 않는다")
+      void getView_returnsStoredView() {
+          SpecialContractViewDocument stored =
+                  SpecialContractViewDocument.builder()
+                          .contractChatId(contractChatId)
+                          .version(3L)
+                          .stale(false)
+                          .build();
+          when(specialContractViewRepository.findById(contractChatId)).thenReturn(stored);
+
+          assertThat(specialContractViewService.getView(contractChatId)).isSameAs(stored);
+          verifyNoInteractions(specialContractMongoRepository);
+      }
+
+      @Test
+      @DisplayName("stale 문서는 원본에서 재구성하고 다음 버전으로 저장한다")
+      void getView_rebuildsStaleView() {
+          when(specialContractViewRepository.findById(contractChatId))
+                  .thenReturn(
+                          SpecialContractViewDocument.builder()
+                                  .contractChatId(contractChatId)
+                                  .version(5L)
+                                  .stale(true)
+                                  .build());
+          when(specialContractMongoRepository.findSpecialContractDocumentsByContractChatId(
+                          contractChatId))
+                  .thenReturn(List.of(roundDocument(1L), roundDocument(2L)));
+          when(specialContractMongoRepository.findByContractChatIdAndIsPassed(contractChatId, false))
+                  .thenReturn(List.of(fixDocument(3L), fixDocument(1L)));
+          when(specialContractViewRepository.replaceIfVersion(any(), eq(5L))).thenReturn(true);
+
+          SpecialContractViewDocument view = specialContractViewService.getView(contractChatId);
+
+          assertThat(view.getVersion()).isEqualTo(6L);
+          assertThat(view.getStale()).isFalse();
+          assertThat(view.getRounds()).containsOnlyKeys("round1", "round2");
+          assertThat(view.getIncompleteOrders()).containsExactly(1, 3);
+      }
+
+      @Test
+      @DisplayName("재구성 중 다른 갱신이 있으면 ETag를 만들지 않는다")
+      void getView_skipsETagWhenRebuildRaced() {
+          when(specialContractViewRepository.findById(contractChatId)).thenReturn(null);
+          when(specialContractMongoRepository.findSpecialContractDocumentsByContractChatId(
+                          contractChatId))
+                  .thenReturn(List.of(roundDocument(1L)));
+          when(specialContractMongoRepository.findByContractChatIdAndIsPassed(contractChatId, false))
+                  .thenReturn(List.of());
+          when(specialContractViewRepository.replaceIfVersion(any(), isNull())).thenReturn(false);
+
+          SpecialContractViewDocument view = specialContractViewService.getView(contractChatId);
+
+          assertThat(view.getRounds()).isInstanceOf(Map.class).containsKey("round1");
+          assertThat(
+                          specialContractViewService.eTagOf(
+                                  view, "owner", ContractChat.ContractStatus.ROUND0))
+                  .isNull();
+      }
+
+      private SpecialContractDocument roundDocument(Long round) {
+          return SpecialContractDocument.builder()
+                  .contractChatId(contractChatId)
+                  .round(round)
+                  .totalClauses(0)
+                  .clauses(List.of())
+                  .build();
+      }
+
+      private SpecialContractFixDocument fixDocument(Long order) {
+          return SpecialContractFixDocument.builder()
+                  .contractChatId(contractChatId)
+                  .order(order)
+                  .isPassed(false)
+                  .build();
+      }
+}
@@ -0,0 +1,142 @@
+package org.scoula.domain.fraud.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.domain.fraud.dto.ai.FraudRiskCheckDto;
+import org.scoula.domain.fraud.dto.common.BuildingDocumentDto;
+import org.scoula.domain.fraud.dto.common.RegistryDocumentDto;
+import org.scoula.domain.fraud.dto.request.RiskAnalysisRequest;
+import org.scoula.domain.fraud.enums.AnalysisPath;
+import org.scoula.domain.fraud.enums.RiskType;
+import org.scoula.domain.fraud.exception.FraudErrorCode;
+import org.scoula.domain.fraud.exception.FraudRiskException;
+import org.scoula.domain.fraud.service.AiFraudAnalyzerService;
+import org.scoula.domain.fraud.service.LocalRiskRuleEngine;
+import org.scoula.domain.fraud.vo.HomeRiskRescoreTargetVO;
+import org.scoula.domain.fraud.vo.HomeRiskScoreVO;
+import org.scoula.global.file.service.S3ServiceInterface;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.web.multipart.MultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FraudRiskRescoreProcessor 테스트")
+class FraudRiskRescoreProcessorTest {
+
+      private static final LocalDate RUN_DATE = LocalDate.of(2025, 1, 2);
+
+      @Mock private S3ServiceInterface s3Service;
+
+      @Mock private AiFraudAnalyzerService aiFraudAnalyzerService;
+
+      @Spy private LocalRiskRuleEngine localRiskRuleEngine = new LocalRiskRuleEngine();
+
+      @InjectMocks private FraudRiskRescoreProcessor processor;
+
+      private HomeRiskRescoreTargetVO target;
+
+      @BeforeEach
+      void setUp() {
+          processor.beforeStep(
+                  MetaDataInstanceFactory.createStepExecution(
+                          new JobParametersBuilder()
+                                  .addString(
+                                          FraudRiskRescoreProcessor.RUN_DATE_PARAMETER,
+                                          RUN_DATE.toString())
+                                  .toJobParameters()));
+
+          target =
+                  HomeRiskRescoreTargetVO.builder()
+                          .homeId(100L)
+                          .riskckId(10L)
+                          .registryFileUrl(
+                                  "https://bucket.s3.amazonaws.com/fraud/1/100/registry.pdf")
+                          .buildingFileUrl(
+                                  "https://bucket.s3.amazonaws.com/fraud/1/100/building.pdf")
+                          .build();
+      }
+
+      @Test
+      @DisplayName("재시작 시 기준일에 이미 재평가한 매물은 문서를 받지 않고 건너뜀")
+      void process_AlreadyScoredOnRunDate_Filtered() {
+          // given
+          target.setLastScoredAt(RUN_DATE.atTime(3, 10));
+
+          // when
+          HomeRiskScoreVO result = processor.process(target);
+
+          // then
+          assertThat(result).isNull();
+          verifyNoInteractions(s3Service, aiFraudAnalyzerService);
+      }
+
+      @Test
+      @DisplayName("S3 문서를 다시 파싱해 AI 분석 결과를 매물 위험도로 변환")
+      void process_ReparsesDocumentsAndScores() {
+          // given
+          target.setLastScoredAt(LocalDateTime.of(2025, 1, 1, 3, 0));
+          givenDocuments();
+          when(aiFraudAnalyzerService.analyzeFraudRisk(isNull(), any(RiskAnalysisRequest.class)))
+                  .thenReturn(FraudRiskCheckDto.Response.builder().riskLevel("HIGH").build());
+          when(aiFraudAnalyzerService.determineRiskType(any(FraudRiskCheckDto.Response.class)))
+                  .thenReturn(RiskType.DANGER);
+
+          // when
+          HomeRiskScoreVO result = processor.process(target);
+
+          // then
+          verify(s3Service).downloadFile("fraud/1/100/registry.pdf");
+          verify(s3Service).downloadFile("fraud/1/100/building.pdf");
+          assertThat(result.getHomeId()).isEqualTo(100L);
+          assertThat(result.getRiskType()).isEqualTo(RiskType.DANGER);
+          assertThat(result.getAnalysisPath()).isEqualTo(AnalysisPath.AI);
+          assertThat(result.getRiskckId()).isEqualTo(10L);
+      }
+
+      @Test
+      @DisplayName("AI 서버가 호출을 거절하면 대체 응답을 저장하지 않고 예외 발생")
+      void process_AiFallback_ThrowsException() {
+          // given
+          givenDocuments();
+          when(aiFraudAnalyzerService.analyzeFraudRisk(isNull(), any(RiskAnalysisRequest.class)))
+                  .thenReturn(
+                          FraudRiskCheckDto.Response.builder()
+                                  .status(AiFraudAnalyzerService.FALLBACK_STATUS)
+                                  .build());
+
+          // when & then
+          assertThatThrownBy(() -> processor.process(target))
+                  .isInstanceOf(FraudRiskException.class)
+                  .satisfies(
+                          e ->
+                                  assertThat(((FraudRiskException) e).getErrorCode())
+                                          .isEqualTo(FraudErrorCode.AI_SERVICE_UNAVAILABLE));
+          verify(aiFraudAnalyzerService, never()).determineRiskType(any());
+      }
+
+      private void givenDocuments() {
+          when(s3Service.downloadFile(anyString()))
+                  .thenAnswer(invocation -> new ByteArrayInputStream("pdf".getBytes()));
+          when(aiFraudAnalyzerService.parseRegistryDocument(any(MultipartFile.class)))
+                  .thenReturn(RegistryDocumentDto.builder().build());
+          when(aiFraudAnalyzerService.parseBuildingDocument(any(MultipartFile.class)))
+                  .thenReturn(BuildingDocumentDto.builder().build());
+      }
+}
@@ -0,0 +1,205 @@
+package org.scoula.domain.fraud.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.domain.fraud.dto.ai.FraudRiskCheckDto;
+import org.scoula.domain.fraud.dto.common.BuildingDocumentDto;
+import org.scoula.domain.fraud.dto.common.RegistryDocumentDto;
+import org.scoula.domain.fraud.dto.request.RiskAnalysisRequest;
+import org.scoula.global.common.resilience.AiResilienceExecutor;
+import org.scoula.global.redis.service.DocumentParseCacheService;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+@DisplayName("AI 사기 위험도 분석 서비스 응답 바인딩 테스트")
+class AiFraudAnalyzerServiceTest {
+
+      private static final String AI_SERVER_URL = "http://ai.test";
+
+      private MockRestServiceServer server;
+
+      private AiFraudAnalyzerService aiFraudAnalyzerService;
+
+      @BeforeEach
+      @SuppressWarnings("unchecked")
+      void setUp() {
+          RestTemplate restTemplate = new RestTemplate();
+          server = MockRestServiceServer.bindTo(restTemplate).build();
+
+          ObjectMapper objectMapper = new ObjectMapper();
+          objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+          objectMapper.registerModule(new JavaTimeModule());
+
+          DocumentParseCacheService cacheService = mock(DocumentParseCacheService.class);
+          when(cacheService.getOrParse(anyString(), any(), any(), any(), any()))
+                  .thenAnswer(invocation -> ((Supplier<Object>) invocation.getArgument(4)).get());
+
+          AiResilienceExecutor resilienceExecutor = mock(AiResilienceExecutor.class);
+          when(resilienceExecutor.execute(anyString(), any()))
+                  .thenAnswer(invocation -> ((Supplier<Object>) invocation.getArgument(1)).get());
+
+          aiFraudAnalyzerService =
+                  new AiFraudAnalyzerService(
+                          restTemplate, cacheService, resilienceExecutor, objectMapper);
+          ReflectionTestUtils.setField(aiFraudAnalyzerService, "aiServerUrl", AI_SERVER_URL);
+          aiFraudAnalyzerService.initResponseReaders();
+      }
+
+      @Test
+      @DisplayName("등기부등본 OCR 응답을 DTO로 바로 바인딩하고 잘못된 날짜와 모르는 필드는 무시, 빠진 판정 값은 null 유지")
+      void parseRegistryDocument_BindsParsedData() {
+          // given
+          String body =
+                  "{\"success\":true,\"message\":\"ok\",\"timestamp\":\"2025-01-01T00:00:00\","
+                          + "\"data\":{\"filename\":\"registry.pdf\","
+                          + "\"document_type\":\"registry\","
+                          + "\"parsed_data\":{\"regionAddress\":\"서울특별시 강남구 역삼동 123-45\","
+                          + "\"ownerName\":\"홍길동\",\"ownerBirthDate\":\"1980-13-45\","
+                          + "\"mortgageeList\":[{\"priorityNumber\":1,\"maxClaimAmount\":"
+                          + "468000000,\"mortgagee\":\"주식회사하나은행\",\"rawText\":\"...\"}],"
+                          + "\"hasSeizure\":true,\"confidence\":0.93}}}";
+          server.expect(requestTo(AI_SERVER_URL + "/api/parse/register"))
+                  .andExpect(method(HttpMethod.POST))
+                  .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+
+          MockMultipartFile file =
+                  new MockMultipartFile(
+                          "file", "registry.pdf", "application/pdf", "pdf".getBytes());
+
+          // when
+          RegistryDocumentDto result = aiFraudAnalyzerService.parseRegistryDocument(file);
+
+          // then
+          server.verify();
+          assertThat(result.getRegionAddress()).isEqualTo("서울특별시 강남구 역삼동 123-45");
+          assertThat(result.getRoadAddress()).isEmpty();
+          assertThat(result.getOwnerName()).isEqualTo("홍길동");
+          assertThat(result.getOwnerBirthDate()).isNull();
+          assertThat(result.getMortgageeList()).hasSize(1);
+          assertThat(result.getMortgageeList().get(0).getMaxClaimAmount()).isEqualTo(468000000L);
+          assertThat(result.getMortgageeList().get(0).getDebtor()).isEmpty();
+          assertThat(result.getHasSeizure()).isTrue();
+          assertThat(result.getHasAuction()).isNull();
+      }
+
+      @Test
+      @DisplayName("위험도 분석 응답의 detailGroups를 analysis_results 구조로 변환")
+      void analyzeFraudRisk_BindsDetailGroups() {
+          // given
+          String body =
+                  "{\"success\":true,\"data\":{\"riskType\":\"DANGER\",\"confidenceScore\":82.5,"
+                          + "\"analyzedAt\":\"2025-01-01T10:00:00\",\"detailGroups\":["
+                          + "{\"title\":\"권리관계\",\"items\":[{\"title\":\"근저당\","
+                          + "\"content\":\"채권최고액이 매매가의 80%를 초과합니다.\"}]}]}}";
+          server.expect(requestTo(AI_SERVER_URL + "/api/analyze/risk"))
+                  .andExpect(method(HttpMethod.POST))
+                  .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+
+          RiskAnalysisRequest request =
+                  RiskAnalysisRequest.builder()
+                          .homeId(1L)
+                          .registryDocument(
+                                  RegistryDocumentDto.builder()
+                                          .roadAddress("서울특별시 강남구 테헤란로 123")
+                                          .ownerBirthDate(LocalDate.of(1980, 1, 15))
+                                          .build())
+                          .build();
+
+          // when
+          FraudRiskCheckDto.Response response =
+                  aiFraudAnalyzerService.analyzeFraudRisk(1L, request);
+
+          // then
+          server.verify();
+          assertThat(response.getRiskLevel()).isEqualTo("DANGER");
+          assertThat(response.getRiskScore()).isEqualTo(82.5);
+          assertThat(response.getTimestamp()).isEqualTo("2025-01-01T10:00:00");
+          assertThat(response.getAnalysisResults()).containsOnlyKeys("권리관계");
+          @SuppressWarnings("unchecked")
+          Map<String, Object> group =
+                  (Map<String, Object>) response.getAnalysisResults().get("권리관계");
+          assertThat(group).containsKey("근저당");
+      }
+
+      @Test
+      @DisplayName("공통 응답 형식이 아닌 FraudRiskCheckDto.Response 형태의 응답도 그대로 바인딩")
+      void analyzeFraudRisk_BindsDirectPayload() {
+          // given
+          String body =
+                  "{\"status\":\"completed\",\"risk_score\":45.0,\"risk_level\":\"MEDIUM\","
+                          + "\"analysis_id\":\"analysis-1\",\"recommendations\":[\"근저당 확인\"]}";
+          server.expect(requestTo(AI_SERVER_URL + "/api/analyze/risk"))
+                  .andExpect(method(HttpMethod.POST))
+                  .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+
+          // when
+          FraudRiskCheckDto.Response response =
+                  aiFraudAnalyzerService.analyzeFraudRisk(
+                          1L, RiskAnalysisRequest.builder().homeId(1L).build());
+
+          // then
+          server.verify();
+          assertThat(response.getRiskLevel()).isEqualTo("MEDIUM");
+          assertThat(response.getRiskScore()).isEqualTo(45.0);
+          assertThat(response.getAnalysisId()).isEqualTo("analysis-1");
+          assertThat(response.getRecommendations()).containsExactly("근저당 확인");
+      }
+
+      @Test
+      @DisplayName("OCR 숫자/불리언 값 형식이 잘못되면 해당 필드만 비우고 나머지는 바인딩")
+      void lenientOcrValueHandler_NullsMalformedValues() throws Exception {
+          // given
+          ObjectReader reader =
+                  new ObjectMapper()
+                          .registerModule(new JavaTimeModule())
+                          .reader()
+                          .withHandler(new AiFraudAnalyzerService.LenientOcrValueHandler());
+          String building =
+                  "{\"siteLocation\":\"서울특별시 강남구\",\"totalFloorArea\":\"1,000\","
+                          + "\"floorNumber\":\"3층\",\"isViolationBuilding\":\"Y\"}";
+          String registry =
+                  "{\"ownerName\":\"홍길동\",\"hasSeizure\":\"Y\","
+                          + "\"mortgageeList\":[{\"maxClaimAmount\":\"1,000\","
+                          + "\"mortgagee\":\"주식회사하나은행\"}]}";
+
+          // when
+          BuildingDocumentDto buildingDoc =
+                  reader.forType(BuildingDocumentDto.class).readValue(building);
+          RegistryDocumentDto registryDoc =
+                  reader.forType(RegistryDocumentDto.class).readValue(registry);
+
+          // then
+          assertThat(buildingDoc.getSiteLocation()).isEqualTo("서울특별시 강남구");
+          assertThat(buildingDoc.getTotalFloorArea()).isNull();
+          assertThat(buildingDoc.getFloorNumber()).isNull();
+          assertThat(buildingDoc.getIsViolationBuilding()).isNull();
+          assertThat(registryDoc.getOwnerName()).isEqualTo("홍길동");
+          assertThat(registryDoc.getHasSeizure()).isNull();
+          assertThat(registryDoc.getMortgageeList().get(0).getMaxClaimAmount()).isNull();
+          assertThat(registryDoc.getMortgageeList().get(0).getMortgagee())
+                  .isEqualTo("주식회사하나은행");
+      }
+}
@@ -3,33 +3,49 @@ package org.scoula.domain.fraud.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.scoula.domain.fraud.dto.ai.FraudRiskCheckDto;
 import org.scoula.domain.fraud.dto.common.BuildingDocumentDto;
 import org.scoula.domain.fraud.dto.common.RegistryDocumentDto;
+import org.scoula.domain.fraud.dto.request.ExternalRiskAnalysisRequest;
 import org.scoula.domain.fraud.dto.request.RiskAnalysisRequest;
 import org.scoula.domain.fraud.dto.response.DocumentAnalysisResponse;
 import org.scoula.domain.fraud.dto.response.LikedHomeResponse;
+import org.scoula.domain.fraud.dto.response.RiskAnalysisJobResponse;
 import org.scoula.domain.fraud.dto.response.RiskAnalysisResponse;
 import org.scoula.domain.fraud.dto.response.RiskCheckDetailResponse;
 import org.scoula.domain.fraud.dto.response.RiskCheckListResponse;
+import org.scoula.domain.fraud.enums.AnalysisPath;
 import org.scoula.domain.fraud.enums.AnalysisStatus;
 import org.scoula.domain.fraud.enums.RiskType;
+import org.scoula.domain.fraud.exception.FraudErrorCode;
 import org.scoula.domain.fraud.exception.FraudRiskException;
 import org.scoula.domain.fraud.mapper.FraudRiskMapper;
 import org.scoula.domain.fraud.mapper.HomeLikeMapper;
@@ -38,7 +54,10 @@ import org.scoula.domain.fraud.vo.RiskCheckVO;
 import org.scoula.global.common.dto.PageRequest;
 import org.scoula.global.common.dto.PageResponse;
 import org.scoula.global.file.service.S3ServiceInterface;
+import org.scoula.global.redis.service.ListCountCacheService;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -57,6 +76,14 @@ class FraudRiskServiceImplTest {
 
       @Mock private AiFraudAnalyzerService aiFraudAnalyzerService;
 
+      @Spy private LocalRiskRuleEngine localRiskRuleEngine = new LocalRiskRuleEngine();
+
+      @Mock private SharedRiskAnalysisCache sharedRiskAnalysisCache;
+
+      @Mock private ListCountCacheService listCountCacheService;
+
+      @Mock private PlatformTransactionManager transactionManager;
+
       @InjectMocks private FraudRiskServiceImpl fraudRiskService;
 
       @Nested
@@ -67,9 +94,15 @@ class FraudRiskServiceImplTest {
           private MultipartFile validBuildingFile;
           private Long userId;
           private Long homeId;
+          private ThreadPoolExecutor documentPipelineExecutor;
 
           @BeforeEach
           void setUp() {
+              documentPipelineExecutor =
+                      new ThreadPoolExecutor(
+                              4, 4, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(8));
+              ReflectionTestUtils.setField(
+                      fraudRiskService, "documentPipelineExecutor", documentPipelineExecutor);
               userId = 1L;
               homeId = 100L;
               validRegistryFile =
@@ -86,15 +119,23 @@ class FraudRiskServiceImplTest {
                               "building content".getBytes());
           }
 
+          @AfterEach
+          void tearDown() {
+              documentPipelineExecutor.shutdownNow();
+          }
+
           @Test
           @DisplayName("정상적인 문서 분석 요청 시 성공")
           void analyzeDocuments_Success() throws Exception {
               // given
               when(fraudRiskMapper.existsHome(homeId)).thenReturn(true);
-              when(s3Service.uploadFile(any(MultipartFile.class), anyString()))
-                      .thenReturn("file-key-1", "file-key-2");
-              when(s3Service.getFileUrl(anyString()))
-                      .thenReturn("https://s3.url/file1", "https://s3.url/file2");
+              // 업로드는 병렬로 실행되므로 파일 경로별로 모킹
+              when(s3Service.uploadFile(any(MultipartFile.class), contains("/registry_")))
+                      .thenReturn("file-key-1");
+              when(s3Service.uploadFile(any(MultipartFile.class), contains("/building_")))
+                      .thenReturn("file-key-2");
+              when(s3Service.getFileUrl("file-key-1")).thenReturn("https://s3.url/file1");
+              when(s3Service.getFileUrl("file-key-2")).thenReturn("https://s3.url/file2");
 
               // AI 서비스 모킹
               RegistryDocumentDto mockRegistryDoc =
@@ -134,6 +175,54 @@ class FraudRiskServiceImplTest {
               assertThat(response.getProcessingTime()).isGreaterThanOrEqualTo(0);
           }
 
+          @Test
+          @DisplayName("OCR 실패 시 업로드된 S3 파일을 삭제하고 원래 예외를 전달")
+          void analyzeDocuments_OcrFailure_DeletesUploadedFiles() {
+              // given
+              when(fraudRiskMapper.existsHome(homeId)).thenReturn(true);
+              when(s3Service.uploadFile(any(MultipartFile.class), contains("/registry_")))
+                      .thenReturn("file-key-1");
+              when(s3Service.uploadFile(any(MultipartFile.class), contains("/building_")))
+                      .thenReturn("file-key-2");
+              lenient().when(s3Service.getFileUrl(anyString())).thenReturn("https://s3.url/file");
+              lenient()
+                      .when(aiFraudAnalyzerService.parseRegistryDocument(any(MultipartFile.class)))
+                      .thenReturn(RegistryDocumentDto.builder().build());
+              when(aiFraudAnalyzerService.parseBuildingDocument(any(MultipartFile.class)))
+                      .thenThrow(
+                              new FraudRiskException(
+                                      FraudErrorCode.INVALID_DOCUMENT_FORMAT, "건축물대장 PDF 파일이 아닙니다."));
+
+              // when & then
+              assertThatThrownBy(
+                              () ->
+                                      fraudRiskService.analyzeDocuments(
+                                              userId, validRegistryFile, validBuildingFile, homeId))
+                      .isInstanceOf(FraudRiskException.class)
+                      .hasMessageContaining("건축물대장 PDF 파일이 아닙니다");
+
+              verify(s3Service, timeout(1000)).deleteFile("file-key-1");
+              verify(s3Service, timeout(1000)).deleteFile("file-key-2");
+          }
+
+          @Test
+          @DisplayName("작업 풀이 요청을 받지 못하면 AI_SERVICE_UNAVAILABLE 예외 발생")
+          void analyzeDocuments_PoolRejected_ThrowsServiceUnavailable() {
+              // given
+              when(fraudRiskMapper.existsHome(homeId)).thenReturn(true);
+              documentPipelineExecutor.shutdown();
+
+              // when & then
+              assertThatThrownBy(
+                              () ->
+                                      fraudRiskService.analyzeDocuments(
+                                              userId, validRegistryFile, validBuildingFile, homeId))
+                      .isInstanceOf(FraudRiskException.class)
+                      .extracting("errorCode")
+                      .isEqualTo(FraudErrorCode.AI_SERVICE_UNAVAILABLE);
+              verifyNoInteractions(s3Service, aiFraudAnalyzerService);
+          }
+
           @Test
           @DisplayName("파일이 null인 경우 예외 발생")
           void analyzeDocuments_NullFile_ThrowsException() {
@@ -317,6 +406,261 @@ class FraudRiskServiceImplTest {
               verify(fraudRiskMapper).deleteRiskCheckDetail(1L);
           }
 
+          @Test
+          @DisplayName("상세 분석 결과는 항목 수와 관계없이 다중 행 INSERT 한 번으로 저장")
+          @SuppressWarnings("unchecked")
+          void analyzeRisk_SavesDetailsInSingleBatch() {
+              // given
+              doAnswer(
+                              invocation -> {
+                                  RiskCheckVO arg = invocation.getArgument(0);
+                                  arg.setRiskckId(1L);
+                                  return null;
+                              })
+                      .when(fraudRiskMapper)
+                      .insertRiskCheck(any(RiskCheckVO.class));
+
+              Map<String, Object> analysisResults = new LinkedHashMap<>();
+              for (String group : List.of("갑기본정보", "을기본정보")) {
+                  Map<String, Object> items = new LinkedHashMap<>();
+                  for (int i = 1; i <= 3; i++) {
+                      items.put("item" + i, Map.of("title", group + i, "content", "내용" + i));
+                  }
+                  analysisResults.put(group, items);
+              }
+              FraudRiskCheckDto.Response aiResponse =
+                      FraudRiskCheckDto.Response.builder()
+                              .riskLevel("LOW")
+                              .analysisResults(analysisResults)
+                              .recommendations(List.of("추천1", "추천2"))
+                              .build();
+              when(aiFraudAnalyzerService.analyzeFraudRisk(anyLong(), any(RiskAnalysisRequest.class)))
+                      .thenReturn(aiResponse);
+              when(aiFraudAnalyzerService.determineRiskType(any(FraudRiskCheckDto.Response.class)))
+                      .thenReturn(RiskType.SAFE);
+
+              // when
+              fraudRiskService.analyzeRisk(userId, request);
+
+              // then - 항목 7건(분석 6 + 추천 1)에 대해 DB 왕복은 삭제 1회 + INSERT 1회
+              ArgumentCaptor<List<RiskCheckDetailVO>> captor = ArgumentCaptor.forClass(List.class);
+              verify(fraudRiskMapper).deleteRiskCheckDetail(1L);
+              verify(fraudRiskMapper, times(1)).insertRiskCheckDetails(captor.capture());
+              verify(fraudRiskMapper, never()).insertRiskCheckDetail(any());
+              assertThat(captor.getValue()).hasSize(7);
+              assertThat(captor.getValue().get(6).getTitle1()).isEqualTo("추천사항");
+              assertThat(captor.getValue().get(6).getContent()).isEqualTo("추천1\n추천2");
+          }
+
+          @Test
+          @DisplayName("일괄 INSERT가 실패하면 한 건씩 다시 저장하고 실패한 항목만 건너뜀")
+          void analyzeRisk_BatchInsertFails_RetriesRowByRow() {
+              // given
+              doAnswer(
+                              invocation -> {
+                                  RiskCheckVO arg = invocation.getArgument(0);
+                                  arg.setRiskckId(1L);
+                                  return null;
+                              })
+                      .when(fraudRiskMapper)
+                      .insertRiskCheck(any(RiskCheckVO.class));
+              FraudRiskCheckDto.Response aiResponse =
+                      FraudRiskCheckDto.Response.builder()
+                              .riskLevel("LOW")
+                              .recommendations(List.of("추천1"))
+                              .analysisResults(
+                                      Map.of(
+                                              "갑기본정보",
+                                              Map.of(
+                                                      "item1",
+                                                      Map.of("title", "소유자", "content", "일치"))))
+                              .build();
+              when(aiFraudAnalyzerService.analyzeFraudRisk(
+                              anyLong(), any(RiskAnalysisRequest.class)))
+                      .thenReturn(aiResponse);
+              when(aiFraudAnalyzerService.determineRiskType(aiResponse)).thenReturn(RiskType.SAFE);
+              doThrow(new RuntimeException("Data too long"))
+                      .when(fraudRiskMapper)
+                      .insertRiskCheckDetails(anyList());
+              doAnswer(
+                              invocation -> {
+                                  RiskCheckDetailVO detail = invocation.getArgument(0);
+                                  if ("추천사항".equals(detail.getTitle1())) {
+                                      throw new RuntimeException("Data too long");
+                                  }
+                                  return 1;
+                              })
+                      .when(fraudRiskMapper)
+                      .insertRiskCheckDetail(any(RiskCheckDetailVO.class));
+
+              // when
+              fraudRiskService.analyzeRisk(userId, request);
+
+              // then
+              ArgumentCaptor<RiskCheckDetailVO> captor =
+                      ArgumentCaptor.forClass(RiskCheckDetailVO.class);
+              verify(fraudRiskMapper, times(2)).insertRiskCheckDetail(captor.capture());
+              assertThat(captor.getAllValues())
+                      .extracting(RiskCheckDetailVO::getTitle1)
+                      .containsExactly("갑기본정보", "추천사항");
+          }
+
+          @Test
+          @DisplayName("등기부등본에 경매 기록이 있으면 AI 호출 없이 사전 점검으로 DANGER 판정")
+          void analyzeRisk_ClearDanger_SkipsAiCall() {
+              // given
+              request.setRegisteredUserName("홍길동");
+              request.setRegistryDocument(
+                      RegistryDocumentDto.builder().ownerName("홍길동").hasAuction(true).build());
+              request.setBuildingDocument(BuildingDocumentDto.builder().build());
+              doAnswer(
+                              invocation -> {
+                                  RiskCheckVO arg = invocation.getArgument(0);
+                                  arg.setRiskckId(1L);
+                                  return null;
+                              })
+                      .when(fraudRiskMapper)
+                      .insertRiskCheck(any(RiskCheckVO.class));
+
+              // when
+              RiskAnalysisResponse response = fraudRiskService.analyzeRisk(userId, request);
+
+              // then
+              ArgumentCaptor<RiskCheckVO> captor = ArgumentCaptor.forClass(RiskCheckVO.class);
+              verify(fraudRiskMapper).updateRiskCheck(captor.capture());
+              assertThat(response.getRiskType()).isEqualTo(RiskType.DANGER);
+              assertThat(captor.getValue().getAnalysisPath()).isEqualTo(AnalysisPath.LOCAL_RULE);
+              verify(aiFraudAnalyzerService, never())
+                      .analyzeFraudRisk(anyLong(), any(RiskAnalysisRequest.class));
+          }
+
+          @Test
+          @DisplayName("같은 날 같은 문서로 분석된 공유 결과가 있으면 AI 호출 없이 상세 항목만 복사")
+          @SuppressWarnings("unchecked")
+          void analyzeRisk_SharedResult_CopiesDetailsWithoutAiCall() {
+              // given
+              doAnswer(
+                              invocation -> {
+                                  RiskCheckVO arg = invocation.getArgument(0);
+                                  arg.setRiskckId(1L);
+                                  return null;
+                              })
+                      .when(fraudRiskMapper)
+                      .insertRiskCheck(any(RiskCheckVO.class));
+
+              SharedRiskAnalysisCache.SharedRiskAnalysis shared =
+                      SharedRiskAnalysisCache.SharedRiskAnalysis.builder()
+                              .sourceRiskCheckId(7L)
+                              .riskType(RiskType.WARN)
+                              .analysisPath(AnalysisPath.AI)
+                              .details(
+                                      List.of(
+                                              RiskCheckDetailVO.builder()
+                                                      .title1("갑기본정보")
+                                                      .title2("소유 및 주소")
+                                                      .content("소유자 일치")
+                                                      .build(),
+                                              RiskCheckDetailVO.builder()
+                                                      .title1("을기본정보")
+                                                      .title2("근저당")
+                                                      .content("채권최고액 확인 필요")
+                                                      .build()))
+                              .build();
+              when(sharedRiskAnalysisCache.keyOf(eq(100L), any(), any(), any()))
+                      .thenReturn("risk-analysis:key");
+              when(sharedRiskAnalysisCache.get("risk-analysis:key")).thenReturn(shared);
+
+              // when
+              RiskAnalysisResponse response = fraudRiskService.analyzeRisk(userId, request);
+
+              // then
+              assertThat(response.getRiskType()).isEqualTo(RiskType.WARN);
+              assertThat(response.getDetailGroups()).hasSize(2);
+              verify(aiFraudAnalyzerService, never())
+                      .analyzeFraudRisk(anyLong(), any(RiskAnalysisRequest.class));
+
+              ArgumentCaptor<RiskCheckVO> riskCheckCaptor =
+                      ArgumentCaptor.forClass(RiskCheckVO.class);
+              verify(fraudRiskMapper).updateRiskCheck(riskCheckCaptor.capture());
+              assertThat(riskCheckCaptor.getValue().getSourceRiskckId()).isEqualTo(7L);
+
+              ArgumentCaptor<List<RiskCheckDetailVO>> detailCaptor =
+                      ArgumentCaptor.forClass(List.class);
+              verify(fraudRiskMapper, times(1)).insertRiskCheckDetails(detailCaptor.capture());
+              assertThat(detailCaptor.getValue())
+                      .hasSize(2)
+                      .allMatch(detail -> detail.getRiskckId().equals(1L));
+              verify(sharedRiskAnalysisCache, never()).put(anyString(), any());
+              verify(sharedRiskAnalysisCache).markToday(userId, 100L, 1L, "risk-analysis:key");
+          }
+
+          @Test
+          @DisplayName("AI 서버 장애로 받은 대체 응답은 AI_FALLBACK 경로로 기록하고 공유 캐시에 저장하지 않음")
+          void analyzeRisk_FallbackResponse_NotShared() {
+              // given
+              doAnswer(
+                              invocation -> {
+                                  RiskCheckVO arg = invocation.getArgument(0);
+                                  arg.setRiskckId(1L);
+                                  return null;
+                              })
+                      .when(fraudRiskMapper)
+                      .insertRiskCheck(any(RiskCheckVO.class));
+              when(sharedRiskAnalysisCache.keyOf(eq(100L), any(), any(), any()))
+                      .thenReturn("risk-analysis:key");
+              FraudRiskCheckDto.Response fallback =
+                      FraudRiskCheckDto.Response.builder()
+                              .status(AiFraudAnalyzerService.FALLBACK_STATUS)
+                              .riskLevel("MEDIUM")
+                              .build();
+              when(aiFraudAnalyzerService.analyzeFraudRisk(
+                              anyLong(), any(RiskAnalysisRequest.class)))
+                      .thenReturn(fallback);
+              when(aiFraudAnalyzerService.determineRiskType(fallback)).thenReturn(RiskType.WARN);
+
+              // when
+              fraudRiskService.analyzeRisk(userId, request);
+
+              // then
+              ArgumentCaptor<RiskCheckVO> captor = ArgumentCaptor.forClass(RiskCheckVO.class);
+              verify(fraudRiskMapper).updateRiskCheck(captor.capture());
+              assertThat(captor.getValue().getAnalysisPath()).isEqualTo(AnalysisPath.AI_FALLBACK);
+              verify(sharedRiskAnalysisCache, never()).put(anyString(), any());
+              verify(sharedRiskAnalysisCache, never())
+                      .markToday(anyLong(), anyLong(), anyLong(), anyString());
+          }
+
+          @Test
+          @DisplayName("서비스 외 매물 분석도 대체 응답은 공유 캐시에 저장하지 않음")
+          void analyzeExternalRisk_FallbackResponse_NotShared() {
+              // given
+              ExternalRiskAnalysisRequest externalRequest =
+                      ExternalRiskAnalysisRequest.builder()
+                              .registryDocument(RegistryDocumentDto.builder().build())
+                              .buildingDocument(BuildingDocumentDto.builder().build())
+                              .address("서울특별시 강남구 테헤란로 123")
+                              .propertyPrice(50000L)
+                              .build();
+              when(sharedRiskAnalysisCache.keyOf(isNull(), any(), any(), any()))
+                      .thenReturn("risk-analysis:external");
+              FraudRiskCheckDto.Response fallback =
+                      FraudRiskCheckDto.Response.builder()
+                              .status(AiFraudAnalyzerService.FALLBACK_STATUS)
+                              .build();
+              when(aiFraudAnalyzerService.analyzeFraudRisk(
+                              anyLong(), any(ExternalRiskAnalysisRequest.class)))
+                      .thenReturn(fallback);
+              when(aiFraudAnalyzerService.determineRiskType(fallback)).thenReturn(RiskType.WARN);
+
+              // when
+              RiskAnalysisResponse response =
+                      fraudRiskService.analyzeExternalRisk(userId, externalRequest);
+
+              // then
+              assertThat(response.getRiskType()).isEqualTo(RiskType.WARN);
+              verify(sharedRiskAnalysisCache, never()).put(anyString(), any());
+          }
+
           @Test
           @DisplayName("위험도 분석 중 예외 발생 시 예외 전파")
           void analyzeRisk_Exception_ThrowsException() {
@@ -332,6 +676,66 @@ class FraudRiskServiceImplTest {
           }
       }
 
+      @Nested
+      @DisplayName("startRiskAnalysis 메서드 테스트")
+      class StartRiskAnalysisTest {
+
+          private ThreadPoolExecutor riskAnalysisExecutor;
+
+          @BeforeEach
+          void setUp() {
+              riskAnalysisExecutor =
+                      new ThreadPoolExecutor(
+                              1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(4));
+              ReflectionTestUtils.setField(
+                      fraudRiskService, "riskAnalysisExecutor", riskAnalysisExecutor);
+              doAnswer(
+                              invocation -> {
+                                  RiskCheckVO arg = invocation.getArgument(0);
+                                  arg.setRiskckId(1L);
+                                  return null;
+                              })
+                      .when(fraudRiskMapper)
+                      .insertRiskCheck(any(RiskCheckVO.class));
+          }
+
+          @AfterEach
+          void tearDown() {
+              riskAnalysisExecutor.shutdownNow();
+          }
+
+          @Test
+          @DisplayName("AI 보호 계층이 거절해 대체 응답을 받으면 다시 시도해 AI 결과를 저장")
+          void startRiskAnalysis_FallbackThenSuccess_RetriesAndSavesAiResult() {
+              // given
+              RiskAnalysisRequest request = RiskAnalysisRequest.builder().homeId(100L).build();
+              FraudRiskCheckDto.Response fallback =
+                      FraudRiskCheckDto.Response.builder()
+                              .status(AiFraudAnalyzerService.FALLBACK_STATUS)
+                              .build();
+              FraudRiskCheckDto.Response aiResponse =
+                      FraudRiskCheckDto.Response.builder()
+                              .status("SUCCESS")
+                              .riskLevel("LOW")
+                              .build();
+              when(aiFraudAnalyzerService.analyzeFraudRisk(
+                              anyLong(), any(RiskAnalysisRequest.class)))
+                      .thenReturn(fallback, aiResponse);
+              when(aiFraudAnalyzerService.determineRiskType(fallback)).thenReturn(RiskType.WARN);
+              when(aiFraudAnalyzerService.determineRiskType(aiResponse)).thenReturn(RiskType.SAFE);
+
+              // when
+              fraudRiskService.startRiskAnalysis(1L, request);
+
+              // then
+              verify(fraudRiskMapper, timeout(1000))
+                      .updateRiskCheckAnalysis(
+                              1L, RiskType.SAFE, AnalysisStatus.SUCCESS, AnalysisPath.AI, null);
+              verify(aiFraudAnalyzerService, times(2))
+                      .analyzeFraudRisk(anyLong(), any(RiskAnalysisRequest.class));
+          }
+      }
+
       @Nested
       @DisplayName("getRiskCheckList 메서드 테스트")
       class GetRiskCheckListTest {
@@ -356,6 +760,13 @@ class FraudRiskServiceImplTest {
               when(fraudRiskMapper.selectRiskChecksByUserId(userId, pageRequest))
                       .thenReturn(mockList);
               when(fraudRiskMapper.countRiskChecksByUserId(userId)).thenReturn(1L);
+              when(listCountCacheService.count(
+                              eq(ListCountCacheService.Scope.RISK_CHECKS),
+                              eq(userId),
+                              eq(false),
+                              any(LongSupplier.class)))
+                      .thenAnswer(
+                              invocation -> invocation.<LongSupplier>getArgument(3).getAsLong());
 
               // when
               PageResponse<RiskCheckListResponse> response =
@@ -570,4 +981,74 @@ class FraudRiskServiceImplTest {
               assertThat(response.getContent().get(0).getHomeId()).isEqualTo(200L);
           }
       }
+
+      @Nested
+      @DisplayName("getRiskAnalysisStatus 메서드 테스트")
+      class GetRiskAnalysisStatusTest {
+
+          @Test
+          @DisplayName("제한 시간을 넘긴 진행 중 분석은 실패로 응답")
+          void getRiskAnalysisStatus_StaleInProgress_ReturnsFailed() {
+              // given
+              Long userId = 1L;
+              Long riskCheckId = 100L;
+              RiskCheckVO riskCheck =
+                      RiskCheckVO.builder()
+                              .riskckId(riskCheckId)
+                              .userId(userId)
+                              .analysisStatus(AnalysisStatus.IN_PROGRESS)
+                              .checkedAt(LocalDateTime.now().minusHours(1))
+                              .build();
+
+              when(fraudRiskMapper.isOwnerOfRiskCheck(riskCheckId, userId)).thenReturn(true);
+              when(fraudRiskMapper.selectRiskCheckById(riskCheckId)).thenReturn(riskCheck);
+
+              // when
+              RiskAnalysisJobResponse response =
+                      fraudRiskService.getRiskAnalysisStatus(userId, riskCheckId);
+
+              // then
+              assertThat(response.getStatus()).isEqualTo(AnalysisStatus.FAILED);
+              assertThat(response.getResult()).isNull();
+          }
+
+          @Test
+          @DisplayName("진행 중 분석은 risk_check에 저장된 진행률로 응답")
+          void getRiskAnalysisStatus_InProgress_ReturnsStoredProgress() {
+              // given
+              Long userId = 1L;
+              Long riskCheckId = 100L;
+              RiskCheckVO riskCheck =
+                      RiskCheckVO.builder()
+                              .riskckId(riskCheckId)
+                              .userId(userId)
+                              .analysisStatus(AnalysisStatus.IN_PROGRESS)
+                              .analysisProgress(70)
+                              .checkedAt(LocalDateTime.now())
+                              .build();
+
+              when(fraudRiskMapper.isOwnerOfRiskCheck(riskCheckId, userId)).thenReturn(true);
+              when(fraudRiskMapper.selectRiskCheckById(riskCheckId)).thenReturn(riskCheck);
+
+              // when
+              RiskAnalysisJobResponse response =
+                      fraudRiskService.getRiskAnalysisStatus(userId, riskCheckId);
+
+              // then
+              assertThat(response.getStatus()).isEqualTo(AnalysisStatus.IN_PROGRESS);
+              assertThat(response.getProgress()).isEqualTo(70);
+          }
+
+          @Test
+          @DisplayName("다른 사용자의 분석 상태 조회 시 예외 발생")
+          void getRiskAnalysisStatus_NotOwner_ThrowsException() {
+              // given
+              when(fraudRiskMapper.isOwnerOfRiskCheck(100L, 2L)).thenReturn(false);
+
+              // when & then
+              assertThatThrownBy(() -> fraudRiskService.getRiskAnalysisStatus(2L, 100L))
+                      .isInstanceOf(FraudRiskException.class);
+              verify(fraudRiskMapper, never()).selectRiskCheckById(anyLong());
+          }
+      }
 }
@@ -0,0 +1,135 @@
+package org.scoula.domain.fraud.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.domain.fraud.dto.common.BuildingDocumentDto;
+import org.scoula.domain.fraud.dto.common.MortgageeDto;
+import org.scoula.domain.fraud.dto.common.RegistryDocumentDto;
+import org.scoula.domain.fraud.enums.RiskType;
+
+@DisplayName("LocalRiskRuleEngine 단위 테스트")
+class LocalRiskRuleEngineTest {
+
+      private static final String OWNER = "홍길동";
+      private static final String ADDRESS = "서울특별시 강남구 테헤란로 123";
+
+      private final LocalRiskRuleEngine engine = new LocalRiskRuleEngine();
+
+      @Test
+      @DisplayName("근저당과 권리 제한이 없음이 모두 확인되고 소유자/주소가 일치하면 SAFE")
+      void screen_AllValuesConfirmed_Safe() {
+          // when
+          LocalRiskRuleEngine.Result result =
+                  engine.screen(cleanRegistry(), cleanBuilding(), 100_000_000L, null, OWNER);
+
+          // then
+          assertThat(result.isDecided()).isTrue();
+          assertThat(result.getRiskType()).isEqualTo(RiskType.SAFE);
+      }
+
+      @Test
+      @DisplayName("보증금과 채권최고액 합계가 시세 대비 기준 비율 이상이면 DANGER, 미만이면 보류")
+      void screen_LienRatioThreshold() {
+          // given - 시세 5억, 채권최고액 1억
+          RegistryDocumentDto registry = cleanRegistry();
+          registry.getMortgageeList().add(mortgagee(100_000_000L));
+
+          // when - (1억 + 3억) / 5억 = 80%, (1억 + 2.9억) / 5억 = 78%
+          LocalRiskRuleEngine.Result atThreshold =
+                  engine.screen(registry, cleanBuilding(), 300_000_000L, 500_000_000L, OWNER);
+          LocalRiskRuleEngine.Result belowThreshold =
+                  engine.screen(registry, cleanBuilding(), 290_000_000L, 500_000_000L, OWNER);
+
+          // then
+          assertThat(atThreshold.getRiskType()).isEqualTo(RiskType.DANGER);
+          assertThat(atThreshold.getFindings())
+                  .extracting(LocalRiskRuleEngine.Finding::getTitle)
+                  .containsExactly("깡통 전세 위험");
+          assertThat(belowThreshold.isDecided()).isFalse();
+      }
+
+      @Test
+      @DisplayName("등기부등본 소유자와 계약 상대방이 다르면 DANGER로 확정하지 않고 AI 분석에 맡김")
+      void screen_OwnerMismatch_Deferred() {
+          // when
+          LocalRiskRuleEngine.Result result =
+                  engine.screen(cleanRegistry(), cleanBuilding(), 100_000_000L, null, "김철수");
+
+          // then
+          assertThat(result.isDecided()).isFalse();
+          assertThat(result.getFindings())
+                  .extracting(LocalRiskRuleEngine.Finding::getTitle)
+                  .containsExactly("소유자 불일치");
+      }
+
+      @Test
+      @DisplayName("OCR에서 확인하지 못한 값이 있으면 SAFE로 판정하지 않음")
+      void screen_MissingFields_Deferred() {
+          // given
+          RegistryDocumentDto unknownSeizure = cleanRegistry();
+          unknownSeizure.setHasSeizure(null);
+          RegistryDocumentDto unknownMortgages = cleanRegistry();
+          unknownMortgages.setMortgageeList(null);
+          BuildingDocumentDto unknownViolation = cleanBuilding();
+          unknownViolation.setIsViolationBuilding(null);
+
+          // when & then
+          assertThat(engine.screen(unknownSeizure, cleanBuilding(), 1L, null, OWNER).isDecided())
+                  .isFalse();
+          assertThat(engine.screen(unknownMortgages, cleanBuilding(), 1L, null, OWNER).isDecided())
+                  .isFalse();
+          assertThat(engine.screen(cleanRegistry(), unknownViolation, 1L, null, OWNER).isDecided())
+                  .isFalse();
+          assertThat(engine.screen(cleanRegistry(), cleanBuilding(), 1L, null, null).isDecided())
+                  .isFalse();
+      }
+
+      @Test
+      @DisplayName("권리 제한이 있으면 소유자 불일치와 함께 DANGER")
+      void screen_LegalRestriction_DangerWithOwnerMismatch() {
+          // given
+          RegistryDocumentDto registry = cleanRegistry();
+          registry.setHasAuction(true);
+
+          // when
+          LocalRiskRuleEngine.Result result =
+                  engine.screen(registry, cleanBuilding(), 100_000_000L, null, "김철수");
+
+          // then
+          assertThat(result.getRiskType()).isEqualTo(RiskType.DANGER);
+          assertThat(result.getFindings())
+                  .extracting(LocalRiskRuleEngine.Finding::getTitle)
+                  .containsExactly("경매", "소유자 불일치");
+      }
+
+      private RegistryDocumentDto cleanRegistry() {
+          return RegistryDocumentDto.builder()
+                  .roadAddress(ADDRESS)
+                  .ownerName(OWNER)
+                  .mortgageeList(new ArrayList<>())
+                  .hasSeizure(false)
+                  .hasAuction(false)
+                  .hasLitigation(false)
+                  .hasAttachment(false)
+                  .build();
+      }
+
+      private BuildingDocumentDto cleanBuilding() {
+          return BuildingDocumentDto.builder()
+                  .roadAddress(ADDRESS)
+                  .isViolationBuilding(false)
+                  .build();
+      }
+
+      private MortgageeDto mortgagee(Long maxClaimAmount) {
+          return MortgageeDto.builder()
+                  .priorityNumber(1)
+                  .maxClaimAmount(maxClaimAmount)
+                  .mortgagee("주식회사하나은행")
+                  .build();
+      }
+}
@@ -0,0 +1,199 @@
+package org.scoula.domain.home.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.domain.home.dto.response.HomeResponseDto;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("매물 상세 캐시 테스트")
+class HomeDetailCacheServiceTest {
+
+      @Mock private RedisTemplate<String, String> stringRedisTemplate;
+
+      @Mock private ValueOperations<String, String> valueOperations;
+
+      @Mock private RedisMessageListenerContainer redisMessageListenerContainer;
+
+      private final ObjectMapper objectMapper =
+              new ObjectMapper().registerModule(new JavaTimeModule());
+
+      private HomeDetailCacheService cacheService;
+
+      @BeforeEach
+      void setUp() {
+          cacheService =
+                  new HomeDetailCacheService(
+                          stringRedisTemplate, objectMapper, redisMessageListenerContainer);
+          ReflectionTestUtils.setField(cacheService, "ttlSeconds", 300L);
+          ReflectionTestUtils.setField(cacheService, "localTtlSeconds", 30L);
+          ReflectionTestUtils.setField(cacheService, "localMaxEntries", 2);
+          lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+      }
+
+      @Test
+      @DisplayName("Redis에 저장된 상세 응답을 복원하고 메모리 캐시에 채움")
+      void get_RedisHit_FillsLocalCache() throws Exception {
+          // given
+          HomeResponseDto detail =
+                  HomeResponseDto.builder()
+                          .homeId(1L)
+                          .viewCnt(3)
+                          .imageUrls(List.of("a.jpg", "b.jpg"))
+                          .build();
+          when(valueOperations.get("home-detail:1"))
+                  .thenReturn(objectMapper.writeValueAsString(detail));
+
+          // when
+          HomeDetailCacheService.CachedDetail first = cacheService.get(1L);
+          HomeDetailCacheService.CachedDetail second = cacheService.get(1L);
+
+          // then
+          assertThat(cacheService.read(first)).isEqualTo(detail);
+          assertThat(second).isSameAs(first);
+          verify(valueOperations, times(1)).get("home-detail:1");
+      }
+
+      @Test
+      @DisplayName("메모리 캐시는 최대 항목 수를 넘으면 가장 오래 조회되지 않은 항목부터 제거")
+      void put_OverLocalCapacity_EvictsLeastRecentlyUsed() {
+          // given
+          put(1L, HomeResponseDto.builder().homeId(1L).build());
+          put(2L, HomeResponseDto.builder().homeId(2L).build());
+          cacheService.get(1L);
+
+          // when
+          put(3L, HomeResponseDto.builder().homeId(3L).build());
+
+          // then
+          assertThat(cacheService.get(1L)).isNotNull();
+          assertThat(cacheService.get(3L)).isNotNull();
+          assertThat(cacheService.get(2L)).isNull();
+      }
+
+      @Test
+      @DisplayName("응답이 같으면 같은 ETag, 조회수가 다르면 다른 ETag")
+      void eTagOf_DependsOnContentAndViewCount() {
+          // given
+          HomeResponseDto detail = HomeResponseDto.builder().homeId(1L).viewCnt(3).build();
+          HomeDetailCacheService.CachedDetail first = put(1L, detail);
+          HomeDetailCacheService.CachedDetail second = put(1L, detail);
+
+          // when & then
+          assertThat(cacheService.eTagOf(1L, first, 3))
+                  .isEqualTo(cacheService.eTagOf(1L, second, 3));
+          assertThat(cacheService.eTagOf(1L, first, 4))
+                  .isNotEqualTo(cacheService.eTagOf(1L, first, 3));
+      }
+
+      @Test
+      @DisplayName("Redis 장애 시 캐시 미스로 처리")
+      void get_RedisFailure_ReturnsNull() {
+          // given
+          when(valueOperations.get(anyString())).thenThrow(new RuntimeException("down"));
+
+          // when
+          HomeDetailCacheService.CachedDetail cached = cacheService.get(1L);
+
+          // then
+          assertThat(cached).isNull();
+      }
+
+      @Test
+      @DisplayName("트랜잭션 밖에서 무효화하면 대상 키를 바로 삭제하고 무효화 메시지 발행")
+      void evictAll_WithoutTransaction_DeletesKeysAndPublishes() {
+          // given
+          put(1L, HomeResponseDto.builder().homeId(1L).build());
+
+          // when
+          cacheService.evictAll(List.of(1L, 2L));
+
+          // then
+          verify(stringRedisTemplate)
+                  .execute(
+                          any(RedisScript.class),
+                          eq(
+                                  List.of(
+                                          "home-detail:1",
+                                          "home-detail:gen:1",
+                                          "home-detail:2",
+                                          "home-detail:gen:2")),
+                          eq("3600"));
+          verify(stringRedisTemplate).convertAndSend("home-detail:invalidate", "1,2");
+          assertThat(cacheService.get(1L)).isNull();
+      }
+
+      @Test
+      @DisplayName("다른 노드의 무효화 메시지를 받으면 메모리 캐시에서 삭제")
+      void removeLocal_InvalidationMessage_RemovesLocalEntry() {
+          // given
+          put(1L, HomeResponseDto.builder().homeId(1L).build());
+
+          // when
+          cacheService.removeLocal("1");
+
+          // then
+          assertThat(cacheService.get(1L)).isNull();
+      }
+
+      @Test
+      @DisplayName("조립을 시작할 때 받은 세대와 함께 저장을 요청")
+      void put_SendsGenerationFromLoadToken() {
+          // given
+          when(valueOperations.get("home-detail:gen:1")).thenReturn("5");
+          HomeDetailCacheService.LoadToken token = cacheService.loadToken(1L);
+
+          // when
+          cacheService.put(token, HomeResponseDto.builder().homeId(1L).build());
+
+          // then
+          verify(stringRedisTemplate)
+                  .execute(
+                          any(RedisScript.class),
+                          eq(List.of("home-detail:1", "home-detail:gen:1")),
+                          eq("5"),
+                          anyString(),
+                          eq("300"));
+      }
+
+      @Test
+      @DisplayName("조립하는 동안 무효화되면 조립한 값을 메모리 캐시에 저장하지 않음")
+      void put_InvalidatedDuringLoad_NotStoredLocally() {
+          // given
+          HomeDetailCacheService.LoadToken localToken = cacheService.loadToken(1L);
+          HomeDetailCacheService.LoadToken remoteToken = cacheService.loadToken(2L);
+
+          // when
+          cacheService.evict(1L);
+          cacheService.removeLocal("2");
+          cacheService.put(localToken, HomeResponseDto.builder().homeId(1L).build());
+          cacheService.put(remoteToken, HomeResponseDto.builder().homeId(2L).build());
+
+          // then
+          assertThat(cacheService.get(1L)).isNull();
+          assertThat(cacheService.get(2L)).isNull();
+      }
+
+      private HomeDetailCacheService.CachedDetail put(Long homeId, HomeResponseDto detail) {
+          return cacheService.put(cacheService.loadToken(homeId), detail);
+      }
+}
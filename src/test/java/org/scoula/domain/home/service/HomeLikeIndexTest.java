@@ -0,0 +1,148 @@
+package org.scoula.domain.home.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.domain.home.mapper.HomeMapper;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("사용자별 찜 집합 테스트")
+class HomeLikeIndexTest {
+
+      private static final String KEY = "home-like:user:7";
+      private static final String GENERATION_KEY = "home-like:gen:7";
+
+      @Mock private RedisTemplate<String, String> stringRedisTemplate;
+
+      @Mock private SetOperations<String, String> setOperations;
+
+      @Mock private ValueOperations<String, String> valueOperations;
+
+      @Mock private HomeMapper homeMapper;
+
+      private HomeLikeIndex homeLikeIndex;
+
+      @BeforeEach
+      void setUp() {
+          homeLikeIndex = new HomeLikeIndex(stringRedisTemplate, homeMapper);
+          ReflectionTestUtils.setField(homeLikeIndex, "ttlHours", 24L);
+          lenient().when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+          lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+      }
+
+      @Test
+      @DisplayName("적재된 집합이면 SMISMEMBER 한 번으로 찜 여부를 확인하고 DB를 조회하지 않음")
+      void likedAmong_LoadedSet_UsesMembership() {
+          // given
+          when(setOperations.isMember(KEY, "0", "10", "11", "12"))
+                  .thenReturn(Map.of("0", true, "10", false, "11", true, "12", true));
+
+          // when
+          Set<Long> liked = homeLikeIndex.likedAmong(7L, List.of(10L, 11L, 12L));
+
+          // then
+          assertThat(liked).containsExactlyInAnyOrder(11L, 12L);
+          verifyNoInteractions(homeMapper);
+      }
+
+      @Test
+      @DisplayName("적재 표시가 없으면 DB 조회 전 세대를 받아 두고, DB 찜 목록을 그 세대와 TTL과 함께 적재 요청")
+      void likedAmong_NotLoaded_LoadsFromDatabaseWithGeneration() {
+          // given
+          when(setOperations.isMember(KEY, "0", "10", "11"))
+                  .thenReturn(Map.of("0", false, "10", false, "11", false));
+          when(valueOperations.get(GENERATION_KEY)).thenReturn("3");
+          when(homeMapper.findLikedHomeIds(7L)).thenReturn(List.of(11L, 99L));
+
+          // when
+          Set<Long> liked = homeLikeIndex.likedAmong(7L, List.of(10L, 11L));
+
+          // then
+          assertThat(liked).containsExactly(11L);
+          InOrder inOrder = inOrder(valueOperations, homeMapper, stringRedisTemplate);
+          inOrder.verify(valueOperations).get(GENERATION_KEY);
+          inOrder.verify(homeMapper).findLikedHomeIds(7L);
+          inOrder.verify(stringRedisTemplate)
+                  .execute(
+                          any(RedisScript.class),
+                          eq(List.of(KEY, GENERATION_KEY)),
+                          eq("3"),
+                          eq("86400"),
+                          eq("0"),
+                          eq("11"),
+                          eq("99"));
+      }
+
+      @Test
+      @DisplayName("찜 여부가 바뀐 적 없는 사용자는 초기 세대로 적재 요청")
+      void likedAmong_NoGeneration_LoadsWithInitialGeneration() {
+          // given
+          when(setOperations.isMember(KEY, "0", "10"))
+                  .thenReturn(Map.of("0", false, "10", false));
+          when(homeMapper.findLikedHomeIds(7L)).thenReturn(List.of());
+
+          // when
+          Set<Long> liked = homeLikeIndex.likedAmong(7L, List.of(10L));
+
+          // then
+          assertThat(liked).isEmpty();
+          verify(stringRedisTemplate)
+                  .execute(
+                          any(RedisScript.class),
+                          eq(List.of(KEY, GENERATION_KEY)),
+                          eq("0"),
+                          eq("86400"),
+                          eq("0"));
+      }
+
+      @Test
+      @DisplayName("Redis 장애 시 DB 찜 목록으로 확인")
+      void likedAmong_RedisFailure_FallsBackToDatabase() {
+          // given
+          when(setOperations.isMember(anyString(), any(Object[].class)))
+                  .thenThrow(new RuntimeException("down"));
+          when(homeMapper.findLikedHomeIds(7L)).thenReturn(List.of(10L));
+
+          // when
+          Set<Long> liked = homeLikeIndex.likedAmong(7L, List.of(10L, 11L));
+
+          // then
+          assertThat(liked).containsExactly(10L);
+      }
+
+      @Test
+      @DisplayName("트랜잭션 밖에서 찜 해제하면 세대를 올리고 적재된 집합에만 바로 반영")
+      void mark_WithoutTransaction_AppliesToLoadedSet() {
+          // when
+          homeLikeIndex.mark(7L, 11L, false);
+
+          // then
+          verify(stringRedisTemplate)
+                  .execute(
+                          any(RedisScript.class),
+                          eq(List.of(KEY, GENERATION_KEY)),
+                          eq("0"),
+                          eq("0"),
+                          eq("11"),
+                          eq("3600"));
+      }
+}
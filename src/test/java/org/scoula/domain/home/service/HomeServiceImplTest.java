@@ -0,0 +1,387 @@
+package org.scoula.domain.home.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.domain.home.dto.request.HomeCreateRequestDto;
+import org.scoula.domain.home.dto.request.HomeSearchRequestDto;
+import org.scoula.domain.home.dto.response.HomeCursorPageResponseDto;
+import org.scoula.domain.home.dto.response.HomeDetailResultDto;
+import org.scoula.domain.home.dto.response.HomeResponseDto;
+import org.scoula.domain.home.exception.HomeErrorCode;
+import org.scoula.domain.home.mapper.HomeMapper;
+import org.scoula.domain.home.vo.HomeImageVO;
+import org.scoula.domain.home.vo.HomeRegisterVO;
+import org.scoula.global.auth.util.S3Uploader;
+import org.scoula.global.common.exception.BusinessException;
+import org.scoula.global.redis.service.ListCountCacheService;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("매물 서비스 테스트")
+class HomeServiceImplTest {
+
+      private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 5, 1, 12, 30, 15);
+      private static final String URL_A = "https://bucket.s3.amazonaws.com/homes/a.jpg";
+      private static final String URL_B = "https://bucket.s3.amazonaws.com/homes/b.jpg";
+
+      @Mock private HomeMapper homeMapper;
+
+      @Mock private S3Uploader s3Uploader;
+
+      @Mock private ListCountCacheService listCountCacheService;
+
+      @Mock private HomeViewCountBuffer homeViewCountBuffer;
+
+      @Mock private HomeDetailCacheService homeDetailCacheService;
+
+      @Mock private HomeLikeIndex homeLikeIndex;
+
+      @Mock private SimilarHomeIndex similarHomeIndex;
+
+      @InjectMocks private HomeServiceImpl homeService;
+
+      private ThreadPoolExecutor detailQueryExecutor;
+
+      private ThreadPoolExecutor imageUploadExecutor;
+
+      private final MultipartFile imageA =
+              new MockMultipartFile("imageFiles", "a.jpg", "image/jpeg", new byte[] {1});
+
+      private final MultipartFile imageB =
+              new MockMultipartFile("imageFiles", "b.jpg", "image/jpeg", new byte[] {2});
+
+      @BeforeEach
+      void setUp() {
+          detailQueryExecutor =
+                  new ThreadPoolExecutor(
+                          2, 2, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(4));
+          imageUploadExecutor =
+                  new ThreadPoolExecutor(
+                          2, 2, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(4));
+          ReflectionTestUtils.setField(homeService, "detailQueryExecutor", detailQueryExecutor);
+          ReflectionTestUtils.setField(homeService, "imageUploadExecutor", imageUploadExecutor);
+      }
+
+      @AfterEach
+      void tearDown() {
+          detailQueryExecutor.shutdownNow();
+          imageUploadExecutor.shutdownNow();
+          if (TransactionSynchronizationManager.isSynchronizationActive()) {
+              TransactionSynchronizationManager.clearSynchronization();
+          }
+      }
+
+      @Test
+      @DisplayName("size보다 1개 더 조회되면 마지막 매물로 다음 커서를 만들고 그 커서로 이어서 조회")
+      void searchHomes_HasNext_NextCursorContinuesFromLastHome() {
+          // given
+          HomeSearchRequestDto condition = new HomeSearchRequestDto();
+          when(homeMapper.searchHomes(eq(condition), isNull(), isNull(), eq(3)))
+                  .thenReturn(
+                          List.of(
+                                  home(30L, CREATED_AT.plusDays(1)),
+                                  home(20L, CREATED_AT),
+                                  home(10L, CREATED_AT)));
+          when(homeMapper.searchHomes(condition, CREATED_AT, 20L, 3)).thenReturn(List.of());
+
+          // when
+          HomeCursorPageResponseDto first = homeService.searchHomes(condition, null, 2, null);
+          homeService.searchHomes(condition, first.getNextCursor(), 2, null);
+
+          // then
+          assertThat(first.isHasNext()).isTrue();
+          assertThat(first.getContent())
+                  .extracting("homeId")
+                  .containsExactly(30L, 20L);
+          verify(homeMapper).searchHomes(condition, CREATED_AT, 20L, 3);
+      }
+
+      @Test
+      @DisplayName("마지막 페이지면 다음 커서 없음")
+      void searchHomes_LastPage_NoNextCursor() {
+          // given
+          when(homeMapper.searchHomes(any(), isNull(), isNull(), eq(3)))
+                  .thenReturn(List.of(home(10L, CREATED_AT)));
+
+          // when
+          HomeCursorPageResponseDto page = homeService.searchHomes(null, null, 2, null);
+
+          // then
+          assertThat(page.isHasNext()).isFalse();
+          assertThat(page.getNextCursor()).isNull();
+          assertThat(page.getContent()).hasSize(1);
+      }
+
+      @Test
+      @DisplayName("커서는 등록일과 매물 ID로 인코딩/디코딩됨")
+      void searchCursor_RoundTrips() {
+          // when
+          HomeRegisterVO decoded =
+                  HomeServiceImpl.decodeSearchCursor(
+                          HomeServiceImpl.encodeSearchCursor(home(20L, CREATED_AT)));
+
+          // then
+          assertThat(decoded.getCreatedAt()).isEqualTo(CREATED_AT);
+          assertThat(decoded.getHomeId()).isEqualTo(20L);
+      }
+
+      @Test
+      @DisplayName("잘못된 커서는 검색 조건 오류")
+      void searchHomes_MalformedCursor_ThrowsInvalidCondition() {
+          // when & then
+          for (String cursor : List.of("not-base64!", "bm8tZGVsaW1pdGVy", "MjAyNHxhYmM", "fDc")) {
+              assertThatThrownBy(() -> homeService.searchHomes(null, cursor, 2, null))
+                      .isInstanceOf(BusinessException.class)
+                      .extracting("errorCode")
+                      .isEqualTo(HomeErrorCode.HOME_INVALID_SEARCH_CONDITION);
+          }
+          verifyNoInteractions(homeMapper);
+      }
+
+      @Test
+      @DisplayName("페이지 크기가 범위를 벗어나면 검색 조건 오류")
+      void searchHomes_InvalidSize_ThrowsInvalidCondition() {
+          // when & then
+          assertThatThrownBy(() -> homeService.searchHomes(null, null, 0, null))
+                  .isInstanceOf(BusinessException.class)
+                  .extracting("errorCode")
+                  .isEqualTo(HomeErrorCode.HOME_INVALID_SEARCH_CONDITION);
+          verifyNoInteractions(homeMapper);
+      }
+
+      @Test
+      @DisplayName("캐시에 없는 상세는 자식 쿼리를 동시에 실행해 조립하고 캐시에 저장")
+      void getHomeDetail_CacheMiss_LoadsChildrenAndCaches() {
+          // given
+          stubHomeDetailQueries();
+
+          // when
+          homeService.getHomeDetail(1L);
+
+          // then
+          HomeResponseDto detail = cachedDetail();
+          assertThat(detail.getImageUrls()).containsExactly("a.jpg", "b.jpg");
+          assertThat(detail.getMediumImageUrls()).containsExactly("a_medium.jpg", null);
+      }
+
+      @Test
+      @DisplayName("상세와 ETag를 같은 캐시 항목에서 한 번만 조회해 만듦")
+      void getHomeDetailWithETag_UsesSingleCacheEntry() {
+          // given
+          HomeDetailCacheService.CachedDetail cached =
+                  mock(HomeDetailCacheService.CachedDetail.class);
+          when(homeDetailCacheService.get(1L)).thenReturn(cached);
+          when(homeDetailCacheService.read(cached))
+                  .thenReturn(HomeResponseDto.builder().homeId(1L).viewCnt(10).build());
+          when(homeViewCountBuffer.pendingCounts(List.of(1L))).thenReturn(Map.of(1L, 2L));
+          when(homeDetailCacheService.eTagOf(1L, cached, 12)).thenReturn("\"home-1-v-12\"");
+
+          // when
+          HomeDetailResultDto result = homeService.getHomeDetailWithETag(1L);
+
+          // then
+          assertThat(result.getDetail().getViewCnt()).isEqualTo(12);
+          assertThat(result.getETag()).isEqualTo("\"home-1-v-12\"");
+          verify(homeDetailCacheService).get(1L);
+          verify(homeDetailCacheService, never()).put(any(), any());
+      }
+
+      @Test
+      @DisplayName("상세 조회 풀이 가득 차면 호출 스레드에서 자식 쿼리를 실행")
+      void getHomeDetail_PoolRejected_QueriesOnCallerThread() {
+          // given
+          detailQueryExecutor.shutdown();
+          stubHomeDetailQueries();
+
+          // when
+          homeService.getHomeDetail(1L);
+
+          // then
+          assertThat(cachedDetail().getImageUrls()).containsExactly("a.jpg", "b.jpg");
+          verify(homeMapper).findHomeMaintenanceItemsByHomeId(1L);
+          verify(homeMapper).findHomeFacilities(1L);
+      }
+
+      @Test
+      @DisplayName("커밋되면 업로드한 이미지를 저장하고 파생본을 생성")
+      void createHome_Committed_SavesImagesAndGeneratesDerivatives() {
+          // given
+          TransactionSynchronizationManager.initSynchronization();
+          stubInsertHome();
+          when(s3Uploader.upload(imageA, "homes")).thenReturn(URL_A);
+          when(s3Uploader.upload(imageB, "homes")).thenReturn(URL_B);
+
+          // when
+          homeService.createHome(1L, createRequest(imageA, imageB));
+          complete(TransactionSynchronization.STATUS_COMMITTED);
+
+          // then
+          verify(homeMapper)
+                  .insertHomeImages(Map.of("homeId", 10L, "imageUrls", List.of(URL_A, URL_B)));
+          verify(s3Uploader).generateDerivatives(eq(URL_A), any());
+          verify(s3Uploader).generateDerivatives(eq(URL_B), any());
+          verify(s3Uploader, never()).deleteByUrl(any());
+      }
+
+      @Test
+      @DisplayName("파생본 생성이 끝나면 완료를 표시하고 상세 캐시와 유사 매물 색인을 갱신")
+      void createHome_DerivativesGenerated_MarksReady() {
+          // given
+          TransactionSynchronizationManager.initSynchronization();
+          stubInsertHome();
+          when(s3Uploader.upload(imageA, "homes")).thenReturn(URL_A);
+          when(homeMapper.markHomeImageDerivativesReady(10L, URL_A)).thenReturn(1);
+          homeService.createHome(1L, createRequest(imageA));
+          complete(TransactionSynchronization.STATUS_COMMITTED);
+          ArgumentCaptor<Runnable> onGenerated = ArgumentCaptor.forClass(Runnable.class);
+          verify(s3Uploader).generateDerivatives(eq(URL_A), onGenerated.capture());
+
+          // when
+          onGenerated.getValue().run();
+
+          // then
+          verify(homeMapper).markHomeImageDerivativesReady(10L, URL_A);
+          verify(homeDetailCacheService).evict(10L);
+          verify(similarHomeIndex).refresh(10L);
+      }
+
+      @Test
+      @DisplayName("일부 이미지 업로드가 실패하면 등록이 실패하고 롤백 시 성공한 업로드만 삭제")
+      void createHome_PartialUploadFailure_DeletesUploadedOnRollback() {
+          // given
+          TransactionSynchronizationManager.initSynchronization();
+          stubInsertHome();
+          when(s3Uploader.upload(imageA, "homes")).thenReturn(URL_A);
+          when(s3Uploader.upload(imageB, "homes")).thenThrow(new RuntimeException("S3 down"));
+
+          // when
+          assertThatThrownBy(() -> homeService.createHome(1L, createRequest(imageA, imageB)))
+                  .isInstanceOf(BusinessException.class)
+                  .extracting("errorCode")
+                  .isEqualTo(HomeErrorCode.HOME_IMAGE_UPLOAD_FAILED);
+          complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+          // then
+          verify(homeMapper, never()).insertHomeImages(any());
+          verify(s3Uploader, timeout(1000)).deleteByUrl(URL_A);
+          verify(s3Uploader, never()).deleteByUrl(URL_B);
+          verify(s3Uploader, never()).generateDerivatives(any(), any());
+      }
+
+      @Test
+      @DisplayName("업로드 후 DB 저장이 실패해 롤백되면 업로드한 이미지를 모두 삭제")
+      void createHome_DatabaseFailureAfterUpload_DeletesAllOnRollback() {
+          // given
+          TransactionSynchronizationManager.initSynchronization();
+          stubInsertHome();
+          when(s3Uploader.upload(imageA, "homes")).thenReturn(URL_A);
+          when(s3Uploader.upload(imageB, "homes")).thenReturn(URL_B);
+          doThrow(new RuntimeException("deadlock")).when(homeMapper).insertHomeImages(any());
+
+          // when
+          assertThatThrownBy(() -> homeService.createHome(1L, createRequest(imageA, imageB)))
+                  .isInstanceOf(RuntimeException.class)
+                  .hasMessage("deadlock");
+          complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+          // then
+          verify(s3Uploader).deleteByUrl(URL_A);
+          verify(s3Uploader).deleteByUrl(URL_B);
+          verify(s3Uploader, never()).generateDerivatives(any(), any());
+      }
+
+      @Test
+      @DisplayName("업로드 풀이 가득 차면 등록을 거절")
+      void createHome_UploadPoolRejected_ThrowsBusy() {
+          // given
+          TransactionSynchronizationManager.initSynchronization();
+          imageUploadExecutor.shutdown();
+
+          // when & then
+          assertThatThrownBy(() -> homeService.createHome(1L, createRequest(imageA)))
+                  .isInstanceOf(BusinessException.class)
+                  .extracting("errorCode")
+                  .isEqualTo(HomeErrorCode.HOME_IMAGE_UPLOAD_BUSY);
+          verify(homeMapper, never()).insertHome(any(), any(), any());
+          verifyNoInteractions(s3Uploader);
+      }
+
+      /** 매물 INSERT 시 생성 키 채움 */
+      private void stubInsertHome() {
+          doAnswer(
+                          invocation -> {
+                              invocation.<HomeRegisterVO>getArgument(2).setHomeId(10L);
+                              return null;
+                          })
+                  .when(homeMapper)
+                  .insertHome(eq(1L), any(), any());
+      }
+
+      private HomeCreateRequestDto createRequest(MultipartFile... images) {
+          return HomeCreateRequestDto.builder().imageFiles(List.of(images)).build();
+      }
+
+      /** 트랜잭션 완료 콜백을 커밋/롤백 순서대로 호출 */
+      private void complete(int status) {
+          List<TransactionSynchronization> synchronizations =
+                  TransactionSynchronizationManager.getSynchronizations();
+          if (status == TransactionSynchronization.STATUS_COMMITTED) {
+              synchronizations.forEach(TransactionSynchronization::afterCommit);
+          }
+          synchronizations.forEach(s -> s.afterCompletion(status));
+          TransactionSynchronizationManager.clearSynchronization();
+      }
+
+      private void stubHomeDetailQueries() {
+          when(homeMapper.findHomeById(1L)).thenReturn(Optional.of(home(1L, CREATED_AT)));
+          when(homeMapper.findHomeImagesByHomeId(1L))
+                  .thenReturn(List.of(image("a.jpg", true), image("b.jpg", false)));
+          when(homeMapper.findHomeMaintenanceItemsByHomeId(1L)).thenReturn(List.of());
+          when(homeMapper.findHomeFacilities(1L)).thenReturn(List.of());
+          when(homeDetailCacheService.read(isNull()))
+                  .thenReturn(HomeResponseDto.builder().homeId(1L).build());
+      }
+
+      private HomeResponseDto cachedDetail() {
+          ArgumentCaptor<HomeResponseDto> detail = ArgumentCaptor.forClass(HomeResponseDto.class);
+          verify(homeDetailCacheService).put(any(), detail.capture());
+          return detail.getValue();
+      }
+
+      private HomeRegisterVO home(Long homeId, LocalDateTime createdAt) {
+          return HomeRegisterVO.builder().homeId(homeId).createdAt(createdAt).build();
+      }
+
+      private HomeImageVO image(String imageUrl, boolean derivativesReady) {
+          return HomeImageVO.builder()
+                  .imageUrl(imageUrl)
+                  .derivativesReady(derivativesReady)
+                  .build();
+      }
+}
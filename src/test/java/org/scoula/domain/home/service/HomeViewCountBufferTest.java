@@ -0,0 +1,152 @@
+package org.scoula.domain.home.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.domain.home.mapper.HomeMapper;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("매물 조회수 쓰기 버퍼 테스트")
+class HomeViewCountBufferTest {
+
+      @Mock private RedisTemplate<String, String> stringRedisTemplate;
+
+      @Mock private ValueOperations<String, String> valueOperations;
+
+      @Mock private HashOperations<String, Object, Object> hashOperations;
+
+      @Mock private HomeMapper homeMapper;
+
+      @Mock private HomeDetailCacheService homeDetailCacheService;
+
+      private HomeViewCountBuffer buffer;
+
+      @BeforeEach
+      void setUp() {
+          buffer = new HomeViewCountBuffer(stringRedisTemplate, homeMapper, homeDetailCacheService);
+          ReflectionTestUtils.setField(buffer, "dedupWindowMinutes", 30L);
+          ReflectionTestUtils.setField(buffer, "flushLockSeconds", 60L);
+          lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+          lenient().when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+      }
+
+      @Test
+      @DisplayName("중복 제거 기간 안의 같은 조회자 재조회는 집계하지 않음")
+      void record_RepeatedViewer_CountedOnce() {
+          // given
+          when(valueOperations.setIfAbsent(
+                          eq("home-view:seen:1:user:7"), eq("1"), any(Duration.class)))
+                  .thenReturn(true, false);
+
+          // when
+          boolean first = buffer.record(1L, "user:7");
+          boolean second = buffer.record(1L, "user:7");
+
+          // then
+          assertThat(first).isTrue();
+          assertThat(second).isFalse();
+          verify(hashOperations, times(1)).increment("home-view:pending", "1", 1);
+          verifyNoInteractions(homeMapper);
+      }
+
+      @Test
+      @DisplayName("Redis 장애 시 DB 조회수를 직접 증가")
+      void record_RedisFailure_UpdatesDatabase() {
+          // given
+          when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                  .thenThrow(new RuntimeException("down"));
+
+          // when
+          buffer.record(1L, "ip:127.0.0.1");
+
+          // then
+          verify(homeMapper).incrementViewCount(1L);
+      }
+
+      @Test
+      @DisplayName("대기 중인 증가분과 반영 중인 증가분을 합산")
+      void pendingCounts_MergesPendingAndFlushing() {
+          // given
+          List<Object> fields = Arrays.asList("1", "2");
+          when(hashOperations.multiGet("home-view:pending", fields))
+                  .thenReturn(Arrays.<Object>asList("3", null));
+          when(hashOperations.multiGet("home-view:flushing", fields))
+                  .thenReturn(Arrays.<Object>asList("2", null));
+
+          // when
+          Map<Long, Long> pending = buffer.pendingCounts(List.of(1L, 2L));
+
+          // then
+          assertThat(pending).containsExactly(Map.entry(1L, 5L));
+      }
+
+      @Test
+      @DisplayName("대기 해시를 옮겨 한 번의 UPDATE로 반영하고 반영 중 해시를 지움")
+      void flush_MovesPendingAndAppliesOnce() {
+          // given
+          ArgumentCaptor<String> lockToken = ArgumentCaptor.forClass(String.class);
+          when(valueOperations.setIfAbsent(
+                          eq("home-view:flush-lock"), lockToken.capture(), any(Duration.class)))
+                  .thenReturn(true);
+          when(stringRedisTemplate.hasKey("home-view:flushing")).thenReturn(false);
+          when(stringRedisTemplate.hasKey("home-view:pending")).thenReturn(true);
+          when(hashOperations.entries("home-view:flushing"))
+                  .thenReturn(Map.<Object, Object>of("2", "4", "1", "10"));
+
+          // when
+          buffer.flush();
+
+          // then
+          verify(stringRedisTemplate).rename("home-view:pending", "home-view:flushing");
+          verify(homeMapper).addViewCounts(Map.of(1L, 10L, 2L, 4L));
+          verify(homeDetailCacheService).evictAll(Set.of(1L, 2L));
+          verify(stringRedisTemplate).delete("home-view:flushing");
+          // 잠금은 자신이 넣은 토큰일 때만 해제
+          verify(stringRedisTemplate)
+                  .execute(
+                          any(RedisScript.class),
+                          eq(List.of("home-view:flush-lock")),
+                          eq(lockToken.getValue()));
+          verify(stringRedisTemplate, never()).delete("home-view:flush-lock");
+      }
+
+      @Test
+      @DisplayName("다른 노드가 반영 중이면 건너뜀")
+      void flush_LockedByOtherNode_Skips() {
+          // given
+          when(valueOperations.setIfAbsent(
+                          eq("home-view:flush-lock"), anyString(), any(Duration.class)))
+                  .thenReturn(false);
+
+          // when
+          buffer.flush();
+
+          // then
+          verifyNoInteractions(homeMapper);
+          verify(stringRedisTemplate, never()).delete(anyString());
+          verify(stringRedisTemplate, never())
+                  .execute(any(RedisScript.class), anyList(), any());
+      }
+}
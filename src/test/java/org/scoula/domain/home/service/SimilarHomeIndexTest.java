@@ -0,0 +1,164 @@
+package org.scoula.domain.home.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.domain.home.enums.HomeStatus;
+import org.scoula.domain.home.enums.LeaseType;
+import org.scoula.domain.home.enums.ResidenceType;
+import org.scoula.domain.home.mapper.HomeMapper;
+import org.scoula.domain.home.vo.HomeRegisterVO;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("유사 매물 인덱스 테스트")
+class SimilarHomeIndexTest {
+
+      @Mock private HomeMapper homeMapper;
+
+      private SimilarHomeIndex similarHomeIndex;
+
+      @BeforeEach
+      void setUp() {
+          similarHomeIndex = new SimilarHomeIndex(homeMapper);
+      }
+
+      @AfterEach
+      void tearDown() {
+          similarHomeIndex.shutdown();
+      }
+
+      private HomeRegisterVO home(
+              long homeId, String addr1, int deposit, int rent, float area, HomeStatus status) {
+          return HomeRegisterVO.builder()
+                  .homeId(homeId)
+                  .addr1(addr1)
+                  .residenceType(ResidenceType.OFFICETEL)
+                  .leaseType(LeaseType.WOLSE)
+                  .depositPrice(deposit)
+                  .monthlyRent(rent)
+                  .exclusiveArea(area)
+                  .roomCnt(1)
+                  .homeFloor("3")
+                  .homeStatus(status)
+                  .build();
+      }
+
+      @Test
+      @DisplayName("가격과 면적, 위치가 가까운 순으로 반환하고 기준 매물과 계약 완료 매물은 제외")
+      void findSimilar_OrdersByDistance() {
+          // given
+          when(homeMapper.findSimilarityCandidates(null))
+                  .thenReturn(
+                          List.of(
+                                  home(1L, "서울특별시 강남구 역삼동", 1000, 60, 20f, HomeStatus.AVAILABLE),
+                                  home(2L, "서울특별시 강남구 논현동", 1000, 65, 21f, HomeStatus.AVAILABLE),
+                                  home(3L, "서울특별시 마포구 합정동", 1000, 60, 20f, HomeStatus.AVAILABLE),
+                                  home(4L, "서울특별시 강남구 역삼동", 5000, 150, 45f, HomeStatus.AVAILABLE),
+                                  home(5L, "서울특별시 강남구 역삼동", 1000, 60, 20f, HomeStatus.SOLD)));
+          similarHomeIndex.reloadAll();
+
+          // when
+          List<HomeRegisterVO> similar = similarHomeIndex.findSimilar(1L, 3);
+
+          // then
+          assertThat(similar.stream().map(HomeRegisterVO::getHomeId).collect(Collectors.toList()))
+                  .containsExactly(2L, 3L, 4L);
+      }
+
+      @Test
+      @DisplayName("트리를 다시 만들지 않고 등록/수정/계약 완료된 매물을 반영")
+      void reloadHome_AppliesChangesWithoutRebuild() {
+          // given
+          when(homeMapper.findSimilarityCandidates(null))
+                  .thenReturn(
+                          List.of(
+                                  home(1L, "서울특별시 강남구 역삼동", 1000, 60, 20f, HomeStatus.AVAILABLE),
+                                  home(2L, "서울특별시 강남구 논현동", 1000, 65, 21f, HomeStatus.AVAILABLE),
+                                  home(3L, "서울특별시 마포구 합정동", 1000, 60, 20f, HomeStatus.AVAILABLE)));
+          similarHomeIndex.reloadAll();
+          when(homeMapper.findSimilarityCandidates(2L))
+                  .thenReturn(
+                          List.of(home(2L, "서울특별시 강남구 논현동", 1000, 65, 21f, HomeStatus.SOLD)));
+          when(homeMapper.findSimilarityCandidates(3L))
+                  .thenReturn(
+                          List.of(
+                                  home(3L, "서울특별시 강남구 역삼동", 1000, 60, 20f, HomeStatus.AVAILABLE)));
+          when(homeMapper.findSimilarityCandidates(6L))
+                  .thenReturn(
+                          List.of(
+                                  home(6L, "서울특별시 마포구 합정동", 1000, 60, 20f, HomeStatus.AVAILABLE)));
+
+          // when
+          similarHomeIndex.reloadHome(2L);
+          similarHomeIndex.reloadHome(3L);
+          similarHomeIndex.reloadHome(6L);
+          similarHomeIndex.publishIfDirty();
+
+          // then
+          assertThat(ids(similarHomeIndex.findSimilar(1L, 5))).containsExactly(3L, 6L);
+          assertThat(ids(similarHomeIndex.findSimilar(6L, 5))).containsExactly(1L, 3L);
+          assertThat(similarHomeIndex.findSimilar(2L, 5)).isEmpty();
+          verify(homeMapper, times(1)).findSimilarityCandidates(null);
+      }
+
+      @Test
+      @DisplayName("변경이 기준 수를 넘으면 트리를 다시 만들어도 같은 결과 반환")
+      void publishIfDirty_TooManyChanges_Rebuilds() {
+          // given
+          when(homeMapper.findSimilarityCandidates(null))
+                  .thenReturn(
+                          List.of(
+                                  home(1L, "서울특별시 강남구 역삼동", 1000, 60, 20f, HomeStatus.AVAILABLE),
+                                  home(2L, "서울특별시 강남구 논현동", 1000, 65, 21f, HomeStatus.AVAILABLE)));
+          similarHomeIndex.reloadAll();
+          when(homeMapper.findSimilarityCandidates(anyLong()))
+                  .thenAnswer(
+                          invocation ->
+                                  List.of(
+                                          home(
+                                                  invocation.getArgument(0),
+                                                  "서울특별시 마포구 합정동",
+                                                  3000,
+                                                  90,
+                                                  30f,
+                                                  HomeStatus.AVAILABLE)));
+
+          // when
+          for (long homeId = 100; homeId <= 100 + SimilarHomeIndex.MAX_PENDING_CHANGES; homeId++) {
+              similarHomeIndex.reloadHome(homeId);
+          }
+          similarHomeIndex.publishIfDirty();
+
+          // then
+          assertThat(ids(similarHomeIndex.findSimilar(1L, 1))).containsExactly(2L);
+          assertThat(similarHomeIndex.findSimilar(100L, 300))
+                  .hasSize(SimilarHomeIndex.MAX_PENDING_CHANGES + 2);
+      }
+
+      @Test
+      @DisplayName("인덱스에 없는 매물이면 빈 목록 반환")
+      void findSimilar_UnknownHome_ReturnsEmpty() {
+          // when
+          List<HomeRegisterVO> similar = similarHomeIndex.findSimilar(99L, 5);
+
+          // then
+          assertThat(similar).isEmpty();
+      }
+
+      private List<Long> ids(List<HomeRegisterVO> homes) {
+          return homes.stream().map(HomeRegisterVO::getHomeId).collect(Collectors.toList());
+      }
+}
@@ -0,0 +1,75 @@
+package org.scoula.domain.home.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("VP 트리 최근접 이웃 테스트")
+class VantagePointTreeTest {
+
+      private static double distance(double[] a, double[] b) {
+          double sum = 0;
+          for (int i = 0; i < a.length; i++) {
+              sum += (a[i] - b[i]) * (a[i] - b[i]);
+          }
+          return Math.sqrt(sum);
+      }
+
+      @Test
+      @DisplayName("전수 비교와 같은 k개 최근접 이웃을 가까운 순으로 반환")
+      void nearest_MatchesBruteForce() {
+          // given
+          Random random = new Random(42);
+          List<double[]> points = new ArrayList<>();
+          for (int i = 0; i < 2000; i++) {
+              points.add(
+                      new double[] {
+                          random.nextGaussian(), random.nextGaussian(), random.nextInt(3)
+                      });
+          }
+          VantagePointTree<double[]> tree =
+                  new VantagePointTree<>(points, VantagePointTreeTest::distance);
+
+          for (int q = 0; q < 50; q++) {
+              double[] target = points.get(random.nextInt(points.size()));
+
+              // when
+              List<double[]> nearest = tree.nearest(target, 5, point -> point == target);
+
+              // then
+              List<double[]> expected =
+                      points.stream()
+                              .filter(point -> point != target)
+                              .sorted(Comparator.comparingDouble(point -> distance(target, point)))
+                              .limit(5)
+                              .collect(Collectors.toList());
+              assertThat(nearest.stream().map(point -> distance(target, point)))
+                      .containsExactlyElementsOf(
+                              expected.stream()
+                                      .map(point -> distance(target, point))
+                                      .collect(Collectors.toList()));
+          }
+      }
+
+      @Test
+      @DisplayName("점 개수보다 많이 요청하면 제외한 점을 뺀 전체를 반환")
+      void nearest_KLargerThanSize_ReturnsAll() {
+          // given
+          List<double[]> points = List.of(new double[] {0}, new double[] {3}, new double[] {1});
+          VantagePointTree<double[]> tree =
+                  new VantagePointTree<>(points, VantagePointTreeTest::distance);
+
+          // when
+          List<double[]> nearest = tree.nearest(points.get(0), 10, point -> point == points.get(0));
+
+          // then
+          assertThat(nearest).containsExactly(points.get(2), points.get(1));
+      }
+}
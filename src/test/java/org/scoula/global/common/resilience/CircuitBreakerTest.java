@@ -0,0 +1,90 @@
+package org.scoula.global.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("서킷 브레이커 단위 테스트")
+class CircuitBreakerTest {
+
+      private final AtomicLong now = new AtomicLong(0);
+
+      private CircuitBreaker circuitBreaker;
+
+      @BeforeEach
+      void setUp() {
+          circuitBreaker = new CircuitBreaker("ai-test", 10, 4, 50, 1_000L, 2, now::get);
+      }
+
+      @Test
+      @DisplayName("최소 호출 수 이상에서 실패율이 임계치를 넘으면 OPEN으로 전환되어 호출을 거절")
+      void opensWhenFailureRateExceedsThreshold() {
+          // given
+          recordCall(true);
+          recordCall(false);
+          recordCall(true);
+          assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+          // when
+          recordCall(false);
+
+          // then
+          assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+          assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+      }
+
+      @Test
+      @DisplayName("OPEN 유지 시간이 지나면 제한된 시험 호출을 허용하고 모두 성공하면 CLOSED로 복구")
+      void halfOpenClosesAfterSuccessfulTrialCalls() {
+          // given
+          openCircuit();
+          now.addAndGet(1_000L);
+
+          // when
+          assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+          assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+          assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+          circuitBreaker.onSuccess();
+          circuitBreaker.onSuccess();
+
+          // then
+          assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+          assertThat(circuitBreaker.getRecordedCalls()).isZero();
+      }
+
+      @Test
+      @DisplayName("시험 호출이 실패하면 다시 OPEN으로 전환")
+      void halfOpenReopensOnFailure() {
+          // given
+          openCircuit();
+          now.addAndGet(1_000L);
+          assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+
+          // when
+          circuitBreaker.onFailure();
+
+          // then
+          assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+          assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+      }
+
+      private void openCircuit() {
+          for (int i = 0; i < 4; i++) {
+              recordCall(true);
+          }
+          assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+      }
+
+      private void recordCall(boolean failed) {
+          assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+          if (failed) {
+              circuitBreaker.onFailure();
+          } else {
+              circuitBreaker.onSuccess();
+          }
+      }
+}
@@ -0,0 +1,73 @@
+package org.scoula.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.global.common.util.HttpClientPoolMetrics;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+@DisplayName("RestTemplate 설정 단위 테스트")
+class RestTemplateConfigTest {
+
+      private RestTemplateConfig restTemplateConfig;
+
+      private HttpClientPoolMetrics metrics;
+
+      @BeforeEach
+      void setUp() {
+          restTemplateConfig = new RestTemplateConfig();
+          metrics = new HttpClientPoolMetrics();
+          ReflectionTestUtils.setField(restTemplateConfig, "idleEvictSeconds", 30L);
+          ReflectionTestUtils.setField(restTemplateConfig, "poolWaitTimeout", 2000);
+          ReflectionTestUtils.setField(restTemplateConfig, "aiMaxTotal", 50);
+          ReflectionTestUtils.setField(restTemplateConfig, "aiMaxPerRoute", 20);
+          ReflectionTestUtils.setField(restTemplateConfig, "aiConnectTimeout", 5000);
+          ReflectionTestUtils.setField(restTemplateConfig, "aiReadTimeout", 60000);
+          ReflectionTestUtils.setField(restTemplateConfig, "oauthMaxTotal", 20);
+          ReflectionTestUtils.setField(restTemplateConfig, "oauthMaxPerRoute", 10);
+          ReflectionTestUtils.setField(restTemplateConfig, "oauthConnectTimeout", 3000);
+          ReflectionTestUtils.setField(restTemplateConfig, "oauthReadTimeout", 5000);
+      }
+
+      @AfterEach
+      void tearDown() {
+          restTemplateConfig.destroy();
+      }
+
+      @Test
+      @DisplayName("커넥션 풀 기반 RestTemplate이 생성되고 지연시간 인터셉터가 등록되는지 확인")
+      void restTemplate_ShouldUsePooledHttpClient() {
+          // when
+          RestTemplate restTemplate = restTemplateConfig.restTemplate(metrics);
+
+          // then
+          assertThat(restTemplate.getRequestFactory())
+                  .isInstanceOf(InterceptingClientHttpRequestFactory.class);
+          assertThat(restTemplate.getInterceptors()).hasSize(1);
+          Object delegate = ReflectionTestUtils.getField(restTemplate, "requestFactory");
+          assertThat(delegate).isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+      }
+
+      @Test
+      @DisplayName("하위 서비스마다 별도의 커넥션 풀이 등록되는지 확인")
+      void restTemplates_ShouldRegisterSeparatePools() {
+          // when
+          restTemplateConfig.restTemplate(metrics);
+          restTemplateConfig.oauthRestTemplate(metrics);
+
+          // then
+          Map<String, HttpClientPoolMetrics.DownstreamStats> snapshot = metrics.snapshot();
+          assertThat(snapshot).containsOnlyKeys("ai", "oauth");
+          assertThat(snapshot.get("ai").getMax()).isEqualTo(50);
+          assertThat(snapshot.get("oauth").getMax()).isEqualTo(20);
+          assertThat(snapshot.get("ai").getRequestCount()).isZero();
+      }
+}
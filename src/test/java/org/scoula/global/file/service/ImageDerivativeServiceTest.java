@@ -0,0 +1,213 @@
+package org.scoula.global.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("이미지 파생본 서비스 테스트")
+class ImageDerivativeServiceTest {
+
+      private final ThreadPoolExecutor imageDerivativeExecutor =
+              new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(4));
+
+      private final ImageDerivativeService imageDerivativeService =
+              new ImageDerivativeService(imageDerivativeExecutor);
+
+      @AfterEach
+      void tearDown() {
+          imageDerivativeExecutor.shutdownNow();
+      }
+
+      @Test
+      @DisplayName("원본 키의 확장자를 파생본 접미사와 jpg로 바꿈")
+      void variantKey_ReplacesExtension() {
+          // when & then
+          assertThat(
+                          ImageDerivativeService.variantKey(
+                                  "homes/a_b.png", ImageDerivativeService.Variant.THUMBNAIL))
+                  .isEqualTo("homes/a_b_thumb.jpg");
+          assertThat(
+                          ImageDerivativeService.variantKey(
+                                  "uploads.v2/noext", ImageDerivativeService.Variant.MEDIUM))
+                  .isEqualTo("uploads.v2/noext_medium.jpg");
+          assertThat(
+                          ImageDerivativeService.variantUrl(
+                                  null, ImageDerivativeService.Variant.THUMBNAIL))
+                  .isNull();
+      }
+
+      @Test
+      @DisplayName("파생본을 만들 수 없는 형식의 원본은 파생본 URL이 없음")
+      void variantUrl_UndecodableFormat_ReturnsNull() {
+          // when & then
+          assertThat(
+                          ImageDerivativeService.variantUrl(
+                                  "https://bucket/homes/a.JPG",
+                                  ImageDerivativeService.Variant.THUMBNAIL))
+                  .isEqualTo("https://bucket/homes/a_thumb.jpg");
+          assertThat(
+                          ImageDerivativeService.variantUrl(
+                                  "https://bucket/homes/a.heic",
+                                  ImageDerivativeService.Variant.THUMBNAIL))
+                  .isNull();
+          assertThat(
+                          ImageDerivativeService.variantUrl(
+                                  "https://bucket/homes/noext",
+                                  ImageDerivativeService.Variant.MEDIUM))
+                  .isNull();
+      }
+
+      @Test
+      @DisplayName("긴 변을 기준으로 비율을 유지하며 축소하고, 작은 이미지는 그대로 둠")
+      void fitWithin_KeepsAspectRatio() {
+          // given
+          BufferedImage large = new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB);
+          BufferedImage small = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+
+          // when
+          BufferedImage resized = ImageDerivativeService.fitWithin(large, 320);
+          BufferedImage untouched = ImageDerivativeService.fitWithin(small, 320);
+
+          // then
+          assertThat(resized.getWidth()).isEqualTo(320);
+          assertThat(resized.getHeight()).isEqualTo(240);
+          assertThat(untouched).isSameAs(small);
+      }
+
+      @Test
+      @DisplayName("EXIF 방향 6(시계 방향 90도 회전)을 적용하면 가로세로가 바뀜")
+      void applyOrientation_Rotate90_SwapsDimensions() {
+          // given
+          BufferedImage image = new BufferedImage(2, 1, BufferedImage.TYPE_INT_RGB);
+          image.setRGB(0, 0, 0xFF0000);
+          image.setRGB(1, 0, 0x0000FF);
+
+          // when
+          BufferedImage rotated = ImageDerivativeService.applyOrientation(image, 6);
+
+          // then
+          assertThat(rotated.getWidth()).isEqualTo(1);
+          assertThat(rotated.getHeight()).isEqualTo(2);
+          assertThat(rotated.getRGB(0, 0) & 0xFFFFFF).isEqualTo(0xFF0000);
+          assertThat(rotated.getRGB(0, 1) & 0xFFFFFF).isEqualTo(0x0000FF);
+      }
+
+      @Test
+      @DisplayName("알파 채널이 있는 이미지는 방향이 그대로여도 흰 배경의 RGB로 변환")
+      void applyOrientation_AlphaImage_ConvertsToRgb() {
+          // given
+          BufferedImage image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+          // when
+          BufferedImage rgb = ImageDerivativeService.applyOrientation(image, 1);
+
+          // then
+          assertThat(rgb.getType()).isEqualTo(BufferedImage.TYPE_INT_RGB);
+          assertThat(rgb.getRGB(0, 0) & 0xFFFFFF).isEqualTo(0xFFFFFF);
+      }
+
+      @Test
+      @DisplayName("축소 파생본은 긴 변이 목표의 두 배 이상 남도록 부분 샘플링하고, EXIF 제거본은 원본 크기로 디코딩")
+      void sourceSubsampling_KeepsTwiceTargetEdge() {
+          // when & then
+          assertThat(ImageDerivativeService.sourceSubsampling(4032, 320)).isEqualTo(6);
+          assertThat(ImageDerivativeService.sourceSubsampling(4032, 1080)).isEqualTo(1);
+          assertThat(ImageDerivativeService.sourceSubsampling(500, 320)).isEqualTo(1);
+          assertThat(ImageDerivativeService.sourceSubsampling(4032, 0)).isEqualTo(1);
+      }
+
+      @Test
+      @DisplayName("원본을 읽어 썸네일, 중간 크기, EXIF 제거본을 모두 저장")
+      void generate_WritesAllVariants() throws Exception {
+          // given
+          InMemoryStorage storage = new InMemoryStorage();
+          ByteArrayOutputStream png = new ByteArrayOutputStream();
+          ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB), "png", png);
+          storage.objects.put("homes/a.png", png.toByteArray());
+
+          // when
+          boolean generated = imageDerivativeService.generate(storage, "homes/a.png");
+
+          // then
+          assertThat(generated).isTrue();
+          BufferedImage thumbnail =
+                  ImageIO.read(new ByteArrayInputStream(storage.objects.get("homes/a_thumb.jpg")));
+          assertThat(thumbnail.getWidth()).isEqualTo(320);
+          assertThat(thumbnail.getHeight()).isEqualTo(160);
+          assertThat(storage.objects).containsKeys("homes/a_medium.jpg", "homes/a_stripped.jpg");
+          assertThat(storage.contentTypes.get("homes/a_thumb.jpg")).isEqualTo("image/jpeg");
+      }
+
+      @Test
+      @DisplayName("디코딩할 수 없는 형식은 원본을 복사하지 않고 파생본을 만들지 않음")
+      void generate_UndecodableFormat_WritesNothing() {
+          // given
+          InMemoryStorage storage = new InMemoryStorage();
+          byte[] webp = "RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII);
+          storage.objects.put("homes/a.webp", webp);
+
+          // when
+          boolean generated = imageDerivativeService.generate(storage, "homes/a.webp");
+
+          // then
+          assertThat(generated).isFalse();
+          assertThat(storage.objects).containsOnlyKeys("homes/a.webp");
+      }
+
+      @Test
+      @DisplayName("파생본을 모두 저장한 뒤 완료 콜백을 호출")
+      void generateAsync_Generated_CallsBack() throws Exception {
+          // given
+          InMemoryStorage storage = new InMemoryStorage();
+          ByteArrayOutputStream png = new ByteArrayOutputStream();
+          ImageIO.write(new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB), "png", png);
+          storage.objects.put("homes/a.png", png.toByteArray());
+          CountDownLatch generated = new CountDownLatch(1);
+
+          // when
+          imageDerivativeService.generateAsync(storage, "homes/a.png", generated::countDown);
+
+          // then
+          assertThat(generated.await(5, TimeUnit.SECONDS)).isTrue();
+          assertThat(storage.objects)
+                  .containsKeys("homes/a_thumb.jpg", "homes/a_medium.jpg", "homes/a_stripped.jpg");
+      }
+
+      /** 테스트용 메모리 저장소 */
+      private static class InMemoryStorage implements ImageObjectStorage {
+          private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+          private final Map<String, String> contentTypes = new ConcurrentHashMap<>();
+
+          @Override
+          public InputStream readObject(String key) {
+              return new ByteArrayInputStream(objects.get(key));
+          }
+
+          @Override
+          public void writeObject(String key, byte[] content, String contentType) {
+              objects.put(key, content);
+              contentTypes.put(key, contentType);
+          }
+
+          @Override
+          public void deleteObject(String key) {
+              objects.remove(key);
+          }
+      }
+}
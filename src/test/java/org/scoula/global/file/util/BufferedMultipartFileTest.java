@@ -0,0 +1,67 @@
+package org.scoula.global.file.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("BufferedMultipartFile 단위 테스트")
+class BufferedMultipartFileTest {
+
+      @Test
+      @DisplayName("기준 크기 이하의 파일은 메모리에 보관한다")
+      void spool_smallFile_keepsInMemory() throws Exception {
+          // given
+          byte[] content = "registry".getBytes();
+
+          // when
+          BufferedMultipartFile file =
+                  BufferedMultipartFile.spool(
+                          "registry",
+                          "registry.pdf",
+                          "application/pdf",
+                          new ByteArrayInputStream(content));
+
+          // then
+          assertThat(file.isSpooled()).isFalse();
+          assertThat(file.getSize()).isEqualTo(content.length);
+          assertThat(file.getBytes()).isEqualTo(content);
+      }
+
+      @Test
+      @DisplayName("기준 크기를 넘는 파일은 임시 파일에 보관하고 close 시 삭제한다")
+      void spool_largeFile_spillsToDiskAndDeletesOnClose() throws Exception {
+          // given
+          byte[] content = new byte[BufferedMultipartFile.MEMORY_THRESHOLD_BYTES + 10];
+          Arrays.fill(content, (byte) 7);
+
+          // when
+          BufferedMultipartFile file =
+                  BufferedMultipartFile.spool(
+                          "building",
+                          "building.pdf",
+                          "application/pdf",
+                          new ByteArrayInputStream(content));
+          Path spoolFile = (Path) ReflectionTestUtils.getField(file, "spoolFile");
+
+          // then
+          assertThat(file.isSpooled()).isTrue();
+          assertThat(file.getSize()).isEqualTo(content.length);
+          assertThat(Files.exists(spoolFile)).isTrue();
+          try (InputStream first = file.getInputStream();
+                  InputStream second = file.getInputStream()) {
+              assertThat(first.readAllBytes()).isEqualTo(content);
+              assertThat(second.readAllBytes()).isEqualTo(content);
+          }
+
+          file.close();
+          assertThat(Files.exists(spoolFile)).isFalse();
+      }
+}
@@ -0,0 +1,166 @@
+package org.scoula.global.redis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("문서 파싱 캐시 단위 테스트")
+class DocumentParseCacheServiceTest {
+
+      @Mock private RedisTemplate<String, String> stringRedisTemplate;
+
+      @Mock private ValueOperations<String, String> valueOperations;
+
+      @Mock private ZSetOperations<String, String> zSetOperations;
+
+      private DocumentParseCacheService cacheService;
+
+      private final MockMultipartFile file =
+              new MockMultipartFile("file", "doc.pdf", "application/pdf", "pdf-bytes".getBytes());
+
+      @BeforeEach
+      void setUp() {
+          cacheService = new DocumentParseCacheService(stringRedisTemplate, new ObjectMapper());
+          ReflectionTestUtils.setField(cacheService, "parserVersion", "1");
+          ReflectionTestUtils.setField(cacheService, "ttlHours", 168L);
+          ReflectionTestUtils.setField(cacheService, "maxEntries", 10L);
+          lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+          lenient().when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+      }
+
+      @Test
+      @DisplayName("캐시 적중 시 파서를 호출하지 않음")
+      void getOrParse_ReturnsCachedValue() {
+          // given
+          when(valueOperations.get(startsWith("doc-parse:registry:v1:"))).thenReturn("\"cached\"");
+
+          // when
+          String result =
+                  cacheService.getOrParse(
+                          "registry",
+                          file,
+                          String.class,
+                          value -> true,
+                          () -> {
+                              throw new AssertionError("파서가 호출되면 안 됨");
+                          });
+
+          // then
+          assertThat(result).isEqualTo("cached");
+      }
+
+      @Test
+      @DisplayName("캐시 미스 시 파싱 결과를 TTL과 함께 저장")
+      void getOrParse_StoresParsedValue() {
+          // given
+          when(valueOperations.get(anyString())).thenReturn(null);
+          when(zSetOperations.zCard(anyString())).thenReturn(1L);
+
+          // when
+          String result =
+                  cacheService.getOrParse(
+                          "building", file, String.class, value -> true, () -> "parsed");
+
+          // then
+          assertThat(result).isEqualTo("parsed");
+          verify(valueOperations)
+                  .set(
+                          startsWith("doc-parse:building:v1:"),
+                          eq("\"parsed\""),
+                          eq(Duration.ofHours(168)));
+          verify(zSetOperations).add(eq("doc-parse:index"), anyString(), anyDouble());
+      }
+
+      @Test
+      @DisplayName("저장 조건을 만족하지 않는 결과는 캐시하지 않음")
+      void getOrParse_SkipsNonCacheableValue() {
+          // given
+          when(valueOperations.get(anyString())).thenReturn(null);
+
+          // when
+          cacheService.getOrParse("contract", file, String.class, v -> false, () -> "failed");
+
+          // then
+          verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+      }
+
+      @Test
+      @DisplayName("같은 파일에 대한 동시 요청은 파서를 한 번만 호출")
+      void getOrParse_SingleFlight() throws Exception {
+          // given
+          when(valueOperations.get(anyString())).thenReturn(null);
+          lenient().when(zSetOperations.zCard(anyString())).thenReturn(1L);
+          AtomicInteger parseCount = new AtomicInteger();
+          CountDownLatch parsing = new CountDownLatch(1);
+          CountDownLatch release = new CountDownLatch(1);
+
+          // when
+          CompletableFuture<String> first =
+                  CompletableFuture.supplyAsync(
+                          () ->
+                                  cacheService.getOrParse(
+                                          "registry",
+                                          file,
+                                          String.class,
+                                          v -> true,
+                                          () -> {
+                                              parseCount.incrementAndGet();
+                                              parsing.countDown();
+                                              await(release);
+                                              return "parsed";
+                                          }));
+          assertThat(parsing.await(1, TimeUnit.SECONDS)).isTrue();
+
+          CompletableFuture<String> second =
+                  CompletableFuture.supplyAsync(
+                          () ->
+                                  cacheService.getOrParse(
+                                          "registry",
+                                          file,
+                                          String.class,
+                                          v -> true,
+                                          () -> {
+                                              parseCount.incrementAndGet();
+                                              return "duplicate";
+                                          }));
+          Thread.sleep(100);
+          release.countDown();
+
+          // then
+          assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("parsed");
+          assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("parsed");
+          assertThat(parseCount.get()).isEqualTo(1);
+      }
+
+      private void await(CountDownLatch latch) {
+          try {
+              latch.await(1, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+          }
+      }
+}
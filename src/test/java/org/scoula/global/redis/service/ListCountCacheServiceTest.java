@@ -0,0 +1,169 @@
+package org.scoula.global.redis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("목록 개수 캐시 단위 테스트")
+class ListCountCacheServiceTest {
+
+      private static final String HOMES_KEY = "list-count:homes:all";
+      private static final String HOMES_GENERATION_KEY = "list-count:gen:homes:all";
+
+      @Mock private RedisTemplate<String, String> stringRedisTemplate;
+
+      @Mock private HashOperations<String, Object, Object> hashOperations;
+
+      @Mock private ValueOperations<String, String> valueOperations;
+
+      private ListCountCacheService cacheService;
+
+      private final AtomicInteger countCalls = new AtomicInteger();
+
+      @BeforeEach
+      void setUp() {
+          cacheService = new ListCountCacheService(stringRedisTemplate);
+          ReflectionTestUtils.setField(cacheService, "exactTtlSeconds", 30L);
+          ReflectionTestUtils.setField(cacheService, "approximateTtlSeconds", 600L);
+          lenient().when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+          lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+      }
+
+      @Test
+      @DisplayName("정확 모드 TTL 안의 값은 COUNT 없이 반환")
+      void count_FreshValue_ReturnsCached() {
+          // given
+          when(hashOperations.get(HOMES_KEY, "all")).thenReturn(cachedValue(42, 5));
+
+          // when
+          long count =
+                  cacheService.count(
+                          ListCountCacheService.Scope.HOMES, null, false, this::count);
+
+          // then
+          assertThat(count).isEqualTo(42);
+          assertThat(countCalls).hasValue(0);
+      }
+
+      @Test
+      @DisplayName("정확 모드 TTL이 지난 값은 COUNT를 다시 실행해 COUNT 전 세대와 함께 저장")
+      void count_StaleValue_RecountsInExactMode() {
+          // given
+          when(hashOperations.get(HOMES_KEY, "all")).thenReturn(cachedValue(42, 60));
+          when(valueOperations.get(HOMES_GENERATION_KEY)).thenReturn("2");
+
+          // when
+          long count =
+                  cacheService.count(
+                          ListCountCacheService.Scope.HOMES, null, false, this::count);
+
+          // then
+          assertThat(count).isEqualTo(7);
+          assertThat(countCalls).hasValue(1);
+          verify(stringRedisTemplate)
+                  .execute(
+                          any(RedisScript.class),
+                          eq(List.of(HOMES_KEY, HOMES_GENERATION_KEY)),
+                          eq("2"),
+                          eq("all"),
+                          startsWith("7|"),
+                          eq("600"));
+      }
+
+      @Test
+      @DisplayName("무효화된 적 없는 대상은 초기 세대로 저장 요청")
+      void count_NoGeneration_WritesWithInitialGeneration() {
+          // when
+          cacheService.count(ListCountCacheService.Scope.HOMES, null, false, this::count);
+
+          // then
+          verify(stringRedisTemplate)
+                  .execute(
+                          any(RedisScript.class),
+                          eq(List.of(HOMES_KEY, HOMES_GENERATION_KEY)),
+                          eq("0"),
+                          eq("all"),
+                          startsWith("7|"),
+                          eq("600"));
+      }
+
+      @Test
+      @DisplayName("근사 모드는 정확 모드 TTL이 지난 값도 그대로 사용")
+      void count_StaleValue_ReturnsCachedInApproximateMode() {
+          // given
+          when(hashOperations.get(HOMES_KEY, "all")).thenReturn(cachedValue(42, 60));
+
+          // when
+          long count =
+                  cacheService.count(
+                          ListCountCacheService.Scope.HOMES, null, true, this::count);
+
+          // then
+          assertThat(count).isEqualTo(42);
+          assertThat(countCalls).hasValue(0);
+      }
+
+      @Test
+      @DisplayName("Redis 장애 시 캐시 없이 COUNT 실행")
+      void count_RedisFailure_FallsBackToCounter() {
+          // given
+          when(hashOperations.get(anyString(), any())).thenThrow(new RuntimeException("down"));
+          when(valueOperations.get(anyString())).thenThrow(new RuntimeException("down"));
+
+          // when
+          long count =
+                  cacheService.count(
+                          ListCountCacheService.Scope.RISK_CHECKS, 1L, false, this::count);
+
+          // then
+          assertThat(count).isEqualTo(7);
+          verify(stringRedisTemplate, never())
+                  .execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+      }
+
+      @Test
+      @DisplayName("트랜잭션 밖에서 무효화하면 대상 키를 바로 삭제하고 세대를 올림")
+      void evict_WithoutTransaction_DeletesKeyAndBumpsGeneration() {
+          // when
+          cacheService.evict(ListCountCacheService.Scope.MY_PROPERTIES, 3L);
+
+          // then
+          verify(stringRedisTemplate)
+                  .execute(
+                          any(RedisScript.class),
+                          eq(
+                                  List.of(
+                                          "list-count:my-properties:3",
+                                          "list-count:gen:my-properties:3")),
+                          eq("3600"));
+      }
+
+      private long count() {
+          countCalls.incrementAndGet();
+          return 7;
+      }
+
+      private String cachedValue(long count, long ageSeconds) {
+          return count + "|" + (System.currentTimeMillis() - ageSeconds * 1000);
+      }
+}